@@ -0,0 +1,109 @@
+package seedu.studymate.database;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.HabitList;
+import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.tasks.TaskList;
+
+/**
+ * Microbenchmark for writing a save file and reading it back, with tasks, reminders and habits in the
+ * proportions of a heavy user. Sizes stop at 10000 tasks, the most a TaskList loads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 10, 26, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private Path dir;
+    private Storage storage;
+    private TaskList tasks;
+    private ReminderList reminders;
+    private HabitList habits;
+
+    /**
+     * Builds the lists and writes them once, so that loading has a file to read.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, StudyMateException {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+
+        Random random = new Random(7);
+        tasks = new TaskList();
+        reminders = new ReminderList();
+        habits = new HabitList();
+        for (int i = 0; i < size; i++) {
+            DateTimeArg at = DateTimeArg.of(START.plusMinutes(random.nextInt(MINUTES_PER_YEAR)));
+            switch (i % 3) {
+            case 0 -> tasks.addToDo("read chapter " + i);
+            case 1 -> tasks.addDeadline("submit report " + i, at);
+            default -> tasks.addEvent("attend workshop " + i, at, DateTimeArg.of(at.getDateTime().plusHours(2)));
+            }
+            if (i % 10 == 0) {
+                reminders.addReminderRec("stretch " + i, at, Duration.ofHours(1 + random.nextInt(24)));
+            }
+            if (i % 100 == 0) {
+                habits.addHabit("habit " + i, at, Duration.ofDays(1), random.nextInt(30));
+            }
+        }
+        dir = Files.createTempDirectory("studymate-bench");
+        storage = new Storage(dir.resolve("StudyMate.txt").toString());
+        save();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve("StudyMate.txt"));
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Writes every task, reminder and habit to the save file.
+     */
+    @Benchmark
+    public void save() throws StudyMateException {
+        storage.save(tasks.getTasks(), reminders.getReminders(), habits.getAllHabits());
+    }
+
+    /**
+     * Reads the save file into empty lists, as StudyMate does on start.
+     */
+    @Benchmark
+    public void load(Blackhole bh) throws StudyMateException {
+        TaskList loadedTasks = new TaskList();
+        ReminderList loadedReminders = new ReminderList();
+        HabitList loadedHabits = new HabitList();
+        storage.load(loadedTasks, loadedReminders, loadedHabits);
+        bh.consume(loadedTasks);
+        bh.consume(loadedReminders);
+        bh.consume(loadedHabits);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.studymate.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.studymate.exceptions.StudyMateException;
+
+/**
+ * Microbenchmark for Parser.parse with one valid command of every CommandType, so that a slow path for any
+ * single command shows up on its own rather than averaged into a script.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandTypeBenchmark {
+    @Param({
+        "todo Read chapter 3",
+        "deadline Submit report /by 2025-12-01 15:00",
+        "event Workshop /from 2025-11-10 09:00 /to 2025-11-10 17:00",
+        "list -s",
+        "find report",
+        "mark 1",
+        "unmark 1",
+        "edit 1 -n Read chapter 4",
+        "edit 1 -d 2025-12-02 15:00",
+        "edit 1 -f 2025-11-10 10:00",
+        "edit 1 -t 2025-11-10 18:00",
+        "delete 1,3",
+        "rem Stand up @ 2025-11-01 09:00 -r 1d",
+        "rem Call home @ 2025-11-01 18:00",
+        "rem ls",
+        "rem rm 1",
+        "rem on 1",
+        "rem off 1",
+        "rem snooze 1 10m",
+        "rem history",
+        "rem stats",
+        "start 1 @25",
+        "pause",
+        "resume",
+        "reset",
+        "stat",
+        "stat -h 7",
+        "habit Exercise -t 1d -g 1/3",
+        "habit streak 1",
+        "habit ls",
+        "habit ls -d",
+        "habit stats 1",
+        "habit rm 1",
+        "run script.txt",
+        "bye"
+    })
+    public String command;
+
+    private final Parser parser = new Parser();
+
+    /**
+     * Silences logging and checks that the command is valid, so that only the success path is measured.
+     */
+    @Setup
+    public void setUp() throws StudyMateException {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+        parser.parse(command);
+    }
+
+    /**
+     * Parses the command once.
+     */
+    @Benchmark
+    public Command parse() throws StudyMateException {
+        return parser.parse(command);
+    }
+}
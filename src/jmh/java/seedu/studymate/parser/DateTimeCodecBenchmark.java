@@ -0,0 +1,97 @@
+package seedu.studymate.parser;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.studymate.ui.MessageFormatting;
+
+/**
+ * Microbenchmark for rendering and parsing the date-times of a large list, comparing DateTimeCodec
+ * against creating a formatter per call, as DateTimeArg.toString used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateTimeCodecBenchmark {
+    @Param({"1000", "10000"})
+    public int size;
+
+    private DateTimeArg[] dateTimes;
+    private String[] userInputs;
+
+    /**
+     * Builds a list of deadlines spread over a term, so that dates repeat as they would in real use.
+     */
+    @Setup
+    public void setUp() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+
+        LocalDate start = LocalDate.of(2025, 8, 11);
+        dateTimes = new DateTimeArg[size];
+        userInputs = new String[size];
+        for (int i = 0; i < size; i++) {
+            LocalDate date = start.plusDays(i % 120);
+            LocalTime time = LocalTime.of(8 + i % 12, (i % 4) * 15);
+            dateTimes[i] = new DateTimeArg(date, time);
+            userInputs[i] = date + " " + time;
+        }
+    }
+
+    /**
+     * Renders every deadline as a list row, through the codec.
+     */
+    @Benchmark
+    public void renderWithCodec(Blackhole bh) {
+        for (DateTimeArg dateTime : dateTimes) {
+            bh.consume(MessageFormatting.deadlineString(false, "Assignment", dateTime));
+        }
+    }
+
+    /**
+     * Renders every deadline as a list row, creating a formatter and copying the string per row.
+     */
+    @Benchmark
+    public void renderWithFormatterPerCall(Blackhole bh) {
+        for (DateTimeArg dateTime : dateTimes) {
+            String text = dateTime.getDate() + "T" + dateTime.getTime().format(DateTimeFormatter.ofPattern("HH:mm"));
+            bh.consume("[D][ ] Assignment (by: " + text.replace("T", " ") + ")");
+        }
+    }
+
+    /**
+     * Parses every user-entered date-time through the codec and its cache.
+     */
+    @Benchmark
+    public void parseWithCodec(Blackhole bh) {
+        for (String input : userInputs) {
+            bh.consume(DateTimeCodec.parseUserDateTime(input));
+        }
+    }
+
+    /**
+     * Parses every user-entered date-time by splitting and fully parsing both parts.
+     */
+    @Benchmark
+    public void parseWithSplit(Blackhole bh) {
+        for (String input : userInputs) {
+            String[] parts = input.trim().split(" ");
+            bh.consume(new DateTimeArg(LocalDate.parse(parts[0]), LocalTime.parse(parts[1])));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.studymate.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.studymate.exceptions.StudyMateException;
+
+/**
+ * Microbenchmark for Parser.parse, replaying every line of the text-ui-test input scripts.
+ * The scripts deliberately contain invalid commands, so both the success and error paths are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+    private static final String[] INPUT_FILES = {"input.txt", "input2.txt", "input3.txt"};
+
+    private final Parser parser = new Parser();
+    private String[] lines;
+
+    /**
+     * Loads the text-ui-test scripts and silences logging so that only parsing is measured.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+
+        Path dir = Paths.get(System.getProperty("studymate.uitest.dir", "text-ui-test"));
+        List<String> loaded = new ArrayList<>();
+        for (String file : INPUT_FILES) {
+            for (String line : Files.readAllLines(dir.resolve(file), StandardCharsets.UTF_8)) {
+                loaded.add(line.trim());
+            }
+        }
+        lines = loaded.toArray(new String[0]);
+    }
+
+    /**
+     * Parses every script line once, as the main loop would.
+     */
+    @Benchmark
+    public void parseScripts(Blackhole bh) {
+        for (String line : lines) {
+            try {
+                bh.consume(parser.parse(line));
+            } catch (StudyMateException e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    /**
+     * Collapses whitespace in every script line with the single-pass tokenizer.
+     */
+    @Benchmark
+    public void collapseWithTokenizer(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(CommandTokenizer.collapseWhitespace(line));
+        }
+    }
+
+    /**
+     * Collapses whitespace in every script line with a regex, as the parser did before the tokenizer.
+     */
+    @Benchmark
+    public void collapseWithRegex(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(line.replaceAll("\\s+", " "));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.studymate.reminders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.studymate.parser.DateTimeArg;
+
+/**
+ * Microbenchmark for one simulated day of minute-by-minute checks over a large set of recurring reminders,
+ * comparing polling every reminder, as the scheduler used to, with the heap and timing-wheel queues.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReminderQueueBenchmark {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 10, 26, 0, 0);
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private final SimulatedClock clock = new SimulatedClock(START);
+    private Reminder[] reminders;
+
+    /**
+     * Builds reminders recurring every 1 to 24 hours, starting at random minutes of the day.
+     * They are rebuilt before every run, as firing moves them on.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+
+        Random random = new Random(7);
+        clock.setMinute(0);
+        reminders = new Reminder[size];
+        for (int i = 0; i < size; i++) {
+            DateTimeArg first = DateTimeArg.of(START.plusMinutes(random.nextInt(MINUTES_PER_DAY)));
+            Duration interval = Duration.ofHours(1 + random.nextInt(24));
+            reminders[i] = new Reminder("nudge " + i, first, interval, clock);
+        }
+    }
+
+    /**
+     * Asks every reminder whether it is due once a minute.
+     */
+    @Benchmark
+    public void polling(Blackhole bh) {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            clock.setMinute(minute);
+            for (Reminder r : reminders) {
+                if (r.isDue()) {
+                    bh.consume(r);
+                    r.isFired();
+                }
+            }
+        }
+    }
+
+    /**
+     * Fires reminders from a binary heap.
+     */
+    @Benchmark
+    public void heap(Blackhole bh) {
+        runDay(new HeapReminderQueue(), bh);
+    }
+
+    /**
+     * Fires reminders from a hierarchical timing wheel.
+     */
+    @Benchmark
+    public void timingWheel(Blackhole bh) {
+        runDay(new TimingWheelReminderQueue(START.toEpochSecond(ZoneOffset.UTC)), bh);
+    }
+
+    private void runDay(ReminderQueue queue, Blackhole bh) {
+        for (Reminder r : reminders) {
+            queue.schedule(r, r.nextFireSecond());
+        }
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            clock.setMinute(minute);
+            long now = START.plusMinutes(minute).toEpochSecond(ZoneOffset.UTC);
+            for (Reminder r : queue.pollDue(now)) {
+                bh.consume(r);
+                r.isFired();
+                queue.schedule(r, r.nextFireSecond());
+            }
+        }
+    }
+}
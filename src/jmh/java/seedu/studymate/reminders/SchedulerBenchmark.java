@@ -0,0 +1,75 @@
+package seedu.studymate.reminders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+
+/**
+ * Microbenchmark for Scheduler.tick over reminder lists of growing size. Each tick moves a simulated clock
+ * on by a few minutes, so that it fires the reminders that came due since the last tick and queues each at
+ * its next occurrence, as the running scheduler does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulerBenchmark {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 26, 12, 0);
+    // Reminders start within this many minutes either side of now
+    private static final int SPREAD_MINUTES = 120;
+    // How far the clock moves on between ticks
+    private static final int STEP_MINUTES = 5;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private SimulatedClock clock;
+    private Scheduler scheduler;
+    private long minute;
+
+    /**
+     * Builds hourly to daily reminders starting around now, once per trial, as ticks keep moving them on
+     * rather than using them up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws StudyMateException {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+
+        Random random = new Random(7);
+        clock = new SimulatedClock(NOW);
+        minute = 0;
+        ReminderList reminderList = new ReminderList(clock);
+        for (int i = 0; i < size; i++) {
+            DateTimeArg first = DateTimeArg.of(NOW.plusMinutes(random.nextInt(2 * SPREAD_MINUTES) - SPREAD_MINUTES));
+            reminderList.addReminderRec("nudge " + i, first, Duration.ofHours(1 + random.nextInt(24)));
+        }
+        scheduler = new Scheduler(reminderList);
+    }
+
+    /**
+     * Moves the clock on and fires every reminder that came due.
+     */
+    @Benchmark
+    public void tick(Blackhole bh) {
+        minute += STEP_MINUTES;
+        clock.setMinute(minute);
+        bh.consume(scheduler.tick());
+    }
+}
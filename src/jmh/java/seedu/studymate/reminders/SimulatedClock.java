@@ -0,0 +1,50 @@
+package seedu.studymate.reminders;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A UTC clock that is moved along by a benchmark, a whole minute at a time, instead of following real time.
+ */
+class SimulatedClock extends Clock {
+    private final LocalDateTime start;
+    private volatile Instant instant;
+
+    /**
+     * Constructs a clock standing at the given time.
+     *
+     * @param start The time minutes are counted from
+     */
+    SimulatedClock(LocalDateTime start) {
+        this.start = start;
+        this.instant = start.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Moves the clock to the given number of minutes after its start.
+     *
+     * @param minute The minutes since the start
+     */
+    void setMinute(long minute) {
+        instant = start.plusMinutes(minute).toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        // Nothing moves the copy along, so it stays at the current simulated minute
+        return Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.studymate.tasks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.studymate.parser.DateTimeArg;
+
+/**
+ * Microbenchmark for searching and sorting tasks in lists of growing size. The list is built once per trial,
+ * as neither changes it; TaskListUpdateBenchmark covers deleting and marking.
+ * TaskList caps commands at 10000 tasks, so the larger lists are filled through getTasks() to show how each
+ * operation scales past the cap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 10, 26, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private TaskList taskList;
+
+    /**
+     * Silences logging and builds the list.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+        taskList = build(size);
+    }
+
+    /**
+     * Builds an even mix of to-dos, deadlines and events over the next year, the same for a given size.
+     *
+     * @param size How many tasks to add
+     * @return The filled list
+     */
+    static TaskList build(int size) {
+        Random random = new Random(7);
+        TaskList taskList = new TaskList();
+        List<Task> tasks = taskList.getTasks();
+        for (int i = 0; i < size; i++) {
+            DateTimeArg at = DateTimeArg.of(START.plusMinutes(random.nextInt(MINUTES_PER_YEAR)));
+            switch (i % 3) {
+            case 0 -> tasks.add(new ToDo("read chapter " + i));
+            case 1 -> tasks.add(new Deadline("submit report " + i, at));
+            default -> tasks.add(new Event("attend workshop " + i, at, DateTimeArg.of(at.getDateTime().plusHours(2))));
+            }
+        }
+        return taskList;
+    }
+
+    /**
+     * Finds the tasks whose names contain a word that matches a third of them.
+     */
+    @Benchmark
+    public void findCommon(Blackhole bh) {
+        bh.consume(taskList.findTasks("report"));
+    }
+
+    /**
+     * Finds the one task whose name contains a rare substring.
+     */
+    @Benchmark
+    public void findRare(Blackhole bh) {
+        bh.consume(taskList.findTasks("chapter " + (size / 2 - size / 2 % 3)));
+    }
+
+    /**
+     * Sorts the deadlines and events by date.
+     */
+    @Benchmark
+    public void getSorted(Blackhole bh) {
+        bh.consume(taskList.getSorted());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.studymate.tasks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Microbenchmark for deleting and marking a batch of tasks in lists of growing size, built as in
+ * TaskListBenchmark. Both change the list, so each call works through a pool of lists built beforehand,
+ * outside the timed part, and is reported per list. A single delete or mark takes well under a millisecond,
+ * so timing a whole pool keeps the per-call setup from dominating what is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListUpdateBenchmark {
+    // How many tasks each delete or mark touches, spread across the list
+    private static final int BATCH = 100;
+    // How many lists each call deletes from or marks, enough for a call to take over a millisecond
+    private static final int POOL = 32;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final TaskList[] pool = new TaskList[POOL];
+    private LinkedHashSet<Integer> batch;
+    private PrintStream originalOut;
+
+    /**
+     * Silences logging and the messages deleting and marking print, and picks the tasks each call touches.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        batch = new LinkedHashSet<>();
+        for (int i = 0; i < BATCH; i++) {
+            batch.add((int) ((long) i * size / BATCH));
+        }
+    }
+
+    /**
+     * Rebuilds the pool, as deleting shrinks each list and marking leaves its tasks done.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        for (int i = 0; i < POOL; i++) {
+            pool[i] = TaskListBenchmark.build(size);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * Deletes a batch of tasks spread across each list in the pool.
+     */
+    @Benchmark
+    @OperationsPerInvocation(POOL)
+    public void delete(Blackhole bh) {
+        for (TaskList taskList : pool) {
+            taskList.delete(batch);
+            bh.consume(taskList.getTasks());
+        }
+    }
+
+    /**
+     * Marks a batch of tasks spread across each list in the pool as done.
+     */
+    @Benchmark
+    @OperationsPerInvocation(POOL)
+    public void mark(Blackhole bh) {
+        for (TaskList taskList : pool) {
+            taskList.mark(batch);
+            bh.consume(taskList.getTasks());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.studymate.ui;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.tasks.TaskList;
+
+/**
+ * Microbenchmark for rendering the task list, printed into a stream that discards everything so that only
+ * formatting and the print calls are measured, not the terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageHandlerBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 10, 26, 9, 0);
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private TaskList taskList;
+    private PrintStream originalOut;
+
+    /**
+     * Builds an even mix of to-dos, deadlines and events, and points standard output at a null sink.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws StudyMateException {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+
+        taskList = new TaskList();
+        for (int i = 0; i < size; i++) {
+            DateTimeArg at = DateTimeArg.of(START.plusHours(i));
+            switch (i % 3) {
+            case 0 -> taskList.addToDo("read chapter " + i);
+            case 1 -> taskList.addDeadline("submit report " + i, at);
+            default -> taskList.addEvent("attend workshop " + i, at, DateTimeArg.of(at.getDateTime().plusHours(2)));
+            }
+        }
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * Prints every task, as the list command does.
+     */
+    @Benchmark
+    public void sendTaskList() {
+        MessageHandler.sendTaskList(taskList);
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.studymate.workload;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import seedu.studymate.database.Storage;
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.HabitList;
+import seedu.studymate.parser.Command;
+import seedu.studymate.parser.CommandHandler;
+import seedu.studymate.parser.Parser;
+import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.tasks.TaskList;
+
+/**
+ * Replays a generated session through the same parse, execute and save steps as StudyMate, in-process and
+ * with the clock fixed as TEST_TIME fixes it, and reports throughput, latency percentiles, the allocation
+ * rate and how large the store ended up. Output is discarded, so that the terminal is not measured.
+ * A shorter warm-up session is replayed into a throwaway store first, so that the measured session runs
+ * compiled code.
+ *
+ * <p>Options, all optional: {@code --commands N} (100000), {@code --warmup N} (10000), {@code --seed N} (42),
+ * {@code --mix key=weight,...} ({@link WorkloadGenerator#DEFAULT_MIX}), {@code --time yyyy-MM-ddTHH:mm:ss}
+ * (2025-10-25T12:00:00), {@code --save-every N} (0, which saves once at the end as piped input does; 1 saves
+ * after every command as the interactive loop does) and {@code --script PATH} to also write the measured
+ * session out, so that it can be piped into the app.
+ */
+public class ReplayHarness {
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    private int commands = 100000;
+    private int warmup = 10000;
+    private long seed = 42;
+    private String mix = WorkloadGenerator.DEFAULT_MIX;
+    private LocalDateTime time = LocalDateTime.of(2025, 10, 25, 12, 0);
+    private int saveEvery = 0;
+    private Path script;
+
+    public static void main(String[] args) throws IOException, StudyMateException {
+        ReplayHarness harness = new ReplayHarness();
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException("Missing value for " + args[args.length - 1]);
+        }
+        for (int i = 0; i < args.length; i += 2) {
+            harness.setOption(args[i], args[i + 1]);
+        }
+        harness.run();
+    }
+
+    private void setOption(String name, String value) {
+        switch (name) {
+        case "--commands" -> commands = Integer.parseInt(value);
+        case "--warmup" -> warmup = Integer.parseInt(value);
+        case "--seed" -> seed = Long.parseLong(value);
+        case "--mix" -> mix = value;
+        case "--time" -> time = LocalDateTime.parse(value);
+        case "--save-every" -> saveEvery = Integer.parseInt(value);
+        case "--script" -> script = Path.of(value);
+        default -> throw new IllegalArgumentException("Unknown option: " + name);
+        }
+    }
+
+    private void run() throws IOException, StudyMateException {
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(time.atZone(zone).toInstant(), zone);
+        CommandHandler.setClock(clock);
+
+        List<String> session = new WorkloadGenerator(seed, time, WorkloadGenerator.parseMix(mix)).generate(commands);
+        if (script != null) {
+            Files.write(script, session, StandardCharsets.UTF_8);
+        }
+
+        PrintStream console = System.out;
+        Result result;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            if (warmup > 0) {
+                replay(new WorkloadGenerator(seed + 1, time, WorkloadGenerator.parseMix(mix)).generate(warmup),
+                        clock);
+            }
+            result = replay(session, clock);
+        } finally {
+            System.setOut(console);
+        }
+        result.print(console);
+    }
+
+    private Result replay(List<String> lines, Clock clock) throws IOException, StudyMateException {
+        Path dir = Files.createTempDirectory("studymate-replay");
+        Path file = dir.resolve("StudyMate.txt");
+        try {
+            Storage storage = new Storage(file.toString());
+            Parser parser = new Parser();
+            TaskList taskList = new TaskList();
+            ReminderList reminderList = new ReminderList(clock);
+            HabitList habitList = new HabitList(clock);
+            Result result = new Result(lines.size());
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long allocatedBefore = allocatedBytes(threads);
+            long started = System.nanoTime();
+            for (int i = 0; i < lines.size(); i++) {
+                long commandStarted = System.nanoTime();
+                try {
+                    Command cmd = parser.parse(lines.get(i));
+                    CommandHandler.executeCommand(taskList, reminderList, habitList, cmd);
+                    if (saveEvery > 0 && (i + 1) % saveEvery == 0) {
+                        storage.save(taskList.getTasks(), reminderList.getReminders(), habitList.getAllHabits());
+                    }
+                } catch (StudyMateException e) {
+                    result.failed++;
+                }
+                result.latencies[i] = System.nanoTime() - commandStarted;
+            }
+            storage.save(taskList.getTasks(), reminderList.getReminders(), habitList.getAllHabits());
+            result.elapsedNanos = System.nanoTime() - started;
+            long allocatedAfter = allocatedBytes(threads);
+            result.allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+
+            result.tasks = taskList.getCount();
+            result.reminders = reminderList.getCount();
+            result.habits = habitList.getCount();
+            result.storeBytes = Files.size(file);
+            return result;
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Returns how many bytes this thread has allocated so far, or -1 if the JVM does not count them.
+     */
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean counting
+                && counting.isThreadAllocatedMemorySupported() && counting.isThreadAllocatedMemoryEnabled()) {
+            return counting.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * What one replayed session measured. Latencies cover parsing, executing and any save the command
+     * triggered; the elapsed time and allocation also cover the final save.
+     */
+    private static class Result {
+        private final long[] latencies;
+        private int failed;
+        private long elapsedNanos;
+        private long allocatedBytes;
+        private int tasks;
+        private int reminders;
+        private int habits;
+        private long storeBytes;
+
+        private Result(int size) {
+            latencies = new long[size];
+        }
+
+        private void print(PrintStream out) {
+            int count = latencies.length;
+            double seconds = elapsedNanos / 1e9;
+            out.printf("Commands:    %d (%d failed) in %.2f s%n", count, failed, seconds);
+            out.printf("Throughput:  %.0f commands/s%n", count / seconds);
+
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            StringBuilder percentiles = new StringBuilder("Latency:    ");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                int rank = (int) Math.max(1, Math.ceil(PERCENTILES[i] * count));
+                percentiles.append(String.format(" %s %.1f us", PERCENTILE_NAMES[i],
+                        count == 0 ? 0 : sorted[rank - 1] / 1e3));
+            }
+            percentiles.append(String.format(" max %.1f us", count == 0 ? 0 : sorted[count - 1] / 1e3));
+            out.println(percentiles);
+
+            if (allocatedBytes < 0) {
+                out.println("Allocation:  not measured by this JVM");
+            } else {
+                out.printf("Allocation:  %.1f MB/s (%.1f MB in total)%n",
+                        allocatedBytes / 1e6 / seconds, allocatedBytes / 1e6);
+            }
+            out.printf("Final store: %d tasks, %d reminders, %d habits, %d bytes saved%n",
+                    tasks, reminders, habits, storeBytes);
+        }
+    }
+}
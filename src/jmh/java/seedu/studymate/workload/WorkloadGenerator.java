@@ -0,0 +1,241 @@
+package seedu.studymate.workload;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a seeded session of commands in the mix a StudyMate user might type over a long day: adding,
+ * marking, editing and deleting tasks, searching and listing them, and keeping reminders and habits.
+ * The generator keeps count of the items each command leaves behind, so that marks, edits and deletes name
+ * an index that exists and adds never go past the caps of the lists. The same seed, start time and mix always
+ * give the same commands.
+ */
+public class WorkloadGenerator {
+    /**
+     * The mix most sessions are measured with, as weights out of 100.
+     */
+    public static final String DEFAULT_MIX = "todo=12,deadline=10,event=6,mark=12,unmark=3,edit=4,delete=10,"
+            + "find=10,sorted=4,list=2,rem=6,remls=2,remrm=3,habit=2,streak=12,habitls=2";
+
+    // TaskList, ReminderList and HabitList reject new items past this many
+    private static final int CAP = 10000;
+    private static final int DAYS_AHEAD = 90;
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String[] MODULES = {
+        "CS2113", "CS2040C", "MA1521", "ST2334", "GEA1000", "CG2111A", "EE2026", "IS1108"
+    };
+    private static final String[] TASKS = {
+        "read chapter", "finish tutorial", "submit lab", "revise lecture", "draft report", "watch webcast"
+    };
+    private static final String[] EVENTS = {
+        "project meeting", "consultation", "midterm", "lab session", "study group"
+    };
+    private static final String[] HABITS = {
+        "Exercise", "Drink water", "Review flashcards", "Journal", "Stretch", "Sleep by midnight"
+    };
+    private static final String[] INTERVALS = {"1h", "4h", "1d", "1d", "1d", "7d"};
+
+    /**
+     * The kinds of command a session is made of, each named by the key it has in a mix.
+     */
+    public enum Kind {
+        TODO("todo"), DEADLINE("deadline"), EVENT("event"), MARK("mark"), UNMARK("unmark"), EDIT("edit"),
+        DELETE("delete"), FIND("find"), SORTED("sorted"), LIST("list"), REM("rem"), REM_LIST("remls"),
+        REM_DELETE("remrm"), HABIT("habit"), STREAK("streak"), HABIT_LIST("habitls");
+
+        private final String key;
+
+        Kind(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final Random random;
+    private final LocalDateTime start;
+    private final Kind[] kinds;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private int taskCount;
+    private int reminderCount;
+    private int habitCount;
+
+    /**
+     * Creates a generator for a session that starts at the given time.
+     *
+     * @param seed The seed every choice is drawn from
+     * @param start The time the session runs at, which deadlines, events and reminders are set after
+     * @param mix The weight of each kind of command; kinds that are missing are never generated
+     */
+    public WorkloadGenerator(long seed, LocalDateTime start, Map<Kind, Integer> mix) {
+        this.random = new Random(seed);
+        this.start = start;
+        List<Kind> chosen = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (Kind kind : Kind.values()) {
+            int weight = mix.getOrDefault(kind, 0);
+            if (weight > 0) {
+                total += weight;
+                chosen.add(kind);
+                weights.add(total);
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The mix must give at least one command a positive weight");
+        }
+        this.kinds = chosen.toArray(new Kind[0]);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+        this.totalWeight = total;
+    }
+
+    /**
+     * Parses a mix written as comma-separated key=weight pairs, such as "todo=3,mark=1".
+     *
+     * @param spec The mix to parse
+     * @return The weight of each kind named in the mix
+     * @throws IllegalArgumentException If a key is unknown or a weight is not a non-negative number
+     */
+    public static Map<Kind, Integer> parseMix(String spec) {
+        Map<Kind, Integer> mix = new EnumMap<>(Kind.class);
+        for (String pair : spec.split(",")) {
+            String[] parts = pair.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected key=weight but got: " + pair);
+            }
+            Kind kind = null;
+            for (Kind candidate : Kind.values()) {
+                if (candidate.getKey().equals(parts[0].trim())) {
+                    kind = candidate;
+                }
+            }
+            if (kind == null) {
+                throw new IllegalArgumentException("Unknown command kind: " + parts[0].trim());
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Weight is not a number: " + parts[1].trim());
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight cannot be negative: " + weight);
+            }
+            mix.put(kind, weight);
+        }
+        return mix;
+    }
+
+    /**
+     * Generates the next commands of the session.
+     *
+     * @param count How many commands to generate
+     * @return The commands, in the order they are to be run
+     */
+    public List<String> generate(int count) {
+        List<String> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(next());
+        }
+        return commands;
+    }
+
+    /**
+     * Generates the next command of the session.
+     * A command that needs an item when there is none adds one instead, and an add at the cap deletes
+     * instead, so that every command is one StudyMate accepts.
+     *
+     * @return The command line
+     */
+    public String next() {
+        int pick = random.nextInt(totalWeight);
+        int i = 0;
+        while (cumulativeWeights[i] <= pick) {
+            i++;
+        }
+        return generate(kinds[i]);
+    }
+
+    private String generate(Kind kind) {
+        switch (kind) {
+        case TODO, DEADLINE, EVENT:
+            if (taskCount >= CAP) {
+                return generate(Kind.DELETE);
+            }
+            taskCount++;
+            return kind == Kind.TODO ? "todo " + taskName()
+                    : kind == Kind.DEADLINE ? "deadline " + taskName() + " /by " + later()
+                    : event();
+        case MARK, UNMARK, EDIT, DELETE:
+            if (taskCount == 0) {
+                return generate(Kind.TODO);
+            }
+            int index = 1 + random.nextInt(taskCount);
+            if (kind == Kind.DELETE) {
+                taskCount--;
+                return "delete " + index;
+            }
+            return kind == Kind.EDIT ? "edit " + index + " -n " + taskName() : kind.getKey() + " " + index;
+        case FIND:
+            return "find " + (random.nextBoolean() ? pick(MODULES) : pick(TASKS).split(" ")[0]);
+        case SORTED:
+            return "list -s";
+        case LIST:
+            return "list";
+        case REM:
+            if (reminderCount >= CAP) {
+                return generate(Kind.REM_DELETE);
+            }
+            reminderCount++;
+            String reminder = "rem " + pick(TASKS) + " for " + pick(MODULES) + " @ " + later();
+            return random.nextInt(3) == 0 ? reminder : reminder + " -r " + pick(INTERVALS);
+        case REM_LIST:
+            return "rem ls";
+        case REM_DELETE:
+            if (reminderCount == 0) {
+                return generate(Kind.REM);
+            }
+            reminderCount--;
+            return "rem rm " + (1 + random.nextInt(reminderCount + 1));
+        case HABIT:
+            if (habitCount >= CAP) {
+                return generate(Kind.STREAK);
+            }
+            habitCount++;
+            return "habit " + pick(HABITS) + " -t " + pick(INTERVALS);
+        case STREAK:
+            if (habitCount == 0) {
+                return generate(Kind.HABIT);
+            }
+            return "habit streak " + (1 + random.nextInt(habitCount));
+        default:
+            return "habit ls";
+        }
+    }
+
+    private String taskName() {
+        return pick(TASKS) + " " + (1 + random.nextInt(12)) + " for " + pick(MODULES);
+    }
+
+    private String event() {
+        LocalDateTime from = start.plusMinutes(15L * random.nextInt(DAYS_AHEAD * 24 * 4));
+        return "event " + pick(EVENTS) + " for " + pick(MODULES) + " /from " + from.format(FORMAT)
+                + " /to " + from.plusMinutes(30L * (1 + random.nextInt(8))).format(FORMAT);
+    }
+
+    private String later() {
+        return start.plusMinutes(15L * (1 + random.nextInt(DAYS_AHEAD * 24 * 4))).format(FORMAT);
+    }
+
+    private String pick(String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
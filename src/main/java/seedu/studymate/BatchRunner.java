@@ -0,0 +1,101 @@
+package seedu.studymate;
+
+import seedu.studymate.database.Storage;
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.HabitList;
+import seedu.studymate.parser.Command;
+import seedu.studymate.parser.CommandHandler;
+import seedu.studymate.parser.CommandType;
+import seedu.studymate.parser.Parser;
+import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.tasks.TaskList;
+import seedu.studymate.ui.MessageHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executes a script of commands as a single unit of work.
+ * All output produced by the script is collected and printed in one response, and the caller
+ * persists the lists once after the script finishes instead of after every command.
+ * In strict mode, the first failing command rolls back every change made by the script.
+ */
+public class BatchRunner {
+    private static final Logger logger = Logger.getLogger("BatchRunner Logger");
+    private final Parser parser;
+    private final Storage storage;
+
+    public BatchRunner(Parser parser, Storage storage) {
+        this.parser = parser;
+        this.storage = storage;
+    }
+
+    /**
+     * Runs every command in a script file against the given lists.
+     * Blank lines are skipped and a bye command ends the script early.
+     *
+     * @param path The path of the script file
+     * @param isStrict Whether to roll back the whole script if any command fails
+     * @param taskList The task list
+     * @param reminderList The reminder list
+     * @param habitList The habit list
+     * @throws StudyMateException If the script cannot be read, or if a command fails in strict mode
+     */
+    public void run(String path, boolean isStrict, TaskList taskList, ReminderList reminderList,
+            HabitList habitList) throws StudyMateException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            throw new StudyMateException("Error reading script file: " + path);
+        }
+
+        List<String> snapshot = isStrict
+                ? storage.snapshot(taskList.getTasks(), reminderList.getReminders(), habitList.getAllHabits())
+                : null;
+        int executed = 0;
+        int failed = 0;
+
+        MessageHandler.startBuffering();
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    Command cmd = parser.parse(line);
+                    if (cmd.type == CommandType.BYE) {
+                        break;
+                    }
+                    if (cmd.type == CommandType.RUN) {
+                        throw new StudyMateException("Scripts cannot run other scripts!");
+                    }
+                    CommandHandler.executeCommand(taskList, reminderList, habitList, cmd);
+                    executed++;
+                } catch (StudyMateException e) {
+                    if (isStrict) {
+                        logger.log(Level.INFO, "Script aborted at line " + (i + 1) + ", rolling back");
+                        storage.restore(snapshot, taskList, reminderList, habitList);
+                        MessageHandler.stopBuffering();
+                        throw new StudyMateException("Script aborted at line " + (i + 1) + ": " + e.getMessage()
+                                + "\nAll changes made by the script have been rolled back.");
+                    }
+                    MessageHandler.sendMessage(e.getMessage());
+                    failed++;
+                }
+            }
+        } finally {
+            MessageHandler.sendRaw(MessageHandler.stopBuffering());
+        }
+
+        logger.log(Level.INFO, "Ran " + executed + " command(s) from " + path);
+        String summary = "Ran " + executed + " command(s) from " + path;
+        MessageHandler.sendMessage(failed == 0 ? summary + "." : summary + " (" + failed + " failed).");
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.studymate;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.Command;
+import seedu.studymate.parser.CommandType;
+import seedu.studymate.parser.Parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads and parses input lines on a background thread, ahead of the commands being executed.
+ * Parsed commands, and the errors of lines that failed to parse, are handed over in input order
+ * through a bounded queue, so the caller sees exactly the same sequence as reading line by line.
+ */
+public class CommandPipeline implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger("CommandPipeline Logger");
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final ParsedLine END_OF_INPUT = new ParsedLine(null, null);
+
+    private final BufferedReader reader;
+    private final Parser parser;
+    private final BlockingQueue<ParsedLine> queue;
+    private final Thread parseThread;
+    private boolean isFinished = false;
+
+    public CommandPipeline(Reader in, Parser parser) {
+        this(in, parser, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a CommandPipeline with a given queue capacity.
+     *
+     * @param in The input to read commands from
+     * @param parser The parser used to parse each line
+     * @param capacity The maximum number of parsed lines waiting to be executed
+     */
+    public CommandPipeline(Reader in, Parser parser, int capacity) {
+        assert capacity > 0 : "Capacity should be positive";
+        this.reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        this.parser = parser;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.parseThread = new Thread(this::readAndParse, "StudyMate-Parser");
+        this.parseThread.setDaemon(true);
+    }
+
+    /**
+     * Starts reading and parsing input in the background.
+     */
+    public void start() {
+        parseThread.start();
+    }
+
+    /**
+     * Returns the next parsed command, waiting for it if necessary.
+     *
+     * @return The next command, or null once the input has ended
+     * @throws StudyMateException If the next line could not be parsed
+     */
+    public Command next() throws StudyMateException {
+        if (isFinished) {
+            return null;
+        }
+        ParsedLine parsed;
+        try {
+            parsed = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isFinished = true;
+            return null;
+        }
+        if (parsed == END_OF_INPUT) {
+            isFinished = true;
+            return null;
+        }
+        if (parsed.error != null) {
+            throw parsed.error;
+        }
+        return parsed.command;
+    }
+
+    /**
+     * Checks whether another parsed line is already waiting to be executed.
+     *
+     * @return True if next() will return without waiting for input
+     */
+    public boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    /**
+     * Stops the background parsing thread.
+     */
+    @Override
+    public void close() {
+        parseThread.interrupt();
+    }
+
+    private void readAndParse() {
+        try {
+            String line;
+            while ((line = readLine()) != null) {
+                ParsedLine parsed = parseLine(line.trim());
+                queue.put(parsed);
+                // Input after bye is never executed, so there is no need to read it
+                if (parsed.command != null && parsed.command.type == CommandType.BYE) {
+                    return;
+                }
+            }
+            queue.put(END_OF_INPUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error reading input: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private ParsedLine parseLine(String line) {
+        try {
+            return new ParsedLine(parser.parse(line), null);
+        } catch (StudyMateException e) {
+            return new ParsedLine(null, e);
+        }
+    }
+
+    /**
+     * Holds the result of parsing a single line: either a command or the error raised while parsing it.
+     */
+    private static class ParsedLine {
+        private final Command command;
+        private final StudyMateException error;
+
+        private ParsedLine(Command command, StudyMateException error) {
+            this.command = command;
+            this.error = error;
+        }
+    }
+}
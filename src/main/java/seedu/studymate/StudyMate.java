@@ -2,24 +2,43 @@ package seedu.studymate;
 
 import seedu.studymate.database.Storage;
 import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.Habit;
 import seedu.studymate.habits.HabitList;
 import seedu.studymate.parser.Command;
 import seedu.studymate.parser.CommandHandler;
 import seedu.studymate.parser.CommandType;
 import seedu.studymate.parser.Parser;
+import seedu.studymate.reminders.BatchingNotificationSink;
+import seedu.studymate.reminders.ConsoleNotificationSink;
+import seedu.studymate.reminders.FileNotificationSink;
+import seedu.studymate.reminders.NotificationSink;
+import seedu.studymate.reminders.ReminderEventLog;
+import seedu.studymate.reminders.HeapReminderQueue;
 import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.reminders.ReminderQueue;
 import seedu.studymate.reminders.Scheduler;
+import seedu.studymate.reminders.SocketNotificationSink;
+import seedu.studymate.reminders.TimingWheelReminderQueue;
+import seedu.studymate.reminders.TokenBucket;
 import seedu.studymate.tasks.TaskList;
+import seedu.studymate.timer.SessionLog;
+import seedu.studymate.timer.TimerCheckpoint;
 import seedu.studymate.ui.MessageHandler;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 import java.util.logging.LogManager;
 
@@ -28,6 +47,9 @@ public class StudyMate {
      * Main entry-point for the StudyMate application.
      */
     private static final String FILE_PATH = "data/StudyMate.txt";
+    private static final String EVENT_LOG_PATH = "data/ReminderEvents.bin";
+    private static final String SESSION_LOG_PATH = "data/FocusSessions.bin";
+    private static final String TIMER_STATE_PATH = "data/Timers.state";
     private static ReminderList reminderList;
     private static HabitList habitList;
     private static TaskList taskList;
@@ -46,11 +68,12 @@ public class StudyMate {
         System.setErr(new PrintStream(System.err, true, StandardCharsets.UTF_8));
         sendWelcomeMessage();
 
+        Clock clock = Clock.systemDefaultZone();
         String testTime = System.getenv("TEST_TIME");
         if (testTime != null) {
             try {
                 LocalDateTime fixedTime = LocalDateTime.parse(testTime);
-                Clock clock = Clock.fixed(fixedTime.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+                clock = Clock.fixed(fixedTime.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
                 reminderList = new ReminderList(clock);
                 habitList = new HabitList(clock);
                 CommandHandler.setClock(clock);
@@ -65,7 +88,9 @@ public class StudyMate {
         Storage storage = new Storage(FILE_PATH);
         Scanner sc = new Scanner(System.in, StandardCharsets.UTF_8);
         Parser parser = new Parser();
-        Scheduler scheduler = new Scheduler(reminderList);
+        Scheduler scheduler = new Scheduler(reminderList, Scheduler.DEFAULT_INTERVAL_SECONDS,
+                createReminderQueue(args, clock));
+        BatchRunner batchRunner = new BatchRunner(parser, storage);
 
         // Load existing tasks from file.
         try {
@@ -76,7 +101,53 @@ public class StudyMate {
         } catch (StudyMateException e) {
             MessageHandler.sendMessage("Error loading!");
         }
+        ReminderEventLog eventLog = openEventLog(clock);
+        reminderList.setEventLog(eventLog);
+        SessionLog sessionLog = openSessionLog(clock);
+        CommandHandler.setSessionLog(sessionLog);
+        CommandHandler.restoreTimers(new TimerCheckpoint(Path.of(TIMER_STATE_PATH), clock));
+        List<Habit> lapsedHabits = habitList.startLapseWatch(MessageHandler::sendHabitLapse);
+        if (!lapsedHabits.isEmpty()) {
+            MessageHandler.sendMissedHabitLapses(lapsedHabits);
+        }
+        if (hasFlag(args, "--batch")) {
+            // Without a script there is nothing to run, but the user still asked not to start interactively
+            String batchPath = getFlagValue(args, "--batch");
+            if (batchPath != null) {
+                runBatch(batchRunner, storage, batchPath, hasFlag(args, "--strict"));
+            }
+            CommandHandler.cleanup();
+            habitList.stopLapseWatch();
+            closeEventLog(eventLog);
+            closeSessionLog(sessionLog);
+            sc.close();
+            sendExitMessage();
+            return;
+        }
+        scheduler.setSinks(createSinks(args));
         scheduler.start();
+        if (System.console() == null) {
+            runPipelined(parser, storage, batchRunner);
+        } else {
+            runInteractive(sc, parser, storage, batchRunner);
+        }
+        scheduler.shutdown();
+        habitList.stopLapseWatch();
+        closeEventLog(eventLog);
+        closeSessionLog(sessionLog);
+        sc.close();
+        sendExitMessage();
+    }
+
+    /**
+     * Reads, executes and saves one command at a time until the user exits
+     *
+     * @param sc The Scanner to read input from
+     * @param parser The Parser to parse input with
+     * @param storage The Storage to save to
+     * @param batchRunner The BatchRunner to run scripts with
+     */
+    private static void runInteractive(Scanner sc, Parser parser, Storage storage, BatchRunner batchRunner) {
         while (true) {
             try {
                 String input = readInput(sc);
@@ -85,16 +156,241 @@ public class StudyMate {
                     CommandHandler.cleanup();
                     break;
                 }
-                CommandHandler.executeCommand(taskList, reminderList, habitList, cmd);
+                execute(cmd, batchRunner);
 
                 storage.save(taskList.getTasks(), reminderList.getReminders(), habitList.getAllHabits());
             } catch (StudyMateException e) {
                 MessageHandler.sendMessage(e.getMessage());
             }
         }
-        scheduler.shutdown();
-        sc.close();
-        sendExitMessage();
+    }
+
+    /**
+     * Executes commands piped into standard input, parsing the next lines in the background while the
+     * current command executes. Commands and errors are handled in input order, and saving is deferred
+     * while more commands are already waiting, so that a burst of input is persisted once at the end.
+     *
+     * @param parser The Parser to parse input with
+     * @param storage The Storage to save to
+     * @param batchRunner The BatchRunner to run scripts with
+     */
+    private static void runPipelined(Parser parser, Storage storage, BatchRunner batchRunner) {
+        boolean isDirty = false;
+        try (CommandPipeline pipeline = new CommandPipeline(
+                new InputStreamReader(System.in, StandardCharsets.UTF_8), parser)) {
+            pipeline.start();
+            while (true) {
+                try {
+                    Command cmd = pipeline.next();
+                    if (cmd == null || cmd.type == CommandType.BYE) {
+                        CommandHandler.cleanup();
+                        break;
+                    }
+                    execute(cmd, batchRunner);
+                    isDirty = true;
+                } catch (StudyMateException e) {
+                    MessageHandler.sendMessage(e.getMessage());
+                }
+                if (isDirty && !pipeline.hasPending()) {
+                    isDirty = !save(storage);
+                }
+            }
+        }
+        if (isDirty) {
+            save(storage);
+        }
+    }
+
+    private static void execute(Command cmd, BatchRunner batchRunner) throws StudyMateException {
+        if (cmd.type == CommandType.RUN) {
+            batchRunner.run(cmd.desc, cmd.isStrict, taskList, reminderList, habitList);
+        } else {
+            CommandHandler.executeCommand(taskList, reminderList, habitList, cmd);
+        }
+    }
+
+    private static boolean save(Storage storage) {
+        try {
+            storage.save(taskList.getTasks(), reminderList.getReminders(), habitList.getAllHabits());
+            return true;
+        } catch (StudyMateException e) {
+            MessageHandler.sendMessage(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Runs a script given on the command line and persists the result once
+     *
+     * @param batchRunner The BatchRunner to run the script with
+     * @param storage The Storage to save to
+     * @param path The path of the script file
+     * @param isStrict Whether to roll back the whole script if any command fails
+     */
+    private static void runBatch(BatchRunner batchRunner, Storage storage, String path, boolean isStrict) {
+        try {
+            batchRunner.run(path, isStrict, taskList, reminderList, habitList);
+            storage.save(taskList.getTasks(), reminderList.getReminders(), habitList.getAllHabits());
+        } catch (StudyMateException e) {
+            MessageHandler.sendMessage(e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the log that fires, snoozes and turning reminders on and off are recorded to
+     *
+     * @param clock The clock to time events with
+     * @return The open event log, or null if it could not be opened, in which case nothing is recorded
+     */
+    private static ReminderEventLog openEventLog(Clock clock) {
+        try {
+            return ReminderEventLog.open(Path.of(EVENT_LOG_PATH), clock);
+        } catch (IOException e) {
+            MessageHandler.sendMessage("Could not open reminder history, so it will not be recorded: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeEventLog(ReminderEventLog eventLog) {
+        if (eventLog == null) {
+            return;
+        }
+        try {
+            eventLog.close();
+        } catch (IOException e) {
+            MessageHandler.sendMessage("Could not save reminder history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the log that focus sessions are recorded to when their timers run out or are reset
+     *
+     * @param clock The clock to date sessions with
+     * @return The open session log, or null if it could not be opened, in which case nothing is recorded
+     */
+    private static SessionLog openSessionLog(Clock clock) {
+        try {
+            return SessionLog.open(Path.of(SESSION_LOG_PATH), clock);
+        } catch (IOException e) {
+            MessageHandler.sendMessage("Could not open focus history, so it will not be recorded: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeSessionLog(SessionLog sessionLog) {
+        if (sessionLog == null) {
+            return;
+        }
+        try {
+            sessionLog.close();
+        } catch (IOException e) {
+            MessageHandler.sendMessage("Could not save focus history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Builds where fired reminders are delivered from the launch flags: always the console, plus a file
+     * with --notify-file and a local socket with --notify-socket. Each sink collects reminders for
+     * --notify-window seconds and delivers at most --notify-rate batches a minute.
+     *
+     * @param args The launch arguments
+     * @return The sinks to deliver fired reminders to
+     */
+    private static List<NotificationSink> createSinks(String[] args) {
+        long windowSeconds = getNumberFlag(args, "--notify-window", 0);
+        long batchesPerMinute = getNumberFlag(args, "--notify-rate", 0);
+        List<NotificationSink> sinks = new ArrayList<>();
+        sinks.add(new ConsoleNotificationSink());
+        String filePath = getFlagValue(args, "--notify-file");
+        if (filePath != null) {
+            sinks.add(new FileNotificationSink(Path.of(filePath)));
+        }
+        String socketPath = getFlagValue(args, "--notify-socket");
+        if (socketPath != null) {
+            sinks.add(new SocketNotificationSink(Path.of(socketPath)));
+        }
+        List<NotificationSink> batchedSinks = new ArrayList<>();
+        for (NotificationSink sink : sinks) {
+            TokenBucket rateLimit = batchesPerMinute > 0 ? new TokenBucket(batchesPerMinute, batchesPerMinute) : null;
+            batchedSinks.add(new BatchingNotificationSink(sink, Duration.ofSeconds(windowSeconds), rateLimit));
+        }
+        return batchedSinks;
+    }
+
+    /**
+     * Builds the queue the scheduler keeps active reminders in from the --reminder-queue launch flag:
+     * a min-heap by default, or a timing wheel with "wheel", which suits very many recurring reminders.
+     *
+     * @param args The launch arguments
+     * @param clock The clock the wheel starts turning from
+     * @return An empty reminder queue
+     */
+    private static ReminderQueue createReminderQueue(String[] args, Clock clock) {
+        String kind = getFlagValue(args, "--reminder-queue");
+        if ("wheel".equals(kind)) {
+            return new TimingWheelReminderQueue(LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC));
+        }
+        if (kind != null && !kind.equals("heap")) {
+            MessageHandler.sendMessage("Ignoring --reminder-queue " + kind + ": expected heap or wheel.");
+        }
+        return new HeapReminderQueue();
+    }
+
+    /**
+     * Returns the non-negative whole number following a launch flag, or a default if it is absent or invalid
+     *
+     * @param args The launch arguments
+     * @param flag The flag to look for
+     * @param defaultValue The value to use if the flag is absent or invalid
+     * @return The value of the flag
+     */
+    private static long getNumberFlag(String[] args, String flag, long defaultValue) {
+        String value = getFlagValue(args, flag);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long number = Long.parseLong(value);
+            if (number >= 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        MessageHandler.sendMessage("Ignoring " + flag + " " + value + ": expected a whole number of at least 0.");
+        return defaultValue;
+    }
+
+    /**
+     * Returns the value following a launch flag, or null if the flag is absent or has no value.
+     * A flag followed by nothing, or by another flag, is reported as missing its value.
+     *
+     * @param args The launch arguments
+     * @param flag The flag to look for
+     * @return The value of the flag
+     */
+    private static String getFlagValue(String[] args, String flag) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(flag)) {
+                if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                    return args[i + 1];
+                }
+                MessageHandler.sendMessage("Missing value for " + flag + ".");
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasFlag(String[] args, String flag) {
+        for (String arg : args) {
+            if (arg.equals(flag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.studymate.database;
 
 import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.parser.DateTimeCodec;
 
 import java.time.Duration;
 
@@ -22,7 +23,9 @@ public class DataFormatting {
      * @return The formatted string for saving
      */
     public static String deadlineSaveString(Boolean isDone, String name, DateTimeArg deadline) {
-        return "D" + DELIM + (isDone ? "1" : "0") + DELIM + name + DELIM + deadline;
+        StringBuilder sb = new StringBuilder(name.length() + 24);
+        sb.append('D').append(DELIM).append(isDone ? '1' : '0').append(DELIM).append(name).append(DELIM);
+        return DateTimeCodec.appendTo(sb, deadline, DateTimeCodec.SAVE_SEPARATOR).toString();
     }
 
     /**
@@ -30,7 +33,10 @@ public class DataFormatting {
      * @return The formatted string for saving
      */
     public static String eventSaveString(Boolean isDone, String name, DateTimeArg from, DateTimeArg to) {
-        return "E" + DELIM + (isDone ? "1" : "0") + DELIM + name + DELIM + from + DELIM + to;
+        StringBuilder sb = new StringBuilder(name.length() + 40);
+        sb.append('E').append(DELIM).append(isDone ? '1' : '0').append(DELIM).append(name).append(DELIM);
+        DateTimeCodec.appendTo(sb, from, DateTimeCodec.SAVE_SEPARATOR).append(DELIM);
+        return DateTimeCodec.appendTo(sb, to, DateTimeCodec.SAVE_SEPARATOR).toString();
     }
 
     /**
@@ -39,11 +45,17 @@ public class DataFormatting {
      * @param isDone Whether the reminder is completed or triggered.
      * @param name The name of or description of the reminder.
      * @param dateTime The date and time for the reminder.
-     * @return A formatted string for file storage, e.g. "R|1|Appointment|2025-10-12T08:00"
+     * @param isFired Whether the reminder has fired.
+     * @param id The id of the reminder.
+     * @return A formatted string for file storage, e.g. "R|0|1|Appointment|2025-10-12T08:00|0|3"
      */
-    public static String oneTimeReminderSaveString(Boolean isDone, String name, DateTimeArg dateTime, boolean isFired) {
-        return "R" + DELIM + "0" + DELIM + (isDone ? "1" : "0") + DELIM + name + DELIM + dateTime + DELIM +
-                (isFired ? "1" : "0");
+    public static String oneTimeReminderSaveString(Boolean isDone, String name, DateTimeArg dateTime, boolean isFired,
+                                                   int id) {
+        StringBuilder sb = new StringBuilder(name.length() + 40);
+        sb.append('R').append(DELIM).append('0').append(DELIM).append(isDone ? '1' : '0').append(DELIM)
+                .append(name).append(DELIM);
+        DateTimeCodec.appendTo(sb, dateTime, DateTimeCodec.SAVE_SEPARATOR);
+        return sb.append(DELIM).append(isFired ? '1' : '0').append(DELIM).append(id).toString();
     }
 
     /**
@@ -52,11 +64,42 @@ public class DataFormatting {
      * @param isDone Whether the reminder is completed or triggered.
      * @param name The name of or description of the reminder.
      * @param dateTime The date and time for the reminder.
-     * @return A formatted string for file storage, e.g. "R|1|Appointment|2025-10-12T08:00"
+     * @param interval The time between occurrences.
+     * @param catchUpPolicy The keyword of what to do about missed occurrences.
+     * @param id The id of the reminder.
+     * @return A formatted string for file storage, e.g. "R|1|1|Appointment|2025-10-12T08:00|PT24H|once|3"
      */
     public static String recurringReminderSaveString(Boolean isDone, String name, DateTimeArg dateTime,
-                                                     Duration interval) {
-        return "R" + DELIM + "1" + DELIM + (isDone ? "1" : "0") + DELIM + name + DELIM + dateTime + DELIM + interval;
+                                                     Duration interval, String catchUpPolicy, int id) {
+        StringBuilder sb = new StringBuilder(name.length() + 48);
+        sb.append('R').append(DELIM).append('1').append(DELIM).append(isDone ? '1' : '0').append(DELIM)
+                .append(name).append(DELIM);
+        DateTimeCodec.appendTo(sb, dateTime, DateTimeCodec.SAVE_SEPARATOR);
+        return sb.append(DELIM).append(interval).append(DELIM).append(catchUpPolicy).append(DELIM).append(id)
+                .toString();
+    }
+
+    /**
+     * Returns a string representation of a reminder that recurs by a calendar rule suitable for saving to a file
+     *
+     * @param isDone Whether the reminder is turned on.
+     * @param name The name of or description of the reminder.
+     * @param dateTime The date and time of the next occurrence.
+     * @param rule The recurrence rule.
+     * @param catchUpPolicy The keyword of what to do about missed occurrences.
+     * @param start The date and time the rule starts from.
+     * @param id The id of the reminder.
+     * @return A formatted string for file storage,
+     *     e.g. "R|1|1|Lecture|2025-10-13T09:00|FREQ=WEEKLY;BYDAY=MO,WE|once|2025-10-06T09:00|3"
+     */
+    public static String calendarReminderSaveString(Boolean isDone, String name, DateTimeArg dateTime, String rule,
+                                                    String catchUpPolicy, DateTimeArg start, int id) {
+        StringBuilder sb = new StringBuilder(name.length() + rule.length() + 68);
+        sb.append('R').append(DELIM).append('1').append(DELIM).append(isDone ? '1' : '0').append(DELIM)
+                .append(name).append(DELIM);
+        DateTimeCodec.appendTo(sb, dateTime, DateTimeCodec.SAVE_SEPARATOR);
+        sb.append(DELIM).append(rule).append(DELIM).append(catchUpPolicy).append(DELIM);
+        return DateTimeCodec.appendTo(sb, start, DateTimeCodec.SAVE_SEPARATOR).append(DELIM).append(id).toString();
     }
 
     /**
@@ -66,9 +109,19 @@ public class DataFormatting {
      * @param deadline The deadline for the habit
      * @param interval The interval between habit deadlines
      * @param streak The current streak count
-     * @return A formatted string for file storage
+     * @param originSecond The local epoch second the completion history starts at
+     * @param history The encoded completion history
+     * @param grace The encoded grace policy
+     * @param days The encoded days the habit was completed on
+     * @return A formatted string for file storage,
+     *         e.g. "H|Exercise|2025-10-27T08:00|PT24H|3|1760774400|5.2.3|F4|20369,5.20376,3"
      */
-    public static String habitString(String name, DateTimeArg deadline, Duration interval, int streak) {
-        return "H" + DELIM + name + DELIM + deadline + DELIM + interval + DELIM + streak;
+    public static String habitString(String name, DateTimeArg deadline, Duration interval, int streak,
+                                     long originSecond, String history, String grace, String days) {
+        StringBuilder sb = new StringBuilder(name.length() + history.length() + days.length() + 53);
+        sb.append('H').append(DELIM).append(name).append(DELIM);
+        DateTimeCodec.appendTo(sb, deadline, DateTimeCodec.SAVE_SEPARATOR);
+        return sb.append(DELIM).append(interval).append(DELIM).append(streak).append(DELIM).append(originSecond)
+                .append(DELIM).append(history).append(DELIM).append(grace).append(DELIM).append(days).toString();
     }
 }
@@ -1,8 +1,14 @@
 package seedu.studymate.database;
 
+import seedu.studymate.habits.CompletionDays;
+import seedu.studymate.habits.CompletionHistory;
+import seedu.studymate.habits.GracePolicy;
 import seedu.studymate.habits.Habit;
 import seedu.studymate.habits.HabitList;
 import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.parser.DateTimeCodec;
+import seedu.studymate.reminders.CatchUpPolicy;
+import seedu.studymate.reminders.RecurrenceRule;
 import seedu.studymate.reminders.Reminder;
 import seedu.studymate.reminders.ReminderList;
 import seedu.studymate.tasks.Task;
@@ -17,8 +23,7 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -92,6 +97,49 @@ public class Storage {
         }
     }
 
+    /**
+     * Captures the current state of all lists as save lines, without touching the save file.
+     *
+     * @param tasks The list of tasks to capture.
+     * @param reminders The list of reminders to capture.
+     * @param habits The list of habits to capture.
+     * @return The save lines representing the given lists.
+     */
+    public List<String> snapshot(List<Task> tasks, List<Reminder> reminders, List<Habit> habits) {
+        List<String> lines = new ArrayList<>(tasks.size() + reminders.size() + habits.size());
+        for (Task task : tasks) {
+            lines.add(task.toSaveString());
+        }
+        for (Reminder reminder : reminders) {
+            lines.add(reminder.toSaveString());
+        }
+        for (Habit habit : habits) {
+            lines.add(habit.toSaveString());
+        }
+        return lines;
+    }
+
+    /**
+     * Replaces the contents of all lists with a snapshot previously taken by {@link #snapshot}.
+     *
+     * @param lines The save lines to restore.
+     * @param taskList The TaskList to restore into.
+     * @param reminderList The ReminderList to restore into.
+     * @param habitList The HabitList to restore into.
+     */
+    public void restore(List<String> lines, TaskList taskList, ReminderList reminderList, HabitList habitList) {
+        taskList.clear();
+        reminderList.clear();
+        habitList.clear();
+        for (String line : lines) {
+            try {
+                parseAndAddLine(line, taskList, reminderList, habitList);
+            } catch (StudyMateException e) {
+                System.err.println("Skipping invalid line: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Parses a line from the save file and adds the corresponding Task to the given TaskList.
      * Supports ToDo and Deadline tasks. Sets the task's done status if indicated.
@@ -123,15 +171,10 @@ public class Storage {
             break;
 
         case "D":
-            String[] rawdateTime = parts[3].split("T");
             DateTimeArg dateTimeArg;
             try {
-                if (rawdateTime.length == 2 && !rawdateTime[1].trim().isEmpty()) {
-                    dateTimeArg = new DateTimeArg(LocalDate.parse(rawdateTime[0].trim()),
-                            LocalTime.parse(rawdateTime[1].trim()));
-                } else if (!rawdateTime[0].trim().isEmpty()) {
-                    dateTimeArg = new DateTimeArg(LocalDate.parse(rawdateTime[0].trim()));
-                } else {
+                dateTimeArg = DateTimeCodec.parseSaved(parts[3]);
+                if (dateTimeArg == null) {
                     throw new StudyMateException("Error parsing deadline data!");
                 }
             } catch (Exception e) {
@@ -148,29 +191,19 @@ public class Storage {
                 return;
             }
             String eventName = parts[2];
-            String[] rawFromDateTime = parts[3].split("T");
-            String[] rawToDateTime = parts[4].split("T");
             DateTimeArg fromDateTimeArg;
             DateTimeArg toDateTimeArg;
 
             try {
                 // Parse from date
-                if (rawFromDateTime.length == 2 && !rawFromDateTime[1].trim().isEmpty()) {
-                    fromDateTimeArg = new DateTimeArg(LocalDate.parse(rawFromDateTime[0].trim()),
-                            LocalTime.parse(rawFromDateTime[1].trim()));
-                } else if (!rawFromDateTime[0].trim().isEmpty()) {
-                    fromDateTimeArg = new DateTimeArg(LocalDate.parse(rawFromDateTime[0].trim()));
-                } else {
+                fromDateTimeArg = DateTimeCodec.parseSaved(parts[3]);
+                if (fromDateTimeArg == null) {
                     throw new StudyMateException("Error parsing event from date!");
                 }
 
                 // Parse to date
-                if (rawToDateTime.length == 2 && !rawToDateTime[1].trim().isEmpty()) {
-                    toDateTimeArg = new DateTimeArg(LocalDate.parse(rawToDateTime[0].trim()),
-                            LocalTime.parse(rawToDateTime[1].trim()));
-                } else if (!rawToDateTime[0].trim().isEmpty()) {
-                    toDateTimeArg = new DateTimeArg(LocalDate.parse(rawToDateTime[0].trim()));
-                } else {
+                toDateTimeArg = DateTimeCodec.parseSaved(parts[4]);
+                if (toDateTimeArg == null) {
                     throw new StudyMateException("Error parsing event to date!");
                 }
             } catch (Exception e) {
@@ -190,16 +223,11 @@ public class Storage {
             boolean isRecurring = parts[1].equals("1");
             boolean isReminderDone = parts[2].equals("1");
             String reminderName = parts[3];
-            String[] rawDateTime = parts[4].split("T");
             DateTimeArg reminderTime;
 
             try {
-                if (rawDateTime.length == 2 && !rawDateTime[1].trim().isEmpty()) {
-                    reminderTime = new DateTimeArg(LocalDate.parse(rawDateTime[0].trim()),
-                            LocalTime.parse(rawDateTime[1].trim()));
-                } else if (!rawDateTime[0].trim().isEmpty()) {
-                    reminderTime = new DateTimeArg(LocalDate.parse(rawDateTime[0].trim()));
-                } else {
+                reminderTime = DateTimeCodec.parseSaved(parts[4]);
+                if (reminderTime == null) {
                     throw new StudyMateException("Error parsing reminder data!");
                 }
             } catch (Exception e) {
@@ -207,9 +235,28 @@ public class Storage {
             }
 
             if (isRecurring) {
-                // Recurring reminder: parse interval from parts[5]
-                Duration interval = Duration.parse(parts[5]);
-                reminderList.addReminderRec(reminderName, reminderTime, interval);
+                // Files saved before catch-up policies existed have no policy field
+                CatchUpPolicy catchUpPolicy = parts.length > 6 ? CatchUpPolicy.fromKeyword(parts[6]) : null;
+                if (catchUpPolicy == null) {
+                    catchUpPolicy = CatchUpPolicy.ONCE;
+                }
+                if (RecurrenceRule.isRule(parts[5])) {
+                    // Calendar rule reminder: the rule is in parts[5] and its start in parts[7]
+                    DateTimeArg ruleStart = reminderTime;
+                    try {
+                        if (parts.length > 7) {
+                            ruleStart = DateTimeCodec.parseSaved(parts[7]);
+                        }
+                    } catch (Exception e) {
+                        throw new StudyMateException("Error parsing reminder start date/time: " + e.getMessage());
+                    }
+                    reminderList.addReminderRule(reminderName, ruleStart, RecurrenceRule.parse(parts[5]),
+                            catchUpPolicy, reminderTime);
+                } else {
+                    // Recurring reminder: parse interval from parts[5]
+                    Duration interval = Duration.parse(parts[5]);
+                    reminderList.addReminderRec(reminderName, reminderTime, interval, catchUpPolicy);
+                }
             } else {
                 // Check if isFired
                 boolean isFired = parts[5].equals("1");
@@ -217,6 +264,20 @@ public class Storage {
                 reminderList.addReminderOneTime(reminderName, reminderTime, isFired);
             }
 
+            // Files saved before reminder ids existed have no id field, so their reminders get new ids
+            int idField = !isRecurring ? 6 : RecurrenceRule.isRule(parts[5]) ? 8 : 7;
+            if (parts.length > idField) {
+                int reminderId;
+                try {
+                    reminderId = Integer.parseInt(parts[idField]);
+                } catch (NumberFormatException e) {
+                    throw new StudyMateException("Error parsing reminder id: " + parts[idField]);
+                }
+                if (reminderId > 0) {
+                    reminderList.restoreId(reminderList.getCount() - 1, reminderId);
+                }
+            }
+
             if (!isReminderDone) {
                 reminderList.getReminder(reminderList.getCount() - 1).setOnReminder(false);
             }
@@ -227,16 +288,11 @@ public class Storage {
                 return;
             }
             String habitName = parts[1];
-            String[] rawHabitDateTime = parts[2].split("T");
             DateTimeArg habitDeadline;
 
             try {
-                if (rawHabitDateTime.length == 2 && !rawHabitDateTime[1].trim().isEmpty()) {
-                    habitDeadline = new DateTimeArg(LocalDate.parse(rawHabitDateTime[0].trim()),
-                            LocalTime.parse(rawHabitDateTime[1].trim()));
-                } else if (!rawHabitDateTime[0].trim().isEmpty()) {
-                    habitDeadline = new DateTimeArg(LocalDate.parse(rawHabitDateTime[0].trim()));
-                } else {
+                habitDeadline = DateTimeCodec.parseSaved(parts[2]);
+                if (habitDeadline == null) {
                     throw new StudyMateException("Error parsing habit deadline!");
                 }
             } catch (Exception e) {
@@ -246,7 +302,26 @@ public class Storage {
             Duration habitInterval = Duration.parse(parts[3]);
             int habitStreak = Integer.parseInt(parts[4]);
 
-            habitList.addHabit(habitName, habitDeadline, habitInterval, habitStreak);
+            if (parts.length >= 7) {
+                // Saved with its completion history
+                long originSecond = Long.parseLong(parts[5]);
+                CompletionHistory history;
+                GracePolicy grace;
+                CompletionDays days;
+                try {
+                    history = CompletionHistory.decode(parts[6]);
+                    // Habits saved before grace policies keep the default grace period
+                    grace = parts.length >= 8 ? GracePolicy.decode(parts[7]) : GracePolicy.DEFAULT;
+                    // and habits saved before completion days were kept place them by their periods
+                    days = parts.length >= 9 ? CompletionDays.decode(parts[8]) : null;
+                } catch (IllegalArgumentException e) {
+                    throw new StudyMateException("Error parsing habit history or grace period: " + e.getMessage());
+                }
+                habitList.addHabit(habitName, habitDeadline, habitInterval, habitStreak, originSecond, history,
+                        days, grace);
+            } else {
+                habitList.addHabit(habitName, habitDeadline, habitInterval, habitStreak);
+            }
             break;
 
         default:
@@ -0,0 +1,145 @@
+package seedu.studymate.habits;
+
+import java.util.Arrays;
+
+/**
+ * Which days a habit was completed on, and how many times on each, for the heatmap.
+ * Completions are recorded in the order they happen, so the days are kept as runs of consecutive days with the
+ * same number of completions: a daily habit kept on time for a month is a single run.
+ */
+public final class CompletionDays {
+    private static final char RUN_SEPARATOR = '.';
+    private static final char FIELD_SEPARATOR = ',';
+    private static final int RUN_FIELDS = 3;
+
+    // three longs per run: the first epoch day, how many days in a row, and the completions on each of them
+    private long[] runs = new long[RUN_FIELDS * 4];
+    private int runCount;
+
+    /**
+     * Records a completion on a day.
+     *
+     * @param epochDay The local epoch day, which must not be before the last day recorded
+     */
+    public void record(long epochDay) {
+        if (runCount == 0) {
+            appendRun(epochDay, 1, 1);
+            return;
+        }
+        int last = (runCount - 1) * RUN_FIELDS;
+        long lastDay = runs[last] + runs[last + 1] - 1;
+        if (epochDay < lastDay) {
+            throw new IllegalArgumentException("Day " + epochDay + " is before the last recorded day");
+        }
+        if (epochDay == lastDay) {
+            if (runs[last + 1] == 1) {
+                runs[last + 2]++;
+            } else {
+                // The last day now has one more completion than the rest of its run
+                runs[last + 1]--;
+                appendRun(epochDay, 1, runs[last + 2] + 1);
+            }
+        } else if (epochDay == lastDay + 1 && runs[last + 2] == 1) {
+            runs[last + 1]++;
+        } else {
+            appendRun(epochDay, 1, 1);
+        }
+    }
+
+    /**
+     * Returns whether nothing has been recorded.
+     *
+     * @return True if there are no completions
+     */
+    public boolean isEmpty() {
+        return runCount == 0;
+    }
+
+    /**
+     * Calls an action with each day in a range that has completions, in order.
+     *
+     * @param from The first epoch day, inclusive
+     * @param to The last epoch day, inclusive
+     * @param action What to do with each day and its number of completions
+     */
+    public void forEachDay(long from, long to, DayAction action) {
+        for (int i = 0; i < runCount; i++) {
+            int run = i * RUN_FIELDS;
+            long first = Math.max(runs[run], from);
+            long last = Math.min(runs[run] + runs[run + 1] - 1, to);
+            for (long day = first; day <= last; day++) {
+                action.accept(day, (int) runs[run + 2]);
+            }
+        }
+    }
+
+    /**
+     * Returns the runs, such as "20385,30,1.20415,1,2" for thirty days with one completion each from day 20385,
+     * then two completions on the day after.
+     *
+     * @return The encoded days, or "0" if nothing is recorded
+     */
+    public String encode() {
+        if (runCount == 0) {
+            return "0";
+        }
+        StringBuilder sb = new StringBuilder(runCount * 12);
+        for (int i = 0; i < runCount; i++) {
+            if (i > 0) {
+                sb.append(RUN_SEPARATOR);
+            }
+            int run = i * RUN_FIELDS;
+            sb.append(runs[run]).append(FIELD_SEPARATOR).append(runs[run + 1]).append(FIELD_SEPARATOR)
+                    .append(runs[run + 2]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads days written by encode().
+     *
+     * @param encoded The runs
+     * @return The days
+     * @throws IllegalArgumentException If the runs are not valid
+     */
+    public static CompletionDays decode(String encoded) {
+        CompletionDays days = new CompletionDays();
+        if (encoded.equals("0")) {
+            return days;
+        }
+        long nextDay = Long.MIN_VALUE;
+        for (String run : encoded.split("\\" + RUN_SEPARATOR, -1)) {
+            String[] fields = run.split(String.valueOf(FIELD_SEPARATOR), -1);
+            if (fields.length != RUN_FIELDS) {
+                throw new IllegalArgumentException("Invalid completion days: " + encoded);
+            }
+            long first = Long.parseLong(fields[0]);
+            long length = Long.parseLong(fields[1]);
+            long count = Long.parseLong(fields[2]);
+            if (first < nextDay || length < 1 || count < 1 || count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid completion days: " + encoded);
+            }
+            days.appendRun(first, length, count);
+            nextDay = first + length;
+        }
+        return days;
+    }
+
+    /**
+     * What to do with a day that has completions.
+     */
+    public interface DayAction {
+        void accept(long epochDay, int completions);
+    }
+
+    private void appendRun(long first, long length, long count) {
+        if ((runCount + 1) * RUN_FIELDS > runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        int run = runCount * RUN_FIELDS;
+        runs[run] = first;
+        runs[run + 1] = length;
+        runs[run + 2] = count;
+        runCount++;
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.studymate.habits;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Which periods of a habit were completed, as a bitmap with one bit per interval since the habit was created,
+ * compressed by run length: the lengths of alternating runs of completed and missed periods, starting with a
+ * run of completed periods that may be empty. A daily habit kept for years is a handful of runs, so streak
+ * and completion queries walk runs rather than periods.
+ * Periods are only ever completed in order, so a completion either extends the last run or starts new ones.
+ */
+public final class CompletionHistory {
+    private static final char RUN_SEPARATOR = '.';
+
+    // runs[0] is a run of completed periods, runs[1] missed, runs[2] completed, and so on; only runs[0] may be
+    // empty, and the last run is always of completed periods
+    private long[] runs = new long[4];
+    private int runCount;
+    private long length;
+
+    /**
+     * Returns a history whose first periods were all completed, for habits saved before history was kept.
+     *
+     * @param periods How many periods were completed
+     * @return The history
+     */
+    public static CompletionHistory ofCompleted(long periods) {
+        CompletionHistory history = new CompletionHistory();
+        if (periods > 0) {
+            history.appendRun(periods);
+        }
+        return history;
+    }
+
+    /**
+     * Marks a period as completed, counting any periods skipped since the last one recorded as missed.
+     *
+     * @param period The 0-based period, which must not be before the last period recorded
+     */
+    public void markCompleted(long period) {
+        if (period < length - 1) {
+            throw new IllegalArgumentException("Period " + period + " is before the last recorded period");
+        }
+        if (period == length - 1) {
+            // The last recorded period is always a completed one
+            return;
+        }
+        if (runCount == 0) {
+            appendRun(0);
+        }
+        long missed = period - length;
+        if (missed > 0) {
+            appendRun(missed);
+            appendRun(1);
+        } else {
+            runs[runCount - 1]++;
+            length++;
+        }
+    }
+
+    /**
+     * Returns whether a period was completed.
+     *
+     * @param period The 0-based period
+     * @return True if it was completed; periods not recorded yet were not
+     */
+    public boolean isCompleted(long period) {
+        long start = 0;
+        for (int i = 0; i < runCount; i++) {
+            if (period < start + runs[i]) {
+                return period >= start && i % 2 == 0;
+            }
+            start += runs[i];
+        }
+        return false;
+    }
+
+    /**
+     * Returns how many periods have been recorded, up to and including the last completed one.
+     *
+     * @return The number of periods
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the longest run of completed periods.
+     *
+     * @return The number of periods in a row
+     */
+    public long getLongestStreak() {
+        long longest = 0;
+        for (int i = 0; i < runCount; i += 2) {
+            longest = Math.max(longest, runs[i]);
+        }
+        return longest;
+    }
+
+    /**
+     * Returns how many periods in a range were completed.
+     *
+     * @param from The first period, inclusive
+     * @param to The last period, exclusive
+     * @return The number of completed periods
+     */
+    public long countCompleted(long from, long to) {
+        long[] count = new long[1];
+        forEachCompletedRun(from, to, (start, end) -> count[0] += end - start);
+        return count[0];
+    }
+
+    /**
+     * Calls an action with each completed period in a range, in order.
+     *
+     * @param from The first period, inclusive
+     * @param to The last period, exclusive
+     * @param action What to do with each completed period
+     */
+    public void forEachCompleted(long from, long to, LongConsumer action) {
+        forEachCompletedRun(from, to, (start, end) -> {
+            for (long period = start; period < end; period++) {
+                action.accept(period);
+            }
+        });
+    }
+
+    /**
+     * Returns the run lengths, such as "5.2.3" for five completed periods, two missed and three completed.
+     *
+     * @return The encoded history, or "0" if nothing is recorded
+     */
+    public String encode() {
+        if (runCount == 0) {
+            return "0";
+        }
+        StringBuilder sb = new StringBuilder(runCount * 3);
+        for (int i = 0; i < runCount; i++) {
+            if (i > 0) {
+                sb.append(RUN_SEPARATOR);
+            }
+            sb.append(runs[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads a history written by encode().
+     *
+     * @param encoded The run lengths
+     * @return The history
+     * @throws IllegalArgumentException If the run lengths are not valid
+     */
+    public static CompletionHistory decode(String encoded) {
+        CompletionHistory history = new CompletionHistory();
+        if (encoded.equals("0")) {
+            return history;
+        }
+        int start = 0;
+        while (start <= encoded.length()) {
+            int end = encoded.indexOf(RUN_SEPARATOR, start);
+            if (end < 0) {
+                end = encoded.length();
+            }
+            long run = Long.parseLong(encoded.substring(start, end));
+            if (run < 0 || (run == 0 && history.runCount > 0)) {
+                throw new IllegalArgumentException("Invalid completion history: " + encoded);
+            }
+            history.appendRun(run);
+            start = end + 1;
+        }
+        if (history.runCount % 2 == 0) {
+            throw new IllegalArgumentException("Completion history must end with a completed period: " + encoded);
+        }
+        return history;
+    }
+
+    private interface RunAction {
+        void accept(long start, long end);
+    }
+
+    private void forEachCompletedRun(long from, long to, RunAction action) {
+        long start = 0;
+        for (int i = 0; i < runCount && start < to; i++) {
+            long end = start + runs[i];
+            if (i % 2 == 0 && end > from) {
+                action.accept(Math.max(start, from), Math.min(end, to));
+            }
+            start = end;
+        }
+    }
+
+    private void appendRun(long periods) {
+        if (runCount == runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        runs[runCount++] = periods;
+        length += periods;
+    }
+}
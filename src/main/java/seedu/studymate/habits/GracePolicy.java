@@ -0,0 +1,143 @@
+package seedu.studymate.habits;
+
+/**
+ * Decides how long after its deadline a habit can still be completed before its streak lapses.
+ * A policy only works out the last minute of a habit's window from the deadline and interval in epoch
+ * seconds, so that windows are worked out once, whenever a deadline moves, without creating any objects.
+ */
+public final class GracePolicy {
+    /**
+     * A quarter of the interval plus a minute, as habits have always had.
+     */
+    public static final GracePolicy DEFAULT = fractionOf(4);
+
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long MINUTES_PER_DAY = 1440;
+
+    private enum Kind {
+        // interval / amount, plus a minute
+        FRACTION('F'),
+        // amount minutes
+        MINUTES('M'),
+        // until the end of the day the deadline falls on
+        DAY_END('D');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+    }
+
+    private final Kind kind;
+    private final long amount;
+
+    private GracePolicy(Kind kind, long amount) {
+        this.kind = kind;
+        this.amount = amount;
+    }
+
+    /**
+     * Returns a policy allowing a fraction of the interval, plus a minute, after the deadline.
+     *
+     * @param denominator How many parts to divide the interval into, which must be positive
+     * @return The policy
+     */
+    public static GracePolicy fractionOf(long denominator) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("Grace fraction must be 1/N for a positive N");
+        }
+        return new GracePolicy(Kind.FRACTION, denominator);
+    }
+
+    /**
+     * Returns a policy allowing a fixed number of minutes after the deadline.
+     *
+     * @param minutes The minutes allowed, which must not be negative
+     * @return The policy
+     */
+    public static GracePolicy minutes(long minutes) {
+        if (minutes < 0) {
+            throw new IllegalArgumentException("Grace minutes must not be negative");
+        }
+        return new GracePolicy(Kind.MINUTES, minutes);
+    }
+
+    /**
+     * Returns a policy allowing until the end of the day the deadline falls on.
+     *
+     * @return The policy
+     */
+    public static GracePolicy endOfDay() {
+        return new GracePolicy(Kind.DAY_END, 0);
+    }
+
+    /**
+     * Returns the last minute a habit can be completed in on time.
+     *
+     * @param deadlineSecond The deadline, in local epoch seconds
+     * @param intervalSeconds The interval of the habit, in seconds
+     * @return The last minute of the window, in local epoch minutes
+     */
+    long closeMinute(long deadlineSecond, long intervalSeconds) {
+        return switch (kind) {
+        case FRACTION -> Math.floorDiv(deadlineSecond + intervalSeconds / amount + SECONDS_PER_MINUTE,
+                SECONDS_PER_MINUTE);
+        case MINUTES -> Math.floorDiv(deadlineSecond, SECONDS_PER_MINUTE) + amount;
+        case DAY_END -> (Math.floorDiv(Math.floorDiv(deadlineSecond, SECONDS_PER_MINUTE), MINUTES_PER_DAY) + 1)
+                * MINUTES_PER_DAY - 1;
+        };
+    }
+
+    /**
+     * Returns the policy as it is written in the save file, such as "F4", "M30" or "D".
+     *
+     * @return The encoded policy
+     */
+    public String encode() {
+        return kind == Kind.DAY_END ? String.valueOf(kind.code) : kind.code + Long.toString(amount);
+    }
+
+    /**
+     * Reads a policy written by encode().
+     *
+     * @param encoded The encoded policy
+     * @return The policy
+     * @throws IllegalArgumentException If it is not a valid policy
+     */
+    public static GracePolicy decode(String encoded) {
+        if (encoded.isEmpty()) {
+            throw new IllegalArgumentException("Missing grace policy");
+        }
+        char code = encoded.charAt(0);
+        if (code == Kind.DAY_END.code && encoded.length() == 1) {
+            return endOfDay();
+        }
+        long amount = Long.parseLong(encoded.substring(1));
+        if (code == Kind.FRACTION.code) {
+            return fractionOf(amount);
+        } else if (code == Kind.MINUTES.code) {
+            return minutes(amount);
+        }
+        throw new IllegalArgumentException("Unknown grace policy: " + encoded);
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+        case FRACTION -> "1/" + amount + " of the interval plus 1 minute";
+        case MINUTES -> amount + (amount == 1 ? " minute" : " minutes");
+        case DAY_END -> "until the end of the day";
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GracePolicy policy && kind == policy.kind && amount == policy.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return kind.hashCode() * 31 + Long.hashCode(amount);
+    }
+}
@@ -6,41 +6,77 @@ import seedu.studymate.parser.DateTimeArg;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneOffset;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * Represents a habit with a recurring deadline and streak tracking.
  * Habits allow users to track their consistency in completing recurring tasks.
+ * Every completion is also recorded in a CompletionHistory, which counts one period per completion on time and
+ * one per interval missed before a late one, so longest streaks and completion rates outlive a reset streak.
+ * The days completions happened on are kept in CompletionDays for calendar heatmaps.
  */
 public class Habit {
-    private static final int gracePeriod = 4;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_DAY = 86_400L;
     private final String name;
     private DateTimeArg deadline;
     private final Duration interval;
-    private int streak;
+    private final long intervalSeconds;
+    // volatile as a lapse may reset it from the scheduler thread while the habit is shown
+    private volatile int streak;
     private final Clock clock;
-    // the grace period is defined as deadline.getDateTime().plus(interval.dividedBy(n)), n is the denominator for the
-    // extra period, defined as (1/n) * interval
+    private final GracePolicy grace;
+    // the streak window in local epoch minutes, worked out once whenever the deadline moves: the minute it opens
+    // (the deadline minute) in the high 32 bits, and the last minute it is open, set by the grace policy, in the
+    // low 32 bits
+    private long window;
+    // local epoch second period 0 of the completion history starts at
+    private final long originSecond;
+    private final CompletionHistory history;
+    private final CompletionDays days;
 
     /**
-     * Constructs a new Habit with an initial streak of 1.
+     * Constructs a new Habit with an initial streak of 1 and the default grace period.
      *
      * @param name The name of the habit
      * @param interval The time interval between habit deadlines
      * @param clock The clock to use for time operations
      */
     public Habit(String name, Duration interval, Clock clock) {
-        LocalDateTime deadline = LocalDateTime.now(clock).plus(interval);
+        this(name, interval, GracePolicy.DEFAULT, clock);
+    }
+
+    /**
+     * Constructs a new Habit with an initial streak of 1.
+     *
+     * @param name The name of the habit
+     * @param interval The time interval between habit deadlines
+     * @param grace How long after each deadline the habit can still be completed
+     * @param clock The clock to use for time operations
+     */
+    public Habit(String name, Duration interval, GracePolicy grace, Clock clock) {
         this.name = name;
-        this.deadline = new DateTimeArg(deadline.toLocalDate(), deadline.toLocalTime());
         this.interval = interval;
+        this.intervalSeconds = interval.getSeconds();
+        this.originSecond = LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+        this.deadline = DateTimeArg.ofEpochSecond(originSecond + intervalSeconds);
         this.clock = clock;
+        this.grace = grace;
         streak = 1;
+        this.history = new CompletionHistory();
+        this.days = new CompletionDays();
+        history.markCompleted(0);
+        days.record(Math.floorDiv(originSecond, SECONDS_PER_DAY));
+        updateWindow();
     }
 
     /**
      * Constructs a Habit with existing data (used when loading from file).
+     * Without a saved history, the current streak is taken as the periods completed so far.
      *
      * @param name The name of the habit
      * @param deadline The current deadline for the habit
@@ -49,36 +85,177 @@ public class Habit {
      * @param clock The clock to use for time operations
      */
     public Habit(String name, DateTimeArg deadline, Duration interval, int streak, Clock clock) {
+        this(name, deadline, interval, streak,
+                deadline.toEpochSecond() - (long) Math.max(streak, 0) * periodSeconds(interval),
+                CompletionHistory.ofCompleted(Math.max(streak, 0)), null, GracePolicy.DEFAULT, clock);
+    }
+
+    /**
+     * Constructs a Habit with existing data and completion history (used when loading from file).
+     *
+     * @param name The name of the habit
+     * @param deadline The current deadline for the habit
+     * @param interval The time interval between habit deadlines
+     * @param streak The current streak count
+     * @param originSecond The local epoch second the first period of the history starts at
+     * @param history The completion history
+     * @param days The days the habit was completed on, or null to take each completed period as done on the day
+     *             it starts, for habits saved before these were kept
+     * @param grace How long after each deadline the habit can still be completed
+     * @param clock The clock to use for time operations
+     */
+    public Habit(String name, DateTimeArg deadline, Duration interval, int streak, long originSecond,
+            CompletionHistory history, CompletionDays days, GracePolicy grace, Clock clock) {
         this.name = name;
         this.deadline = deadline;
         this.interval = interval;
+        this.intervalSeconds = interval.getSeconds();
         this.streak = streak;
         this.clock = clock;
+        this.grace = grace;
+        this.originSecond = originSecond;
+        this.history = history;
+        this.days = days != null ? days : daysOfPeriods(history, originSecond, periodSeconds(interval));
+        updateWindow();
     }
 
     /**
      * Attempts to increment the habit streak.
-     * Checks if the current time is within the valid window (after deadline but within grace period).
-     * If too early, returns TOO_EARLY. If too late, resets streak to 1 and returns TOO_LATE.
-     * If on time, increments streak and returns ON_TIME.
+     * Checks if the current minute is within the valid window (from the deadline minute to the end of the grace
+     * period).
+     * If too early, returns TOO_EARLY. If too late, resets streak to 1, records the intervals since the deadline
+     * as missed periods and returns TOO_LATE.
+     * If on time, increments streak, records one more completed period and returns ON_TIME.
      *
      * @return The result of the increment attempt
      */
     public StreakResult incStreak() {
-        LocalDateTime now = LocalDateTime.now(clock);
-        if (now.isBefore(deadline.getDateTime().truncatedTo(ChronoUnit.MINUTES))) {
+        long nowSecond = LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+        long nowMinute = Math.floorDiv(nowSecond, SECONDS_PER_MINUTE);
+        if (nowMinute < getWindowOpenMinute()) {
             return StreakResult.TOO_EARLY;
-        } else if (now.isAfter(deadline.getDateTime().plus(interval.dividedBy(gracePeriod)).plusMinutes(1))) {
-            streak = 1;
-            LocalDateTime deadline = LocalDateTime.now(clock).plus(interval);
-            this.deadline = new DateTimeArg(deadline.toLocalDate(), deadline.toLocalTime());
-            return StreakResult.TOO_LATE;
-        } else {
-            streak += 1;
-            LocalDateTime deadline = LocalDateTime.now(clock).plus(interval);
-            this.deadline = new DateTimeArg(deadline.toLocalDate(), deadline.toLocalTime());
-            return StreakResult.ON_TIME;
         }
+        boolean isLate = isLapsedAt(nowMinute);
+        streak = isLate ? 1 : streak + 1;
+        // A late completion always breaks the run, even when the grace period closed within an interval
+        history.markCompleted(history.getLength() + (isLate ? Math.max(1, missedPeriodsAt(nowSecond)) : 0));
+        days.record(Math.floorDiv(nowSecond, SECONDS_PER_DAY));
+        this.deadline = DateTimeArg.ofEpochSecond(nowSecond + intervalSeconds);
+        updateWindow();
+        return isLate ? StreakResult.TOO_LATE : StreakResult.ON_TIME;
+    }
+
+    /**
+     * Breaks the streak once the grace period has passed without the habit being completed.
+     *
+     * @return True if the streak was reset, or false if it had already lapsed
+     */
+    boolean lapse() {
+        if (streak == 0) {
+            return false;
+        }
+        streak = 0;
+        return true;
+    }
+
+    /**
+     * Returns the longest run of periods in a row that the habit was completed in.
+     *
+     * @return The number of periods
+     */
+    public long getLongestStreak() {
+        return history.getLongestStreak();
+    }
+
+    /**
+     * Returns the fraction of recent periods the habit was completed in, counting the current period.
+     *
+     * @param periods How many periods to look back over
+     * @return The fraction from 0 to 1 of those periods, or of all periods if there are fewer, that were completed
+     */
+    public double getCompletionRate(long periods) {
+        long end = history.getLength() + missedPeriodsAt(LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC));
+        long start = Math.max(0, end - periods);
+        return end <= start ? 0 : (double) history.countCompleted(start, end) / (end - start);
+    }
+
+    /**
+     * Returns how many times the habit was completed on each day of a range, by the day it was completed on.
+     *
+     * @param from The first day
+     * @param to The last day
+     * @return The days with completions, in order, with how many periods were completed on each
+     */
+    public SortedMap<LocalDate, Integer> getCompletionsPerDay(LocalDate from, LocalDate to) {
+        SortedMap<LocalDate, Integer> perDay = new TreeMap<>();
+        days.forEachDay(from.toEpochDay(), to.toEpochDay(),
+                (epochDay, completions) -> perDay.put(LocalDate.ofEpochDay(epochDay), completions));
+        return perDay;
+    }
+
+    /**
+     * Returns whether the streak window has closed by a minute.
+     *
+     * @param epochMinute The local time, in epoch minutes
+     * @return True if the minute is after the last minute of the grace period
+     */
+    boolean isLapsedAt(long epochMinute) {
+        return epochMinute > getWindowCloseMinute();
+    }
+
+    /**
+     * Returns the minute the streak window opens, which is the deadline minute.
+     *
+     * @return The local time, in epoch minutes
+     */
+    long getWindowOpenMinute() {
+        return (int) (window >> 32);
+    }
+
+    /**
+     * Returns the last minute of the streak window.
+     *
+     * @return The local time, in epoch minutes
+     */
+    long getWindowCloseMinute() {
+        return (int) window;
+    }
+
+    /**
+     * Returns how long after each deadline the habit can still be completed.
+     *
+     * @return The grace policy
+     */
+    public GracePolicy getGracePolicy() {
+        return grace;
+    }
+
+    /**
+     * Returns how many whole periods have gone by since the deadline without the habit being completed.
+     * The period after the last completed one starts at the deadline.
+     */
+    private long missedPeriodsAt(long epochSecond) {
+        long sinceDeadline = epochSecond - deadline.toEpochSecond();
+        return sinceDeadline < 0 ? 0 : Math.floorDiv(sinceDeadline, periodSeconds(interval));
+    }
+
+    private static CompletionDays daysOfPeriods(CompletionHistory history, long originSecond, long periodSeconds) {
+        CompletionDays days = new CompletionDays();
+        history.forEachCompleted(0, history.getLength(), period -> days.record(
+                Math.floorDiv(originSecond + period * periodSeconds, SECONDS_PER_DAY)));
+        return days;
+    }
+
+    private static long periodSeconds(Duration interval) {
+        return Math.max(1, interval.getSeconds());
+    }
+
+    private void updateWindow() {
+        long deadlineSecond = deadline.toEpochSecond();
+        // epoch minutes stay within an int until the year 6053
+        int openMinute = (int) Math.floorDiv(deadlineSecond, SECONDS_PER_MINUTE);
+        int closeMinute = (int) Math.min(Integer.MAX_VALUE, grace.closeMinute(deadlineSecond, intervalSeconds));
+        window = ((long) openMinute << 32) | (closeMinute & 0xFFFFFFFFL);
     }
 
     /**
@@ -106,6 +283,7 @@ public class Habit {
      * @return The formatted string for file storage
      */
     public String toSaveString() {
-        return DataFormatting.habitString(name, deadline, interval, streak);
+        return DataFormatting.habitString(name, deadline, interval, streak, originSecond, history.encode(),
+                grace.encode(), days.encode());
     }
 }
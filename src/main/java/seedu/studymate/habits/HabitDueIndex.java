@@ -0,0 +1,103 @@
+package seedu.studymate.habits;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Habits ordered by when their streak windows open and close, so that finding the habits that are due, about to
+ * lapse or already lapsed is a range query rather than a scan of every habit.
+ * A habit must be removed before its window moves and added back afterwards, as the index keeps the bounds it
+ * was given rather than reading them from the habit again.
+ */
+final class HabitDueIndex {
+    // habits by the minute their window opens, and by the last minute of their window
+    private final TreeMap<Long, List<Habit>> byOpen = new TreeMap<>();
+    private final TreeMap<Long, List<Habit>> byClose = new TreeMap<>();
+    // the bounds each habit is filed under
+    private final Map<Habit, long[]> bounds = new IdentityHashMap<>();
+
+    void add(Habit habit) {
+        long open = habit.getWindowOpenMinute();
+        long close = habit.getWindowCloseMinute();
+        bounds.put(habit, new long[]{open, close});
+        byOpen.computeIfAbsent(open, key -> new ArrayList<>(1)).add(habit);
+        byClose.computeIfAbsent(close, key -> new ArrayList<>(1)).add(habit);
+    }
+
+    void remove(Habit habit) {
+        long[] filed = bounds.remove(habit);
+        if (filed == null) {
+            return;
+        }
+        removeFrom(byOpen, filed[0], habit);
+        removeFrom(byClose, filed[1], habit);
+    }
+
+    void clear() {
+        byOpen.clear();
+        byClose.clear();
+        bounds.clear();
+    }
+
+    int size() {
+        return bounds.size();
+    }
+
+    /**
+     * Returns the last minute of the window that closes first.
+     *
+     * @return The local time, in epoch minutes, or Long.MAX_VALUE if there are no habits
+     */
+    long nextCloseMinute() {
+        return byClose.isEmpty() ? Long.MAX_VALUE : byClose.firstKey();
+    }
+
+    /**
+     * Returns the habits whose window is open at a time, so their streaks can be incremented on time.
+     *
+     * @param epochMinute The local time, in epoch minutes
+     * @return The due habits, by when their windows opened
+     */
+    List<Habit> getDue(long epochMinute) {
+        List<Habit> due = new ArrayList<>();
+        for (List<Habit> opened : byOpen.headMap(epochMinute, true).values()) {
+            for (Habit habit : opened) {
+                if (!habit.isLapsedAt(epochMinute)) {
+                    due.add(habit);
+                }
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Returns the habits whose window closed before a minute began, so their streaks have lapsed.
+     *
+     * @param epochMinute The local time, in epoch minutes
+     * @return The lapsed habits, by when their windows closed
+     */
+    List<Habit> getClosedBefore(long epochMinute) {
+        return flatten(byClose.headMap(epochMinute, false));
+    }
+
+    private static List<Habit> flatten(NavigableMap<Long, List<Habit>> range) {
+        List<Habit> habits = new ArrayList<>();
+        range.values().forEach(habits::addAll);
+        return habits;
+    }
+
+    private static void removeFrom(TreeMap<Long, List<Habit>> map, long key, Habit habit) {
+        List<Habit> filed = map.get(key);
+        if (filed == null) {
+            return;
+        }
+        filed.removeIf(entry -> entry == habit);
+        if (filed.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
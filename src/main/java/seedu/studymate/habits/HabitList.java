@@ -2,23 +2,52 @@ package seedu.studymate.habits;
 
 import seedu.studymate.exceptions.StudyMateException;
 import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.runtime.RuntimeExecutors;
 import seedu.studymate.ui.MessageHandler;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Represents a list of habits.
  * It provides methods for adding, deleting, listing, and incrementing streaks.
+ * Habits are also kept in a HabitDueIndex ordered by their streak windows, so the habits that are due now
+ * are found without checking every habit.
+ * Once watched, the list also breaks streaks as soon as their grace period passes rather than when the user
+ * next increments them. A single wake-up is kept on the shared runtime scheduler for the window that closes
+ * first, so each lapse costs a lookup in the index and no check ever goes through every habit. A lapsed habit
+ * leaves the index until its streak is incremented again, so each lapse is applied exactly once.
  */
 public class HabitList {
     private static final Logger logger = Logger.getLogger("HabitList Logger");
     private static final int cap = 10000;
+    // The longest a lapse check sleeps, as a safety net against clock changes
+    private static final long MAX_SLEEP_SECONDS = 30;
+    private static final long SECONDS_PER_MINUTE = 60;
     private final ArrayList<Habit> habits;
+    private final HabitDueIndex dueIndex = new HabitDueIndex();
+    // position of each habit in habits, rebuilt only when a deletion shifts them
+    private final Map<Habit, Integer> positions = new IdentityHashMap<>();
     private final Clock clock;
+    // Guards the due index, the positions and the next wake-up, as lapses are applied on the scheduler thread
+    private final Object lock = new Object();
+    private ScheduledExecutorService executorService;
+    private ScheduledFuture<?> nextWake;
+    private long nextWakeSecond = Long.MAX_VALUE;
+    private Consumer<Habit> lapseListener;
 
     /**
      * Constructs an empty HabitList.
@@ -72,11 +101,22 @@ public class HabitList {
      * @param interval The interval for the habit
      */
     public void addHabit(String name, Duration interval) throws StudyMateException {
-        Habit newHabit = new Habit(name, interval, clock);
+        addHabit(name, interval, GracePolicy.DEFAULT);
+    }
+
+    /**
+     * Adds a habit to the list with a grace policy.
+     *
+     * @param name The name of the habit
+     * @param interval The interval for the habit
+     * @param grace How long after each deadline the habit can still be completed
+     */
+    public void addHabit(String name, Duration interval, GracePolicy grace) throws StudyMateException {
+        Habit newHabit = new Habit(name, interval, grace, clock);
         if (habits.size() >= cap) {
             throw new StudyMateException("Too many habits! Please delete some to add in more.");
         }
-        habits.add(newHabit);
+        append(newHabit);
         assert (habits.contains(newHabit));
         logger.log(Level.INFO, "Added Habit: " + newHabit);
         MessageHandler.sendAddHabitMessage(newHabit, habits.size());
@@ -93,11 +133,42 @@ public class HabitList {
      */
     public void addHabit(String name, DateTimeArg deadline, Duration interval, int streak) {
         Habit newHabit = new Habit(name, deadline, interval, streak, clock);
-        habits.add(newHabit);
+        append(newHabit);
+        assert (habits.contains(newHabit));
+        logger.log(Level.INFO, "Loaded Habit: " + newHabit);
+    }
+
+    /**
+     * Adds a habit to the list with existing deadline, streak, completion history and grace policy (for loading
+     * from file).
+     * Does not send a message to the user.
+     *
+     * @param name The name of the habit
+     * @param deadline The existing deadline for the habit
+     * @param interval The interval for the habit
+     * @param streak The existing streak count
+     * @param originSecond The local epoch second the completion history starts at
+     * @param history The completion history
+     * @param days The days the habit was completed on, or null if they were not saved
+     * @param grace How long after each deadline the habit can still be completed
+     */
+    public void addHabit(String name, DateTimeArg deadline, Duration interval, int streak, long originSecond,
+            CompletionHistory history, CompletionDays days, GracePolicy grace) {
+        Habit newHabit = new Habit(name, deadline, interval, streak, originSecond, history, days, grace, clock);
+        append(newHabit);
         assert (habits.contains(newHabit));
         logger.log(Level.INFO, "Loaded Habit: " + newHabit);
     }
 
+    private void append(Habit habit) {
+        synchronized (lock) {
+            habits.add(habit);
+            positions.put(habit, habits.size() - 1);
+            dueIndex.add(habit);
+            arm();
+        }
+    }
+
     /**
      * Deletes a habit from the list at a specific index.
      *
@@ -105,12 +176,31 @@ public class HabitList {
      */
     public void deleteHabit(int index) {
         Habit habit = habits.get(index);
-        habits.remove(index);
+        synchronized (lock) {
+            habits.remove(index);
+            dueIndex.remove(habit);
+            positions.remove(habit);
+            for (int i = index; i < habits.size(); i++) {
+                positions.put(habits.get(i), i);
+            }
+        }
         assert (!habits.contains(habit));
         logger.log(Level.INFO, "Deleted Habit: " + habit);
         MessageHandler.sendDeleteHabitMessage(habit, habits.size());
     }
 
+    /**
+     * Removes all habits from the list.
+     */
+    public void clear() {
+        synchronized (lock) {
+            habits.clear();
+            dueIndex.clear();
+            positions.clear();
+        }
+        logger.log(Level.INFO, "Habit List Cleared");
+    }
+
     /**
      * Returns the list of all habits in this HabitList.
      *
@@ -129,9 +219,143 @@ public class HabitList {
      */
     public StreakResult incStreak(int index) throws StudyMateException {
         Habit habit = habits.get(index);
-        StreakResult result = habit.incStreak();
+        StreakResult result;
+        synchronized (lock) {
+            dueIndex.remove(habit);
+            result = habit.incStreak();
+            dueIndex.add(habit);
+            arm();
+        }
         logger.log(Level.INFO, "Attempted to increment streak for habit at index " + index + ": " + result);
         MessageHandler.sendIncStreakMessage(habit, result);
         return result;
     }
+
+    /**
+     * Returns the habits whose streak can be incremented on time right now.
+     *
+     * @return The 0-based indexes of the due habits, in list order
+     */
+    public List<Integer> getDueHabits() {
+        long nowMinute = nowMinute();
+        List<Integer> due = new ArrayList<>();
+        synchronized (lock) {
+            for (Habit habit : dueIndex.getDue(nowMinute)) {
+                due.add(positions.get(habit));
+            }
+        }
+        due.sort(null);
+        logger.log(Level.INFO, "Due habits: " + due);
+        return due;
+    }
+
+    /**
+     * Starts breaking streaks as their grace periods pass, first breaking those that passed while StudyMate
+     * was closed.
+     *
+     * @param onLapse Called on the scheduler thread with each habit whose streak lapses from now on, or null
+     * @return The habits whose streaks lapsed while StudyMate was closed, in list order
+     */
+    public List<Habit> startLapseWatch(Consumer<Habit> onLapse) {
+        synchronized (lock) {
+            lapseListener = onLapse;
+            List<Habit> lapsed = applyLapses();
+            lapsed.sort((a, b) -> Integer.compare(positions.get(a), positions.get(b)));
+            executorService = RuntimeExecutors.scheduler();
+            arm();
+            return lapsed;
+        }
+    }
+
+    /**
+     * Stops breaking streaks in the background.
+     */
+    public void stopLapseWatch() {
+        synchronized (lock) {
+            // The scheduler is shared, so only this list's wake-up is cancelled
+            executorService = null;
+            if (nextWake != null) {
+                nextWake.cancel(false);
+                nextWake = null;
+            }
+            nextWakeSecond = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Breaks the streak of every habit whose grace period has passed, taking it out of the due index until
+     * it is incremented again.
+     *
+     * @return The habits whose streaks were broken, by when their windows closed
+     */
+    public List<Habit> applyLapses() {
+        long nowMinute = nowMinute();
+        List<Habit> lapsed = new ArrayList<>();
+        synchronized (lock) {
+            for (Habit habit : dueIndex.getClosedBefore(nowMinute)) {
+                dueIndex.remove(habit);
+                if (habit.lapse()) {
+                    lapsed.add(habit);
+                    logger.log(Level.INFO, "Streak lapsed for habit: " + habit);
+                }
+            }
+        }
+        return lapsed;
+    }
+
+    private long nowMinute() {
+        return Math.floorDiv(LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private void checkLapses() {
+        List<Habit> lapsed;
+        Consumer<Habit> listener;
+        synchronized (lock) {
+            if (executorService == null) {
+                return; // Stopped after this check was scheduled
+            }
+            nextWake = null;
+            nextWakeSecond = Long.MAX_VALUE;
+            lapsed = applyLapses();
+            listener = lapseListener;
+            arm();
+        }
+        if (listener != null) {
+            lapsed.forEach(listener);
+        }
+    }
+
+    /**
+     * Schedules the next check for just after the earliest window closes, capped so that a change to the
+     * clock is noticed. An already scheduled check is kept if it would run no later than that.
+     * Must be called while holding the lock.
+     */
+    private void arm() {
+        ScheduledExecutorService executor = executorService;
+        if (executor == null) {
+            return;
+        }
+        long closeMinute = dueIndex.nextCloseMinute();
+        if (closeMinute == Long.MAX_VALUE) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        long nowSecond = now.toEpochSecond(ZoneOffset.UTC);
+        // The window is open until the end of its last minute, so the check runs as the next minute starts
+        long wakeSecond = Math.min((closeMinute + 1) * SECONDS_PER_MINUTE, nowSecond + MAX_SLEEP_SECONDS);
+        if (nextWake != null && nextWakeSecond <= wakeSecond) {
+            return;
+        }
+        if (nextWake != null) {
+            nextWake.cancel(false);
+        }
+        long delayMillis = Math.max(0, TimeUnit.SECONDS.toMillis(wakeSecond - nowSecond)
+                - TimeUnit.NANOSECONDS.toMillis(now.getNano()));
+        try {
+            nextWake = executor.schedule(this::checkLapses, delayMillis, TimeUnit.MILLISECONDS);
+            nextWakeSecond = wakeSecond;
+        } catch (RejectedExecutionException e) {
+            nextWake = null; // Shut down while arming
+        }
+    }
 }
@@ -1,5 +1,9 @@
 package seedu.studymate.parser;
 
+import seedu.studymate.habits.GracePolicy;
+import seedu.studymate.reminders.CatchUpPolicy;
+import seedu.studymate.reminders.RecurrenceRule;
+
 import java.time.Duration;
 import java.util.LinkedHashSet;
 
@@ -14,6 +18,8 @@ public class Command {
     public String desc;
     public String substring;
     public boolean isSorted = false;
+    // for scripts
+    public boolean isStrict = false;
     // for reminders
     public String message;
     public DateTimeArg datetime0;
@@ -26,6 +32,10 @@ public class Command {
     public long duration;
 
     public Duration interval;
+    public RecurrenceRule recurrenceRule;
+    public CatchUpPolicy catchUpPolicy = CatchUpPolicy.ONCE;
+    // for habits
+    public GracePolicy gracePolicy = GracePolicy.DEFAULT;
 
     public Duration snoozeDuration;
 
@@ -108,6 +118,19 @@ public class Command {
         this.isSorted = isSorted;
     }
 
+    /**
+     * Constructs a Command for running a script file.
+     *
+     * @param type The type of command
+     * @param path The path of the script file
+     * @param isStrict Whether the whole script should be rolled back if any command fails
+     */
+    public Command(CommandType type, String path, boolean isStrict) {
+        this.type = type;
+        this.desc = path;
+        this.isStrict = isStrict;
+    }
+
     /**
      * Constructs a Command with a type, description, and date-time argument.
      *
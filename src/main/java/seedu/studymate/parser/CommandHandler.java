@@ -4,18 +4,22 @@ import seedu.studymate.exceptions.StudyMateException;
 import seedu.studymate.habits.HabitList;
 import seedu.studymate.reminders.Reminder;
 import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.runtime.RuntimeExecutors;
 import seedu.studymate.tasks.Task;
 import seedu.studymate.tasks.TaskList;
+import seedu.studymate.timer.SessionLog;
 import seedu.studymate.timer.Timer;
+import seedu.studymate.timer.TimerCheckpoint;
+import seedu.studymate.timer.TimerRegistry;
 import seedu.studymate.timer.TimerState;
 import seedu.studymate.ui.MessageHandler;
 
+import java.io.IOException;
 import java.time.Clock;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,8 +29,9 @@ import java.util.logging.Logger;
  */
 public class CommandHandler {
 
-    private static Timer activeTimer = null;
-    private static ScheduledExecutorService scheduler = null;
+    // Timer endings are printed off the scheduler thread, so output never delays other checks
+    private static final TimerRegistry timers = new TimerRegistry(timer -> RuntimeExecutors.deliver(
+            () -> MessageHandler.sendTimerEndedMessage(timer.getLabel())));
     private static Clock clock = Clock.systemDefaultZone();
 
     private static final Logger logger = Logger.getLogger("Command Handler Logger");
@@ -35,6 +40,33 @@ public class CommandHandler {
         CommandHandler.clock = clock;
     }
 
+    /**
+     * Sets the log that focus sessions are recorded to when their timers run out or are reset
+     *
+     * @param sessionLog The session log, or null to record nothing
+     */
+    public static void setSessionLog(SessionLog sessionLog) {
+        timers.setSessionLog(sessionLog);
+    }
+
+    /**
+     * Restores the timers that were active when StudyMate last exited, and checkpoints them from now on
+     *
+     * @param checkpoint The checkpoint holding the timers
+     */
+    public static void restoreTimers(TimerCheckpoint checkpoint) {
+        try {
+            for (Timer timer : timers.restore(checkpoint)) {
+                MessageHandler.sendMessage("Timer " + timer.getLabel() + " ran out while StudyMate was closed.");
+            }
+            if (timers.getCount() > 0) {
+                MessageHandler.sendMessage("Restored " + timers.getCount() + " timer(s) from file.");
+            }
+        } catch (IOException e) {
+            MessageHandler.sendMessage("Could not restore timers: " + e.getMessage());
+        }
+    }
+
     /**
      * Executes the appropriate command based on the parsed input
      *
@@ -70,18 +102,24 @@ public class CommandHandler {
         case REM_ON -> handleRemOn(reminderList, cmd);
         case REM_OFF -> handleRemOff(reminderList, cmd);
         case REM_SNOOZE -> handleRemSnooze(reminderList, cmd);
+        case REM_HISTORY -> handleRemHistory(reminderList);
+        case REM_STATS -> MessageHandler.sendSchedulerStats(reminderList.getSchedulerStats());
 
         // Timer Commands
         case START -> handleTimerStart(taskList, cmd);
-        case PAUSE -> handleTimerPause();
-        case RESUME -> handleTimerResume();
-        case RESET -> handleTimerReset();
-        case STAT -> handleTimerStat();
+        case PAUSE -> handleTimerPause(cmd);
+        case RESUME -> handleTimerResume(cmd);
+        case RESET -> handleTimerReset(cmd);
+        case STAT -> handleTimerStat(cmd);
+        case STAT_HISTORY -> MessageHandler.sendFocusHistory(timers.getSessionLog(), LocalDate.now(clock),
+                (int) cmd.duration);
 
         // Habit Commands
         case HABIT_ADD -> handleHabitAdd(habitList, cmd);
         case HABIT_STREAK -> handleHabitStreak(habitList, cmd);
         case HABIT_LIST -> handleHabitList(habitList);
+        case HABIT_DUE -> MessageHandler.sendDueHabitList(habitList, habitList.getDueHabits());
+        case HABIT_STATS -> handleHabitStats(habitList, cmd);
         case HABIT_DELETE -> handleHabitDelete(habitList, cmd);
 
         // Exception Handling
@@ -90,21 +128,10 @@ public class CommandHandler {
     }
 
     /**
-     * Clears the timer when program is exited
+     * Stops the timers when program is exited, keeping them in the checkpoint if there is one
      */
     public static void cleanup() {
-        if (activeTimer != null) {
-            activeTimer.reset();
-            activeTimer = null;
-        }
-
-        ScheduledExecutorService currentScheduler = scheduler;
-        if (currentScheduler != null) {
-            scheduler = null;  //
-            if (!currentScheduler.isShutdown()) {
-                currentScheduler.shutdownNow();
-            }
-        }
+        timers.shutdown();
     }
 
     /**
@@ -127,7 +154,7 @@ public class CommandHandler {
      * @param cmd The command containing the task description and deadline
      */
     private static void handleDeadline(TaskList taskList, Command cmd) throws StudyMateException {
-        if (cmd.datetime0.getDateTime().isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
+        if (cmd.datetime0.isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
                 .truncatedTo(ChronoUnit.MINUTES).plusMinutes(1))) {
             throw new StudyMateException("Deadline must be after current time!");
         }
@@ -150,7 +177,7 @@ public class CommandHandler {
         if (cmd.datetime1.compareTo(cmd.datetime0) < 0) {
             throw new StudyMateException("End time cannot be earlier than start time!");
         }
-        if (cmd.datetime1.getDateTime().isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
+        if (cmd.datetime1.isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
                 .truncatedTo(ChronoUnit.MINUTES).plusMinutes(1))) {
             throw new StudyMateException("End time cannot be earlier than current time!");
         }
@@ -220,11 +247,15 @@ public class CommandHandler {
      * @param cmd The command containing reminder name, datetime, and interval
      */
     private static void handleRemAddRec(ReminderList reminderList, Command cmd) throws StudyMateException {
-        if (cmd.datetime0.getDateTime().isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
+        if (cmd.datetime0.isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
                 .truncatedTo(ChronoUnit.MINUTES).plusMinutes(1))) {
             throw new StudyMateException("Reminder time cannot be earlier than current time!");
         }
-        reminderList.addReminderRec(cmd.message, cmd.datetime0, cmd.interval);
+        if (cmd.recurrenceRule != null) {
+            reminderList.addReminderRule(cmd.message, cmd.datetime0, cmd.recurrenceRule, cmd.catchUpPolicy);
+        } else {
+            reminderList.addReminderRec(cmd.message, cmd.datetime0, cmd.interval, cmd.catchUpPolicy);
+        }
         int reminderCount = reminderList.getCount();
         Reminder newReminder = reminderList.getReminder(reminderCount - 1);
         MessageHandler.sendAddReminderRecMessage(newReminder, reminderCount);
@@ -237,7 +268,7 @@ public class CommandHandler {
      * @param cmd The command containing reminder name and datetime
      */
     private static void handleRemAddOneTime(ReminderList reminderList, Command cmd) throws StudyMateException {
-        if (cmd.datetime0.getDateTime().isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
+        if (cmd.datetime0.isBefore(clock.instant().atZone(clock.getZone()).toLocalDateTime()
                 .truncatedTo(ChronoUnit.MINUTES).plusMinutes(1))) {
             throw new StudyMateException("Reminder time cannot be earlier than current time!");
         }
@@ -271,19 +302,19 @@ public class CommandHandler {
         reminderList.handleSnooze(cmd.index, cmd.snoozeDuration);
     }
 
+    private static void handleRemHistory(ReminderList reminderList) {
+        MessageHandler.sendReminderHistory(reminderList, LocalDate.now(clock));
+    }
+
     /**
      * Handles starting a new timer.
-     * Validates that no other timer is running and creates a timer with the specified duration.
+     * Several timers can run at once, as long as each has a different label.
      *
      * @param taskList The task list (used if timer is linked to a task)
      * @param cmd The command containing timer duration and optional task index or label
-     * @throws StudyMateException If another timer is running or index is invalid
+     * @throws StudyMateException If a timer with the same label is active or index is invalid
      */
-    private static synchronized void handleTimerStart(TaskList taskList, Command cmd) throws StudyMateException {
-        if (activeTimer != null && activeTimer.getState() != TimerState.IDLE) {
-            throw new StudyMateException("A timer is already running or paused. Please stop it first.");
-        }
-
+    private static void handleTimerStart(TaskList taskList, Command cmd) throws StudyMateException {
         long durationSec = cmd.duration * 60;
 
         Timer timer;
@@ -300,143 +331,75 @@ public class CommandHandler {
             timer = new Timer(label, durationSec);
         }
 
-        activeTimer = timer;
-        assert(activeTimer.getState() == TimerState.IDLE);
-        activeTimer.start();
-        assert(activeTimer.getState() == TimerState.RUNNING);
-        startTimerMonitoring();
-        MessageHandler.sendTimerStartMessage(cmd.duration, activeTimer.getLabel());
+        assert(timer.getState() == TimerState.IDLE);
+        timers.start(timer);
+        assert(timer.getState() == TimerState.RUNNING);
+        MessageHandler.sendTimerStartMessage(cmd.duration, timer.getLabel());
     }
 
     /**
-     * Handles pausing the active timer.
+     * Handles pausing a running timer.
      *
-     * @throws StudyMateException If no timer is active or timer is already paused
+     * @param cmd The command containing the label or task number of the timer, if any
+     * @throws StudyMateException If no such timer is active or it is already paused
      */
-    private static synchronized void handleTimerPause() throws StudyMateException {
-        if (activeTimer == null) {
-            throw new StudyMateException("No timer is currently active");
-        }
-        if (activeTimer.getState() == TimerState.IDLE) {
-            throw new StudyMateException("Timer is not running");
-        }
-        if (activeTimer.getState() == TimerState.PAUSED) {
-            throw new StudyMateException("Timer is already paused");
-        }
-        assert(activeTimer.getState() == TimerState.RUNNING);
-        activeTimer.pause();
-        MessageHandler.sendTimerPauseMessage(activeTimer.getRemainingTime(), activeTimer.getLabel());
+    private static void handleTimerPause(Command cmd) throws StudyMateException {
+        Timer timer = timers.pause(cmd.desc);
+        assert(timer.getState() == TimerState.PAUSED);
+        MessageHandler.sendTimerPauseMessage(timer.getRemainingTime(), timer.getLabel());
     }
 
     /**
      * Handles resuming a paused timer.
      *
-     * @throws StudyMateException If no timer is active or timer is already running
+     * @param cmd The command containing the label or task number of the timer, if any
+     * @throws StudyMateException If no such timer is active or it is already running
      */
-    private static synchronized void handleTimerResume() throws StudyMateException {
-        if (activeTimer == null) {
-            throw new StudyMateException("No timer is currently active");
-        }
-        if (activeTimer.getState() == TimerState.IDLE) {
-            throw new StudyMateException("Timer is not running");
-        }
-        if (activeTimer.getState() == TimerState.RUNNING) {
-            throw new StudyMateException("Timer is already running");
-        }
-        assert(activeTimer.getState() == TimerState.PAUSED);
-        activeTimer.resume();
-        MessageHandler.sendTimerResumeMessage(activeTimer.getRemainingTime(), activeTimer.getLabel());
+    private static void handleTimerResume(Command cmd) throws StudyMateException {
+        Timer timer = timers.resume(cmd.desc);
+        assert(timer.getState() == TimerState.RUNNING);
+        MessageHandler.sendTimerResumeMessage(timer.getRemainingTime(), timer.getLabel());
     }
 
     /**
-     * Handles resetting and stopping the active timer.
+     * Handles resetting and stopping a timer.
      *
-     * @throws StudyMateException If no timer is active
+     * @param cmd The command containing the label or task number of the timer, if any
+     * @throws StudyMateException If no such timer is active
      */
-    private static synchronized void handleTimerReset() throws StudyMateException {
-        if (activeTimer == null) {
-            throw new StudyMateException("No timer is currently active");
-        }
-
-        ScheduledExecutorService currentScheduler = scheduler;
-        if (currentScheduler != null) {
-            scheduler = null;  // Clear reference first
-            currentScheduler.shutdownNow();
-            logger.log(Level.INFO, "Scheduler shut down with reset command");
-        }
-
-        assert(scheduler == null);
-        activeTimer.reset();
-        activeTimer = null;
-
+    private static void handleTimerReset(Command cmd) throws StudyMateException {
+        timers.reset(cmd.desc);
+        logger.log(Level.INFO, "Timer stopped with reset command");
         MessageHandler.sendTimerResetMessage();
     }
 
     /**
-     * Handles displaying the current timer status.
+     * Handles displaying the status of one timer, or of every timer if none is named.
      *
-     * @throws StudyMateException If no timer is active
+     * @param cmd The command containing the label or task number of the timer, if any
+     * @throws StudyMateException If no such timer is active
      */
-    private static synchronized void handleTimerStat() throws StudyMateException {
-        if (activeTimer == null) {
-            throw new StudyMateException("No timer is currently active");
-        }
-
-        MessageHandler.sendTimerStatMessage(activeTimer.toString()); //
-    }
-
-    /**
-     * Starts periodic monitoring of the active timer.
-     * Checks every second if the timer has completed and handles cleanup.
-     */
-    private static void startTimerMonitoring() {
-        assert(scheduler == null);
-        // Initialise a scheduler to check if timer is done
-        scheduler = Executors.newSingleThreadScheduledExecutor();
-        logger.log(Level.INFO, "Starting timer monitoring");
-
-        Runnable timerCheckTask = CommandHandler::checkTimerState;
-
-        // Schedule check every second
-        scheduler.scheduleAtFixedRate(timerCheckTask, 0, 1, TimeUnit.SECONDS);
-        logger.log(Level.INFO, "Scheduler initialised and checking every second");
-    }
-
-    private static synchronized void checkTimerState() {
-        if (activeTimer == null) {
-            // does scheduler cleanup when timer isn't running
-            if (!scheduler.isShutdown()) {
-                scheduler.shutdown();
-                logger.log(Level.INFO, "Scheduler shutdown (Active timer is null)");
-                scheduler = null;
-            }
+    private static void handleTimerStat(Command cmd) throws StudyMateException {
+        if (cmd.desc != null) {
+            MessageHandler.sendTimerStatMessage(timers.find(cmd.desc).toString());
             return;
         }
-
-        // If PAUSED, the timer will not advance, and the code below will be skipped.
-        if (activeTimer.getState() != TimerState.RUNNING) {
-            return;
+        List<Timer> activeTimers = timers.getTimers();
+        if (activeTimers.isEmpty()) {
+            throw new StudyMateException("No timer is currently active");
         }
-
-        activeTimer.getRemainingTime();
-
-        // Timer run out
-        if (activeTimer.getState() == TimerState.IDLE) {
-            MessageHandler.sendTimerEndedMessage();
-            logger.log(Level.INFO, "Timer ended");
-
-            // Reset active timer when timer is done
-            if (scheduler != null) {
-                scheduler.shutdown();
-                logger.log(Level.INFO, "Scheduler shutdown (Timer ended)");
-                scheduler = null;
+        StringBuilder sb = new StringBuilder();
+        for (Timer timer : activeTimers) {
+            if (sb.length() > 0) {
+                sb.append(System.lineSeparator());
             }
-            activeTimer = null;
+            sb.append(timer);
         }
+        MessageHandler.sendTimerStatMessage(sb.toString());
     }
 
     private static void handleHabitAdd(HabitList habitList, Command cmd) throws StudyMateException {
-        habitList.addHabit(cmd.desc, cmd.interval);
+        habitList.addHabit(cmd.desc, cmd.interval, cmd.gracePolicy);
     }
 
     private static void handleHabitDelete(HabitList habitList, Command cmd) throws StudyMateException {
@@ -452,4 +415,9 @@ public class CommandHandler {
         IndexValidator.validateIndex(cmd.index, habitList.getCount());
         habitList.incStreak(cmd.index);
     }
+
+    private static void handleHabitStats(HabitList habitList, Command cmd) throws StudyMateException {
+        IndexValidator.validateIndex(cmd.index, habitList.getCount());
+        MessageHandler.sendHabitStats(habitList.getHabit(cmd.index), LocalDate.now(clock));
+    }
 }
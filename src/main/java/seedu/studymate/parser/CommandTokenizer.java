@@ -0,0 +1,232 @@
+package seedu.studymate.parser;
+
+import java.util.ArrayList;
+
+/**
+ * Hand-written, single-pass scanning helpers used by the Parser in place of regular expressions.
+ * Every helper mirrors the exact semantics of the regex or String method it replaces, so that
+ * parsing results and error messages stay identical while avoiding per-call pattern compilation.
+ */
+public class CommandTokenizer {
+    private static final String RANGE_DELIMITER = "...";
+
+    /**
+     * Collapses every run of whitespace into a single space in one pass.
+     * Equivalent to {@code line.replaceAll("\\s+", " ")}, returning the same instance when nothing changes.
+     *
+     * @param line The raw input line
+     * @return The line with all whitespace runs replaced by a single space
+     */
+    public static String collapseWhitespace(String line) {
+        int length = line.length();
+        int i = 0;
+        // Fast path: skip ahead until the first character that needs rewriting
+        while (i < length) {
+            char c = line.charAt(i);
+            if (isWhitespace(c) && (c != ' ' || (i + 1 < length && isWhitespace(line.charAt(i + 1))))) {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            return line;
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(line, 0, i);
+        while (i < length) {
+            char c = line.charAt(i);
+            if (isWhitespace(c)) {
+                sb.append(' ');
+                while (i < length && isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Splits a collapsed line into the command word and the remaining argument string.
+     * Equivalent to {@code line.split(" ", 2)}.
+     *
+     * @param line The collapsed input line
+     * @return An array holding the command word, followed by the argument string if a space was present
+     */
+    public static String[] splitCommandWord(String line) {
+        int space = line.indexOf(' ');
+        if (space < 0) {
+            return new String[]{line};
+        }
+        return new String[]{line.substring(0, space), line.substring(space + 1)};
+    }
+
+    /**
+     * Splits a trimmed, whitespace-collapsed string into words on single spaces.
+     * Equivalent to {@code text.split("\\s+")} for such input.
+     *
+     * @param text The text to split
+     * @return The words in the text
+     */
+    public static String[] splitWords(String text) {
+        return splitLiteral(text, " ");
+    }
+
+    /**
+     * Splits a string around a literal, non-empty separator with the same semantics as
+     * {@link String#split(String)}: trailing empty strings are removed, and an input without
+     * any separator yields a single-element array containing the input.
+     *
+     * @param text The text to split
+     * @param separator The literal separator
+     * @return The split pieces
+     */
+    public static String[] splitLiteral(String text, String separator) {
+        int next = text.indexOf(separator);
+        if (next < 0) {
+            return new String[]{text};
+        }
+        ArrayList<String> pieces = new ArrayList<>();
+        int start = 0;
+        while (next >= 0) {
+            pieces.add(text.substring(start, next));
+            start = next + separator.length();
+            next = text.indexOf(separator, start);
+        }
+        pieces.add(text.substring(start));
+
+        int size = pieces.size();
+        while (size > 0 && pieces.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return pieces.subList(0, size).toArray(new String[0]);
+    }
+
+    /**
+     * Finds the first occurrence of an ASCII keyword, ignoring ASCII case, in the same way as the
+     * {@code (?i)} regex flag.
+     *
+     * @param text The text to search
+     * @param keyword The keyword to find
+     * @param fromIndex The index to start searching from
+     * @return The index of the first match, or -1 if there is none
+     */
+    public static int indexOfIgnoreCase(String text, String keyword, int fromIndex) {
+        int last = text.length() - keyword.length();
+        for (int i = Math.max(fromIndex, 0); i <= last; i++) {
+            if (regionMatchesIgnoreCase(text, i, keyword)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a string contains an index range such as {@code 1...5}, i.e. a digit, followed by
+     * three dots, followed by a digit. Equivalent to finding {@code \d\.\.\.\d}.
+     *
+     * @param text The text to check
+     * @return True if the text contains an index range
+     */
+    public static boolean containsRange(String text) {
+        int dots = text.indexOf(RANGE_DELIMITER);
+        while (dots >= 0) {
+            int after = dots + RANGE_DELIMITER.length();
+            if (dots > 0 && isDigit(text.charAt(dots - 1)) && after < text.length() && isDigit(text.charAt(after))) {
+                return true;
+            }
+            dots = text.indexOf(RANGE_DELIMITER, dots + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Splits an index range into its bounds. Equivalent to {@code text.split("\\.\\.\\.")}.
+     *
+     * @param text The index range
+     * @return The range bounds
+     */
+    public static String[] splitRange(String text) {
+        return splitLiteral(text, RANGE_DELIMITER);
+    }
+
+    /**
+     * Checks whether a string contains at least one ASCII digit. Equivalent to finding {@code \d}.
+     *
+     * @param text The text to check
+     * @return True if any character is a digit
+     */
+    public static boolean containsDigit(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isDigit(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a string is a non-empty run of ASCII digits. Equivalent to matching {@code \d+}.
+     *
+     * @param text The text to check
+     * @return True if the text consists only of digits
+     */
+    public static boolean isDigits(String text) {
+        return !text.isEmpty() && isDigits(text, 0, text.length());
+    }
+
+    /**
+     * Checks whether a string is an interval literal such as {@code 15m} or {@code 2w}, ignoring ASCII case.
+     * Equivalent to matching {@code \d+[smhdw]} against the lower-cased text.
+     *
+     * @param text The text to check
+     * @return True if the text is an interval literal
+     */
+    public static boolean isIntervalLiteral(String text) {
+        int length = text.length();
+        if (length < 2 || !isDigits(text, 0, length - 1)) {
+            return false;
+        }
+        return "smhdw".indexOf(toLowerAscii(text.charAt(length - 1))) >= 0;
+    }
+
+    /**
+     * Lower-cases an ASCII letter, leaving every other character unchanged.
+     *
+     * @param c The character
+     * @return The lower-cased character
+     */
+    public static char toLowerAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isDigits(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesIgnoreCase(String text, int offset, String keyword) {
+        for (int j = 0; j < keyword.length(); j++) {
+            if (toLowerAscii(text.charAt(offset + j)) != toLowerAscii(keyword.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Matches the regex \s character class: [ \t\n\x0B\f\r]
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
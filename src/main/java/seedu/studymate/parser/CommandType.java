@@ -25,14 +25,20 @@ public enum CommandType {
     REM_ON,
     REM_OFF,
     REM_SNOOZE,
+    REM_HISTORY,
+    REM_STATS,
     START,
     PAUSE,
     RESUME,
     RESET,
     STAT,
+    STAT_HISTORY,
     HABIT_ADD,
     HABIT_STREAK,
     HABIT_LIST,
+    HABIT_DUE,
+    HABIT_STATS,
     HABIT_DELETE,
+    RUN,
     BYE
 }
@@ -3,15 +3,24 @@ package seedu.studymate.parser;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a date and time argument that can be used for tasks, reminders, and habits.
  * Implements Comparable to allow sorting by date and time.
+ * A DateTimeArg is immutable: it is packed into a single long holding the epoch second of the local
+ * date-time, shifted left by one, with the lowest bit set if a time was given. Ordering the packed
+ * values orders by date and then by time, with a date without a time coming first.
+ * Code that needs a different date-time creates a new instance instead of changing a shared one.
  */
 public class DateTimeArg implements Comparable<DateTimeArg> {
-    private LocalDate date;
-    private LocalTime time;
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int INTERN_POOL_CAP = 4096;
+    // Large stores repeat the same few values, such as whole-day deadlines, so parsed values are shared
+    private static final ConcurrentHashMap<Long, DateTimeArg> internPool = new ConcurrentHashMap<>();
+
+    private final long packed;
 
     /**
      * Constructs a DateTimeArg with only a date (no time component).
@@ -19,36 +28,102 @@ public class DateTimeArg implements Comparable<DateTimeArg> {
      * @param date The date component
      */
     public DateTimeArg (LocalDate date) {
-        this.date = date;
+        this(pack(date, null));
     }
 
     /**
      * Constructs a DateTimeArg with both date and time components.
+     * The time is kept to the second.
      *
      * @param date The date component
      * @param time The time component
      */
     public DateTimeArg (LocalDate date, LocalTime time) {
-        this.date = date;
-        this.time = time;
+        this(pack(date, time));
+    }
+
+    private DateTimeArg(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a DateTimeArg with only a date, sharing an existing instance if one is pooled.
+     *
+     * @param date The date component
+     * @return The DateTimeArg for the date
+     */
+    public static DateTimeArg of(LocalDate date) {
+        return intern(pack(date, null));
     }
 
     /**
-     * Sets the date component.
+     * Returns a DateTimeArg with a date and a time, sharing an existing instance if one is pooled.
      *
-     * @param date The new date
+     * @param date The date component
+     * @param time The time component
+     * @return The DateTimeArg for the date and time
      */
-    public void setDate(LocalDate date) {
-        this.date = date;
+    public static DateTimeArg of(LocalDate date, LocalTime time) {
+        return intern(pack(date, time));
+    }
+
+    /**
+     * Returns a DateTimeArg for a LocalDateTime, sharing an existing instance if one is pooled.
+     *
+     * @param dateTime The date and time
+     * @return The DateTimeArg for the date and time
+     */
+    public static DateTimeArg of(LocalDateTime dateTime) {
+        return intern((dateTime.toEpochSecond(ZoneOffset.UTC) << 1) | 1L);
+    }
+
+    /**
+     * Returns a DateTimeArg with a date and a time from its local epoch second, sharing an existing instance if
+     * one is pooled.
+     *
+     * @param epochSecond Seconds since 1970-01-01T00:00 of the local date-time
+     * @return The DateTimeArg for the date and time
+     */
+    public static DateTimeArg ofEpochSecond(long epochSecond) {
+        return intern((epochSecond << 1) | 1L);
+    }
+
+    private static DateTimeArg intern(long packed) {
+        DateTimeArg pooled = internPool.get(packed);
+        if (pooled != null) {
+            return pooled;
+        }
+        DateTimeArg created = new DateTimeArg(packed);
+        if (internPool.size() >= INTERN_POOL_CAP) {
+            return created;
+        }
+        DateTimeArg raced = internPool.putIfAbsent(packed, created);
+        return raced == null ? created : raced;
+    }
+
+    private static long pack(LocalDate date, LocalTime time) {
+        assert date != null : "Date should not be null";
+        long epochSecond = date.toEpochDay() * SECONDS_PER_DAY + (time == null ? 0 : time.toSecondOfDay());
+        return (epochSecond << 1) | (time == null ? 0L : 1L);
     }
 
     /**
-     * Sets the time component.
+     * Checks whether a time was given.
      *
-     * @param time The new time
+     * @return True if this DateTimeArg has a time component
      */
-    public void setTime(LocalTime time) {
-        this.time = time;
+    public boolean hasTime() {
+        return (packed & 1L) != 0;
+    }
+
+    /**
+     * Returns the local date-time as seconds since 1970-01-01T00:00, treating a date without a time as midnight.
+     * This allows date-times to be compared and offset without creating any objects.
+     *
+     * @return The epoch second of the local date-time
+     */
+    public long toEpochSecond() {
+        return packed >> 1;
     }
 
     /**
@@ -57,7 +132,10 @@ public class DateTimeArg implements Comparable<DateTimeArg> {
      * @return The time, or null if not set
      */
     public LocalTime getTime() {
-        return this.time;
+        if (!hasTime()) {
+            return null;
+        }
+        return LocalTime.ofSecondOfDay(Math.floorMod(toEpochSecond(), SECONDS_PER_DAY));
     }
 
     /**
@@ -66,43 +144,54 @@ public class DateTimeArg implements Comparable<DateTimeArg> {
      * @return The date
      */
     public LocalDate getDate() {
-        return this.date;
+        return LocalDate.ofEpochDay(Math.floorDiv(toEpochSecond(), SECONDS_PER_DAY));
     }
 
     /**
-     * Combines date and time into a LocalDateTime.
+     * Combines date and time into a LocalDateTime, using midnight if there is no time.
      *
      * @return A LocalDateTime combining both date and time
      */
     public LocalDateTime getDateTime() {
-        return LocalDateTime.of(date, time);
+        return LocalDateTime.ofEpochSecond(toEpochSecond(), 0, ZoneOffset.UTC);
     }
 
     /**
-     * Sets both date and time from a LocalDateTime.
+     * Checks whether this date-time is strictly before a given local date-time.
      *
-     * @param localDateTime The LocalDateTime to extract date and time from
+     * @param other The local date-time to compare with
+     * @return True if this date-time is before the other
      */
-    public void setLocalDateTime(LocalDateTime localDateTime) {
-        this.date = localDateTime.toLocalDate();
-        this.time = localDateTime.toLocalTime();
+    public boolean isBefore(LocalDateTime other) {
+        long otherSecond = other.toEpochSecond(ZoneOffset.UTC);
+        return toEpochSecond() < otherSecond || (toEpochSecond() == otherSecond && other.getNano() > 0);
+    }
+
+    /**
+     * Checks whether this date-time is strictly after a given local date-time.
+     *
+     * @param other The local date-time to compare with
+     * @return True if this date-time is after the other
+     */
+    public boolean isAfter(LocalDateTime other) {
+        return toEpochSecond() > other.toEpochSecond(ZoneOffset.UTC);
     }
 
     /**
      * Returns a string representation of the date-time.
      * Format: yyyy-MM-ddTHH:mm (if time is present), otherwise just yyyy-MM-dd.
+     * It is rendered from the epoch second, without creating a LocalDate or a LocalTime.
      *
      * @return The formatted string
      */
     @Override
     public String toString() {
-        return (date == null ? "" : date) +
-                (time == null ? "" : "T" + time.format(DateTimeFormatter.ofPattern("HH:mm")));
+        return DateTimeCodec.appendTo(new StringBuilder(16), this, DateTimeCodec.SAVE_SEPARATOR).toString();
     }
 
     /**
      * Compares this DateTimeArg with another for ordering.
-     * Comparison is first by date, then by time. Null values are considered smaller.
+     * Comparison is first by date, then by time. A missing time is considered smaller.
      *
      * @param other The DateTimeArg to compare with
      * @return A negative integer, zero, or a positive integer as this object is less than,
@@ -110,43 +199,19 @@ public class DateTimeArg implements Comparable<DateTimeArg> {
      */
     @Override
     public int compareTo(DateTimeArg other) {
-        // Handle null dates
-        if (this.date == null && other.date == null) {
-            return compareTime(other);
-        }
-        if (this.date == null) {
-            return -1; // null dates come first
-        }
-        if (other.date == null) {
-            return 1; // null dates come first
-        }
-
-        int dateComparison = this.date.compareTo(other.date);
-        if (dateComparison != 0) {
-            return dateComparison;
-        }
-
-        return compareTime(other);
+        return Long.compare(this.packed, other.packed);
     }
 
-    /**
-     * Compares the time component with another DateTimeArg.
-     *
-     * @param other The DateTimeArg to compare time with
-     * @return A negative integer, zero, or a positive integer based on time comparison
-     */
-    private int compareTime(DateTimeArg other) {
-        if (this.time == null && other.time == null) {
-            return 0;
-        }
-
-        if (this.time == null) {
-            return -1; // null time come first
-        }
-        if (other.time == null) {
-            return 1; // null time come first
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
         }
+        return other instanceof DateTimeArg && ((DateTimeArg) other).packed == packed;
+    }
 
-        return this.time.compareTo(other.time);
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
     }
 }
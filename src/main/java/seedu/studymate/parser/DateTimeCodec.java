@@ -0,0 +1,285 @@
+package seedu.studymate.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Shared parsing and formatting of the date-time strings used in commands, messages and the save file.
+ * Formatting writes digits straight into the destination instead of going through a formatter, and
+ * parsing keeps a small cache of recently seen date and time strings, since the same few dates tend
+ * to appear over and over in a list or a save file.
+ * Results are always identical to LocalDate/LocalTime parsing and to formatting times with the HH:mm pattern.
+ */
+public class DateTimeCodec {
+    public static final char SAVE_SEPARATOR = 'T';
+    public static final char DISPLAY_SEPARATOR = ' ';
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    // Days from 0000-03-01 to 1970-01-01, and in each 400-year era of the proleptic Gregorian calendar
+    private static final long DAYS_0000_03_01_TO_EPOCH = 719_468L;
+    private static final long DAYS_PER_ERA = 146_097L;
+
+    // Must be a power of two, as the slot is taken from the low bits of the hash
+    private static final int CACHE_SIZE = 64;
+    private static final CacheEntry<?>[] dateCache = new CacheEntry<?>[CACHE_SIZE];
+    private static final CacheEntry<?>[] timeCache = new CacheEntry<?>[CACHE_SIZE];
+
+    /**
+     * Formats a date-time in the save format, yyyy-MM-ddTHH:mm, or yyyy-MM-dd if there is no time.
+     * This is the canonical text of a DateTimeArg, as returned by its toString method.
+     *
+     * @param date The date, or null if there is none
+     * @param time The time, or null if there is none
+     * @return The formatted string
+     */
+    public static String format(LocalDate date, LocalTime time) {
+        StringBuilder sb = new StringBuilder(16);
+        try {
+            if (date != null) {
+                appendDate(sb, date);
+            }
+            if (time != null) {
+                sb.append(SAVE_SEPARATOR);
+                appendTime(sb, time);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats a date-time for display, yyyy-MM-dd HH:mm, or yyyy-MM-dd if there is no time.
+     *
+     * @param dateTime The date-time to format
+     * @return The formatted string
+     */
+    public static String formatDisplay(DateTimeArg dateTime) {
+        return appendTo(new StringBuilder(16), dateTime, DISPLAY_SEPARATOR).toString();
+    }
+
+    /**
+     * Appends a date-time to a StringBuilder, placing the separator between the date and the time.
+     *
+     * @param sb The StringBuilder to append to
+     * @param dateTime The date-time to append
+     * @param separator The character between the date and the time
+     * @return The same StringBuilder
+     */
+    public static StringBuilder appendTo(StringBuilder sb, DateTimeArg dateTime, char separator) {
+        try {
+            appendTo((Appendable) sb, dateTime, separator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return sb;
+    }
+
+    /**
+     * Appends a date-time to any Appendable, placing the separator between the date and the time.
+     * The date and the time are worked out from the epoch second and written straight into the destination,
+     * without creating a LocalDate, a LocalTime or the canonical text of the date-time first.
+     *
+     * @param out The destination to append to
+     * @param dateTime The date-time to append
+     * @param separator The character between the date and the time
+     * @throws IOException If the destination cannot be written to
+     */
+    public static void appendTo(Appendable out, DateTimeArg dateTime, char separator) throws IOException {
+        appendEpochSecond(out, dateTime.toEpochSecond(), dateTime.hasTime(), separator);
+    }
+
+    /**
+     * Appends a local epoch second as yyyy-MM-dd, followed by the separator and HH:mm if the time is wanted.
+     * The calendar date is found by arithmetic on the day number, so no java.time objects are created.
+     *
+     * @param out The destination to append to
+     * @param epochSecond Seconds since 1970-01-01T00:00 of the local date-time
+     * @param withTime Whether to append the time
+     * @param separator The character between the date and the time
+     * @throws IOException If the destination cannot be written to
+     */
+    public static void appendEpochSecond(Appendable out, long epochSecond, boolean withTime, char separator)
+            throws IOException {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        appendEpochDay(out, epochDay);
+        if (withTime) {
+            int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+            out.append(separator);
+            appendTwoDigits(out, secondOfDay / 3600);
+            out.append(':');
+            appendTwoDigits(out, secondOfDay / 60 % 60);
+        }
+    }
+
+    /**
+     * Appends an epoch day in the yyyy-MM-dd format, converting it to a civil date with eras of 400 years
+     * that start on 1 March, so that the leap day falls at the end of each year.
+     */
+    private static void appendEpochDay(Appendable out, long epochDay) throws IOException {
+        long shifted = epochDay + DAYS_0000_03_01_TO_EPOCH;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        long dayOfEra = shifted - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthFromMarch = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthFromMarch + 2) / 5 + 1);
+        int month = (int) (monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            // Signed or five-digit years are rare enough to leave to LocalDate itself
+            out.append(LocalDate.ofEpochDay(epochDay).toString());
+            return;
+        }
+        appendTwoDigits(out, (int) year / 100);
+        appendTwoDigits(out, (int) year % 100);
+        out.append('-');
+        appendTwoDigits(out, month);
+        out.append('-');
+        appendTwoDigits(out, day);
+    }
+
+    /**
+     * Appends a date in the yyyy-MM-dd format.
+     *
+     * @param out The destination to append to
+     * @param date The date to append
+     * @throws IOException If the destination cannot be written to
+     */
+    public static void appendDate(Appendable out, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed or five-digit years are rare enough to leave to LocalDate itself
+            out.append(date.toString());
+            return;
+        }
+        appendTwoDigits(out, year / 100);
+        appendTwoDigits(out, year % 100);
+        out.append('-');
+        appendTwoDigits(out, date.getMonthValue());
+        out.append('-');
+        appendTwoDigits(out, date.getDayOfMonth());
+    }
+
+    /**
+     * Appends a time in the HH:mm format.
+     *
+     * @param out The destination to append to
+     * @param time The time to append
+     * @throws IOException If the destination cannot be written to
+     */
+    public static void appendTime(Appendable out, LocalTime time) throws IOException {
+        appendTwoDigits(out, time.getHour());
+        out.append(':');
+        appendTwoDigits(out, time.getMinute());
+    }
+
+    /**
+     * Parses a date in the yyyy-MM-dd format, reusing the result for recently seen strings.
+     *
+     * @param text The text to parse
+     * @return The parsed date
+     * @throws DateTimeParseException If the text is not a valid date
+     */
+    public static LocalDate parseDate(String text) throws DateTimeParseException {
+        LocalDate cached = lookup(dateCache, text, LocalDate.class);
+        if (cached != null) {
+            return cached;
+        }
+        LocalDate date = LocalDate.parse(text);
+        store(dateCache, text, date);
+        return date;
+    }
+
+    /**
+     * Parses a time such as HH:mm, reusing the result for recently seen strings.
+     *
+     * @param text The text to parse
+     * @return The parsed time
+     * @throws DateTimeParseException If the text is not a valid time
+     */
+    public static LocalTime parseTime(String text) throws DateTimeParseException {
+        LocalTime cached = lookup(timeCache, text, LocalTime.class);
+        if (cached != null) {
+            return cached;
+        }
+        LocalTime time = LocalTime.parse(text);
+        store(timeCache, text, time);
+        return time;
+    }
+
+    /**
+     * Parses a user-entered date-time in the format "YYYY-MM-DD HH:mm", where both parts are required.
+     *
+     * @param text The text to parse
+     * @return The parsed DateTimeArg
+     * @throws DateTimeParseException If the text is not a valid date followed by a valid time
+     */
+    public static DateTimeArg parseUserDateTime(String text) throws DateTimeParseException {
+        String trimmed = text.trim();
+        int space = trimmed.indexOf(' ');
+        if (space < 0 || trimmed.indexOf(' ', space + 1) >= 0) {
+            throw new DateTimeParseException("Time is required! Format: YYYY-MM-DD hh:mm", text, 0);
+        }
+        LocalDate date = parseDate(trimmed.substring(0, space));
+        LocalTime time = parseTime(trimmed.substring(space + 1));
+        return DateTimeArg.of(date, time);
+    }
+
+    /**
+     * Parses a date-time from the save file, in the format yyyy-MM-ddTHH:mm or yyyy-MM-dd.
+     *
+     * @param text The text to parse
+     * @return The parsed DateTimeArg, or null if the text holds neither a date nor a time
+     * @throws DateTimeParseException If the date or time is invalid
+     */
+    public static DateTimeArg parseSaved(String text) throws DateTimeParseException {
+        String[] parts = CommandTokenizer.splitLiteral(text, "T");
+        if (parts.length == 2 && !parts[1].trim().isEmpty()) {
+            return DateTimeArg.of(parseDate(parts[0].trim()), parseTime(parts[1].trim()));
+        }
+        if (parts.length > 0 && !parts[0].trim().isEmpty()) {
+            return DateTimeArg.of(parseDate(parts[0].trim()));
+        }
+        return null;
+    }
+
+    private static void appendTwoDigits(Appendable out, int value) throws IOException {
+        out.append((char) ('0' + value / 10));
+        out.append((char) ('0' + value % 10));
+    }
+
+    private static <T> T lookup(CacheEntry<?>[] cache, String key, Class<T> type) {
+        CacheEntry<?> entry = cache[slot(key)];
+        if (entry != null && entry.key.equals(key)) {
+            return type.cast(entry.value);
+        }
+        return null;
+    }
+
+    private static <T> void store(CacheEntry<?>[] cache, String key, T value) {
+        // Entries are immutable, so a racing reader sees either the old or the new entry, never a mix
+        cache[slot(key)] = new CacheEntry<>(key, value);
+    }
+
+    private static int slot(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    }
+
+    /**
+     * Holds a parsed value together with the string it was parsed from.
+     */
+    private static class CacheEntry<T> {
+        private final String key;
+        private final T value;
+
+        private CacheEntry(String key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
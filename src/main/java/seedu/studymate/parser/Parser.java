@@ -1,17 +1,15 @@
 package seedu.studymate.parser;
 
 import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.GracePolicy;
+import seedu.studymate.reminders.CatchUpPolicy;
+import seedu.studymate.reminders.RecurrenceRule;
 
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.logging.Level;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.logging.Logger;
 
 /**
@@ -29,13 +27,13 @@ public class Parser {
     private static final String DEADLINE_FLAG = "-d";
     private static final String FROM_FLAG = "-f";
     private static final String TO_FLAG = "-t";
+    private static final String HISTORY_FLAG = "-h";
+    private static final String DUE_FLAG = "-d";
+    private static final String GRACE_FLAG = "-g";
+    private static final String GRACE_DAY = "day";
+    private static final int DEFAULT_HISTORY_DAYS = 30;
     private static final int maxValue = 10000;
 
-    private static final Pattern integerPattern = Pattern.compile("\\d");
-    private static final Pattern multipleIntegerPattern = Pattern.compile(("\\d\\.\\.\\.\\d"));
-    private static final Pattern TIMER_PATTERN =
-            Pattern.compile("^\\s*([^@]+)?\\s*(?:@\\s*(\\d+))?\\s*$");
-
     private static final Logger logger = Logger.getLogger("Parser Logger");
 
     /**
@@ -50,9 +48,9 @@ public class Parser {
             throw new StudyMateException("Line cannot be empty");
         }
 
-        String cleanLine = line.replaceAll("\\s+", " ");
+        String cleanLine = CommandTokenizer.collapseWhitespace(line);
 
-        String[] arguments = cleanLine.split(" ", 2);
+        String[] arguments = CommandTokenizer.splitCommandWord(cleanLine);
         String argumentString = arguments.length > 1 ? arguments[1] : "";
 
         logger.log(Level.INFO, "Command received: " + arguments[0]);
@@ -82,20 +80,42 @@ public class Parser {
         case "start":
             return parseTimerStart(argumentString);
         case "pause":
-            return new Command(CommandType.PAUSE);
+            return parseTimerTarget(CommandType.PAUSE, argumentString);
         case "resume":
-            return new Command(CommandType.RESUME);
+            return parseTimerTarget(CommandType.RESUME, argumentString);
         case "reset":
-            return new Command(CommandType.RESET);
+            return parseTimerTarget(CommandType.RESET, argumentString);
         case "stat":
-            return new Command(CommandType.STAT);
+            return parseStat(argumentString);
         case "habit":
             return parseHabit(arguments);
+        case "run":
+            return parseRun(argumentString);
         default:
             throw new StudyMateException("Unknown command");
         }
     }
 
+    /**
+     * Parses a run command, in the form run [-s] FILE.
+     *
+     * @param arguments The arguments following the run command word
+     * @return A Command object for running a script
+     * @throws StudyMateException If no script file is given
+     */
+    private Command parseRun(String arguments) throws StudyMateException {
+        String path = arguments.trim();
+        boolean isStrict = false;
+        if (path.equalsIgnoreCase("-s") || path.regionMatches(true, 0, "-s ", 0, 3)) {
+            isStrict = true;
+            path = path.substring(2).trim();
+        }
+        if (path.isEmpty()) {
+            throw new StudyMateException("The run command must be followed by a script file!");
+        }
+        return new Command(CommandType.RUN, path, isStrict);
+    }
+
     /**
      * Parses a to-do command.
      *
@@ -123,14 +143,14 @@ public class Parser {
             throw new StudyMateException("The description of the deadline task cannot be empty!");
         }
 
-        if (!arguments.toLowerCase().contains(DELIMITER_BY)) {
+        int byIndex = CommandTokenizer.indexOfIgnoreCase(arguments, DELIMITER_BY, 0);
+        if (byIndex < 0) {
             throw new StudyMateException("The deadline task must have a " + DELIMITER_BY + " delimiter!");
         }
 
-        // Split the content into description and deadline part using DelimiterType.DELIMITER_BY (case-insensitive)
-        String[] deadlineParts = arguments.split("(?i)" + Pattern.quote(DELIMITER_BY), 2);
-        String desc = deadlineParts[0].trim();
-        String deadline = deadlineParts.length > 1 ? deadlineParts[1].trim() : "";
+        // Split the content into description and deadline part around the first DELIMITER_BY (case-insensitive)
+        String desc = arguments.substring(0, byIndex).trim();
+        String deadline = arguments.substring(byIndex + DELIMITER_BY.length()).trim();
 
         if (desc.isEmpty() || deadline.isEmpty()) {
             throw new StudyMateException("The description and deadline of a deadline cannot be empty!");
@@ -158,30 +178,22 @@ public class Parser {
             throw new StudyMateException("The description of the event task cannot be empty!");
         }
 
-        String lowerArgs = arguments.toLowerCase();
-        if (!lowerArgs.contains(DELIMITER_FROM) || !lowerArgs.contains(DELIMITER_TO)) {
+        int fromIndex = CommandTokenizer.indexOfIgnoreCase(arguments, DELIMITER_FROM, 0);
+        int toIndex = CommandTokenizer.indexOfIgnoreCase(arguments, DELIMITER_TO, 0);
+        if (fromIndex < 0 || toIndex < 0) {
             throw new StudyMateException("The event task must have both " + DELIMITER_FROM + " and " + DELIMITER_TO +
                     " delimiters!");
         }
 
         // Ensure /from comes before /to (case-insensitive check)
-        int fromIndex = lowerArgs.indexOf(DELIMITER_FROM);
-        int toIndex = lowerArgs.indexOf(DELIMITER_TO);
         if (fromIndex >= toIndex) {
             throw new StudyMateException("The " + DELIMITER_FROM + " delimiter must come before " + DELIMITER_TO + "!");
         }
 
-        // Split the content into description, from and to parts (case-insensitive)
-        String[] firstSplit = arguments.split("(?i)" + Pattern.quote(DELIMITER_FROM), 2);
-        String desc = firstSplit[0].trim();
-
-        if (firstSplit.length < 2) {
-            throw new StudyMateException("The description, from date and to date of an event cannot be empty!");
-        }
-
-        String[] secondSplit = firstSplit[1].split("(?i)" + Pattern.quote(DELIMITER_TO), 2);
-        String fromDateTime = secondSplit[0].trim();
-        String toDateTime = secondSplit.length > 1 ? secondSplit[1].trim() : "";
+        // Split the content into description, from and to parts around the delimiters found above
+        String desc = arguments.substring(0, fromIndex).trim();
+        String fromDateTime = arguments.substring(fromIndex + DELIMITER_FROM.length(), toIndex).trim();
+        String toDateTime = arguments.substring(toIndex + DELIMITER_TO.length()).trim();
 
         if (desc.isEmpty() || fromDateTime.isEmpty() || toDateTime.isEmpty()) {
             throw new StudyMateException("The description, from date and to date of an event cannot be empty!");
@@ -324,15 +336,16 @@ public class Parser {
                     " command must be followed by a task number.");
         }
         try {
-            String[] indexArgs = arguments[1].split(",");
+            String[] indexArgs = CommandTokenizer.splitLiteral(arguments[1], ",");
             LinkedHashSet<Integer> indexes = new LinkedHashSet<>();
             for (String arg : indexArgs) {
-                if (multipleIntegerPattern.matcher(arg).find()) {
-                    String[] rangeParts = arg.split("\\.\\.\\.");
-                    // lambda chain returns [startArg, endArg]
-                    int[] startAndEndArgs = Arrays.stream(rangeParts)
-                            .mapToInt(s -> Integer.parseInt(s.trim())) // Trim range tokens as well
-                            .toArray();
+                if (CommandTokenizer.containsRange(arg)) {
+                    String[] rangeParts = CommandTokenizer.splitRange(arg);
+                    // returns [startArg, endArg], every range token must still be a valid integer
+                    int[] startAndEndArgs = new int[rangeParts.length];
+                    for (int i = 0; i < rangeParts.length; i++) {
+                        startAndEndArgs[i] = Integer.parseInt(rangeParts[i].trim()); // Trim range tokens as well
+                    }
                     if (startAndEndArgs[0] > startAndEndArgs[1]) {
                         throw new NumberFormatException();
                     }
@@ -340,7 +353,7 @@ public class Parser {
                         capNumbers(i);
                         indexes.add(i - 1);
                     }
-                } else if (integerPattern.matcher(arg).find()) {
+                } else if (CommandTokenizer.containsDigit(arg)) {
                     int index = Integer.parseInt(arg);
                     capNumbers(index);
                     indexes.add(index - 1);
@@ -367,7 +380,7 @@ public class Parser {
         if (arguments.length < 2) {
             throw new StudyMateException("The rem command must be followed by a subcommand.");
         }
-        String[] parts = arguments[1].trim().split("\\s+", 2);
+        String[] parts = CommandTokenizer.splitCommandWord(arguments[1].trim());
         String rest = parts.length > 1 ? parts[1].trim() : "";
         logger.log(Level.INFO, "rem command recorded : " + parts[0]);
         return switch (parts[0].toLowerCase()) {
@@ -376,6 +389,8 @@ public class Parser {
         case "on" -> parseRemOn(parts);
         case "off" -> parseRemOff(parts);
         case "snooze" -> parseRemSnooze(parts);
+        case "history" -> parseRemHistory(rest);
+        case "stats" -> parseRemStats(rest);
         default -> parseRemAdd(arguments[1]);
         };
     }
@@ -427,7 +442,7 @@ public class Parser {
         if (arguments.length == 1) {
             throw new StudyMateException("Input index of the Reminder to snooze, followed by the duration!");
         }
-        String[] parts = arguments[1].trim().split("\\s+");
+        String[] parts = CommandTokenizer.splitWords(arguments[1].trim());
         if (parts.length == 1) {
             try {
                 Integer.parseInt(parts[0]);
@@ -464,6 +479,34 @@ public class Parser {
         return new Command(CommandType.REM_LS);
     }
 
+    /**
+     * Parses a reminder history command.
+     *
+     * @param rest The remaining arguments (should be empty)
+     * @return A Command object for showing reminder history
+     * @throws StudyMateException If there are extra arguments
+     */
+    private Command parseRemHistory(String rest) throws StudyMateException {
+        if (!Objects.equals(rest, "")) {
+            throw new StudyMateException("Too many arguments for history command!");
+        }
+        return new Command(CommandType.REM_HISTORY);
+    }
+
+    /**
+     * Parses a reminder stats command.
+     *
+     * @param rest The remaining arguments (should be empty)
+     * @return A Command object for showing scheduler statistics
+     * @throws StudyMateException If there are extra arguments
+     */
+    private Command parseRemStats(String rest) throws StudyMateException {
+        if (!Objects.equals(rest, "")) {
+            throw new StudyMateException("Too many arguments for stats command!");
+        }
+        return new Command(CommandType.REM_STATS);
+    }
+
     /**
      * Parses a reminder add command, supporting both one-time and recurring reminders.
      *
@@ -475,7 +518,7 @@ public class Parser {
         if (rem == null || rem.isBlank()) {
             throw new StudyMateException("Input an event and a DATE/TIME for the reminder!");
         }
-        String[] arguments = rem.trim().split("\\s+");
+        String[] arguments = CommandTokenizer.splitWords(rem.trim());
 
         int atIndex = 0;
         for (int i = 0; i < arguments.length; i++) {
@@ -500,6 +543,21 @@ public class Parser {
             throw new StudyMateException("Input a recurring duration after the -r flag!");
         }
 
+        int cIndex = 0;
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i].equalsIgnoreCase("-c")) {
+                cIndex = i;
+                break;
+            }
+        }
+        if (cIndex != 0 && (rIndex == 0 || cIndex < rIndex)) {
+            throw new StudyMateException("The -c flag must come after the -r flag of a recurring reminder!");
+        }
+        if (cIndex != 0 && cIndex != arguments.length - 2) {
+            throw new StudyMateException("Input a catch-up policy after the -c flag: once, all or skip!");
+        }
+        int intervalEnd = cIndex == 0 ? arguments.length : cIndex;
+
         String reminder = String.join(" ", java.util.Arrays.copyOfRange(arguments, 0, atIndex));
 
         if (rIndex == 0) { //non-recurring reminder
@@ -519,12 +577,20 @@ public class Parser {
                 String dateTimeString = String.join(" ", java.util.Arrays.copyOfRange(arguments,
                         atIndex + 1, rIndex));
                 String recurringString = String.join(" ", java.util.Arrays.copyOfRange(arguments,
-                        rIndex + 1, arguments.length));
-                Duration recurringDuration = parseInterval(recurringString);
+                        rIndex + 1, intervalEnd));
+                // A calendar rule such as FREQ=WEEKLY;BYDAY=MO can be given instead of an interval
+                RecurrenceRule rule = RecurrenceRule.isRule(recurringString)
+                        ? RecurrenceRule.parse(recurringString) : null;
+                Duration recurringDuration = rule == null ? parseInterval(recurringString) : null;
                 DateTimeArg dateTimeArg = parseDateTimeString(dateTimeString);
                 logger.log(Level.INFO, "Reminder name : " + reminder);
                 logger.log(Level.INFO, "Reminder date: " + dateTimeArg);
-                return new Command(CommandType.REM_ADD_REC, reminder, dateTimeArg, recurringDuration);
+                Command command = new Command(CommandType.REM_ADD_REC, reminder, dateTimeArg, recurringDuration);
+                command.recurrenceRule = rule;
+                if (cIndex != 0) {
+                    command.catchUpPolicy = parseCatchUpPolicy(arguments[cIndex + 1]);
+                }
+                return command;
             } catch (DateTimeParseException e) {
                 throw new StudyMateException("Bad date/time syntax! The syntax is YYYY-MM-DD hh:mm!");
             } catch (NumberFormatException e) {
@@ -533,6 +599,21 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses the catch-up policy of a recurring reminder.
+     *
+     * @param keyword The policy keyword: once, all or skip
+     * @return The matching CatchUpPolicy
+     * @throws StudyMateException If the keyword is not a known policy
+     */
+    private CatchUpPolicy parseCatchUpPolicy(String keyword) throws StudyMateException {
+        CatchUpPolicy catchUpPolicy = CatchUpPolicy.fromKeyword(keyword);
+        if (catchUpPolicy == null) {
+            throw new StudyMateException("Unknown catch-up policy: " + keyword + "! Use once, all or skip.");
+        }
+        return catchUpPolicy;
+    }
+
     /**
      * Parses a date-time string in the format "YYYY-MM-DD HH:mm".
      *
@@ -541,16 +622,7 @@ public class Parser {
      * @throws DateTimeParseException If the format is invalid
      */
     private DateTimeArg parseDateTimeString(String dateTimeString) throws DateTimeParseException {
-        String[] parts = dateTimeString.trim().split(" ");
-
-        if (parts.length != 2) {
-            throw new DateTimeParseException("Time is required! Format: YYYY-MM-DD hh:mm", dateTimeString, 0);
-        }
-
-        // Parse date and time (both required)
-        LocalDate date = LocalDate.parse(parts[0]);
-        LocalTime time = LocalTime.parse(parts[1]);
-        return new DateTimeArg(date, time);
+        return DateTimeCodec.parseUserDateTime(dateTimeString);
     }
 
     /**
@@ -564,7 +636,7 @@ public class Parser {
     private Duration parseInterval(String input) throws StudyMateException {
         input = input.trim().toLowerCase(); // normalize input, e.g., "1D" -> "1d"
 
-        if (!input.matches("\\d+[smhdw]")) { //matches formatting pattern of number + unit
+        if (!CommandTokenizer.isIntervalLiteral(input)) { //matches formatting pattern of number + unit
             throw new StudyMateException("Invalid interval format: " + input);
         }
 
@@ -615,16 +687,19 @@ public class Parser {
         String label = null;
         int minutes = 25; // Default duration is 25 minutes
 
-        // Match arguments
-        Matcher matcher = TIMER_PATTERN.matcher(arguments.trim());
-
-        if (!matcher.matches()) {
-            throw new StudyMateException("Invalid timer start format. Use: start [INDEX | NAME] [@MINUTES]");
+        // Split arguments into the target before '@' and the minutes after it
+        String trimmedArguments = arguments.trim();
+        int atIndex = trimmedArguments.indexOf('@');
+        String targetStr = trimmedArguments;
+        String minutesStr = null;
+        if (atIndex >= 0) {
+            targetStr = atIndex == 0 ? null : trimmedArguments.substring(0, atIndex);
+            minutesStr = stripSpaces(trimmedArguments.substring(atIndex + 1));
+            if (!CommandTokenizer.isDigits(minutesStr)) {
+                throw new StudyMateException("Invalid timer start format. Use: start [INDEX | NAME] [@MINUTES]");
+            }
         }
 
-        String targetStr = matcher.group(1);
-        String minutesStr = matcher.group(2);
-
         // Extract and validate minutes
         if (minutesStr != null) {
             try {
@@ -646,7 +721,7 @@ public class Parser {
             }
 
             // Check if the target is an Index (contains only digits)
-            if (trimmedTarget.matches("\\d+")) {
+            if (CommandTokenizer.isDigits(trimmedTarget)) {
                 try {
                     index = Integer.parseInt(trimmedTarget);
                     if (index <= 0) {
@@ -672,6 +747,48 @@ public class Parser {
         return new Command(CommandType.START, index, label, minutes);
     }
 
+    /**
+     * Parses a pause, resume, reset or stat command, which may name the timer it acts on.
+     *
+     * @param type The type of timer command
+     * @param arguments The label or task number of the timer, or nothing for the latest timer
+     * @return A Command object holding the timer to act on, or null if none is named
+     */
+    private Command parseTimerTarget(CommandType type, String arguments) {
+        String target = arguments.trim();
+        return new Command(type, target.isEmpty() ? null : target);
+    }
+
+    /**
+     * Parses a stat command: stat -h [DAYS] for the focus history of the last DAYS days, otherwise the
+     * status of the timer it names.
+     *
+     * @param arguments The arguments following the stat command word
+     * @return A Command object for showing timer status or focus history
+     * @throws StudyMateException If the number of days is not a positive number
+     */
+    private Command parseStat(String arguments) throws StudyMateException {
+        String[] parts = CommandTokenizer.splitCommandWord(arguments.trim());
+        if (!parts[0].equalsIgnoreCase(HISTORY_FLAG)) {
+            return parseTimerTarget(CommandType.STAT, arguments);
+        }
+        Command cmd = new Command(CommandType.STAT_HISTORY);
+        cmd.duration = DEFAULT_HISTORY_DAYS;
+        if (parts.length > 1 && !parts[1].isBlank()) {
+            try {
+                int days = Integer.parseInt(parts[1].trim());
+                if (days <= 0) {
+                    throw new NumberFormatException();
+                }
+                capNumbers(days);
+                cmd.duration = days;
+            } catch (NumberFormatException e) {
+                throw new StudyMateException("The number of days must be a positive number!");
+            }
+        }
+        return cmd;
+    }
+
     /**
      * Parses a habit command and routes to the appropriate subcommand handler.
      *
@@ -683,37 +800,96 @@ public class Parser {
         if (arguments.length < 2) {
             throw new StudyMateException("The habit command must be followed by a subcommand.");
         }
-        String[] parts = arguments[1].trim().split("\\s+", 2);
+        String[] parts = CommandTokenizer.splitCommandWord(arguments[1].trim());
         String rest = parts.length > 1 ? parts[1].trim() : "";
         logger.log(Level.INFO, "Habit command recorded : " + parts[0]);
         return switch (parts[0].toLowerCase()) {
         case "rm" -> parseHabitRm(rest);
-        case "ls" -> new Command(CommandType.HABIT_LIST);
+        case "ls" -> parseHabitLs(rest);
         case "streak" -> parseHabitStreak(rest);
+        case "stats" -> parseHabitStats(rest);
         default -> parseHabitAdd(arguments[1]);
         };
     }
 
     /**
-     * Parses a habit add command with name and interval.
+     * Parses a habit list command, which lists every habit, or only the due habits with the -d flag.
      *
-     * @param habit The habit arguments containing name and interval
+     * @param rest The remaining arguments, which should be empty or -d
+     * @return A Command object for listing habits
+     * @throws StudyMateException If there are any other arguments
+     */
+    private Command parseHabitLs(String rest) throws StudyMateException {
+        if (rest.isEmpty()) {
+            return new Command(CommandType.HABIT_LIST);
+        }
+        if (rest.equalsIgnoreCase(DUE_FLAG)) {
+            return new Command(CommandType.HABIT_DUE);
+        }
+        throw new StudyMateException("Too many arguments for ls command! Use habit ls or habit ls -d");
+    }
+
+    /**
+     * Parses a habit add command with name, interval and an optional grace period.
+     *
+     * @param habit The habit arguments containing name, interval and optionally -g GRACE
      * @return A Command object for adding a habit
      * @throws StudyMateException If the arguments are invalid or missing the interval flag
      */
     private Command parseHabitAdd(String habit) throws StudyMateException {
-        String[] arguments = habit.trim().split("\\s+");
-        // Convert arguments to lowercase for case-insensitive flag matching
-        String[] lowerArgs = Arrays.stream(arguments).map(String::toLowerCase).toArray(String[]::new);
-        int tIndex = Arrays.asList(lowerArgs).indexOf("-t");
+        String[] arguments = CommandTokenizer.splitWords(habit.trim());
+        // Case-insensitive flag matching
+        int tIndex = -1;
+        int gIndex = -1;
+        for (int i = 0; i < arguments.length; i++) {
+            if (tIndex == -1 && arguments[i].equalsIgnoreCase("-t")) {
+                tIndex = i;
+            } else if (gIndex == -1 && tIndex != -1 && arguments[i].equalsIgnoreCase(GRACE_FLAG)) {
+                gIndex = i;
+            }
+        }
         if (habit.isBlank() || tIndex == 0) {
             throw new StudyMateException("Input a habit!");
-        } else if (tIndex == arguments.length - 1 || tIndex == -1) {
+        } else if (tIndex == arguments.length - 1 || tIndex == -1 || gIndex == tIndex + 1) {
             throw new StudyMateException("Input a recurring duration after the -t flag!");
+        } else if (gIndex == arguments.length - 1) {
+            throw new StudyMateException("Input a grace period after the -g flag!");
         }
         Duration interval = parseInterval(arguments[tIndex + 1]);
         String habitName = String.join(" ", java.util.Arrays.copyOfRange(arguments, 0, tIndex));
-        return new Command(CommandType.HABIT_ADD, habitName, interval);
+        Command command = new Command(CommandType.HABIT_ADD, habitName, interval);
+        if (gIndex != -1) {
+            command.gracePolicy = parseGracePolicy(arguments[gIndex + 1]);
+        }
+        return command;
+    }
+
+    /**
+     * Parses the grace period of a habit: a duration such as 30m, a fraction of the interval such as 1/4,
+     * or day for the end of the deadline's day.
+     *
+     * @param grace The grace period argument
+     * @return The matching GracePolicy
+     * @throws StudyMateException If the grace period is not valid
+     */
+    private GracePolicy parseGracePolicy(String grace) throws StudyMateException {
+        if (grace.equalsIgnoreCase(GRACE_DAY)) {
+            return GracePolicy.endOfDay();
+        }
+        if (grace.startsWith("1/")) {
+            try {
+                int denominator = Integer.parseInt(grace.substring(2));
+                capNumbers(denominator);
+                return GracePolicy.fractionOf(denominator);
+            } catch (IllegalArgumentException e) {
+                throw new StudyMateException("Invalid grace fraction! Use 1/N for a positive whole number N.");
+            }
+        }
+        if (!CommandTokenizer.isIntervalLiteral(grace.toLowerCase())) {
+            throw new StudyMateException("Invalid grace period: " + grace
+                    + "! Use a duration such as 30m, a fraction such as 1/4, or day.");
+        }
+        return GracePolicy.minutes(parseInterval(grace).toMinutes());
     }
 
     /**
@@ -732,6 +908,22 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses a habit stats command.
+     *
+     * @param arguments The habit index to show statistics for
+     * @return A Command object for showing a habit's completion history
+     * @throws StudyMateException If the index is invalid
+     */
+    private Command parseHabitStats(String arguments) throws StudyMateException {
+        try {
+            int index = Integer.parseInt(arguments) - 1;
+            return new Command(CommandType.HABIT_STATS, index);
+        } catch (NumberFormatException e) {
+            throw new StudyMateException("Please input a valid index!");
+        }
+    }
+
     /**
      * Parses a habit remove command.
      *
@@ -748,6 +940,24 @@ public class Parser {
         }
     }
 
+    /**
+     * Strips leading and trailing spaces only, unlike {@link String#trim()} which also strips control characters.
+     *
+     * @param text The text to strip
+     * @return The text without surrounding spaces
+     */
+    private static String stripSpaces(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
     private void capNumbers(int number) throws StudyMateException {
         if (number > maxValue) {
             throw new StudyMateException("Number is too high!");
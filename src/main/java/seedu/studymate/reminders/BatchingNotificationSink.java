@@ -0,0 +1,137 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.runtime.RuntimeExecutors;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects fired reminders for a window of time and passes them on to another sink as one batch.
+ * The window starts when the first reminder arrives, and a reminder fired several times within it
+ * appears once, with its occurrences added up. An optional token bucket limits how often batches are
+ * passed on; while it is empty, reminders keep collecting into the next batch rather than being dropped.
+ * Batches are passed on in order on the runtime delivery executor, so a slow sink never holds up firing.
+ */
+public class BatchingNotificationSink implements NotificationSink {
+    private static final Logger logger = Logger.getLogger("BatchingNotificationSink Logger");
+
+    private final NotificationSink delegate;
+    private final long windowMillis;
+    private final TokenBucket rateLimit;
+    private List<IndexedReminder> pending = new ArrayList<>();
+    private ScheduledFuture<?> nextFlush;
+    private CompletableFuture<Void> lastDelivery = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructs a BatchingNotificationSink.
+     *
+     * @param delegate The sink to pass batches on to
+     * @param window How long to collect reminders for before passing them on
+     * @param rateLimit The limit on how often batches are passed on, or null for no limit
+     */
+    public BatchingNotificationSink(NotificationSink delegate, Duration window, TokenBucket rateLimit) {
+        this.delegate = delegate;
+        this.windowMillis = Math.max(0, window.toMillis());
+        this.rateLimit = rateLimit;
+    }
+
+    @Override
+    public synchronized void deliver(List<IndexedReminder> reminders) {
+        pending.addAll(reminders);
+        if (nextFlush == null) {
+            nextFlush = RuntimeExecutors.scheduler().schedule(this::endWindow, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Passes the collected reminders on as one batch when the window ends, unless the rate limit
+     * is reached, in which case they are passed on once the next token is available.
+     */
+    private synchronized void endWindow() {
+        nextFlush = null;
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (rateLimit != null && !rateLimit.tryAcquire()) {
+            nextFlush = RuntimeExecutors.scheduler().schedule(this::endWindow,
+                    rateLimit.nanosUntilNextToken(), TimeUnit.NANOSECONDS);
+            return;
+        }
+        List<IndexedReminder> batch = coalesce(pending);
+        pending = new ArrayList<>();
+        lastDelivery = lastDelivery.thenRunAsync(() -> send(batch), RuntimeExecutors.delivery());
+    }
+
+    /**
+     * Passes on anything still collected straight away, ignoring the window and the rate limit,
+     * and waits for it to be delivered.
+     *
+     * @throws IOException If the sink passed on to could not be flushed
+     */
+    @Override
+    public void flush() throws IOException {
+        CompletableFuture<Void> delivered;
+        synchronized (this) {
+            if (nextFlush != null) {
+                nextFlush.cancel(false);
+                nextFlush = null;
+            }
+            if (!pending.isEmpty()) {
+                List<IndexedReminder> batch = coalesce(pending);
+                pending = new ArrayList<>();
+                lastDelivery = lastDelivery.thenRun(() -> send(batch));
+            }
+            delivered = lastDelivery;
+        }
+        delivered.join();
+        delegate.flush();
+    }
+
+    /**
+     * Passes on anything still collected, then closes the sink it passes on to.
+     *
+     * @throws IOException If the sink passed on to could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        delegate.close();
+    }
+
+    /**
+     * Merges repeated firings of the same reminder into one entry and puts the batch in list order.
+     *
+     * @param reminders The reminders fired within the window, in firing order
+     * @return One entry per reminder with its occurrences added up
+     */
+    static List<IndexedReminder> coalesce(List<IndexedReminder> reminders) {
+        Map<Reminder, IndexedReminder> merged = new LinkedHashMap<>();
+        for (IndexedReminder fired : reminders) {
+            IndexedReminder earlier = merged.get(fired.getReminder());
+            long occurrences = fired.getOccurrences() + (earlier == null ? 0 : earlier.getOccurrences());
+            // The latest index is kept, as reminders before it may have been deleted since
+            merged.put(fired.getReminder(), new IndexedReminder(fired.getIndex(), fired.getReminder(), occurrences));
+        }
+        List<IndexedReminder> batch = new ArrayList<>(merged.values());
+        batch.sort(Comparator.comparingInt(IndexedReminder::getIndex));
+        return batch;
+    }
+
+    private void send(List<IndexedReminder> batch) {
+        try {
+            delegate.deliver(batch);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not deliver " + batch.size() + " reminder(s): " + e.getMessage());
+        }
+    }
+}
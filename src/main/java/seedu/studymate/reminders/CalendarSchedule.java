@@ -0,0 +1,143 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A recurring schedule that follows a calendar RecurrenceRule, such as weekdays at 09:00,
+ * instead of a fixed interval. Once COUNT or UNTIL is used up, the reminder turns itself off.
+ */
+public class CalendarSchedule implements Schedule {
+    // An occurrence reached within this long of its time was not missed, just noticed a little late
+    private static final long ON_TIME_SECONDS = 60;
+
+    private final RecurrenceRule rule;
+    private final DateTimeArg start;
+    private final RuleOccurrences occurrences;
+    private volatile DateTimeArg remindAt;
+    private volatile boolean onReminder;
+    private final Clock clock;
+    private final CatchUpPolicy catchUpPolicy;
+
+    /**
+     * Constructs a CalendarSchedule that next fires at the first occurrence of the rule from the start.
+     *
+     * @param rule The recurrence rule
+     * @param start The time the rule starts from
+     * @param clock The clock to use for time operations
+     * @param catchUpPolicy What to do about occurrences missed while StudyMate was closed
+     * @throws StudyMateException If the rule never occurs from the start
+     */
+    public CalendarSchedule(RecurrenceRule rule, DateTimeArg start, Clock clock, CatchUpPolicy catchUpPolicy)
+            throws StudyMateException {
+        this.rule = rule;
+        this.start = start;
+        this.occurrences = new RuleOccurrences(rule, start);
+        this.remindAt = toDateTimeArg(occurrences.first());
+        this.onReminder = true;
+        this.clock = clock;
+        this.catchUpPolicy = catchUpPolicy;
+    }
+
+    @Override
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    @Override
+    public DateTimeArg getStart() {
+        return start;
+    }
+
+    @Override
+    public CatchUpPolicy getCatchUpPolicy() {
+        return catchUpPolicy;
+    }
+
+    @Override
+    public void setOnReminder(boolean onReminder) {
+        this.onReminder = onReminder;
+    }
+
+    @Override
+    public boolean getOnReminder() {
+        return onReminder;
+    }
+
+    @Override
+    public DateTimeArg getRemindAt() {
+        return remindAt;
+    }
+
+    @Override
+    public boolean isRecurring() {
+        return true;
+    }
+
+    @Override
+    public boolean isDue() {
+        return onReminder && !remindAt.isAfter(LocalDateTime.now(clock));
+    }
+
+    /**
+     * Moves the reminder to a given occurrence, which the caller has already worked out.
+     *
+     * @param remindAt The occurrence to fire at next
+     */
+    @Override
+    public void moveTo(DateTimeArg remindAt) {
+        this.remindAt = remindAt;
+    }
+
+    @Override
+    public long occurrenceAfter(long second) {
+        return occurrences.nextAfter(second);
+    }
+
+    @Override
+    public long countOccurrences(long fromSecond, long toSecond) {
+        return occurrences.countBetween(fromSecond, toSecond);
+    }
+
+    /**
+     * Checks whether firing now should notify the user. Under the skip policy, only an occurrence
+     * reached on time notifies.
+     *
+     * @return True if the user should be notified
+     */
+    @Override
+    public boolean shouldNotify() {
+        if (catchUpPolicy != CatchUpPolicy.SKIP) {
+            return true;
+        }
+        long late = nowSecond() - remindAt.toEpochSecond();
+        return late >= 0 && late < ON_TIME_SECONDS;
+    }
+
+    /**
+     * Moves the reminder on after it fires: to the following occurrence under the all policy, and past
+     * the current time otherwise. The reminder turns off if the rule has no more occurrences.
+     */
+    @Override
+    public void isFired() {
+        long after = catchUpPolicy == CatchUpPolicy.ALL ? remindAt.toEpochSecond() : nowSecond();
+        long next = occurrences.nextAfter(after);
+        if (next == Long.MAX_VALUE) {
+            onReminder = false;
+            return;
+        }
+        remindAt = toDateTimeArg(next);
+    }
+
+    private long nowSecond() {
+        return LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static DateTimeArg toDateTimeArg(long epochSecond) {
+        return DateTimeArg.of(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.studymate.reminders;
+
+/**
+ * Decides what a recurring reminder does about occurrences that passed while StudyMate was not running.
+ */
+public enum CatchUpPolicy {
+    // Fire once for all the missed occurrences, then continue from the next one
+    ONCE("once"),
+    // Fire every missed occurrence in turn
+    ALL("all"),
+    // Fire nothing for missed occurrences, and continue from the next one
+    SKIP("skip");
+
+    private final String keyword;
+
+    CatchUpPolicy(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the word used for this policy in commands and the save file.
+     *
+     * @return The keyword of the policy
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the policy for a keyword, ignoring case.
+     *
+     * @param keyword The keyword to look up
+     * @return The matching policy, or null if there is none
+     */
+    public static CatchUpPolicy fromKeyword(String keyword) {
+        for (CatchUpPolicy policy : values()) {
+            if (policy.keyword.equalsIgnoreCase(keyword)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
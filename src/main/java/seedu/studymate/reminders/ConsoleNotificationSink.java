@@ -0,0 +1,15 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.ui.MessageHandler;
+
+import java.util.List;
+
+/**
+ * Prints fired reminders to the console, as StudyMate has always done.
+ */
+public class ConsoleNotificationSink implements NotificationSink {
+    @Override
+    public void deliver(List<IndexedReminder> reminders) {
+        MessageHandler.sendReminder(reminders);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.ui.MessageFormatting;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appends fired reminders to a text file, one timestamped block per batch.
+ * The file is opened for each batch, so it can be moved or truncated while StudyMate is running.
+ */
+public class FileNotificationSink implements NotificationSink {
+    private final Path path;
+    private final Clock clock;
+
+    public FileNotificationSink(Path path) {
+        this(path, Clock.systemDefaultZone());
+    }
+
+    public FileNotificationSink(Path path, Clock clock) {
+        this.path = path;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void deliver(List<IndexedReminder> reminders) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        String block = MessageFormatting.reminderBatchString(LocalDateTime.now(clock), reminders);
+        Files.writeString(path, block, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
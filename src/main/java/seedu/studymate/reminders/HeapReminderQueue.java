@@ -0,0 +1,80 @@
+package seedu.studymate.reminders;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A ReminderQueue on a binary min-heap, with O(log n) insertion and expiry.
+ * Replaced and cancelled entries are not taken out of the heap but marked dead and dropped
+ * when they reach the top, so cancelling is O(1).
+ */
+public class HeapReminderQueue implements ReminderQueue {
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(
+            Comparator.comparingLong((Entry e) -> e.dueSecond).thenComparingLong(e -> e.sequence));
+    private final Map<Reminder, Entry> live = new HashMap<>();
+    private long nextSequence = 0;
+
+    @Override
+    public void schedule(Reminder reminder, long dueSecond) {
+        Entry entry = new Entry(dueSecond, nextSequence++, reminder);
+        Entry replaced = live.put(reminder, entry);
+        if (replaced != null) {
+            replaced.isDead = true;
+        }
+        heap.add(entry);
+    }
+
+    @Override
+    public void cancel(Reminder reminder) {
+        Entry cancelled = live.remove(reminder);
+        if (cancelled != null) {
+            cancelled.isDead = true;
+        }
+    }
+
+    @Override
+    public List<Reminder> pollDue(long nowSecond) {
+        List<Reminder> due = new ArrayList<>();
+        while (!heap.isEmpty() && heap.peek().dueSecond <= nowSecond) {
+            Entry entry = heap.poll();
+            if (!entry.isDead) {
+                live.remove(entry.reminder);
+                due.add(entry.reminder);
+            }
+        }
+        return due;
+    }
+
+    @Override
+    public long nextDueSecond() {
+        while (!heap.isEmpty() && heap.peek().isDead) {
+            heap.poll();
+        }
+        return heap.isEmpty() ? Long.MAX_VALUE : heap.peek().dueSecond;
+    }
+
+    @Override
+    public int size() {
+        return live.size();
+    }
+
+    /**
+     * A reminder queued at a fire time, in the order it was queued.
+     */
+    private static class Entry {
+        private final long dueSecond;
+        private final long sequence;
+        private final Reminder reminder;
+        private boolean isDead = false;
+
+        private Entry(long dueSecond, long sequence, Reminder reminder) {
+            this.dueSecond = dueSecond;
+            this.sequence = sequence;
+            this.reminder = reminder;
+        }
+    }
+}
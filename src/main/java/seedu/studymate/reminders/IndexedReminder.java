@@ -3,10 +3,17 @@ package seedu.studymate.reminders;
 public class IndexedReminder {
     public final int index;
     public final Reminder reminder;
+    // how many occurrences of the reminder this notification stands for
+    public final long occurrences;
 
     public IndexedReminder(int index, Reminder reminder) {
+        this(index, reminder, 1);
+    }
+
+    public IndexedReminder(int index, Reminder reminder, long occurrences) {
         this.index = index;
         this.reminder = reminder;
+        this.occurrences = occurrences;
     }
 
     public Reminder getReminder() {
@@ -16,4 +23,8 @@ public class IndexedReminder {
     public int getIndex() {
         return index;
     }
+
+    public long getOccurrences() {
+        return occurrences;
+    }
 }
@@ -0,0 +1,41 @@
+package seedu.studymate.reminders;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Somewhere that fired reminders are delivered to, such as the console, a file or a local socket.
+ * A sink is given one batch at a time, from a background thread.
+ * Wrap a sink in a BatchingNotificationSink to coalesce the reminders fired within a window and limit
+ * how often batches are delivered.
+ */
+public interface NotificationSink extends Closeable, Flushable {
+    /**
+     * Delivers a batch of fired reminders.
+     *
+     * @param reminders The fired reminders in list order
+     * @throws IOException If the reminders could not be delivered
+     */
+    void deliver(List<IndexedReminder> reminders) throws IOException;
+
+    /**
+     * Delivers anything the sink is holding back, returning once it has been delivered.
+     * Does nothing by default.
+     *
+     * @throws IOException If the sink could not be flushed
+     */
+    @Override
+    default void flush() throws IOException {
+    }
+
+    /**
+     * Releases anything the sink holds open. Does nothing by default.
+     *
+     * @throws IOException If the sink could not be closed cleanly
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -8,9 +8,9 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 
 public final class OneTimeSchedule implements Schedule {
-    private final DateTimeArg remindAt;
-    private boolean isFired;
-    private boolean onReminder;
+    private volatile DateTimeArg remindAt;
+    private volatile boolean isFired;
+    private volatile boolean onReminder;
     private final Clock clock;
 
     public OneTimeSchedule(DateTimeArg remindAt, Clock clock) {
@@ -20,6 +20,11 @@ public final class OneTimeSchedule implements Schedule {
         this.onReminder = true;
     }
 
+    @Override
+    public DateTimeArg getRemindAt() {
+        return remindAt;
+    }
+
     @Override
     public void setOnReminder(boolean onReminder) {
         this.onReminder = onReminder;
@@ -35,12 +40,7 @@ public final class OneTimeSchedule implements Schedule {
         }
 
         LocalDateTime now = LocalDateTime.now(clock); //use injected clock
-
-        LocalDateTime target = LocalDateTime.of(
-                remindAt.getDate(),
-                remindAt.getTime()
-        );
-        return !now.isBefore(target);
+        return !remindAt.isAfter(now);
     }
 
     public void isFired() {
@@ -65,7 +65,7 @@ public final class OneTimeSchedule implements Schedule {
                     "New reminder time (" + newDateTime + ") is not in the future.");
         }
         // New time is in the future - proceed
-        remindAt.setLocalDateTime(newDateTime);
+        remindAt = DateTimeArg.of(newDateTime);
         this.isFired = false;
         this.onReminder = true;
     }
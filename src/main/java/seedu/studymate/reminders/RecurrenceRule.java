@@ -0,0 +1,256 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+
+/**
+ * A calendar recurrence rule, written as a subset of the iCalendar RRULE format, such as
+ * FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR;BYHOUR=9 for weekdays at 09:00.
+ * Supported parts are FREQ (DAILY or WEEKLY, DAILY by default), INTERVAL, BYDAY (MO to SU), BYHOUR (0 to 23),
+ * COUNT and UNTIL. The minute of every occurrence is that of the reminder's start time, and without BYHOUR
+ * or BYDAY the hour and (for WEEKLY) the day of the start time are used.
+ * Rules are immutable; the occurrences of a rule from a given start are worked out by RuleOccurrences.
+ */
+public final class RecurrenceRule {
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    private static final int MAX_INTERVAL = 999;
+
+    private final boolean isWeekly;
+    private final int interval;
+    // bit 0 is Monday, or 0 if BYDAY is not given
+    private final int byDayMask;
+    // bit h is hour h, or 0 if BYHOUR is not given
+    private final int byHourMask;
+    // 0 if COUNT is not given
+    private final int count;
+    private final DateTimeArg until;
+
+    private RecurrenceRule(boolean isWeekly, int interval, int byDayMask, int byHourMask, int count,
+                           DateTimeArg until) {
+        this.isWeekly = isWeekly;
+        this.interval = interval;
+        this.byDayMask = byDayMask;
+        this.byHourMask = byHourMask;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * Checks whether the text looks like a recurrence rule rather than a plain interval such as 1d.
+     *
+     * @param text The text to check
+     * @return True if the text should be parsed as a recurrence rule
+     */
+    public static boolean isRule(String text) {
+        return text.indexOf('=') >= 0;
+    }
+
+    /**
+     * Parses a recurrence rule such as FREQ=WEEKLY;INTERVAL=2;BYDAY=TU.
+     *
+     * @param text The rule, with parts separated by semicolons, in any case
+     * @return The parsed rule
+     * @throws StudyMateException If a part is unknown, repeated or has a bad value
+     */
+    public static RecurrenceRule parse(String text) throws StudyMateException {
+        boolean isWeekly = false;
+        int interval = 1;
+        int byDayMask = 0;
+        int byHourMask = 0;
+        int count = 0;
+        DateTimeArg until = null;
+        int seenParts = 0;
+        for (String part : text.replace(" ", "").toUpperCase(Locale.ROOT).split(";")) {
+            int equals = part.indexOf('=');
+            if (equals <= 0 || equals == part.length() - 1) {
+                throw new StudyMateException("Bad recurrence rule part: " + part + "! Use NAME=VALUE.");
+            }
+            String name = part.substring(0, equals);
+            String value = part.substring(equals + 1);
+            int partBit = partBit(name);
+            if ((seenParts & partBit) != 0) {
+                throw new StudyMateException("Recurrence rule part " + name + " is given more than once!");
+            }
+            seenParts |= partBit;
+            switch (name) {
+            case "FREQ" -> isWeekly = parseFrequency(value);
+            case "INTERVAL" -> interval = parseNumber(name, value, 1, MAX_INTERVAL);
+            case "BYDAY" -> byDayMask = parseDays(value);
+            case "BYHOUR" -> byHourMask = parseHours(value);
+            case "COUNT" -> count = parseNumber(name, value, 1, Integer.MAX_VALUE);
+            case "UNTIL" -> until = parseUntil(value);
+            default -> throw new AssertionError(name);
+            }
+        }
+        return new RecurrenceRule(isWeekly, interval, byDayMask, byHourMask, count, until);
+    }
+
+    public boolean isWeekly() {
+        return isWeekly;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getByDayMask() {
+        return byDayMask;
+    }
+
+    public int getByHourMask() {
+        return byHourMask;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public DateTimeArg getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns the rule in the form it is parsed from, with its parts in a fixed order.
+     *
+     * @return The rule text, e.g. FREQ=WEEKLY;INTERVAL=2;BYDAY=TU
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(48);
+        sb.append("FREQ=").append(isWeekly ? "WEEKLY" : "DAILY");
+        if (interval != 1) {
+            sb.append(";INTERVAL=").append(interval);
+        }
+        if (byDayMask != 0) {
+            sb.append(";BYDAY=");
+            appendList(sb, byDayMask, DAY_CODES.length, true);
+        }
+        if (byHourMask != 0) {
+            sb.append(";BYHOUR=");
+            appendList(sb, byHourMask, 24, false);
+        }
+        if (count != 0) {
+            sb.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            LocalDateTime end = until.getDateTime();
+            sb.append(";UNTIL=").append(String.format("%04d%02d%02dT%02d%02d00", end.getYear(), end.getMonthValue(),
+                    end.getDayOfMonth(), end.getHour(), end.getMinute()));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RecurrenceRule && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    private static void appendList(StringBuilder sb, int mask, int size, boolean isDays) {
+        boolean isFirst = true;
+        for (int i = 0; i < size; i++) {
+            if ((mask & (1 << i)) == 0) {
+                continue;
+            }
+            if (!isFirst) {
+                sb.append(',');
+            }
+            sb.append(isDays ? DAY_CODES[i] : String.valueOf(i));
+            isFirst = false;
+        }
+    }
+
+    private static int partBit(String name) throws StudyMateException {
+        return switch (name) {
+        case "FREQ" -> 1;
+        case "INTERVAL" -> 1 << 1;
+        case "BYDAY" -> 1 << 2;
+        case "BYHOUR" -> 1 << 3;
+        case "COUNT" -> 1 << 4;
+        case "UNTIL" -> 1 << 5;
+        default -> throw new StudyMateException("Unknown recurrence rule part: " + name
+                + "! Use FREQ, INTERVAL, BYDAY, BYHOUR, COUNT or UNTIL.");
+        };
+    }
+
+    private static boolean parseFrequency(String value) throws StudyMateException {
+        return switch (value) {
+        case "DAILY" -> false;
+        case "WEEKLY" -> true;
+        default -> throw new StudyMateException("Unknown recurrence frequency: " + value + "! Use DAILY or WEEKLY.");
+        };
+    }
+
+    private static int parseDays(String value) throws StudyMateException {
+        int mask = 0;
+        for (String code : value.split(",")) {
+            int day = indexOf(DAY_CODES, code);
+            if (day < 0) {
+                throw new StudyMateException("Unknown day in BYDAY: " + code + "! Use MO, TU, WE, TH, FR, SA or SU.");
+            }
+            mask |= 1 << day;
+        }
+        return mask;
+    }
+
+    private static int parseHours(String value) throws StudyMateException {
+        int mask = 0;
+        for (String hour : value.split(",")) {
+            mask |= 1 << parseNumber("BYHOUR", hour, 0, 23);
+        }
+        return mask;
+    }
+
+    private static int parseNumber(String name, String value, int min, int max) throws StudyMateException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= min && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new StudyMateException("Bad value for " + name + ": " + value + "! Use a whole number from "
+                + min + " to " + max + ".");
+    }
+
+    /**
+     * Parses an UNTIL value of the form YYYYMMDD, which lasts to the end of the day, or YYYYMMDDThhmm[ss].
+     */
+    private static DateTimeArg parseUntil(String value) throws StudyMateException {
+        try {
+            LocalDate date = LocalDate.of(Integer.parseInt(value.substring(0, 4)),
+                    Integer.parseInt(value.substring(4, 6)), Integer.parseInt(value.substring(6, 8)));
+            if (value.length() == 8) {
+                return DateTimeArg.of(date, LocalTime.of(23, 59));
+            }
+            if (value.charAt(8) == 'T' && (value.length() == 13 || value.length() == 15)) {
+                LocalTime time = LocalTime.of(Integer.parseInt(value.substring(9, 11)),
+                        Integer.parseInt(value.substring(11, 13)));
+                return DateTimeArg.of(date, time);
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException | DateTimeException e) {
+            // Reported below
+        }
+        throw new StudyMateException("Bad value for UNTIL: " + value + "! Use YYYYMMDD or YYYYMMDDThhmm.");
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -5,19 +5,35 @@ import seedu.studymate.parser.DateTimeArg;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 
 public class RecurringSchedule implements Schedule {
-    private final DateTimeArg remindAt;
+    // An occurrence reached within this long of its time was not missed, just noticed a little late
+    private static final long ON_TIME_SECONDS = 60;
+
+    private volatile DateTimeArg remindAt;
     private final Duration interval;
-    private Boolean onReminder;
+    private volatile boolean onReminder;
     private final Clock clock;
+    private final CatchUpPolicy catchUpPolicy;
 
     public RecurringSchedule(DateTimeArg remindAt, Duration interval, Clock clock) {
+        this(remindAt, interval, clock, CatchUpPolicy.ONCE);
+    }
+
+    public RecurringSchedule(DateTimeArg remindAt, Duration interval, Clock clock, CatchUpPolicy catchUpPolicy) {
+        assert interval.getSeconds() > 0 : "Interval should be at least a second";
         this.remindAt = remindAt;
         this.interval = interval;
         this.onReminder = true;
         this.clock = clock;
+        this.catchUpPolicy = catchUpPolicy;
+    }
+
+    @Override
+    public CatchUpPolicy getCatchUpPolicy() {
+        return catchUpPolicy;
     }
 
     public Duration interval() {
@@ -29,6 +45,11 @@ public class RecurringSchedule implements Schedule {
         this.onReminder = onReminder;
     }
 
+    @Override
+    public DateTimeArg getRemindAt() {
+        return remindAt;
+    }
+
     public boolean getOnReminder() {
         return onReminder;
     }
@@ -42,28 +63,64 @@ public class RecurringSchedule implements Schedule {
             return false;
         }
         LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime target = LocalDateTime.of(
-                remindAt.getDate(),
-                remindAt.getTime()
-        );
-        return !now.isBefore(target);
+        return !remindAt.isAfter(now);
     }
 
+    /**
+     * Moves the reminder to its first occurrence after the current time.
+     * The number of intervals to skip is worked out by division, so this takes the same time
+     * however long ago the reminder was last due.
+     */
     public void setNextSchedule() {
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime target = LocalDateTime.of(
-                remindAt.getDate(),
-                remindAt.getTime()
-        );
-
-        while (!target.isAfter(now)) {
-            target = target.plus(interval);
+        long nowSecond = nowSecond();
+        long start = remindAt.toEpochSecond();
+        if (start > nowSecond) {
+            return;
         }
+        long step = interval.getSeconds();
+        long occurrencesDue = (nowSecond - start) / step + 1;
+        remindAt = DateTimeArg.of(LocalDateTime.ofEpochSecond(start + occurrencesDue * step, 0, ZoneOffset.UTC));
+    }
+
+    /**
+     * Moves the reminder to a given occurrence, which the caller has already worked out.
+     *
+     * @param remindAt The occurrence to fire at next
+     */
+    @Override
+    public void moveTo(DateTimeArg remindAt) {
+        this.remindAt = remindAt;
+    }
 
-        remindAt.setLocalDateTime(target);
+    /**
+     * Checks whether firing now should notify the user. Under the skip policy, only an occurrence
+     * reached on time notifies, and ones that were missed while StudyMate was closed pass silently.
+     *
+     * @return True if the user should be notified
+     */
+    @Override
+    public boolean shouldNotify() {
+        if (catchUpPolicy != CatchUpPolicy.SKIP) {
+            return true;
+        }
+        long step = interval.getSeconds();
+        long sinceStart = nowSecond() - remindAt.toEpochSecond();
+        return sinceStart >= 0 && sinceStart % step < ON_TIME_SECONDS;
     }
 
+    /**
+     * Moves the reminder on after it fires. Under the all policy it moves on by a single interval,
+     * so that each missed occurrence fires in turn; otherwise it moves past the current time.
+     */
     public void isFired() {
+        if (catchUpPolicy == CatchUpPolicy.ALL) {
+            remindAt = DateTimeArg.of(remindAt.getDateTime().plus(interval));
+            return;
+        }
         setNextSchedule();
     }
+
+    private long nowSecond() {
+        return LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+    }
 }
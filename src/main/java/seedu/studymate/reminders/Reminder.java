@@ -7,14 +7,22 @@ import seedu.studymate.ui.MessageFormatting;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * A reminder has a DateTime for reminding, and the task to remind
+ * Changes to the state of a reminder lock only the reminder itself, so the scheduler can fire one
+ * reminder while the user works with another. Reads do not lock.
  */
 public class Reminder {
     protected final String name;
     protected Schedule schedule;
-    protected DateTimeArg remindAt;
+    protected volatile DateTimeArg remindAt;
+    // position in the owning ReminderList, or -1 once removed from it
+    volatile int listIndex = -1;
+    // tells the reminder apart from others in the event log, even ones with the same name; saved with it
+    volatile int id;
 
     /**
      * Constructs a Reminder with default status !isReminded
@@ -39,11 +47,33 @@ public class Reminder {
     }
 
     public Reminder(String name, DateTimeArg dateTime, Duration interval, Clock clock) { //Recurring Schedule
-        this.schedule = new RecurringSchedule(dateTime, interval, clock);
+        this(name, dateTime, interval, clock, CatchUpPolicy.ONCE);
+    }
+
+    public Reminder(String name, DateTimeArg dateTime, Duration interval, Clock clock,
+                    CatchUpPolicy catchUpPolicy) { //Recurring Schedule
+        this.schedule = new RecurringSchedule(dateTime, interval, clock, catchUpPolicy);
         this.name = name;
         this.remindAt = dateTime;
     }
 
+    /**
+     * Constructs a Reminder that recurs by a calendar rule, first firing at the rule's first occurrence.
+     *
+     * @param name The name of the task
+     * @param start The time the rule starts from
+     * @param rule The recurrence rule
+     * @param clock The clock to use for time operations
+     * @param catchUpPolicy What to do about occurrences missed while StudyMate was closed
+     * @throws StudyMateException If the rule never occurs from the start
+     */
+    public Reminder(String name, DateTimeArg start, RecurrenceRule rule, Clock clock,
+                    CatchUpPolicy catchUpPolicy) throws StudyMateException { //Calendar Schedule
+        this.schedule = new CalendarSchedule(rule, start, clock, catchUpPolicy);
+        this.name = name;
+        this.remindAt = schedule.getRemindAt();
+    }
+
     // Package-private constructor for testing with custom Schedule
     Reminder(String name, DateTimeArg dateTime, Schedule schedule) {
         this.name = name;
@@ -60,15 +90,50 @@ public class Reminder {
         return name;
     }
 
+    /**
+     * Returns the id the owning ReminderList gave this reminder, which stays the same across restarts
+     *
+     * @return The id, or 0 if the reminder was never added to a list
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * Sets the completion status of the task
      *
      * @param onReminder A boolean indicating if the task is done (true) or not (false)
      */
-    public void setOnReminder(Boolean onReminder) {
+    public synchronized void setOnReminder(Boolean onReminder) {
         this.schedule.setOnReminder(onReminder);
     }
 
+    /**
+     * Turns the reminder on, unless it is on already.
+     *
+     * @return True if the reminder was off and has been turned on
+     */
+    synchronized boolean turnOn() {
+        if (schedule.getOnReminder()) {
+            return false;
+        }
+        schedule.setOnReminder(true);
+        return true;
+    }
+
+    /**
+     * Turns the reminder off, unless it is off already.
+     *
+     * @return True if the reminder was on and has been turned off
+     */
+    synchronized boolean turnOff() {
+        if (!schedule.getOnReminder()) {
+            return false;
+        }
+        schedule.setOnReminder(false);
+        return true;
+    }
+
     public Boolean getOnReminder() {
         return this.schedule.getOnReminder();
     }
@@ -77,19 +142,141 @@ public class Reminder {
         return schedule.isDue();
     }
 
-    public void isFired() {
+    public synchronized void isFired() {
         schedule.isFired();
         if (!schedule.isRecurring()) {
             schedule.setOnReminder(false);
         }
+        syncRemindAt();
     }
 
     public boolean isRecurring() {
         return schedule.isRecurring();
     }
 
-    public void snooze(Duration duration) throws StudyMateException {
+    /**
+     * Checks whether firing the reminder now should notify the user, which a recurring reminder
+     * that skips missed occurrences does not do for an occurrence it missed.
+     *
+     * @return True if the user should be notified
+     */
+    public boolean shouldNotify() {
+        return schedule.shouldNotify();
+    }
+
+    public CatchUpPolicy getCatchUpPolicy() {
+        return schedule.getCatchUpPolicy();
+    }
+
+    /**
+     * Returns the calendar rule the reminder recurs by.
+     *
+     * @return The recurrence rule, or null if the reminder does not follow one
+     */
+    public RecurrenceRule getRule() {
+        return schedule.getRule();
+    }
+
+    /**
+     * Fires the reminder if it is due, in one step so that it cannot be turned off or snoozed halfway.
+     *
+     * @return True if the reminder fired and the user should be notified
+     */
+    synchronized boolean fireIfDue() {
+        if (!schedule.isDue()) {
+            return false;
+        }
+        boolean isNotified = schedule.shouldNotify();
+        isFired();
+        return isNotified;
+    }
+
+    public synchronized void snooze(Duration duration) throws StudyMateException {
         schedule.snooze(duration);
+        syncRemindAt();
+    }
+
+    /**
+     * Returns the epoch second at which this reminder should next fire.
+     *
+     * @return The epoch second of the next firing, or Long.MAX_VALUE if the reminder will not fire
+     */
+    long nextFireSecond() {
+        if (!schedule.getOnReminder() || (!schedule.isRecurring() && schedule.getFired())) {
+            return Long.MAX_VALUE;
+        }
+        return remindAt.toEpochSecond();
+    }
+
+    /**
+     * Returns the time between occurrences in seconds.
+     *
+     * @return The interval in seconds, or 0 for a one-time reminder or one that follows a calendar rule
+     */
+    long intervalSeconds() {
+        return schedule.isRecurring() && schedule.getRule() == null ? schedule.interval().getSeconds() : 0;
+    }
+
+    /**
+     * Returns the first occurrence of a calendar rule reminder after a time.
+     *
+     * @param second The epoch second to look after
+     * @return The epoch second of the next occurrence, or Long.MAX_VALUE if there are no more
+     */
+    long occurrenceAfter(long second) {
+        return schedule.occurrenceAfter(second);
+    }
+
+    /**
+     * Counts the occurrences of a calendar rule reminder from one time to another, both included.
+     *
+     * @param fromSecond The epoch second to count from
+     * @param toSecond The epoch second to count to
+     * @return The number of occurrences in between
+     */
+    long countOccurrences(long fromSecond, long toSecond) {
+        return schedule.countOccurrences(fromSecond, toSecond);
+    }
+
+    /**
+     * Moves a recurring reminder to a given occurrence, such as the one saved when StudyMate last closed.
+     *
+     * @param occurrence The occurrence to fire at next
+     */
+    synchronized void moveTo(DateTimeArg occurrence) {
+        schedule.moveTo(occurrence);
+        syncRemindAt();
+    }
+
+    /**
+     * Brings a due reminder up to date without firing it occurrence by occurrence.
+     * A one-time reminder is marked as fired, and a recurring one moves to the given occurrence,
+     * or turns off if it has none left.
+     *
+     * @param nextFireSecond The epoch second of the first occurrence after the current time,
+     *     or Long.MAX_VALUE if there are no more
+     */
+    synchronized void catchUp(long nextFireSecond) {
+        if (!schedule.isRecurring()) {
+            isFired();
+            return;
+        }
+        if (nextFireSecond == Long.MAX_VALUE) {
+            schedule.setOnReminder(false);
+            return;
+        }
+        schedule.moveTo(DateTimeArg.of(LocalDateTime.ofEpochSecond(nextFireSecond, 0, ZoneOffset.UTC)));
+        syncRemindAt();
+    }
+
+    /**
+     * Picks up the new reminder time after the schedule has moved it, as DateTimeArgs are immutable
+     */
+    private void syncRemindAt() {
+        DateTimeArg scheduled = schedule.getRemindAt();
+        if (scheduled != null) {
+            remindAt = scheduled;
+        }
     }
 
     /**
@@ -99,16 +286,28 @@ public class Reminder {
      * @return An empty String
      */
     public String toSaveString() {
+        if (schedule.getRule() != null) {
+            return DataFormatting.calendarReminderSaveString(schedule.getOnReminder(), name, remindAt,
+                    schedule.getRule().toString(), schedule.getCatchUpPolicy().getKeyword(), schedule.getStart(), id);
+        }
         if (schedule.isRecurring()) {
             return DataFormatting.recurringReminderSaveString(schedule.getOnReminder(),
-                    name, remindAt, schedule.interval());
+                    name, remindAt, schedule.interval(), schedule.getCatchUpPolicy().getKeyword(), id);
         }
-        return DataFormatting.oneTimeReminderSaveString(schedule.getOnReminder(), name, remindAt, schedule.getFired());
+        return DataFormatting.oneTimeReminderSaveString(schedule.getOnReminder(), name, remindAt, schedule.getFired(),
+                id);
     }
 
     public String toString() {
         if (schedule.isRecurring()) {
-            return MessageFormatting.recReminderString(schedule.getOnReminder(), name, remindAt, schedule.interval());
+            CatchUpPolicy catchUpPolicy = schedule.getCatchUpPolicy();
+            if (schedule.getRule() != null) {
+                return MessageFormatting.calendarReminderString(schedule.getOnReminder(), name, remindAt,
+                        schedule.getRule().toString(), catchUpPolicy == CatchUpPolicy.ONCE
+                                ? null : catchUpPolicy.getKeyword());
+            }
+            return MessageFormatting.recReminderString(schedule.getOnReminder(), name, remindAt, schedule.interval(),
+                    catchUpPolicy == CatchUpPolicy.ONCE ? null : catchUpPolicy.getKeyword());
         }
         return MessageFormatting.oneTimeReminderString(schedule.getOnReminder(), name, remindAt);
     }
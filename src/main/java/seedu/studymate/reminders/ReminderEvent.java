@@ -0,0 +1,29 @@
+package seedu.studymate.reminders;
+
+/**
+ * Something that happened to a reminder, as recorded in the ReminderEventLog.
+ */
+public enum ReminderEvent {
+    // The reminder fired and the user was notified
+    FIRE,
+    // The user snoozed the reminder
+    SNOOZE,
+    // The user turned the reminder on
+    ON,
+    // The user turned the reminder off
+    OFF,
+    // The user deleted the reminder, which clears its totals
+    REMOVE;
+
+    private static final ReminderEvent[] VALUES = values();
+
+    /**
+     * Returns the event stored as a code in the event log.
+     *
+     * @param code The code of the event, which is its ordinal
+     * @return The event, or null if the code is unknown
+     */
+    static ReminderEvent fromCode(int code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : null;
+    }
+}
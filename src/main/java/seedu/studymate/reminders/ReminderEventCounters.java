@@ -0,0 +1,87 @@
+package seedu.studymate.reminders;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Running totals over every event ever written to a ReminderEventLog, updated one event at a time,
+ * so that queries never read the log back. Reminders are counted by their id, and deleting a reminder
+ * clears its counts.
+ */
+final class ReminderEventCounters {
+    private static final int EVENT_TYPES = ReminderEvent.values().length;
+
+    // events of each type, by reminder key
+    private final Map<Integer, long[]> perReminder = new HashMap<>();
+    // fires by epoch day of the local date
+    private final TreeMap<Long, Long> firesPerDay = new TreeMap<>();
+
+    /**
+     * Counts one event.
+     *
+     * @param event The event
+     * @param reminderKey The key of the reminder it happened to
+     * @param epochSecond The local time it happened, in epoch seconds
+     */
+    void add(ReminderEvent event, int reminderKey, long epochSecond) {
+        if (event == ReminderEvent.REMOVE) {
+            perReminder.remove(reminderKey);
+            return;
+        }
+        perReminder.computeIfAbsent(reminderKey, key -> new long[EVENT_TYPES])[event.ordinal()]++;
+        if (event == ReminderEvent.FIRE) {
+            firesPerDay.merge(Math.floorDiv(epochSecond, 86_400L), 1L, Long::sum);
+        }
+    }
+
+    long count(ReminderEvent event, int reminderKey) {
+        long[] counts = perReminder.get(reminderKey);
+        return counts == null ? 0 : counts[event.ordinal()];
+    }
+
+    long firesOn(long epochDay) {
+        return firesPerDay.getOrDefault(epochDay, 0L);
+    }
+
+    SortedMap<Long, Long> firesBetween(long fromEpochDay, long toEpochDay) {
+        return new TreeMap<>(firesPerDay.subMap(fromEpochDay, true, toEpochDay, true));
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(perReminder.size());
+        for (Map.Entry<Integer, long[]> entry : perReminder.entrySet()) {
+            out.writeInt(entry.getKey());
+            for (long count : entry.getValue()) {
+                out.writeLong(count);
+            }
+        }
+        out.writeInt(firesPerDay.size());
+        for (Map.Entry<Long, Long> entry : firesPerDay.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    static ReminderEventCounters read(DataInputStream in) throws IOException {
+        ReminderEventCounters counters = new ReminderEventCounters();
+        int reminders = in.readInt();
+        for (int i = 0; i < reminders; i++) {
+            long[] counts = new long[EVENT_TYPES];
+            int key = in.readInt();
+            for (int type = 0; type < EVENT_TYPES; type++) {
+                counts[type] = in.readLong();
+            }
+            counters.perReminder.put(key, counts);
+        }
+        int days = in.readInt();
+        for (int i = 0; i < days; i++) {
+            counters.firesPerDay.put(in.readLong(), in.readLong());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,321 @@
+package seedu.studymate.reminders;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An append-only log of what happens to reminders: when they fire, and when they are snoozed or turned
+ * on or off. The log is a binary ring file of fixed-size records behind a small header, so it never grows
+ * past its capacity; once full, each new record overwrites the oldest.
+ * Totals such as how often each reminder is snoozed and how many reminders fire each day are kept up to
+ * date as events are appended, and saved next to the log in a .stats file along with how many records
+ * they cover. On opening, only the records written after that are read back, and the totals are saved
+ * again before any record they do not yet cover is overwritten, so they survive the ring wrapping around.
+ * Reminders are told apart by the id saved with them, so reminders that share a name keep separate totals.
+ */
+public class ReminderEventLog implements Closeable {
+    public static final int DEFAULT_CAPACITY = 65_536;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 16;
+    private static final Logger logger = Logger.getLogger("ReminderEventLog Logger");
+    // "SMEL"
+    private static final int LOG_MAGIC = 0x534D454C;
+    // "SMES"
+    private static final int STATS_MAGIC = 0x534D4553;
+    private static final int VERSION = 1;
+    // Totals saved by version 1 were keyed by reminder name; they are rebuilt from the log instead
+    private static final int STATS_VERSION = 2;
+    // Header layout: magic, version, capacity, unused, records ever written
+    private static final int TOTAL_OFFSET = 16;
+
+    private final FileChannel channel;
+    private final Path statsPath;
+    private final Clock clock;
+    private final int capacity;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private final ByteBuffer total = ByteBuffer.allocate(Long.BYTES);
+    private ReminderEventCounters counters;
+    // records ever written, of which the last capacity are still in the file
+    private long written;
+    // records the saved totals cover
+    private long savedThrough;
+
+    private ReminderEventLog(FileChannel channel, Path statsPath, Clock clock, int capacity) {
+        this.channel = channel;
+        this.statsPath = statsPath;
+        this.clock = clock;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Opens the event log at a path, creating it with the default capacity if it does not exist.
+     *
+     * @param path The path of the log file
+     * @param clock The clock to time events with
+     * @return The open log
+     * @throws IOException If the file cannot be opened or is not an event log
+     */
+    public static ReminderEventLog open(Path path, Clock clock) throws IOException {
+        return open(path, DEFAULT_CAPACITY, clock);
+    }
+
+    /**
+     * Opens the event log at a path, creating it if it does not exist.
+     *
+     * @param path The path of the log file
+     * @param capacity How many records a new log holds; an existing log keeps its own capacity
+     * @param clock The clock to time events with
+     * @return The open log
+     * @throws IOException If the file cannot be opened or is not an event log
+     */
+    public static ReminderEventLog open(Path path, int capacity, Clock clock) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            Path statsPath = path.resolveSibling(path.getFileName() + ".stats");
+            if (channel.size() == 0) {
+                ReminderEventLog log = new ReminderEventLog(channel, statsPath, clock, capacity);
+                log.writeHeader();
+                log.counters = new ReminderEventCounters();
+                return log;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0);
+            header.flip();
+            int existingCapacity = header.getInt(8);
+            if (header.getInt(0) != LOG_MAGIC || header.getInt(4) != VERSION || existingCapacity <= 0) {
+                throw new IOException(path + " is not a reminder event log");
+            }
+            ReminderEventLog log = new ReminderEventLog(channel, statsPath, clock, existingCapacity);
+            log.written = header.getLong(TOTAL_OFFSET);
+            log.loadCounters();
+            return log;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends an event and counts it in the totals. A failure to write is logged rather than thrown,
+     * as losing the record of an event should never stop the event itself.
+     *
+     * @param event What happened
+     * @param reminder The reminder it happened to
+     */
+    public synchronized void record(ReminderEvent event, Reminder reminder) {
+        long epochSecond = LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+        int key = keyOf(reminder);
+        if (written - savedThrough >= capacity) {
+            // The next record would overwrite one the saved totals do not cover yet
+            try {
+                saveCounters();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not save reminder event totals: " + e.getMessage());
+            }
+        }
+        counters.add(event, key, epochSecond);
+        try {
+            record.clear();
+            record.putLong(epochSecond).putInt(key).put((byte) event.ordinal()).put(new byte[3]).flip();
+            writeFully(record, HEADER_BYTES + (written % capacity) * RECORD_BYTES);
+            written++;
+            total.clear();
+            total.putLong(written).flip();
+            writeFully(total, TOTAL_OFFSET);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not record reminder event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns how many times a reminder has fired.
+     *
+     * @param reminder The reminder
+     * @return The number of times it fired and notified the user
+     */
+    public synchronized long getFireCount(Reminder reminder) {
+        return counters.count(ReminderEvent.FIRE, keyOf(reminder));
+    }
+
+    /**
+     * Returns how many times a reminder has been snoozed.
+     *
+     * @param reminder The reminder
+     * @return The number of times it was snoozed
+     */
+    public synchronized long getSnoozeCount(Reminder reminder) {
+        return counters.count(ReminderEvent.SNOOZE, keyOf(reminder));
+    }
+
+    /**
+     * Returns how many times a reminder has been snoozed for every time it fired.
+     *
+     * @param reminder The reminder
+     * @return Snoozes per fire, or 0 if it has never fired
+     */
+    public synchronized double getSnoozeRate(Reminder reminder) {
+        int key = keyOf(reminder);
+        long fires = counters.count(ReminderEvent.FIRE, key);
+        return fires == 0 ? 0 : (double) counters.count(ReminderEvent.SNOOZE, key) / fires;
+    }
+
+    /**
+     * Returns how many reminders fired on each day of a range.
+     *
+     * @param from The first day
+     * @param to The last day
+     * @return The days on which reminders fired, in order, with how many fired on each
+     */
+    public synchronized SortedMap<LocalDate, Long> getFiresPerDay(LocalDate from, LocalDate to) {
+        SortedMap<LocalDate, Long> fires = new TreeMap<>();
+        counters.firesBetween(from.toEpochDay(), to.toEpochDay())
+                .forEach((day, count) -> fires.put(LocalDate.ofEpochDay(day), count));
+        return fires;
+    }
+
+    /**
+     * Returns how many reminders fired on a day.
+     *
+     * @param day The day
+     * @return The number of reminders that fired on it
+     */
+    public synchronized long getFiresOn(LocalDate day) {
+        return counters.firesOn(day.toEpochDay());
+    }
+
+    /**
+     * Returns how many records have ever been written, including those since overwritten.
+     *
+     * @return The number of events recorded
+     */
+    public synchronized long getEventCount() {
+        return written;
+    }
+
+    /**
+     * Saves the totals and closes the log file.
+     *
+     * @throws IOException If the totals could not be saved or the file closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            saveCounters();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static int keyOf(Reminder reminder) {
+        return reminder.getId();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(LOG_MAGIC).putInt(VERSION).putInt(capacity).putInt(0).putLong(0).putLong(0).flip();
+        writeFully(header, 0);
+    }
+
+    /**
+     * Loads the saved totals and brings them up to date with the records written after them.
+     * Without saved totals, or with totals older than the oldest record still in the file, the totals
+     * are rebuilt from whatever records remain.
+     */
+    private void loadCounters() throws IOException {
+        long oldest = Math.max(0, written - capacity);
+        counters = null;
+        if (Files.exists(statsPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(statsPath)))) {
+                if (in.readInt() == STATS_MAGIC && in.readInt() == STATS_VERSION) {
+                    long covered = in.readLong();
+                    if (covered >= oldest && covered <= written) {
+                        counters = ReminderEventCounters.read(in);
+                        savedThrough = covered;
+                    }
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not read reminder event totals: " + e.getMessage());
+                counters = null;
+            }
+        }
+        if (counters == null) {
+            logger.log(Level.INFO, "Rebuilding reminder event totals from the log");
+            counters = new ReminderEventCounters();
+            savedThrough = oldest;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        for (long i = savedThrough; i < written; i++) {
+            buffer.clear();
+            readFully(channel, buffer, HEADER_BYTES + (i % capacity) * RECORD_BYTES);
+            ReminderEvent event = ReminderEvent.fromCode(buffer.get(12));
+            if (event != null) {
+                counters.add(event, buffer.getInt(8), buffer.getLong(0));
+            }
+        }
+    }
+
+    /**
+     * Saves the totals next to the log, replacing the previous ones in one step.
+     */
+    private void saveCounters() throws IOException {
+        Path temp = statsPath.resolveSibling(statsPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(STATS_MAGIC);
+            out.writeInt(STATS_VERSION);
+            out.writeLong(written);
+            counters.write(out);
+        }
+        try {
+            Files.move(temp, statsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, statsPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        savedThrough = written;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Reminder event log ends early");
+            }
+            position += read;
+        }
+    }
+}
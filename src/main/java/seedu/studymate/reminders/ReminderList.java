@@ -3,9 +3,12 @@ package seedu.studymate.reminders;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -14,20 +17,30 @@ import seedu.studymate.parser.DateTimeArg;
 import seedu.studymate.ui.MessageHandler;
 
 /**
- * Represents a list of tasks
- * It provides methods for adding, deleting, marking, and unmarking tasks
+ * Represents a list of reminders
+ * It provides methods for adding, deleting, turning on and off, and snoozing reminders.
+ * Readers never block: they work on an immutable snapshot of the list, which writers replace
+ * under a write lock. Adding a reminder usually fills a spare slot of the current array instead of
+ * copying it, as older snapshots never look past their own size.
+ * The on, off and fired state of each reminder is guarded by the reminder itself.
  */
 public class ReminderList {
     private static final Logger logger = Logger.getLogger("TaskList Logger");
     private static final int cap = 10000;
-    private final ArrayList<Reminder> reminderList;
+    private static final int INITIAL_CAPACITY = 16;
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(new Reminder[INITIAL_CAPACITY], 0);
     private final Clock clock;
+    private final List<ReminderListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile ReminderEventLog eventLog;
+    private volatile SchedulerStats schedulerStats;
+    // The id the next added reminder gets
+    private int nextId = 1;
 
     /**
-     * Constructs an empty TaskList
+     * Constructs an empty ReminderList
      */
     public ReminderList(Clock clock) {
-        reminderList = new ArrayList<>();
         this.clock = clock;
     }
 
@@ -35,62 +48,107 @@ public class ReminderList {
         this(Clock.systemDefaultZone());
     }
 
-    public synchronized void addReminderRec(String name, DateTimeArg dateTime, Duration interval)
+    public void addReminderRec(String name, DateTimeArg dateTime, Duration interval) throws StudyMateException {
+        addReminderRec(name, dateTime, interval, CatchUpPolicy.ONCE);
+    }
+
+    public void addReminderRec(String name, DateTimeArg dateTime, Duration interval, CatchUpPolicy catchUpPolicy)
             throws StudyMateException {
-        Reminder newReminder = new Reminder(name, dateTime, interval, clock);
-        if (reminderList.size() >= cap) {
-            throw new StudyMateException("Too many reminders! Please delete some to add in more.");
-        }
-        reminderList.add(newReminder);
-        assert (reminderList.contains(newReminder));
+        append(new Reminder(name, dateTime, interval, clock, catchUpPolicy));
     }
 
-    public synchronized void addReminderOneTime(String name, DateTimeArg dateTime, boolean isFired)
+    /**
+     * Adds a reminder that recurs by a calendar rule.
+     *
+     * @param name The name of the reminder
+     * @param start The time the rule starts from
+     * @param rule The recurrence rule
+     * @param catchUpPolicy What to do about occurrences missed while StudyMate was closed
+     * @throws StudyMateException If the list is full or the rule never occurs from the start
+     */
+    public void addReminderRule(String name, DateTimeArg start, RecurrenceRule rule, CatchUpPolicy catchUpPolicy)
             throws StudyMateException {
-        Reminder newReminder = new Reminder(name, dateTime, clock, isFired);
-        if (reminderList.size() >= cap) {
-            throw new StudyMateException("Too many reminders! Please delete some to add in more.");
-        }
-        reminderList.add(newReminder);
-        assert (reminderList.contains(newReminder));
+        append(new Reminder(name, start, rule, clock, catchUpPolicy));
+    }
+
+    /**
+     * Adds a reminder that recurs by a calendar rule, next firing at a given occurrence, such as when loading.
+     *
+     * @param name The name of the reminder
+     * @param start The time the rule starts from
+     * @param rule The recurrence rule
+     * @param catchUpPolicy What to do about occurrences missed while StudyMate was closed
+     * @param nextAt The occurrence to fire at next
+     * @throws StudyMateException If the list is full or the rule never occurs from the start
+     */
+    public void addReminderRule(String name, DateTimeArg start, RecurrenceRule rule, CatchUpPolicy catchUpPolicy,
+                                DateTimeArg nextAt) throws StudyMateException {
+        Reminder reminder = new Reminder(name, start, rule, clock, catchUpPolicy);
+        reminder.moveTo(nextAt);
+        append(reminder);
+    }
+
+    public void addReminderOneTime(String name, DateTimeArg dateTime, boolean isFired) throws StudyMateException {
+        append(new Reminder(name, dateTime, clock, isFired));
     }
 
     public void addReminderOneTime(String name, DateTimeArg dateTime) throws StudyMateException {
         addReminderOneTime(name, dateTime, false);
     }
 
-    public synchronized int getCount() {
-        return reminderList.size();
+    public int getCount() {
+        return snapshot.size;
     }
 
-    public synchronized Reminder getReminder(int index) {
-        return reminderList.get(index);
+    public Reminder getReminder(int index) {
+        return snapshot.get(index);
     }
 
-    public synchronized void delete(LinkedHashSet<Integer> indexes) {
+    public void delete(LinkedHashSet<Integer> indexes) {
         ArrayList<Reminder> reminders = new ArrayList<>();
-        // sort indexes in reverse order to prevent index mashups
-        List<Integer> sortedIndexes = indexes.stream().sorted(Comparator.reverseOrder()).toList();
-        for (Integer index : sortedIndexes) {
-            reminders.add(reminderList.get(index));
-            reminderList.remove(index.intValue());
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            // sort indexes in reverse order to prevent index mashups
+            List<Integer> sortedIndexes = indexes.stream().sorted(Comparator.reverseOrder()).toList();
+            boolean[] isRemoved = new boolean[current.size];
+            for (Integer index : sortedIndexes) {
+                Reminder removed = current.get(index);
+                isRemoved[index] = true;
+                removed.listIndex = -1;
+                reminders.add(removed);
+            }
+            Reminder[] kept = new Reminder[current.items.length];
+            int size = 0;
+            for (int i = 0; i < current.size; i++) {
+                if (!isRemoved[i]) {
+                    kept[size] = current.items[i];
+                    kept[size].listIndex = size;
+                    size++;
+                }
+            }
+            snapshot = new Snapshot(kept, size);
         }
         for (Reminder reminder : reminders) {
-            assert (!reminderList.contains(reminder));
+            // Clears its totals, so that a reminder given the same id after a restart starts afresh
+            record(ReminderEvent.REMOVE, reminder);
+            notifyRemoved(reminder);
+            assert (getReminderIndex(reminder) == -1);
             logger.log(Level.INFO, "Deleted: " + reminder.toString());
         }
-        MessageHandler.sendDeleteReminderMessage(reminders, reminderList.size());
+        MessageHandler.sendDeleteReminderMessage(reminders, getCount());
     }
 
-    public synchronized void turnOnReminders(LinkedHashSet<Integer> indexes) {
+    public void turnOnReminders(LinkedHashSet<Integer> indexes) {
         ArrayList<Reminder> isTurnOnReminders = new ArrayList<>();
         ArrayList<Reminder> alreadyTurnOnReminders = new ArrayList<>();
+        Snapshot current = snapshot;
         // sort indexes in reverse order to prevent index mashups
         List<Integer> sortedIndexes = indexes.stream().sorted(Comparator.reverseOrder()).toList();
         for (Integer index : sortedIndexes) {
-            Reminder reminder = reminderList.get(index);
-            if (!reminder.getOnReminder()) { //Has not been turned on
-                reminder.setOnReminder(true);
+            Reminder reminder = current.get(index);
+            if (reminder.turnOn()) { //Has not been turned on
+                notifyScheduled(reminder);
+                record(ReminderEvent.ON, reminder);
                 isTurnOnReminders.add(reminder);
             } else { //already turned on
                 alreadyTurnOnReminders.add(reminder);
@@ -106,15 +164,17 @@ public class ReminderList {
         }
     }
 
-    public synchronized void turnOffReminders(LinkedHashSet<Integer> indexes) {
+    public void turnOffReminders(LinkedHashSet<Integer> indexes) {
         ArrayList<Reminder> isTurnOffReminders = new ArrayList<>();
         ArrayList<Reminder> alreadyTurnOffReminders = new ArrayList<>();
+        Snapshot current = snapshot;
         // sort indexes in reverse order to prevent index mashups
         List<Integer> sortedIndexes = indexes.stream().sorted(Comparator.reverseOrder()).toList();
         for (Integer index : sortedIndexes) {
-            Reminder reminder = reminderList.get(index);
-            if (reminder.getOnReminder()) { //Has not been turned off
-                reminder.setOnReminder(false);
+            Reminder reminder = current.get(index);
+            if (reminder.turnOff()) { //Has not been turned off
+                notifyScheduled(reminder);
+                record(ReminderEvent.OFF, reminder);
                 isTurnOffReminders.add(reminder);
             } else { //already turned on
                 alreadyTurnOffReminders.add(reminder);
@@ -130,25 +190,173 @@ public class ReminderList {
         }
     }
 
-    public synchronized void handleSnooze(int index, Duration snoozeDuration) {
-        Reminder reminder = reminderList.get(index);
+    public void handleSnooze(int index, Duration snoozeDuration) {
+        Reminder reminder = snapshot.get(index);
         if (reminder.isRecurring()) { //Reminder is recurring, and cannot be snoozed
             MessageHandler.sendRecUnableToSnoozeError(reminder);
             return;
         }
         try {
             reminder.snooze(snoozeDuration);
+            notifyScheduled(reminder);
+            record(ReminderEvent.SNOOZE, reminder);
             MessageHandler.sendSnoozeMessage(reminder);
         } catch (StudyMateException e) {
             System.out.println(e.getMessage());
         }
     }
 
-    public synchronized List<Reminder> getReminders() {
-        return new ArrayList<>(reminderList);
+    public void clear() {
+        Snapshot cleared;
+        synchronized (writeLock) {
+            cleared = snapshot;
+            snapshot = new Snapshot(new Reminder[INITIAL_CAPACITY], 0);
+            for (int i = 0; i < cleared.size; i++) {
+                cleared.items[i].listIndex = -1;
+            }
+        }
+        for (int i = 0; i < cleared.size; i++) {
+            notifyRemoved(cleared.items[i]);
+        }
+    }
+
+    /**
+     * Gives a loaded reminder back the id it was saved with, so that its totals in the event log carry over.
+     * Reminders added afterwards get higher ids.
+     *
+     * @param index The index of the reminder
+     * @param id The saved id, which must be positive
+     */
+    public void restoreId(int index, int id) {
+        assert id > 0 : "Reminder ids are positive";
+        synchronized (writeLock) {
+            snapshot.get(index).id = id;
+            nextId = Math.max(nextId, id + 1);
+        }
+    }
+
+    /**
+     * Returns the reminders in the list at this moment.
+     *
+     * @return An unmodifiable snapshot of the reminders, unaffected by later changes to the list
+     */
+    public List<Reminder> getReminders() {
+        Snapshot current = snapshot;
+        return Collections.unmodifiableList(Arrays.asList(current.items).subList(0, current.size));
+    }
+
+    public int getReminderIndex(Reminder r) {
+        Snapshot current = snapshot;
+        int index = r.listIndex;
+        return index >= 0 && index < current.size && current.items[index] == r ? index : -1;
+    }
+
+    Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets where fires, snoozes and turning reminders on and off are recorded.
+     *
+     * @param eventLog The event log to record to, or null to stop recording
+     */
+    public void setEventLog(ReminderEventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Returns where events are recorded.
+     *
+     * @return The event log, or null if events are not recorded
+     */
+    public ReminderEventLog getEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * Returns the statistics of the scheduler firing these reminders.
+     *
+     * @return The scheduler statistics, or null if no scheduler fires these reminders
+     */
+    public SchedulerStats getSchedulerStats() {
+        return schedulerStats;
+    }
+
+    void setSchedulerStats(SchedulerStats schedulerStats) {
+        this.schedulerStats = schedulerStats;
+    }
+
+    /**
+     * Records an event in the event log, if there is one.
+     *
+     * @param event What happened
+     * @param reminder The reminder it happened to
+     */
+    void record(ReminderEvent event, Reminder reminder) {
+        ReminderEventLog log = eventLog;
+        if (log != null) {
+            log.record(event, reminder);
+        }
+    }
+
+    void addListener(ReminderListener listener) {
+        listeners.add(listener);
     }
 
-    public synchronized int getReminderIndex(Reminder r) {
-        return reminderList.indexOf(r);
+    /**
+     * Tells every listener that a reminder may need to fire at a new time.
+     *
+     * @param reminder The reminder whose schedule changed
+     */
+    void notifyScheduled(Reminder reminder) {
+        for (ReminderListener listener : listeners) {
+            listener.onReminderScheduled(reminder);
+        }
+    }
+
+    private void notifyRemoved(Reminder reminder) {
+        for (ReminderListener listener : listeners) {
+            listener.onReminderRemoved(reminder);
+        }
+    }
+
+    private void append(Reminder newReminder) throws StudyMateException {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current.size >= cap) {
+                throw new StudyMateException("Too many reminders! Please delete some to add in more.");
+            }
+            Reminder[] items = current.items;
+            if (current.size == items.length) {
+                items = Arrays.copyOf(items, items.length * 2);
+            }
+            // The slot is past the end of every published snapshot, so no reader can see it yet
+            items[current.size] = newReminder;
+            newReminder.listIndex = current.size;
+            newReminder.id = nextId++;
+            snapshot = new Snapshot(items, current.size + 1);
+            assert (snapshot.get(newReminder.listIndex) == newReminder);
+        }
+        notifyScheduled(newReminder);
+    }
+
+    /**
+     * The reminders at one moment: the first size entries of an array that is never changed below size.
+     */
+    private static final class Snapshot {
+        private final Reminder[] items;
+        private final int size;
+
+        private Snapshot(Reminder[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+
+        private Reminder get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return items[index];
+        }
     }
 }
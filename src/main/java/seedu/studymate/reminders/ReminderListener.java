@@ -0,0 +1,11 @@
+package seedu.studymate.reminders;
+
+/**
+ * Receives notice from a ReminderList whenever a reminder may need to fire at a new time,
+ * such as when it is added, turned on or off, snoozed or rescheduled after firing, and when it is removed.
+ */
+interface ReminderListener {
+    void onReminderScheduled(Reminder reminder);
+
+    void onReminderRemoved(Reminder reminder);
+}
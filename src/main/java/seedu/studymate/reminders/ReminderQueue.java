@@ -0,0 +1,48 @@
+package seedu.studymate.reminders;
+
+import java.util.List;
+
+/**
+ * Holds active reminders keyed by the epoch second at which each should next fire.
+ * A reminder is in the queue at most once; scheduling it again replaces its earlier fire time.
+ * Implementations need not be thread-safe, as the Scheduler only uses them while holding its own queue lock.
+ */
+public interface ReminderQueue {
+    /**
+     * Queues a reminder to fire at the given time, replacing any earlier entry for it.
+     *
+     * @param reminder The reminder to queue
+     * @param dueSecond The epoch second at which it fires
+     */
+    void schedule(Reminder reminder, long dueSecond);
+
+    /**
+     * Removes a reminder from the queue, if it is queued.
+     *
+     * @param reminder The reminder to remove
+     */
+    void cancel(Reminder reminder);
+
+    /**
+     * Removes and returns every reminder due at or before the given time.
+     *
+     * @param nowSecond The current epoch second
+     * @return The due reminders, earliest first where the queue keeps that order
+     */
+    List<Reminder> pollDue(long nowSecond);
+
+    /**
+     * Returns the earliest time at which a reminder may fall due. The queue may return an earlier
+     * time than the true next fire time, in which case polling at that time simply returns nothing.
+     *
+     * @return The epoch second to check again at, or Long.MAX_VALUE if the queue is empty
+     */
+    long nextDueSecond();
+
+    /**
+     * Returns the number of queued reminders.
+     *
+     * @return The number of queued reminders
+     */
+    int size();
+}
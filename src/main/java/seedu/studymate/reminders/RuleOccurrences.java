@@ -0,0 +1,174 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.parser.DateTimeCodec;
+
+import java.util.Arrays;
+
+/**
+ * The occurrences of a RecurrenceRule from a given start time, found by arithmetic rather than by
+ * stepping through them one at a time.
+ * A rule repeats every period of INTERVAL weeks (or 7 * INTERVAL days for a daily rule, after which the
+ * weekdays line up again). The days of a period that have occurrences and the hours of each such day are
+ * worked out once, in order, so every occurrence has an index: whole periods times the occurrences per
+ * period, plus its place within its period. The next occurrence after any time and the number of
+ * occurrences between two times each take a binary search over at most 7 * INTERVAL days.
+ * Times are epoch seconds of the local date and time, like DateTimeArg.toEpochSecond().
+ */
+final class RuleOccurrences {
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long SECONDS_PER_HOUR = 3_600;
+    // 1970-01-01 was a Thursday, which is day 3 counting from Monday
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+
+    private final long anchorDay;
+    private final long periodSeconds;
+    // days from the start of a period that have occurrences, in order
+    private final int[] dayOffsets;
+    // seconds from the start of such a day of each occurrence, in order
+    private final long[] timesOfDay;
+    private final long perPeriod;
+    // index of the first occurrence at or after the start
+    private final long firstIndex;
+    // index past the last occurrence allowed by COUNT and UNTIL, or Long.MAX_VALUE if unlimited
+    private final long endIndex;
+
+    /**
+     * Works out the occurrences of a rule from a start time.
+     *
+     * @param rule The recurrence rule
+     * @param start The earliest time an occurrence can be; its minute is the minute of every occurrence
+     * @throws StudyMateException If the rule never occurs from the start time
+     */
+    RuleOccurrences(RecurrenceRule rule, DateTimeArg start) throws StudyMateException {
+        long startSecond = start.toEpochSecond();
+        long startDay = Math.floorDiv(startSecond, SECONDS_PER_DAY);
+        int startDayOfWeek = dayOfWeek(startDay);
+        int interval = rule.getInterval();
+        int dayMask = rule.getByDayMask();
+        if (dayMask == 0) {
+            dayMask = rule.isWeekly() ? 1 << startDayOfWeek : (1 << 7) - 1;
+        }
+
+        int periodDays = 7 * interval;
+        int[] offsets = new int[periodDays];
+        int dayCount = 0;
+        if (rule.isWeekly()) {
+            // Periods start on the Monday of the start week
+            anchorDay = startDay - startDayOfWeek;
+            for (int offset = 0; offset < 7; offset++) {
+                if ((dayMask & (1 << offset)) != 0) {
+                    offsets[dayCount++] = offset;
+                }
+            }
+        } else {
+            anchorDay = startDay;
+            for (int offset = 0; offset < periodDays; offset += interval) {
+                if ((dayMask & (1 << dayOfWeek(startDay + offset))) != 0) {
+                    offsets[dayCount++] = offset;
+                }
+            }
+        }
+        dayOffsets = Arrays.copyOf(offsets, dayCount);
+
+        int hourMask = rule.getByHourMask();
+        if (hourMask == 0) {
+            hourMask = 1 << start.getDateTime().getHour();
+        }
+        long minuteSeconds = start.getDateTime().getMinute() * 60L;
+        timesOfDay = new long[Integer.bitCount(hourMask)];
+        int hourCount = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            if ((hourMask & (1 << hour)) != 0) {
+                timesOfDay[hourCount++] = hour * SECONDS_PER_HOUR + minuteSeconds;
+            }
+        }
+
+        periodSeconds = periodDays * SECONDS_PER_DAY;
+        perPeriod = (long) dayOffsets.length * timesOfDay.length;
+        if (perPeriod == 0) {
+            throw new StudyMateException("The recurrence rule " + rule + " never occurs from "
+                    + DateTimeCodec.formatDisplay(start) + "!");
+        }
+        firstIndex = countThrough(startSecond - 1);
+        long end = Long.MAX_VALUE;
+        if (rule.getCount() != 0) {
+            end = firstIndex + rule.getCount();
+        }
+        if (rule.getUntil() != null) {
+            end = Math.min(end, countThrough(rule.getUntil().toEpochSecond()));
+        }
+        endIndex = end;
+        if (endIndex <= firstIndex) {
+            throw new StudyMateException("The recurrence rule " + rule + " never occurs from "
+                    + DateTimeCodec.formatDisplay(start) + "!");
+        }
+    }
+
+    /**
+     * Returns the first occurrence.
+     *
+     * @return The epoch second of the first occurrence at or after the start
+     */
+    long first() {
+        return secondOf(firstIndex);
+    }
+
+    /**
+     * Returns the first occurrence after a time.
+     *
+     * @param second The epoch second to look after
+     * @return The epoch second of the next occurrence, or Long.MAX_VALUE if there are no more
+     */
+    long nextAfter(long second) {
+        long index = Math.max(firstIndex, countThrough(second));
+        return index < endIndex ? secondOf(index) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Counts the occurrences from one time to another, both included.
+     *
+     * @param fromSecond The epoch second to count from
+     * @param toSecond The epoch second to count to
+     * @return The number of occurrences in between
+     */
+    long countBetween(long fromSecond, long toSecond) {
+        long from = Math.max(firstIndex, countThrough(fromSecond - 1));
+        long to = Math.min(endIndex, countThrough(toSecond));
+        return Math.max(0, to - from);
+    }
+
+    /**
+     * Counts the occurrences from the first period up to and including a time, which is the index of
+     * the first occurrence after it.
+     */
+    private long countThrough(long second) {
+        long sinceAnchor = second - anchorDay * SECONDS_PER_DAY;
+        long period = Math.floorDiv(sinceAnchor, periodSeconds);
+        long withinPeriod = sinceAnchor - period * periodSeconds;
+        int dayOffset = (int) (withinPeriod / SECONDS_PER_DAY);
+        long timeOfDay = withinPeriod % SECONDS_PER_DAY;
+
+        int day = Arrays.binarySearch(dayOffsets, dayOffset);
+        long count = period * perPeriod;
+        if (day < 0) {
+            return count + (long) (-day - 1) * timesOfDay.length;
+        }
+        int time = Arrays.binarySearch(timesOfDay, timeOfDay);
+        int timesThrough = time < 0 ? -time - 1 : time + 1;
+        return count + (long) day * timesOfDay.length + timesThrough;
+    }
+
+    private long secondOf(long index) {
+        long period = Math.floorDiv(index, perPeriod);
+        int withinPeriod = (int) (index - period * perPeriod);
+        int day = dayOffsets[withinPeriod / timesOfDay.length];
+        long timeOfDay = timesOfDay[withinPeriod % timesOfDay.length];
+        return (anchorDay + day) * SECONDS_PER_DAY + period * periodSeconds + timeOfDay;
+    }
+
+    private static int dayOfWeek(long epochDay) {
+        return Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, 7);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.studymate.reminders;
 
 import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
 
 import java.time.Duration;
 
@@ -13,6 +14,10 @@ public interface Schedule {
         return false;
     }
 
+    default DateTimeArg getRemindAt() {
+        return null;
+    }
+
     default boolean isDue() {
         return false;
     }
@@ -20,6 +25,33 @@ public interface Schedule {
     default void isFired() {
     }
 
+    default void moveTo(DateTimeArg remindAt) {
+    }
+
+    default boolean shouldNotify() {
+        return true;
+    }
+
+    default CatchUpPolicy getCatchUpPolicy() {
+        return CatchUpPolicy.ONCE;
+    }
+
+    default RecurrenceRule getRule() {
+        return null;
+    }
+
+    default DateTimeArg getStart() {
+        return null;
+    }
+
+    default long occurrenceAfter(long second) {
+        return Long.MAX_VALUE;
+    }
+
+    default long countOccurrences(long fromSecond, long toSecond) {
+        return 0;
+    }
+
     default void setFired(boolean isDone) {
     }
 
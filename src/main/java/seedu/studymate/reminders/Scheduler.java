@@ -1,81 +1,398 @@
 package seedu.studymate.reminders;
 
+import seedu.studymate.runtime.RuntimeExecutors;
 import seedu.studymate.ui.MessageHandler;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-public class Scheduler {
+/**
+ * Fires reminders when they fall due.
+ * Active reminders are kept in a ReminderQueue keyed by their next fire time, so a check only looks at the
+ * reminders that are actually due, and the scheduler sleeps until the earliest one instead of polling
+ * the whole list. The ReminderList tells the scheduler whenever a reminder is added, removed, turned on
+ * or off, snoozed or rescheduled, which may move the next wake-up earlier.
+ * A min-heap is used by default; a timing wheel suits very large numbers of recurring reminders.
+ * The queue has its own lock, held only while it is changed, and reminders are fired outside it,
+ * so firing never blocks the user from adding or listing reminders.
+ * Checks run on the shared runtime scheduler, and fired reminders are handed to notification sinks,
+ * which deliver them in the background, so slow output never delays the next check.
+ * By default fired reminders are printed to the console as soon as they fire.
+ * How late reminders fire, how long checks take and how long the queue lock is held are kept in
+ * SchedulerStats, which the rem stats command shows.
+ */
+public class Scheduler implements ReminderListener {
+    public static final int DEFAULT_INTERVAL_SECONDS = 30;
+    // The most notifications one reminder catching up on every missed occurrence sends at startup; the
+    // occurrences past it are added to the last one, so that a year offline does not flood the sinks
+    static final int MAX_CATCH_UP_NOTIFICATIONS = 100;
+    private static final Logger logger = Logger.getLogger("Scheduler Logger");
     private final ReminderList reminderList;
-    private ScheduledExecutorService executorService;
+    private volatile ScheduledExecutorService executorService;
+    // The longest the scheduler sleeps between checks, as a safety net against clock changes
     private final int intervalSeconds;
+    private final ReminderQueue dueQueue;
+    // Guards the queue and the next wake-up
+    private final Object queueLock = new Object();
+    private ScheduledFuture<?> nextWake;
+    private long nextWakeNanos = Long.MAX_VALUE;
+    private final List<NotificationSink> sinks = new CopyOnWriteArrayList<>(
+            List.of(new BatchingNotificationSink(new ConsoleNotificationSink(), Duration.ZERO, null)));
+    private final SchedulerStats stats = new SchedulerStats();
 
     public Scheduler(ReminderList reminderList) {
-        this(reminderList, 30); // Default 30 seconds
+        this(reminderList, DEFAULT_INTERVAL_SECONDS);
     }
 
     public Scheduler(ReminderList reminderList, int intervalSeconds) {
+        this(reminderList, intervalSeconds, new HeapReminderQueue());
+    }
+
+    /**
+     * Constructs a Scheduler that keeps active reminders in the given queue.
+     *
+     * @param reminderList The reminders to fire
+     * @param intervalSeconds The longest time to sleep between checks
+     * @param dueQueue An empty queue to keep active reminders in
+     */
+    public Scheduler(ReminderList reminderList, int intervalSeconds, ReminderQueue dueQueue) {
         this.reminderList = reminderList;
         this.intervalSeconds = intervalSeconds;
+        this.dueQueue = dueQueue;
+        reminderList.setSchedulerStats(stats);
+        // Listen first, so that a reminder added meanwhile is queued either way
+        reminderList.addListener(this);
+        for (Reminder r : reminderList.getReminders()) {
+            onReminderScheduled(r);
+        }
     }
 
     /**
-     * Starts periodic reminder checking with automatic notifications.
+     * Starts reminder checking with automatic notifications.
+     * The scheduler wakes when the earliest reminder is due, and at least once per interval.
      */
     public void start() {
         if (executorService != null) {
             return; // Already started
         }
 
-        executorService = Executors.newSingleThreadScheduledExecutor();
+        // Catch up before checks are armed, so that no check fires the missed occurrences one by one meanwhile:
+        // in one summary, unless a reminder should fire every missed occurrence, in which case each goes to the
+        // sinks as a notification of its own
+        List<IndexedReminder> missedReminders = reconcile();
+        executorService = RuntimeExecutors.scheduler();
+        List<IndexedReminder> summarised = new ArrayList<>();
+        List<IndexedReminder> everyOccurrence = new ArrayList<>();
+        for (IndexedReminder missed : missedReminders) {
+            if (missed.getReminder().getCatchUpPolicy() == CatchUpPolicy.ALL) {
+                addEveryOccurrence(everyOccurrence, missed);
+            } else {
+                summarised.add(missed);
+            }
+        }
+        if (!summarised.isEmpty()) {
+            MessageHandler.sendMissedReminderSummary(summarised);
+        }
+        if (!everyOccurrence.isEmpty()) {
+            deliver(everyOccurrence);
+        }
+        // Check immediately on start, delivering before the user is prompted, then arm the first wake-up
+        List<IndexedReminder> dueReminders = tick();
+        if (!dueReminders.isEmpty()) {
+            deliver(dueReminders);
+        }
+        if (!everyOccurrence.isEmpty() || !dueReminders.isEmpty()) {
+            flushSinks();
+        }
+        synchronized (queueLock) {
+            arm();
+        }
+    }
 
-        // Check immediately on start
-        checkAndNotify();
+    /**
+     * Brings every reminder up to date in one pass, such as after StudyMate has been closed for a while.
+     * The fire times are copied into arrays and the missed occurrences of every reminder worked out in a
+     * single sweep, so this takes the same time however long StudyMate was closed. Due reminders then move
+     * straight to their next occurrence without being fired one by one.
+     *
+     * @return The reminders that were due and should be reported, with how many occurrences each missed
+     */
+    public List<IndexedReminder> reconcile() {
+        List<IndexedReminder> missedReminders = new ArrayList<>();
+        List<Reminder> reminders = reminderList.getReminders();
+        int count = reminders.size();
+        long[] dueSeconds = new long[count];
+        long[] intervalSeconds = new long[count];
+        for (int i = 0; i < count; i++) {
+            dueSeconds[i] = reminders.get(i).nextFireSecond();
+            intervalSeconds[i] = reminders.get(i).intervalSeconds();
+        }
+        long now = nowSecond();
+        long[] missed = countMissed(dueSeconds, intervalSeconds, now);
+        for (int i = 0; i < count; i++) {
+            if (missed[i] == 0) {
+                continue;
+            }
+            Reminder r = reminders.get(i);
+            long nextFireSecond = dueSeconds[i] + missed[i] * intervalSeconds[i];
+            if (r.getRule() != null) {
+                // Calendar rules have no fixed interval, so their occurrences are counted by the rule
+                missed[i] = r.countOccurrences(dueSeconds[i], now);
+                nextFireSecond = r.occurrenceAfter(now);
+            }
+            if (r.shouldNotify()) {
+                missedReminders.add(new IndexedReminder(i + 1, r, missed[i]));
+                reminderList.record(ReminderEvent.FIRE, r);
+            }
+            r.catchUp(nextFireSecond);
+            reminderList.notifyScheduled(r);
+        }
+        return missedReminders;
+    }
 
-        // Schedule periodic checks
-        executorService.scheduleAtFixedRate(
-                this::checkAndNotify,
-                intervalSeconds,
-                intervalSeconds,
-                TimeUnit.SECONDS
-        );
+    /**
+     * Splits a missed reminder into one notification per missed occurrence, up to MAX_CATCH_UP_NOTIFICATIONS.
+     *
+     * @param notifications Where to add the notifications
+     * @param missed The missed reminder, with how many occurrences it missed
+     */
+    static void addEveryOccurrence(List<IndexedReminder> notifications, IndexedReminder missed) {
+        long occurrences = missed.getOccurrences();
+        long separate = Math.min(occurrences, MAX_CATCH_UP_NOTIFICATIONS) - 1;
+        for (long i = 0; i < separate; i++) {
+            notifications.add(new IndexedReminder(missed.getIndex(), missed.getReminder()));
+        }
+        notifications.add(new IndexedReminder(missed.getIndex(), missed.getReminder(), occurrences - separate));
     }
 
     /**
-     * Stops the periodic reminder checking.
+     * Counts the occurrences of each reminder that are due, with a one-time reminder having an interval of 0.
+     *
+     * @param dueSeconds The next fire time of each reminder
+     * @param intervalSeconds The interval of each reminder
+     * @param nowSecond The current epoch second
+     * @return The number of due occurrences of each reminder
+     */
+    static long[] countMissed(long[] dueSeconds, long[] intervalSeconds, long nowSecond) {
+        long[] missed = new long[dueSeconds.length];
+        for (int i = 0; i < dueSeconds.length; i++) {
+            long overdue = nowSecond - dueSeconds[i];
+            if (overdue >= 0) {
+                missed[i] = intervalSeconds[i] == 0 ? 1 : overdue / intervalSeconds[i] + 1;
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * Stops the reminder checking.
      */
     public void shutdown() {
-        if (executorService != null) {
-            executorService.shutdownNow();
+        if (executorService == null) {
+            return;
+        }
+        closeSinks();
+        // The scheduler is shared, so only this scheduler's wake-up is cancelled
+        synchronized (queueLock) {
             executorService = null;
+            if (nextWake != null) {
+                nextWake.cancel(false);
+                nextWake = null;
+            }
+            nextWakeNanos = Long.MAX_VALUE;
         }
     }
 
     /**
-     * Checks for due reminders and returns them.
+     * Replaces where fired reminders are delivered, such as to add a file or socket alongside the console.
+     * Wrap a sink in a BatchingNotificationSink to batch and rate limit what it receives.
+     *
+     * @param newSinks The sinks to deliver fired reminders to
+     */
+    public void setSinks(List<NotificationSink> newSinks) {
+        sinks.clear();
+        sinks.addAll(newSinks);
+    }
+
+    private void deliver(List<IndexedReminder> dueReminders) {
+        for (NotificationSink sink : sinks) {
+            try {
+                sink.deliver(dueReminders);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not deliver reminders: " + e.getMessage());
+            }
+        }
+    }
+
+    private void flushSinks() {
+        for (NotificationSink sink : sinks) {
+            try {
+                sink.flush();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not flush notification sink: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delivers anything the sinks still hold and closes them.
+     */
+    private void closeSinks() {
+        for (NotificationSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not close notification sink: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Queues a reminder at its next fire time, waking the scheduler earlier if it is now the first due.
+     * A reminder that will not fire again is taken out of the queue.
+     *
+     * @param reminder The reminder whose fire time may have changed
+     */
+    @Override
+    public void onReminderScheduled(Reminder reminder) {
+        synchronized (queueLock) {
+            long locked = System.nanoTime();
+            try {
+                long dueSecond = reminder.nextFireSecond();
+                if (dueSecond == Long.MAX_VALUE) {
+                    dueQueue.cancel(reminder);
+                    return;
+                }
+                dueQueue.schedule(reminder, dueSecond);
+                arm();
+            } finally {
+                stats.recordLockHold(System.nanoTime() - locked);
+            }
+        }
+    }
+
+    @Override
+    public void onReminderRemoved(Reminder reminder) {
+        synchronized (queueLock) {
+            long locked = System.nanoTime();
+            dueQueue.cancel(reminder);
+            stats.recordLockHold(System.nanoTime() - locked);
+        }
+    }
+
+    /**
+     * Checks for due reminders and returns them in list order.
      * Call this manually or let start() handle it automatically.
+     * How long the check takes, how many reminders it examines and how late each fires are recorded
+     * in the scheduler's statistics.
      */
     public List<IndexedReminder> tick() {
-        List<IndexedReminder> remindersToOutput = new java.util.ArrayList<>();
-        synchronized (reminderList) {
-            for (Reminder r : reminderList.getReminders()) {
-                if (r.isDue()) {
-                    int index = reminderList.getReminderIndex(r) + 1;
-                    IndexedReminder indexedReminder = new IndexedReminder(index, r);
-                    remindersToOutput.add(indexedReminder);
-                    r.isFired();
-                }
+        long started = System.nanoTime();
+        List<IndexedReminder> remindersToOutput = new ArrayList<>();
+        List<Reminder> dueReminders;
+        synchronized (queueLock) {
+            long locked = System.nanoTime();
+            dueReminders = dueQueue.pollDue(nowSecond());
+            stats.recordLockHold(System.nanoTime() - locked);
+        }
+        for (Reminder r : dueReminders) {
+            int index = r.listIndex;
+            if (index < 0) {
+                continue; // Deleted since it was polled
+            }
+            long scheduledSecond = r.nextFireSecond();
+            if (r.fireIfDue()) {
+                remindersToOutput.add(new IndexedReminder(index + 1, r));
+                reminderList.record(ReminderEvent.FIRE, r);
+                stats.recordLateness(nowMillis() - TimeUnit.SECONDS.toMillis(scheduledSecond));
             }
+            // Recurring reminders come back through the listener at their next fire time,
+            // straight away if they catch up on every missed occurrence and more are due
+            reminderList.notifyScheduled(r);
         }
+        remindersToOutput.sort(Comparator.comparingInt(IndexedReminder::getIndex));
+        stats.recordTick(System.nanoTime() - started, dueReminders.size());
         return remindersToOutput;
     }
 
     private void checkAndNotify() {
+        if (executorService == null) {
+            return; // Shut down after this check was scheduled
+        }
         List<IndexedReminder> dueReminders = tick();
         if (!dueReminders.isEmpty()) {
-            MessageHandler.sendReminder(dueReminders);
+            deliver(dueReminders);
+        }
+        synchronized (queueLock) {
+            long locked = System.nanoTime();
+            nextWake = null;
+            nextWakeNanos = Long.MAX_VALUE;
+            arm();
+            stats.recordLockHold(System.nanoTime() - locked);
+        }
+    }
+
+    /**
+     * Schedules the next check for when the earliest reminder is due, capped at the interval.
+     * An already scheduled check is kept if it would run no later than that.
+     * Must be called while holding the queue lock.
+     */
+    private void arm() {
+        ScheduledExecutorService executor = executorService;
+        if (executor == null) {
+            return;
+        }
+        long delayMillis = TimeUnit.SECONDS.toMillis(intervalSeconds);
+        long dueSecond = dueQueue.nextDueSecond();
+        if (dueSecond != Long.MAX_VALUE) {
+            LocalDateTime now = LocalDateTime.now(reminderList.getClock());
+            long untilDue = TimeUnit.SECONDS.toMillis(dueSecond - now.toEpochSecond(ZoneOffset.UTC))
+                    - TimeUnit.NANOSECONDS.toMillis(now.getNano());
+            delayMillis = Math.max(0, Math.min(delayMillis, untilDue));
+        }
+        long wakeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        if (nextWake != null && nextWakeNanos <= wakeNanos) {
+            return;
         }
+        if (nextWake != null) {
+            nextWake.cancel(false);
+        }
+        try {
+            nextWake = executor.schedule(this::checkAndNotify, delayMillis, TimeUnit.MILLISECONDS);
+            nextWakeNanos = wakeNanos;
+        } catch (RejectedExecutionException e) {
+            nextWake = null; // Shut down while arming
+        }
+    }
+
+    /**
+     * Returns the statistics of this scheduler's checks.
+     *
+     * @return The statistics, updated as the scheduler runs
+     */
+    public SchedulerStats getStats() {
+        return stats;
+    }
+
+    private long nowMillis() {
+        LocalDateTime now = LocalDateTime.now(reminderList.getClock());
+        return TimeUnit.SECONDS.toMillis(now.toEpochSecond(ZoneOffset.UTC))
+                + TimeUnit.NANOSECONDS.toMillis(now.getNano());
+    }
+
+    private long nowSecond() {
+        return LocalDateTime.now(reminderList.getClock()).toEpochSecond(ZoneOffset.UTC);
     }
 }
@@ -0,0 +1,46 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.runtime.Histogram;
+
+/**
+ * How accurately and cheaply the Scheduler has been firing reminders since StudyMate started.
+ * Lateness is how long after its scheduled time each reminder actually fired, in milliseconds.
+ * Each check records how long it took in microseconds and how many due reminders it examined,
+ * and every hold of the scheduler's queue lock, by a check or by the user changing reminders,
+ * records how long it was held in microseconds.
+ */
+public class SchedulerStats {
+    private final Histogram lateness = new Histogram();
+    private final Histogram tickDuration = new Histogram();
+    private final Histogram examined = new Histogram();
+    private final Histogram lockHold = new Histogram();
+
+    public Histogram getLateness() {
+        return lateness;
+    }
+
+    public Histogram getTickDuration() {
+        return tickDuration;
+    }
+
+    public Histogram getExamined() {
+        return examined;
+    }
+
+    public Histogram getLockHold() {
+        return lockHold;
+    }
+
+    void recordLateness(long millis) {
+        lateness.record(millis);
+    }
+
+    void recordTick(long nanos, int remindersExamined) {
+        tickDuration.record(nanos / 1_000);
+        examined.record(remindersExamined);
+    }
+
+    void recordLockHold(long nanos) {
+        lockHold.record(nanos / 1_000);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.studymate.reminders;
+
+import seedu.studymate.ui.MessageFormatting;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Sends fired reminders to another program listening on a local (Unix domain) socket.
+ * Each batch is written as one timestamped text block over its own connection, so the listener
+ * can be restarted at any time; batches fired while nothing is listening are dropped and logged.
+ */
+public class SocketNotificationSink implements NotificationSink {
+    private final UnixDomainSocketAddress address;
+    private final Clock clock;
+
+    public SocketNotificationSink(Path socketPath) {
+        this(socketPath, Clock.systemDefaultZone());
+    }
+
+    public SocketNotificationSink(Path socketPath, Clock clock) {
+        this.address = UnixDomainSocketAddress.of(socketPath);
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void deliver(List<IndexedReminder> reminders) throws IOException {
+        String block = MessageFormatting.reminderBatchString(LocalDateTime.now(clock), reminders);
+        ByteBuffer bytes = ByteBuffer.wrap(block.getBytes(StandardCharsets.UTF_8));
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(address);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+}
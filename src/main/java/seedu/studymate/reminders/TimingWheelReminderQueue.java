@@ -0,0 +1,211 @@
+package seedu.studymate.reminders;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A ReminderQueue on a hashed hierarchical timing wheel with one-minute buckets, matching the
+ * yyyy-MM-dd HH:mm precision that reminders are entered with.
+ * Each level has 64 buckets: the first covers the next 64 minutes, the second the next 64 * 64 minutes,
+ * and so on, with reminders further away than the last level kept in an overflow list. As the wheel
+ * turns, the buckets of a higher level are spread out over the lower levels when their time comes.
+ * Insertion, cancellation and expiry are O(1); each reminder is moved at most once per level.
+ * Reminders in the current minute are checked to the second before they are returned.
+ */
+public class TimingWheelReminderQueue implements ReminderQueue {
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int BITS_PER_LEVEL = 6;
+    private static final int SLOTS_PER_LEVEL = 1 << BITS_PER_LEVEL;
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+    private static final int LEVELS = 4;
+    // Catching up further than this is cheaper by re-inserting every reminder than by turning the wheel
+    private static final long MAX_STEP_MINUTES = (long) SLOTS_PER_LEVEL * SLOTS_PER_LEVEL;
+
+    private final Node[][] wheel = new Node[LEVELS][SLOTS_PER_LEVEL];
+    private final Node overflow = Node.sentinel();
+    private final Node ready = Node.sentinel();
+    private final Map<Reminder, Node> nodes = new HashMap<>();
+    private long currentMinute;
+
+    /**
+     * Constructs an empty wheel starting at the given time.
+     *
+     * @param startSecond The current epoch second
+     */
+    public TimingWheelReminderQueue(long startSecond) {
+        for (Node[] level : wheel) {
+            for (int slot = 0; slot < SLOTS_PER_LEVEL; slot++) {
+                level[slot] = Node.sentinel();
+            }
+        }
+        currentMinute = Math.floorDiv(startSecond, SECONDS_PER_MINUTE);
+    }
+
+    @Override
+    public void schedule(Reminder reminder, long dueSecond) {
+        cancel(reminder);
+        Node node = new Node(reminder, dueSecond);
+        nodes.put(reminder, node);
+        place(node);
+    }
+
+    @Override
+    public void cancel(Reminder reminder) {
+        Node node = nodes.remove(reminder);
+        if (node != null) {
+            node.unlink();
+        }
+    }
+
+    @Override
+    public List<Reminder> pollDue(long nowSecond) {
+        advanceTo(Math.floorDiv(nowSecond, SECONDS_PER_MINUTE));
+        List<Reminder> due = new ArrayList<>();
+        Node node = ready.next;
+        while (node != ready) {
+            Node next = node.next;
+            if (node.dueSecond <= nowSecond) {
+                node.unlink();
+                nodes.remove(node.reminder);
+                due.add(node.reminder);
+            }
+            node = next;
+        }
+        return due;
+    }
+
+    @Override
+    public long nextDueSecond() {
+        if (nodes.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        long earliest = Long.MAX_VALUE;
+        for (Node node = ready.next; node != ready; node = node.next) {
+            earliest = Math.min(earliest, node.dueSecond);
+        }
+        if (earliest != Long.MAX_VALUE) {
+            return earliest;
+        }
+        for (long minute = currentMinute + 1; (minute & SLOT_MASK) != 0; minute++) {
+            if (!wheel[0][(int) (minute & SLOT_MASK)].isEmpty()) {
+                return minute * SECONDS_PER_MINUTE;
+            }
+        }
+        // Nothing left in the first level, so wake when the next bucket is spread out over it
+        return ((currentMinute | SLOT_MASK) + 1) * SECONDS_PER_MINUTE;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    private void advanceTo(long targetMinute) {
+        if (targetMinute <= currentMinute) {
+            return;
+        }
+        if (targetMinute - currentMinute > MAX_STEP_MINUTES) {
+            rebuildAt(targetMinute);
+            return;
+        }
+        while (currentMinute < targetMinute) {
+            currentMinute++;
+            if (isAligned(currentMinute, LEVELS)) {
+                replaceAll(overflow);
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if (isAligned(currentMinute, level)) {
+                    replaceAll(wheel[level][slotOf(currentMinute, level)]);
+                }
+            }
+            replaceAll(wheel[0][slotOf(currentMinute, 0)]);
+        }
+    }
+
+    private void rebuildAt(long targetMinute) {
+        List<Node> all = new ArrayList<>(nodes.values());
+        for (Node node : all) {
+            node.unlink();
+        }
+        currentMinute = targetMinute;
+        for (Node node : all) {
+            place(node);
+        }
+    }
+
+    /**
+     * Takes every node out of a bucket and places it again relative to the current minute.
+     */
+    private void replaceAll(Node bucket) {
+        Node node = bucket.next;
+        while (node != bucket) {
+            Node next = node.next;
+            node.unlink();
+            place(node);
+            node = next;
+        }
+    }
+
+    private void place(Node node) {
+        long dueMinute = Math.floorDiv(node.dueSecond, SECONDS_PER_MINUTE);
+        if (dueMinute <= currentMinute) {
+            ready.append(node);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS_PER_LEVEL * (level + 1);
+            if ((dueMinute >> shift) == (currentMinute >> shift)) {
+                wheel[level][slotOf(dueMinute, level)].append(node);
+                return;
+            }
+        }
+        overflow.append(node);
+    }
+
+    private static int slotOf(long minute, int level) {
+        return (int) ((minute >> (BITS_PER_LEVEL * level)) & SLOT_MASK);
+    }
+
+    private static boolean isAligned(long minute, int level) {
+        return (minute & ((1L << (BITS_PER_LEVEL * level)) - 1)) == 0;
+    }
+
+    /**
+     * A reminder in a bucket's circular doubly-linked list, or the sentinel that heads the list.
+     */
+    private static class Node {
+        private final Reminder reminder;
+        private final long dueSecond;
+        private Node prev = this;
+        private Node next = this;
+
+        private Node(Reminder reminder, long dueSecond) {
+            this.reminder = reminder;
+            this.dueSecond = dueSecond;
+        }
+
+        private static Node sentinel() {
+            return new Node(null, Long.MAX_VALUE);
+        }
+
+        private boolean isEmpty() {
+            return next == this;
+        }
+
+        private void append(Node node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+}
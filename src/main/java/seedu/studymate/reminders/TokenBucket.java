@@ -0,0 +1,76 @@
+package seedu.studymate.reminders;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket rate limit: up to capacity tokens can be taken at once, and tokens are refilled
+ * at a steady rate. Each delivered batch of notifications takes one token.
+ */
+public class TokenBucket {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final LongSupplier nanoTime;
+    private long tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Constructs a full bucket.
+     *
+     * @param capacity The most tokens the bucket holds, which is the largest burst allowed
+     * @param tokensPerMinute How many tokens are added each minute
+     */
+    public TokenBucket(long capacity, long tokensPerMinute) {
+        this(capacity, tokensPerMinute, System::nanoTime);
+    }
+
+    TokenBucket(long capacity, long tokensPerMinute, LongSupplier nanoTime) {
+        assert capacity > 0 && tokensPerMinute > 0 : "Capacity and rate should be positive";
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, 60 * NANOS_PER_SECOND / tokensPerMinute);
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return True if a token was taken
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens == 0) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Returns how long until a token is available.
+     *
+     * @return The wait in nanoseconds, or 0 if a token is available now
+     */
+    public synchronized long nanosUntilNextToken() {
+        refill();
+        return tokens > 0 ? 0 : lastRefillNanos + nanosPerToken - nanoTime.getAsLong();
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        long earned = (now - lastRefillNanos) / nanosPerToken;
+        if (earned <= 0) {
+            return;
+        }
+        if (tokens + earned >= capacity) {
+            tokens = capacity;
+            lastRefillNanos = now;
+        } else {
+            tokens += earned;
+            // Keep the part-earned token, so that tokens arrive at a steady rate
+            lastRefillNanos += earned * nanosPerToken;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.studymate.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The threads that StudyMate runs its background work on.
+ * All timing, such as waking up for the next reminder or checking on the timer, shares one scheduler
+ * thread, and the tasks run on it only decide what is due. Anything slow, such as printing a notification,
+ * is handed to the delivery executor so that it never holds up the next wake-up.
+ * Delivery runs on virtual threads where the Java runtime has them, and otherwise on a small pool of
+ * daemon threads that are let go when idle.
+ */
+public final class RuntimeExecutors {
+    private static final Logger logger = Logger.getLogger("RuntimeExecutors Logger");
+    private static final long IDLE_SECONDS = 30;
+
+    private static final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads("StudyMate-Scheduler"));
+    private static final ExecutorService delivery = createDeliveryExecutor();
+
+    private RuntimeExecutors() {
+    }
+
+    /**
+     * Returns the scheduler shared by all timed checks.
+     * Callers cancel the tasks they schedule rather than shutting the scheduler down.
+     *
+     * @return The shared scheduler
+     */
+    public static ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the executor that notifications are delivered on.
+     *
+     * @return The delivery executor
+     */
+    public static ExecutorService delivery() {
+        return delivery;
+    }
+
+    /**
+     * Delivers a notification in the background, or on the calling thread if delivery is unavailable.
+     *
+     * @param task The notification to deliver
+     */
+    public static void deliver(Runnable task) {
+        try {
+            delivery.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    /**
+     * Checks whether notifications are delivered on virtual threads.
+     *
+     * @return True if the Java runtime supports virtual threads
+     */
+    public static boolean isVirtual() {
+        return !(delivery instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * Uses a virtual thread per notification where available. Virtual threads only exist from Java 21,
+     * so they are looked up by reflection to keep StudyMate running on Java 17.
+     */
+    private static ExecutorService createDeliveryExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.log(Level.INFO, "Virtual threads unavailable, delivering on a thread pool");
+        }
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, IDLE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreads("StudyMate-Delivery"));
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
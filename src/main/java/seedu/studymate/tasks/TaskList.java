@@ -39,6 +39,14 @@ public class TaskList {
         return taskList.get(index);
     }
 
+    /**
+     * Removes all tasks from the list
+     */
+    public void clear() {
+        taskList.clear();
+        logger.log(Level.INFO, "Task list cleared");
+    }
+
     /**
      * Returns the total number of tasks in the list
      *
@@ -0,0 +1,70 @@
+package seedu.studymate.timer;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * One focus session, from when a timer was started until it ran out or was stopped early.
+ */
+public final class FocusSession {
+    private final String label;
+    private final int taskNumber;
+    private final long startEpochSecond;
+    private final long focusedSeconds;
+    private final int pauseCount;
+    private final boolean isCompleted;
+
+    /**
+     * Constructs a FocusSession.
+     *
+     * @param label The label of the timer
+     * @param taskNumber The 1-based number of the task the timer was linked to, or 0 if it was not linked
+     * @param start The local time the timer was started
+     * @param focusedSeconds How long the timer counted down for, not counting time spent paused
+     * @param pauseCount How many times the timer was paused
+     * @param isCompleted Whether the timer ran out, rather than being stopped early
+     */
+    public FocusSession(String label, int taskNumber, LocalDateTime start, long focusedSeconds, int pauseCount,
+            boolean isCompleted) {
+        this(label, taskNumber, start.toEpochSecond(ZoneOffset.UTC), focusedSeconds, pauseCount, isCompleted);
+    }
+
+    FocusSession(String label, int taskNumber, long startEpochSecond, long focusedSeconds, int pauseCount,
+            boolean isCompleted) {
+        assert focusedSeconds >= 0 && pauseCount >= 0 : "Focus time and pauses cannot be negative";
+        this.label = label;
+        this.taskNumber = taskNumber;
+        this.startEpochSecond = startEpochSecond;
+        this.focusedSeconds = focusedSeconds;
+        this.pauseCount = pauseCount;
+        this.isCompleted = isCompleted;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getTaskNumber() {
+        return taskNumber;
+    }
+
+    public LocalDateTime getStart() {
+        return LocalDateTime.ofEpochSecond(startEpochSecond, 0, ZoneOffset.UTC);
+    }
+
+    long getStartEpochSecond() {
+        return startEpochSecond;
+    }
+
+    public long getFocusedSeconds() {
+        return focusedSeconds;
+    }
+
+    public int getPauseCount() {
+        return pauseCount;
+    }
+
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.studymate.timer;
+
+/**
+ * How many focus sessions were recorded, how many of them ran to the end, and how long they focused for.
+ */
+public final class FocusTotals {
+    public static final FocusTotals NONE = new FocusTotals(0, 0, 0);
+
+    private final long sessions;
+    private final long completed;
+    private final long focusedSeconds;
+
+    FocusTotals(long sessions, long completed, long focusedSeconds) {
+        this.sessions = sessions;
+        this.completed = completed;
+        this.focusedSeconds = focusedSeconds;
+    }
+
+    public long getSessions() {
+        return sessions;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getFocusedSeconds() {
+        return focusedSeconds;
+    }
+}
@@ -0,0 +1,288 @@
+package seedu.studymate.timer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An append-only log of focus sessions. Each session is written as one compact binary record when its
+ * timer runs out or is stopped early: the task it was linked to, when it started, how long it focused
+ * for, how many times it was paused and whether it ran to the end.
+ * Totals per task, per day and per week are kept up to date as sessions are appended, and saved next to
+ * the log in a .rollups file along with how much of the log they cover. On opening, only the sessions
+ * written after that are read back, so reports never rescan the whole history.
+ * Tasks are told apart by their timer label, so sessions on a task are grouped under its name.
+ */
+public class SessionLog implements Closeable {
+    static final int HEADER_BYTES = 8;
+    private static final Logger logger = Logger.getLogger("SessionLog Logger");
+    // "SMFS"
+    private static final int LOG_MAGIC = 0x534D4653;
+    // "SMFR"
+    private static final int ROLLUP_MAGIC = 0x534D4652;
+    private static final int VERSION = 1;
+    // Record layout after its length: start, focused seconds, task number, pauses, completed, then the label
+    private static final int FIXED_RECORD_BYTES = 25;
+    private static final int MAX_LABEL_BYTES = 4096;
+
+    private final FileChannel channel;
+    private final Path rollupPath;
+    private final Clock clock;
+    private SessionRollups rollups;
+    // bytes in the log, which end with the last complete record
+    private long size;
+    // bytes of the log the saved totals cover
+    private long savedThrough;
+    private long sessionCount;
+
+    private SessionLog(FileChannel channel, Path rollupPath, Clock clock) {
+        this.channel = channel;
+        this.rollupPath = rollupPath;
+        this.clock = clock;
+    }
+
+    /**
+     * Opens the session log at a path, creating it if it does not exist.
+     *
+     * @param path The path of the log file
+     * @param clock The clock to date sessions with
+     * @return The open log
+     * @throws IOException If the file cannot be opened or is not a session log
+     */
+    public static SessionLog open(Path path, Clock clock) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            SessionLog log = new SessionLog(channel, path.resolveSibling(path.getFileName() + ".rollups"), clock);
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(LOG_MAGIC).putInt(VERSION).flip();
+                log.writeFully(header, 0);
+                log.size = HEADER_BYTES;
+                log.savedThrough = HEADER_BYTES;
+                log.rollups = new SessionRollups();
+                return log;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException(path + " is not a focus session log");
+            }
+            readFully(channel, header, 0);
+            if (header.getInt(0) != LOG_MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException(path + " is not a focus session log");
+            }
+            log.loadRollups();
+            return log;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Records the session of a timer that has just run out or is about to be stopped early.
+     * A failure to write is logged rather than thrown, as losing the record of a session should never stop
+     * the timer itself.
+     *
+     * @param timer The timer
+     * @param isCompleted Whether the timer ran out, rather than being stopped early
+     */
+    public void record(Timer timer, boolean isCompleted) {
+        LocalDateTime start = LocalDateTime.now(clock).minusNanos(timer.getElapsedNanos());
+        Integer taskIndex = timer.getTaskIndex();
+        record(new FocusSession(timer.getLabel(), taskIndex == null ? 0 : taskIndex + 1, start,
+                timer.getFocusedNanos() / 1_000_000_000L, timer.getPauseCount(), isCompleted));
+    }
+
+    /**
+     * Appends a session and counts it in the totals.
+     *
+     * @param session The session
+     */
+    public synchronized void record(FocusSession session) {
+        byte[] label = session.getLabel().getBytes(StandardCharsets.UTF_8);
+        if (label.length > MAX_LABEL_BYTES) {
+            logger.log(Level.WARNING, "Focus session label is too long to record");
+            return;
+        }
+        rollups.add(session);
+        sessionCount++;
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + FIXED_RECORD_BYTES + label.length);
+        record.putInt(FIXED_RECORD_BYTES + label.length)
+                .putLong(session.getStartEpochSecond())
+                .putLong(session.getFocusedSeconds())
+                .putInt(session.getTaskNumber())
+                .putInt(session.getPauseCount())
+                .put((byte) (session.isCompleted() ? 1 : 0))
+                .put(label)
+                .flip();
+        try {
+            writeFully(record, size);
+            size += record.limit();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not record focus session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the totals of the sessions started on the days of a range.
+     *
+     * @param from The first day
+     * @param to The last day
+     * @return The totals
+     */
+    public synchronized FocusTotals getTotals(LocalDate from, LocalDate to) {
+        return rollups.between(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Returns the totals of every session ever recorded, by task.
+     *
+     * @return The totals by timer label, in the order the labels were first recorded
+     */
+    public synchronized Map<String, FocusTotals> getTotalsByTask() {
+        return rollups.byTask();
+    }
+
+    /**
+     * Returns how many sessions have been recorded.
+     *
+     * @return The number of sessions in the log
+     */
+    public synchronized long getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Saves the totals and closes the log file.
+     *
+     * @throws IOException If the totals could not be saved or the file closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            saveRollups();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Loads the saved totals and brings them up to date with the sessions written after them.
+     * Without saved totals, or with totals the log does not match, the totals are rebuilt from the whole
+     * log. A record cut short by a crash while it was written is dropped from the end of the log.
+     */
+    private void loadRollups() throws IOException {
+        long fileSize = channel.size();
+        rollups = null;
+        if (Files.exists(rollupPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(rollupPath)))) {
+                if (in.readInt() == ROLLUP_MAGIC && in.readInt() == VERSION) {
+                    long covered = in.readLong();
+                    long count = in.readLong();
+                    if (covered >= HEADER_BYTES && covered <= fileSize) {
+                        rollups = SessionRollups.read(in);
+                        savedThrough = covered;
+                        sessionCount = count;
+                    }
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not read focus session totals: " + e.getMessage());
+                rollups = null;
+            }
+        }
+        if (rollups == null) {
+            logger.log(Level.INFO, "Rebuilding focus session totals from the log");
+            rollups = new SessionRollups();
+            savedThrough = HEADER_BYTES;
+            sessionCount = 0;
+        }
+        size = savedThrough;
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        while (size + Integer.BYTES <= fileSize) {
+            length.clear();
+            readFully(channel, length, size);
+            int recordBytes = length.getInt(0);
+            if (recordBytes < FIXED_RECORD_BYTES || recordBytes > FIXED_RECORD_BYTES + MAX_LABEL_BYTES
+                    || size + Integer.BYTES + recordBytes > fileSize) {
+                break;
+            }
+            ByteBuffer record = ByteBuffer.allocate(recordBytes);
+            readFully(channel, record, size + Integer.BYTES);
+            record.flip();
+            long start = record.getLong();
+            long focused = record.getLong();
+            int taskNumber = record.getInt();
+            int pauses = record.getInt();
+            boolean isCompleted = record.get() != 0;
+            String label = StandardCharsets.UTF_8.decode(record).toString();
+            rollups.add(new FocusSession(label, taskNumber, start, focused, pauses, isCompleted));
+            sessionCount++;
+            size += Integer.BYTES + recordBytes;
+        }
+        if (size < fileSize) {
+            logger.log(Level.WARNING, "Dropping " + (fileSize - size) + " bytes from the end of the focus session log");
+            channel.truncate(size);
+        }
+    }
+
+    /**
+     * Saves the totals next to the log, replacing the previous ones in one step.
+     */
+    private void saveRollups() throws IOException {
+        Path temp = rollupPath.resolveSibling(rollupPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(ROLLUP_MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(size);
+            out.writeLong(sessionCount);
+            rollups.write(out);
+        }
+        try {
+            Files.move(temp, rollupPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, rollupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        savedThrough = size;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Focus session log ends early");
+            }
+            position += read;
+        }
+    }
+}
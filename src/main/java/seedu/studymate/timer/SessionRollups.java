@@ -0,0 +1,142 @@
+package seedu.studymate.timer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running totals over every session ever written to a SessionLog, per task, per day and per week, updated
+ * one session at a time. A session counts towards the day and week it started on.
+ * Totals over a range of days add up whole weeks from the weekly totals and only look at single days at
+ * either end, so a report over months reads a few dozen totals however many sessions it covers.
+ */
+final class SessionRollups {
+    private static final int SESSIONS = 0;
+    private static final int COMPLETED = 1;
+    private static final int SECONDS = 2;
+    private static final int FIELDS = 3;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    // totals by task label, in the order tasks were first focused on
+    private final Map<String, long[]> perTask = new LinkedHashMap<>();
+    // totals by epoch day of the local start date
+    private final TreeMap<Long, long[]> perDay = new TreeMap<>();
+    // totals by epoch day of the Monday starting the week
+    private final TreeMap<Long, long[]> perWeek = new TreeMap<>();
+
+    /**
+     * Counts one session.
+     *
+     * @param session The session
+     */
+    void add(FocusSession session) {
+        long day = Math.floorDiv(session.getStartEpochSecond(), SECONDS_PER_DAY);
+        addTo(perTask.computeIfAbsent(session.getLabel(), label -> new long[FIELDS]), session);
+        addTo(perDay.computeIfAbsent(day, key -> new long[FIELDS]), session);
+        addTo(perWeek.computeIfAbsent(weekOf(day), key -> new long[FIELDS]), session);
+    }
+
+    /**
+     * Returns the totals of the sessions started between two days.
+     *
+     * @param fromEpochDay The first day
+     * @param toEpochDay The last day
+     * @return The totals
+     */
+    FocusTotals between(long fromEpochDay, long toEpochDay) {
+        long[] sum = new long[FIELDS];
+        long day = fromEpochDay;
+        while (day <= toEpochDay) {
+            if (weekOf(day) == day && day + 6 <= toEpochDay) {
+                addTo(sum, perWeek.get(day));
+                day += 7;
+            } else {
+                addTo(sum, perDay.get(day));
+                day++;
+            }
+        }
+        return totalsOf(sum);
+    }
+
+    Map<String, FocusTotals> byTask() {
+        Map<String, FocusTotals> totals = new LinkedHashMap<>();
+        perTask.forEach((label, sum) -> totals.put(label, totalsOf(sum)));
+        return totals;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(perTask.size());
+        for (Map.Entry<String, long[]> entry : perTask.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeTotals(out, entry.getValue());
+        }
+        for (TreeMap<Long, long[]> byDay : List.of(perDay, perWeek)) {
+            out.writeInt(byDay.size());
+            for (Map.Entry<Long, long[]> entry : byDay.entrySet()) {
+                out.writeLong(entry.getKey());
+                writeTotals(out, entry.getValue());
+            }
+        }
+    }
+
+    static SessionRollups read(DataInputStream in) throws IOException {
+        SessionRollups rollups = new SessionRollups();
+        int tasks = in.readInt();
+        for (int i = 0; i < tasks; i++) {
+            String label = in.readUTF();
+            rollups.perTask.put(label, readTotals(in));
+        }
+        for (TreeMap<Long, long[]> byDay : List.of(rollups.perDay, rollups.perWeek)) {
+            int days = in.readInt();
+            for (int i = 0; i < days; i++) {
+                long day = in.readLong();
+                byDay.put(day, readTotals(in));
+            }
+        }
+        return rollups;
+    }
+
+    /**
+     * Returns the Monday on or before a day, counting 1970-01-01 as a Thursday.
+     */
+    private static long weekOf(long epochDay) {
+        return epochDay - Math.floorMod(epochDay + 3, 7);
+    }
+
+    private static void addTo(long[] sum, FocusSession session) {
+        sum[SESSIONS]++;
+        sum[COMPLETED] += session.isCompleted() ? 1 : 0;
+        sum[SECONDS] += session.getFocusedSeconds();
+    }
+
+    private static void addTo(long[] sum, long[] totals) {
+        if (totals == null) {
+            return;
+        }
+        for (int i = 0; i < FIELDS; i++) {
+            sum[i] += totals[i];
+        }
+    }
+
+    private static FocusTotals totalsOf(long[] sum) {
+        return new FocusTotals(sum[SESSIONS], sum[COMPLETED], sum[SECONDS]);
+    }
+
+    private static void writeTotals(DataOutputStream out, long[] totals) throws IOException {
+        for (long total : totals) {
+            out.writeLong(total);
+        }
+    }
+
+    private static long[] readTotals(DataInputStream in) throws IOException {
+        long[] totals = new long[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            totals[i] = in.readLong();
+        }
+        return totals;
+    }
+}
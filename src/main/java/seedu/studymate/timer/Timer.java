@@ -1,7 +1,7 @@
 package seedu.studymate.timer;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -9,13 +9,21 @@ import seedu.studymate.tasks.TaskList;
 
 /**
  * Represents a timer to be used for focus sessions
+ * Time is kept in nanoseconds on the monotonic System.nanoTime clock, so changing the wall clock does not
+ * move the timer, and pausing and resuming any number of times loses no fraction of a second
  */
 public class Timer {
     private static final Logger logger = Logger.getLogger("Timer Logger"); // Logger
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
     private TimerState state;               // State of timer
-    private long remainingSec;              // Time remaining
-    private Instant startedAt;              // Timer start time
+    private long remainingNanos;            // Time remaining when last started, paused or resumed
+    private long startedAtNanos;            // Monotonic time the timer was last started or resumed
+    private long firstStartedAtNanos;       // Monotonic time the timer was first started
+    private final long durationNanos;       // Time the timer was set for
+    private int pauseCount;                 // Times the timer has been paused
     private final String label;             // Timer label
+    private final Integer taskIndex;        // Index of the linked task, or null
+    private final LongSupplier nanoTime;    // Monotonic clock
 
     /**
      * Constructs a timer with a link to task
@@ -24,10 +32,8 @@ public class Timer {
      * @param taskIndex   Index of task in taskList
      */
     public Timer(TaskList taskList, long durationSec, Integer taskIndex) {
-        this.state = TimerState.IDLE;
-        this.remainingSec = durationSec;
-        this.label = "Task #" + (taskIndex + 1) + " " +
-                taskList.getTask(taskIndex).getName();
+        this("Task #" + (taskIndex + 1) + " " + taskList.getTask(taskIndex).getName(),
+                durationSec, taskIndex, System::nanoTime);
     }
 
     /**
@@ -37,9 +43,47 @@ public class Timer {
      * @param durationSec Duration of the timer
      */
     public Timer(String label, long durationSec) {
+        this(label, durationSec, null, System::nanoTime);
+    }
+
+    Timer(String label, long durationSec, Integer taskIndex, LongSupplier nanoTime) {
+        this(label, taskIndex, TimeUnit.SECONDS.toNanos(durationSec), nanoTime);
+    }
+
+    private Timer(String label, Integer taskIndex, long durationNanos, LongSupplier nanoTime) {
         this.state = TimerState.IDLE;
-        this.remainingSec = durationSec;
+        this.durationNanos = durationNanos;
+        this.remainingNanos = durationNanos;
         this.label = label;
+        this.taskIndex = taskIndex;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Restores a timer saved by a TimerCheckpoint, carrying on from where it was saved
+     * A running timer whose time has already run out is restored as IDLE
+     *
+     * @param state The state the timer was saved in, RUNNING or PAUSED
+     * @param durationNanos Time the timer was set for
+     * @param remainingNanos Time left now, less any time a running timer spent saved
+     * @param pauseCount Times the timer has been paused
+     * @param elapsedNanos Time since the timer was first started, including time spent saved
+     * @return The restored timer
+     */
+    static Timer restore(String label, Integer taskIndex, TimerState state, long durationNanos,
+            long remainingNanos, int pauseCount, long elapsedNanos) {
+        Timer timer = new Timer(label, taskIndex, durationNanos, System::nanoTime);
+        timer.startedAtNanos = timer.nanoTime.getAsLong();
+        timer.firstStartedAtNanos = timer.startedAtNanos - elapsedNanos;
+        timer.pauseCount = pauseCount;
+        timer.remainingNanos = Math.max(0, remainingNanos);
+        if (timer.remainingNanos == 0) {
+            timer.state = TimerState.IDLE;
+        } else {
+            timer.state = state;
+        }
+        logger.log(Level.INFO, "Restored timer " + label + " as " + timer.state);
+        return timer;
     }
 
     /**
@@ -50,7 +94,8 @@ public class Timer {
             return;
         }
         state = TimerState.RUNNING;
-        startedAt = Instant.now();
+        startedAtNanos = nanoTime.getAsLong();
+        firstStartedAtNanos = startedAtNanos;
         assert (state == TimerState.RUNNING);
         logger.log(Level.INFO, "Started Timer");
     }
@@ -62,18 +107,14 @@ public class Timer {
         if (state != TimerState.RUNNING) {
             return;
         }
-        // Calculate time elapsed during RUNNING state
-        Duration elapsed = Duration.between(startedAt, Instant.now());
+        // Subtract the time elapsed during RUNNING state, to the nanosecond
+        remainingNanos = runningRemainingNanos();
 
-        // Subtract elapsed time from remainingSec
-        remainingSec -= elapsed.getSeconds();
-
-        if (remainingSec <= 0) {
-            remainingSec = 0;
-            state = TimerState.IDLE;
-            logger.log(Level.INFO, "Timer ended");
+        if (remainingNanos <= 0) {
+            end();
         } else {
             state = TimerState.PAUSED;
+            pauseCount++;
             logger.log(Level.INFO, "Timer paused");
         }
     }
@@ -85,7 +126,7 @@ public class Timer {
         if (state != TimerState.PAUSED) {
             return;
         }
-        startedAt = Instant.now();
+        startedAtNanos = nanoTime.getAsLong();
         state = TimerState.RUNNING;
         logger.log(Level.INFO, "Timer resumed");
     }
@@ -95,27 +136,96 @@ public class Timer {
      */
     public synchronized void reset() {
         state = TimerState.IDLE;
-        remainingSec = 0;
+        remainingNanos = 0;
         logger.log(Level.INFO, "Timer reset");
     }
 
+    /**
+     * Returns the time left in whole seconds, rounded up so that a timer shows 0 only once it has run out
+     *
+     * @return The seconds left
+     */
     public synchronized long getRemainingTime() {
-        if (state == TimerState.IDLE || state == TimerState.PAUSED) {
-            return remainingSec;
-        }
-
-        assert (state == TimerState.RUNNING);
-        Duration elapsed = Duration.between(startedAt, Instant.now());
-        long currentRemaining = remainingSec - elapsed.getSeconds();
+        long nanos = getRemainingNanos();
+        return nanos / NANOS_PER_SECOND + (nanos % NANOS_PER_SECOND == 0 ? 0 : 1);
+    }
 
+    /**
+     * Returns the time left in nanoseconds, ending the timer if it has run out
+     *
+     * @return The nanoseconds left
+     */
+    public synchronized long getRemainingNanos() {
+        if (state != TimerState.RUNNING) {
+            return remainingNanos;
+        }
+        long currentRemaining = runningRemainingNanos();
         if (currentRemaining <= 0) {
-            remainingSec = 0;
-            state = TimerState.IDLE;
+            end();
             return 0;
         }
         return currentRemaining;
     }
 
+    /**
+     * Returns when the timer will run out if it keeps running, on the System.nanoTime clock
+     * Compare it with another nanoTime value by subtracting, as the values may overflow
+     *
+     * @return The nanoTime the timer runs out at
+     * @throws IllegalStateException If the timer is not running
+     */
+    public synchronized long getDeadlineNanos() {
+        if (state != TimerState.RUNNING) {
+            throw new IllegalStateException("Timer is not running");
+        }
+        return startedAtNanos + remainingNanos;
+    }
+
+    /**
+     * Returns how long the timer has counted down for, not counting time spent paused
+     *
+     * @return The nanoseconds of focus so far
+     */
+    public synchronized long getFocusedNanos() {
+        return durationNanos - getRemainingNanos();
+    }
+
+    /**
+     * Returns how long ago the timer was first started, including time spent paused
+     *
+     * @return The nanoseconds since the timer was started
+     */
+    public synchronized long getElapsedNanos() {
+        return nanoTime.getAsLong() - firstStartedAtNanos;
+    }
+
+    public synchronized int getPauseCount() {
+        return pauseCount;
+    }
+
+    long getDurationNanos() {
+        return durationNanos;
+    }
+
+    private long runningRemainingNanos() {
+        return remainingNanos - (nanoTime.getAsLong() - startedAtNanos);
+    }
+
+    private void end() {
+        remainingNanos = 0;
+        state = TimerState.IDLE;
+        logger.log(Level.INFO, "Timer ended");
+    }
+
+    /**
+     * Returns the index of the task the timer is linked to
+     *
+     * @return The 0-based task index, or null if the timer is not linked to a task
+     */
+    public Integer getTaskIndex() {
+        return taskIndex;
+    }
+
     public synchronized TimerState getState() {
         return state;
     }
@@ -127,15 +237,7 @@ public class Timer {
 
     @Override
     public synchronized String toString() {
-        Duration elapsed = Duration.between(startedAt, Instant.now());
-        long currentRemaining;
-        if (state == TimerState.RUNNING) {
-            currentRemaining = remainingSec - elapsed.getSeconds();
-        } else if (state == TimerState.PAUSED) {
-            currentRemaining = remainingSec;
-        } else {
-            currentRemaining = 0;
-        }
+        long currentRemaining = state == TimerState.IDLE ? 0 : getRemainingTime();
 
         String[] formattedTime = formatDuration(currentRemaining);
         String output = "Timer Status\n"
@@ -0,0 +1,139 @@
+package seedu.studymate.timer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A small state file holding every active timer, kept apart from the main save file so that timers are
+ * checkpointed only when one starts, pauses, resumes, ends or is reset, and never while one just counts down.
+ * Each checkpoint records the wall-clock time it was written. System.nanoTime readings mean nothing once
+ * StudyMate restarts, so on restoring, a running timer has the wall-clock time since the checkpoint taken
+ * off its time left, as it kept running while StudyMate was closed. If the wall clock has gone back since,
+ * no time is taken off. Paused timers are restored exactly as they were.
+ */
+public class TimerCheckpoint {
+    private static final Logger logger = Logger.getLogger("TimerCheckpoint Logger");
+    // "SMTS"
+    private static final int MAGIC = 0x534D5453;
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final Clock clock;
+
+    /**
+     * Constructs a TimerCheckpoint.
+     *
+     * @param path The path of the state file
+     * @param clock The clock to time checkpoints with
+     */
+    public TimerCheckpoint(Path path, Clock clock) {
+        this.path = path;
+        this.clock = clock;
+    }
+
+    /**
+     * Replaces the state file with the given timers in one step, or deletes it if there are none.
+     * A failure to write is logged rather than thrown, as losing a checkpoint should never stop the timer.
+     *
+     * @param timers The active timers
+     */
+    public void save(Collection<Timer> timers) {
+        try {
+            if (timers.isEmpty()) {
+                Files.deleteIfExists(path);
+                return;
+            }
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(clock.millis());
+                out.writeInt(timers.size());
+                for (Timer timer : timers) {
+                    write(out, timer);
+                }
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not checkpoint timers: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads back the timers of the last checkpoint, bringing running timers up to date.
+     *
+     * @return The timers, in the order they were saved; those that ran out since are IDLE
+     * @throws IOException If the state file cannot be read or is not a timer checkpoint
+     */
+    public List<Timer> load() throws IOException {
+        List<Timer> timers = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(path + " is not a timer checkpoint");
+            }
+            long sinceCheckpoint = TimeUnit.MILLISECONDS.toNanos(Math.max(0, clock.millis() - in.readLong()));
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                timers.add(read(in, sinceCheckpoint));
+            }
+        } catch (NoSuchFileException e) {
+            return timers;
+        }
+        return timers;
+    }
+
+    private static void write(DataOutputStream out, Timer timer) throws IOException {
+        // Read the time left first, as reading it may end the timer
+        long remainingNanos = timer.getRemainingNanos();
+        Integer taskIndex = timer.getTaskIndex();
+        out.writeUTF(timer.getLabel());
+        out.writeInt(taskIndex == null ? -1 : taskIndex);
+        out.writeByte(timer.getState().ordinal());
+        out.writeLong(timer.getDurationNanos());
+        out.writeLong(remainingNanos);
+        out.writeInt(timer.getPauseCount());
+        out.writeLong(timer.getElapsedNanos());
+    }
+
+    private static Timer read(DataInputStream in, long sinceCheckpoint) throws IOException {
+        String label = in.readUTF();
+        int taskIndex = in.readInt();
+        int stateCode = in.readByte();
+        if (stateCode < 0 || stateCode >= TimerState.values().length) {
+            throw new IOException("Unknown timer state " + stateCode);
+        }
+        TimerState state = TimerState.values()[stateCode];
+        long durationNanos = in.readLong();
+        long remainingNanos = in.readLong();
+        int pauseCount = in.readInt();
+        long elapsedNanos = in.readLong() + sinceCheckpoint;
+        if (state == TimerState.RUNNING) {
+            remainingNanos -= sinceCheckpoint;
+        }
+        return Timer.restore(label, taskIndex < 0 ? null : taskIndex, state, durationNanos, remainingNanos,
+                pauseCount, elapsedNanos);
+    }
+}
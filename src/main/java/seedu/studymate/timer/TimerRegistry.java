@@ -0,0 +1,352 @@
+package seedu.studymate.timer;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.runtime.RuntimeExecutors;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps every focus timer that is running or paused, each named by its label and optionally linked to a task.
+ * Running timers are ordered by when they run out, and a single check on the shared runtime scheduler is
+ * armed for the earliest of them, so no thread is started per timer and nothing polls while no timer is
+ * about to end. Deadlines are kept on the monotonic System.nanoTime clock and the check is scheduled for the
+ * exact nanosecond a timer runs out, so a timer ends on time rather than on the next whole second.
+ * Pausing, resuming or resetting a timer takes it out of or puts it back into that order,
+ * moving the check if the earliest deadline changed.
+ * A command that names no timer acts on the most recently started one.
+ * With a TimerCheckpoint set, the active timers are checkpointed after every change to them, and on shutdown
+ * they are kept in the checkpoint rather than reset, to be restored the next time StudyMate starts.
+ */
+public class TimerRegistry {
+    private static final Logger logger = Logger.getLogger("TimerRegistry Logger");
+
+    // Active timers by lower-case label, in the order they were started
+    private final Map<String, Timer> timers = new LinkedHashMap<>();
+    // nanoTime values may overflow, so they are only ever compared by subtracting
+    private final PriorityQueue<Deadline> deadlines =
+            new PriorityQueue<>((first, second) -> Long.signum(first.at - second.at));
+    private final Consumer<Timer> onEnded;
+    private ScheduledFuture<?> nextCheck;
+    private long nextCheckAt;
+    private volatile SessionLog sessionLog;
+    private TimerCheckpoint checkpoint;
+
+    /**
+     * Constructs an empty TimerRegistry.
+     *
+     * @param onEnded Called on the scheduler thread with each timer that runs out, after it is removed
+     */
+    public TimerRegistry(Consumer<Timer> onEnded) {
+        this.onEnded = onEnded;
+    }
+
+    /**
+     * Sets the log that each timer's session is recorded to when it runs out or is reset.
+     *
+     * @param sessionLog The session log, or null to record nothing
+     */
+    public void setSessionLog(SessionLog sessionLog) {
+        this.sessionLog = sessionLog;
+    }
+
+    public SessionLog getSessionLog() {
+        return sessionLog;
+    }
+
+    /**
+     * Restores the timers of a checkpoint and checkpoints every later change to the active timers.
+     * Timers that ran out while StudyMate was closed are recorded as completed sessions, not restored.
+     *
+     * @param checkpoint The checkpoint to restore from and save to
+     * @return The timers that ran out while StudyMate was closed
+     * @throws IOException If the checkpoint could not be read, in which case no timer is restored
+     */
+    public synchronized List<Timer> restore(TimerCheckpoint checkpoint) throws IOException {
+        this.checkpoint = checkpoint;
+        List<Timer> ended = new ArrayList<>();
+        for (Timer timer : checkpoint.load()) {
+            String key = keyOf(timer.getLabel());
+            if (timer.getState() == TimerState.IDLE) {
+                recordSession(timer);
+                ended.add(timer);
+            } else if (!timers.containsKey(key)) {
+                timers.put(key, timer);
+                schedule(timer);
+            }
+        }
+        if (!ended.isEmpty()) {
+            checkpoint();
+        }
+        logger.log(Level.INFO, "Restored " + timers.size() + " timer(s), " + ended.size() + " ended while closed");
+        return ended;
+    }
+
+    /**
+     * Starts a timer and adds it to the registry.
+     *
+     * @param timer A new, idle timer
+     * @throws StudyMateException If an active timer already has the same label
+     */
+    public synchronized void start(Timer timer) throws StudyMateException {
+        String key = keyOf(timer.getLabel());
+        if (timers.containsKey(key)) {
+            throw new StudyMateException("A timer named " + timer.getLabel()
+                    + " is already running or paused. Please stop it first.");
+        }
+        timer.start();
+        timers.put(key, timer);
+        schedule(timer);
+        checkpoint();
+        logger.log(Level.INFO, "Started timer " + timer.getLabel() + ", " + timers.size() + " active");
+    }
+
+    /**
+     * Pauses a running timer.
+     *
+     * @param target The label or linked task number of the timer, or null for the latest timer
+     * @return The paused timer
+     * @throws StudyMateException If there is no such timer or it is not running
+     */
+    public synchronized Timer pause(String target) throws StudyMateException {
+        Timer timer = find(target);
+        if (timer.getState() == TimerState.PAUSED) {
+            throw new StudyMateException("Timer is already paused");
+        }
+        unschedule(timer);
+        timer.pause();
+        if (timer.getState() == TimerState.IDLE) {
+            // Ran out just before it could be paused
+            timers.remove(keyOf(timer.getLabel()));
+            recordSession(timer);
+            checkpoint();
+            throw new StudyMateException("Timer is not running");
+        }
+        checkpoint();
+        return timer;
+    }
+
+    /**
+     * Resumes a paused timer.
+     *
+     * @param target The label or linked task number of the timer, or null for the latest timer
+     * @return The resumed timer
+     * @throws StudyMateException If there is no such timer or it is not paused
+     */
+    public synchronized Timer resume(String target) throws StudyMateException {
+        Timer timer = find(target);
+        if (timer.getState() == TimerState.RUNNING) {
+            throw new StudyMateException("Timer is already running");
+        }
+        timer.resume();
+        schedule(timer);
+        checkpoint();
+        return timer;
+    }
+
+    /**
+     * Resets a timer and removes it from the registry, recording its session as stopped early.
+     *
+     * @param target The label or linked task number of the timer, or null for the latest timer
+     * @return The removed timer
+     * @throws StudyMateException If there is no such timer
+     */
+    public synchronized Timer reset(String target) throws StudyMateException {
+        Timer timer = find(target);
+        unschedule(timer);
+        timers.remove(keyOf(timer.getLabel()));
+        recordSession(timer);
+        timer.reset();
+        checkpoint();
+        return timer;
+    }
+
+    /**
+     * Finds an active timer by its label, ignoring case, or by the number of the task it is linked to.
+     *
+     * @param target The label or 1-based task number, or null or blank for the most recently started timer
+     * @return The timer
+     * @throws StudyMateException If no timer is active or none matches the target
+     */
+    public synchronized Timer find(String target) throws StudyMateException {
+        if (timers.isEmpty()) {
+            throw new StudyMateException("No timer is currently active");
+        }
+        if (target == null || target.isBlank()) {
+            Timer latest = null;
+            for (Timer timer : timers.values()) {
+                latest = timer;
+            }
+            return latest;
+        }
+        String trimmed = target.trim();
+        Timer byLabel = timers.get(keyOf(trimmed));
+        if (byLabel != null) {
+            return byLabel;
+        }
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            for (Timer timer : timers.values()) {
+                if (timer.getTaskIndex() != null && String.valueOf(timer.getTaskIndex() + 1).equals(trimmed)) {
+                    return timer;
+                }
+            }
+        }
+        throw new StudyMateException("No active timer is named " + trimmed);
+    }
+
+    /**
+     * Returns the active timers.
+     *
+     * @return The running and paused timers, in the order they were started
+     */
+    public synchronized List<Timer> getTimers() {
+        return new ArrayList<>(timers.values());
+    }
+
+    public synchronized int getCount() {
+        return timers.size();
+    }
+
+    /**
+     * Stops checking deadlines when StudyMate exits. With a checkpoint set, the active timers are saved to it
+     * to carry on next time; otherwise they are cleared, as by clear().
+     */
+    public synchronized void shutdown() {
+        if (checkpoint == null) {
+            clear();
+            return;
+        }
+        checkpoint();
+        timers.clear();
+        deadlines.clear();
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+            nextCheck = null;
+        }
+    }
+
+    /**
+     * Resets and removes every timer, recording their sessions as stopped early, and cancels the pending check.
+     */
+    public synchronized void clear() {
+        for (Timer timer : timers.values()) {
+            recordSession(timer);
+            timer.reset();
+        }
+        timers.clear();
+        deadlines.clear();
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+            nextCheck = null;
+        }
+        checkpoint();
+    }
+
+    private void schedule(Timer timer) {
+        if (timer.getState() == TimerState.RUNNING) {
+            deadlines.add(new Deadline(timer, timer.getDeadlineNanos()));
+            arm();
+        }
+    }
+
+    private void unschedule(Timer timer) {
+        deadlines.removeIf(deadline -> deadline.timer == timer);
+        arm();
+    }
+
+    /**
+     * Ends every timer that has run out, then arms the check for the next deadline.
+     */
+    private void checkDeadlines() {
+        List<Timer> ended = new ArrayList<>();
+        synchronized (this) {
+            nextCheck = null;
+            long now = System.nanoTime();
+            while (!deadlines.isEmpty() && deadlines.peek().at - now <= 0) {
+                Timer timer = deadlines.poll().timer;
+                if (timer.getRemainingNanos() <= 0) {
+                    timers.remove(keyOf(timer.getLabel()));
+                    recordSession(timer);
+                    ended.add(timer);
+                } else {
+                    // Woken a little early; wait for the rest of its time
+                    schedule(timer);
+                }
+            }
+            if (!ended.isEmpty()) {
+                checkpoint();
+            }
+            arm();
+        }
+        for (Timer timer : ended) {
+            logger.log(Level.INFO, "Timer ended: " + timer.getLabel());
+            onEnded.accept(timer);
+        }
+    }
+
+    /**
+     * Schedules the check for the earliest deadline, keeping an already scheduled check that is no later.
+     */
+    private void arm() {
+        Deadline first = deadlines.peek();
+        if (first == null) {
+            if (nextCheck != null) {
+                nextCheck.cancel(false);
+                nextCheck = null;
+            }
+            return;
+        }
+        if (nextCheck != null && nextCheckAt - first.at <= 0) {
+            return;
+        }
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+        }
+        long delayNanos = Math.max(0, first.at - System.nanoTime());
+        nextCheck = RuntimeExecutors.scheduler().schedule(this::checkDeadlines, delayNanos, TimeUnit.NANOSECONDS);
+        nextCheckAt = first.at;
+    }
+
+    /**
+     * Records the session of a timer leaving the registry, as completed if it ran out.
+     */
+    private void recordSession(Timer timer) {
+        SessionLog log = sessionLog;
+        if (log != null) {
+            log.record(timer, timer.getState() == TimerState.IDLE);
+        }
+    }
+
+    private void checkpoint() {
+        if (checkpoint != null) {
+            checkpoint.save(timers.values());
+        }
+    }
+
+    private static String keyOf(String label) {
+        return label.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A running timer and the nanoTime it runs out at, fixed while it is in the deadline order.
+     */
+    private static final class Deadline {
+        private final Timer timer;
+        private final long at;
+
+        private Deadline(Timer timer, long at) {
+            this.timer = timer;
+            this.at = at;
+        }
+    }
+}
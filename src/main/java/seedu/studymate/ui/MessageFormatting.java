@@ -1,8 +1,14 @@
 package seedu.studymate.ui;
 
 import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.parser.DateTimeCodec;
+import seedu.studymate.reminders.IndexedReminder;
+import seedu.studymate.runtime.Histogram;
+import seedu.studymate.timer.FocusTotals;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Class to manage all message formatting
@@ -27,11 +33,9 @@ public class MessageFormatting {
      * @return The formatted string for display
      */
     public static String deadlineString(Boolean isDone, String name, DateTimeArg deadline) {
-        String dateTimeString = deadline.toString().replace("T", " ");
-        if (isDone) {
-            return "[D][X] " + name + " (by: " + dateTimeString + ")";
-        }
-        return "[D][ ] " + name + " (by: " + dateTimeString + ")";
+        StringBuilder sb = new StringBuilder(name.length() + 32);
+        sb.append(isDone ? "[D][X] " : "[D][ ] ").append(name).append(" (by: ");
+        return DateTimeCodec.appendTo(sb, deadline, DateTimeCodec.DISPLAY_SEPARATOR).append(')').toString();
     }
 
     /**
@@ -41,12 +45,10 @@ public class MessageFormatting {
      * @return The formatted string for display
      */
     public static String eventString(Boolean isDone, String name, DateTimeArg from, DateTimeArg to) {
-        String fromString = from.toString().replace("T", " ");
-        String toEventString = to.toString().replace("T", " ");
-        if (isDone) {
-            return "[E][X] " + name + " (from: " + fromString + ", to: " + toEventString + ")";
-        }
-        return "[E][ ] " + name + " (from: " + fromString + ", to: " + toEventString + ")";
+        StringBuilder sb = new StringBuilder(name.length() + 56);
+        sb.append(isDone ? "[E][X] " : "[E][ ] ").append(name).append(" (from: ");
+        DateTimeCodec.appendTo(sb, from, DateTimeCodec.DISPLAY_SEPARATOR).append(", to: ");
+        return DateTimeCodec.appendTo(sb, to, DateTimeCodec.DISPLAY_SEPARATOR).append(')').toString();
     }
 
     /**
@@ -58,11 +60,9 @@ public class MessageFormatting {
      * @return The formatted string for display
      */
     public static String oneTimeReminderString(Boolean onReminder, String name, DateTimeArg dateTime) {
-        String dateTimeString = dateTime.toString().replace("T", " ");
-        if (onReminder) {
-            return "[RO][O] " + name + " (" + dateTimeString + ")";
-        }
-        return "[RO][ ] " + name + " (" + dateTimeString + ")";
+        StringBuilder sb = new StringBuilder(name.length() + 28);
+        sb.append(onReminder ? "[RO][O] " : "[RO][ ] ").append(name).append(" (");
+        return DateTimeCodec.appendTo(sb, dateTime, DateTimeCodec.DISPLAY_SEPARATOR).append(')').toString();
     }
 
     /**
@@ -76,17 +76,115 @@ public class MessageFormatting {
      */
     public static String recReminderString(Boolean onReminder, String name, DateTimeArg dateTime,
                                            Duration reminderInterval) {
-        String returnString;
-        String dateTimeString = dateTime.toString().replace("T", " ");
+        return recReminderString(onReminder, name, dateTime, reminderInterval, null);
+    }
+
+    /**
+     * Returns a formatted string representation of a recurring reminder that may name its catch-up policy
+     *
+     * @param onReminder Whether the reminder is turned on
+     * @param name The name of the reminder
+     * @param dateTime The next time the reminder fires
+     * @param reminderInterval The time between occurrences
+     * @param catchUpPolicy The keyword of the catch-up policy to show, or null to leave it out
+     * @return The formatted string
+     */
+    public static String recReminderString(Boolean onReminder, String name, DateTimeArg dateTime,
+                                           Duration reminderInterval, String catchUpPolicy) {
         String reminderIntervalString = reminderInterval.toString().replace("PT", "");
-        if (onReminder) {
-            returnString = "[RR][O] " + name + " (interval: " + reminderIntervalString + ")\n" +
-                    "Next reminder: " + dateTimeString;
-            return returnString;
+        StringBuilder sb = new StringBuilder(name.length() + 64);
+        sb.append(onReminder ? "[RR][O] " : "[RR][ ] ").append(name)
+                .append(" (interval: ").append(reminderIntervalString);
+        if (catchUpPolicy != null) {
+            sb.append(", catch-up: ").append(catchUpPolicy);
+        }
+        sb.append(")\n").append("Next reminder: ");
+        return DateTimeCodec.appendTo(sb, dateTime, DateTimeCodec.DISPLAY_SEPARATOR).toString();
+    }
+
+    /**
+     * Returns a formatted string representation of a reminder that recurs by a calendar rule.
+     *
+     * @param onReminder Whether the reminder is turned on
+     * @param name The name of the reminder
+     * @param dateTime The date and time of the next occurrence
+     * @param rule The recurrence rule
+     * @param catchUpPolicy The keyword of the catch-up policy to show, or null to leave it out
+     * @return The formatted string for display
+     */
+    public static String calendarReminderString(Boolean onReminder, String name, DateTimeArg dateTime,
+                                                String rule, String catchUpPolicy) {
+        StringBuilder sb = new StringBuilder(name.length() + rule.length() + 56);
+        sb.append(onReminder ? "[RR][O] " : "[RR][ ] ").append(name).append(" (rule: ").append(rule);
+        if (catchUpPolicy != null) {
+            sb.append(", catch-up: ").append(catchUpPolicy);
         }
-        returnString = "[RR][ ] " + name + " (interval: " + reminderIntervalString + ")\n" +
-                "Next reminder: " + dateTimeString;
-        return returnString;
+        sb.append(")\n").append("Next reminder: ");
+        return DateTimeCodec.appendTo(sb, dateTime, DateTimeCodec.DISPLAY_SEPARATOR).toString();
+    }
+
+    /**
+     * Returns the lines listing a batch of fired reminders, with a reminder fired more than once
+     * followed by how many times it fired
+     *
+     * @param reminders The fired reminders
+     * @return The formatted lines, each ending in a line separator
+     */
+    public static String firedRemindersString(List<IndexedReminder> reminders) {
+        StringBuilder sb = new StringBuilder(reminders.size() * 64);
+        for (IndexedReminder reminder : reminders) {
+            sb.append(reminder.getIndex()).append(". ").append(reminder.getReminder()).append(System.lineSeparator());
+            if (reminder.getOccurrences() > 1) {
+                sb.append("   (fired ").append(reminder.getOccurrences()).append(" times)")
+                        .append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a timestamped block listing a batch of fired reminders, for sinks other than the console
+     *
+     * @param deliveredAt When the batch is delivered
+     * @param reminders The fired reminders
+     * @return The formatted block, ending in a line separator
+     */
+    public static String reminderBatchString(LocalDateTime deliveredAt, List<IndexedReminder> reminders) {
+        StringBuilder sb = new StringBuilder("[");
+        DateTimeCodec.appendTo(sb, DateTimeArg.of(deliveredAt), DateTimeCodec.DISPLAY_SEPARATOR);
+        sb.append("] StudyMate reminds you of the following!").append(System.lineSeparator());
+        return sb.append(firedRemindersString(reminders)).toString();
+    }
+
+    /**
+     * Returns a line summarising a histogram: how many values it holds, their mean, percentiles and maximum
+     *
+     * @param name What the histogram measures
+     * @param histogram The histogram
+     * @return The formatted line, ending in a line separator
+     */
+    public static String histogramString(String name, Histogram histogram) {
+        if (histogram.getCount() == 0) {
+            return name + ": no data" + System.lineSeparator();
+        }
+        return String.format("%s: count %d, mean %.1f, p50 %d, p90 %d, p99 %d, max %d%n", name,
+                histogram.getCount(), histogram.getMean(), histogram.getPercentile(0.5),
+                histogram.getPercentile(0.9), histogram.getPercentile(0.99), histogram.getMax());
+    }
+
+    /**
+     * Returns one line of focus totals, such as "Today: 3 sessions, 1h 15m focused (2 completed)"
+     *
+     * @param name What the totals cover
+     * @param totals The totals
+     * @return The formatted line, ending with a line separator
+     */
+    public static String focusTotalsString(String name, FocusTotals totals) {
+        long sessions = totals.getSessions();
+        long minutes = totals.getFocusedSeconds() / 60;
+        String focused = minutes >= 60 ? (minutes / 60) + "h " + (minutes % 60) + "m" : minutes + "m";
+        return name + ": " + sessions + (sessions == 1 ? " session, " : " sessions, ") + focused + " focused ("
+                + totals.getCompleted() + " completed)" + System.lineSeparator();
     }
 
     /**
@@ -98,7 +196,9 @@ public class MessageFormatting {
      * @return The formatted string for display
      */
     public static String habitString(String name, DateTimeArg deadline, int streak) {
-        String deadlineString = deadline.toString().replace("T", " ");
-        return "[H] " + name + " (deadline: " + deadlineString + ", streak: " + streak + ")";
+        StringBuilder sb = new StringBuilder(name.length() + 48);
+        sb.append("[H] ").append(name).append(" (deadline: ");
+        DateTimeCodec.appendTo(sb, deadline, DateTimeCodec.DISPLAY_SEPARATOR);
+        return sb.append(", streak: ").append(streak).append(')').toString();
     }
 }
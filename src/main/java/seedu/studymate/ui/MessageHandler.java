@@ -5,14 +5,26 @@ import seedu.studymate.habits.Habit;
 import seedu.studymate.habits.HabitList;
 import seedu.studymate.habits.StreakResult;
 import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.parser.DateTimeCodec;
 import seedu.studymate.reminders.IndexedReminder;
 import seedu.studymate.reminders.Reminder;
+import seedu.studymate.reminders.ReminderEventLog;
 import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.reminders.SchedulerStats;
 import seedu.studymate.tasks.TaskList;
 import seedu.studymate.tasks.Task;
-
+import seedu.studymate.timer.FocusTotals;
+import seedu.studymate.timer.SessionLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
 
 /**
  * Handles all messages and interactions with the user interface by printing to the console
@@ -21,6 +33,54 @@ import java.util.List;
  */
 public class MessageHandler {
     private static final String LINE = "____________________________________________________________";
+    private static final int HEATMAP_WEEKS = 4;
+    private static final int STATS_PERIODS = 30;
+    // Per-thread output buffer, used to collect the output of a script into one response
+    private static final ThreadLocal<ByteArrayOutputStream> buffer = new ThreadLocal<>();
+    private static final ThreadLocal<PrintStream> bufferedOut = new ThreadLocal<>();
+
+    /**
+     * Starts collecting all messages sent from the current thread into a buffer instead of printing them.
+     * Messages sent from other threads, such as reminder notifications, are still printed immediately.
+     */
+    public static void startBuffering() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        buffer.set(bytes);
+        bufferedOut.set(new PrintStream(bytes, false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stops buffering messages for the current thread.
+     *
+     * @return All output collected since buffering was started
+     */
+    public static String stopBuffering() {
+        ByteArrayOutputStream bytes = buffer.get();
+        PrintStream stream = bufferedOut.get();
+        buffer.remove();
+        bufferedOut.remove();
+        if (bytes == null) {
+            return "";
+        }
+        stream.flush();
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Prints already formatted output in a single write.
+     *
+     * @param output The output to print
+     */
+    public static void sendRaw(String output) {
+        PrintStream out = out();
+        out.print(output);
+        out.flush();
+    }
+
+    private static PrintStream out() {
+        PrintStream stream = bufferedOut.get();
+        return stream != null ? stream : System.out;
+    }
 
     /**
      * Prints a series of messages, enclosed within a decorative line
@@ -28,11 +88,11 @@ public class MessageHandler {
      * @param messages An array of strings to be printed
      */
     public static void sendMessage(String... messages) {
-        System.out.println(LINE);
+        out().println(LINE);
         for (String message : messages) {
-            System.out.println(message);
+            out().println(message);
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -45,12 +105,12 @@ public class MessageHandler {
             sendMessage("Task list is empty!");
             return;
         }
-        System.out.println(LINE);
-        System.out.println("Here are the tasks in your task list:");
+        out().println(LINE);
+        out().println("Here are the tasks in your task list:");
         for (int i = 0; i < taskList.getCount(); i++) {
-            System.out.println((i + 1) + ". " + taskList.getTask(i).toString());
+            out().println((i + 1) + ". " + taskList.getTask(i).toString());
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -63,13 +123,13 @@ public class MessageHandler {
             sendMessage("Task list has no deadlines or events!");
             return;
         }
-        System.out.println(LINE);
-        System.out.println("Here are the deadlines and events in your task list," +
+        out().println(LINE);
+        out().println("Here are the deadlines and events in your task list," +
                 " sorted by their deadlines and/or start times:");
         for (int i = 0; i < taskList.size(); i++) {
-            System.out.println((i + 1) + ". " + taskList.get(i).toString());
+            out().println((i + 1) + ". " + taskList.get(i).toString());
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -82,12 +142,12 @@ public class MessageHandler {
             sendMessage("No results found!");
             return;
         }
-        System.out.println(LINE);
-        System.out.println("Here are the tasks with the matching substring found!:");
+        out().println(LINE);
+        out().println("Here are the tasks with the matching substring found!:");
         for (int i = 0; i < taskList.size(); i++) {
-            System.out.println((i + 1) + ". " + taskList.get(i).toString());
+            out().println((i + 1) + ". " + taskList.get(i).toString());
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -100,12 +160,91 @@ public class MessageHandler {
             sendMessage("Reminders list is empty!");
             return;
         }
-        System.out.println(LINE);
-        System.out.println("Here are your Reminders:");
+        out().println(LINE);
+        out().println("Here are your Reminders:");
+        for (int i = 0; i < reminderList.getCount(); i++) {
+            out().println((i + 1) + ". " + reminderList.getReminder(i).toString());
+        }
+        out().println(LINE);
+    }
+
+    /**
+     * Prints how often each reminder has fired and been snoozed, and how many reminders fired on each
+     * of the last seven days
+     *
+     * @param reminderList The reminders to show the history of
+     * @param today The last day to show fires for
+     */
+    public static void sendReminderHistory(ReminderList reminderList, LocalDate today) {
+        ReminderEventLog eventLog = reminderList.getEventLog();
+        if (eventLog == null) {
+            sendMessage("Reminder history is not being recorded.");
+            return;
+        }
+        out().println(LINE);
+        SortedMap<LocalDate, Long> firesPerDay = eventLog.getFiresPerDay(today.minusDays(6), today);
+        long fires = firesPerDay.values().stream().mapToLong(Long::longValue).sum();
+        out().println("Reminders fired in the last 7 days: " + fires);
+        firesPerDay.forEach((day, count) -> out().println("   " + day + ": " + count));
         for (int i = 0; i < reminderList.getCount(); i++) {
-            System.out.println((i + 1) + ". " + reminderList.getReminder(i).toString());
+            Reminder reminder = reminderList.getReminder(i);
+            long fireCount = eventLog.getFireCount(reminder);
+            long snoozeCount = eventLog.getSnoozeCount(reminder);
+            String line = (i + 1) + ". " + reminder.getName() + " - fired " + fireCount
+                    + (fireCount == 1 ? " time" : " times") + ", snoozed " + snoozeCount
+                    + (snoozeCount == 1 ? " time" : " times");
+            if (fireCount > 0) {
+                line += String.format(" (%.0f%% snooze rate)", eventLog.getSnoozeRate(reminder) * 100);
+            }
+            out().println(line);
         }
-        System.out.println(LINE);
+        out().println(LINE);
+    }
+
+    /**
+     * Prints how much time was spent focusing over the last days, this week and today, and on each task
+     *
+     * @param sessionLog The focus session log, or null if sessions are not being recorded
+     * @param today Today's date
+     * @param days How many days, up to and including today, to total
+     */
+    public static void sendFocusHistory(SessionLog sessionLog, LocalDate today, int days) {
+        if (sessionLog == null) {
+            sendMessage("Focus history is not being recorded.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder(LINE).append(System.lineSeparator());
+        sb.append(MessageFormatting.focusTotalsString("Last " + days + (days == 1 ? " day" : " days"),
+                sessionLog.getTotals(today.minusDays(days - 1L), today)));
+        sb.append(MessageFormatting.focusTotalsString("This week",
+                sessionLog.getTotals(today.with(DayOfWeek.MONDAY), today)));
+        sb.append(MessageFormatting.focusTotalsString("Today", sessionLog.getTotals(today, today)));
+        Map<String, FocusTotals> byTask = sessionLog.getTotalsByTask();
+        if (!byTask.isEmpty()) {
+            sb.append("By task:").append(System.lineSeparator());
+            byTask.forEach((label, totals) -> sb.append("   ")
+                    .append(MessageFormatting.focusTotalsString(label, totals)));
+        }
+        sendRaw(sb.append(LINE).append(System.lineSeparator()).toString());
+    }
+
+    /**
+     * Prints how late reminders have fired and how long the scheduler's checks and lock holds have taken
+     *
+     * @param stats The scheduler statistics, or null if no scheduler is running
+     */
+    public static void sendSchedulerStats(SchedulerStats stats) {
+        if (stats == null) {
+            sendMessage("The reminder scheduler is not running.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder(LINE).append(System.lineSeparator());
+        sb.append("Reminder scheduler statistics:").append(System.lineSeparator());
+        sb.append(MessageFormatting.histogramString("Fire lateness (ms)", stats.getLateness()));
+        sb.append(MessageFormatting.histogramString("Check duration (us)", stats.getTickDuration()));
+        sb.append(MessageFormatting.histogramString("Reminders examined per check", stats.getExamined()));
+        sb.append(MessageFormatting.histogramString("Queue lock hold (us)", stats.getLockHold()));
+        sendRaw(sb.append(LINE).append(System.lineSeparator()).toString());
     }
 
     /**
@@ -115,15 +254,15 @@ public class MessageHandler {
      * @param count The current number of tasks in the list
      */
     public static void sendAddTaskMessage(Task task, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've added this task:");
-        System.out.println(task.toString());
+        out().println(LINE);
+        out().println("Got it. I've added this task:");
+        out().println(task.toString());
         if (count == 1) {
-            System.out.println("Now you have 1 task in the task list.");
+            out().println("Now you have 1 task in the task list.");
         } else {
-            System.out.println("Now you have " + count + " tasks in the task list.");
+            out().println("Now you have " + count + " tasks in the task list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -133,17 +272,17 @@ public class MessageHandler {
      * @param count The current number of tasks in the list
      */
     public static void sendDeleteTaskMessage(List<Task> tasks, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've deleted these tasks:");
+        out().println(LINE);
+        out().println("Got it. I've deleted these tasks:");
         for (Task task : tasks) {
-            System.out.println(task.toString());
+            out().println(task.toString());
         }
         if (count == 1) {
-            System.out.println("Now you have 1 task in the task list.");
+            out().println("Now you have 1 task in the task list.");
         } else {
-            System.out.println("Now you have " + count + " tasks in the task list.");
+            out().println("Now you have " + count + " tasks in the task list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -153,17 +292,17 @@ public class MessageHandler {
      * @param count     The current number of tasks in the list
      */
     public static void sendDeleteReminderMessage(List<Reminder> reminders, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've deleted these reminders:");
+        out().println(LINE);
+        out().println("Got it. I've deleted these reminders:");
         for (Reminder reminder : reminders) {
-            System.out.println(reminder.toString());
+            out().println(reminder.toString());
         }
         if (count == 1) {
-            System.out.println("Now you have 1 reminder in the Reminders list.");
+            out().println("Now you have 1 reminder in the Reminders list.");
         } else {
-            System.out.println("Now you have " + count + " reminders in the Reminders list.");
+            out().println("Now you have " + count + " reminders in the Reminders list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -172,12 +311,12 @@ public class MessageHandler {
      * @param tasks The list of tasks that was marked
      */
     public static void sendMarkMessage(List<Task> tasks) {
-        System.out.println(LINE);
-        System.out.println("Nice! I've marked these tasks as done:");
+        out().println(LINE);
+        out().println("Nice! I've marked these tasks as done:");
         for (Task task : tasks) {
-            System.out.println(task.toString());
+            out().println(task.toString());
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -186,12 +325,12 @@ public class MessageHandler {
      * @param tasks The list of task that was unmarked
      */
     public static void sendUnmarkMessage(List<Task> tasks) {
-        System.out.println(LINE);
-        System.out.println("OK, I've marked these tasks as not done yet:");
+        out().println(LINE);
+        out().println("OK, I've marked these tasks as not done yet:");
         for (Task task : tasks) {
-            System.out.println(task.toString());
+            out().println(task.toString());
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -200,10 +339,10 @@ public class MessageHandler {
      * @param task The task who had its description edited
      */
     public static void sendEditDescMessage(Task task) {
-        System.out.println(LINE);
-        System.out.println("OK, I've edited the description of the task to:");
-        System.out.println(task);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("OK, I've edited the description of the task to:");
+        out().println(task);
+        out().println(LINE);
     }
 
     /**
@@ -212,11 +351,11 @@ public class MessageHandler {
      * @param task The task who had its description edited
      */
     public static void sendEditDeadlineMessage(Task task, DateTimeArg dateTimeArg) {
-        System.out.println(LINE);
-        System.out.println("OK, I've edited the deadline of the deadline " + task.getName() + " to:");
-        String dateTimeString = dateTimeArg.toString().replace("T", " ");
-        System.out.println(dateTimeString);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("OK, I've edited the deadline of the deadline " + task.getName() + " to:");
+        String dateTimeString = DateTimeCodec.formatDisplay(dateTimeArg);
+        out().println(dateTimeString);
+        out().println(LINE);
     }
 
     /**
@@ -225,11 +364,11 @@ public class MessageHandler {
      * @param task The task who had its description edited
      */
     public static void sendEditFromMessage(Task task, DateTimeArg dateTimeArg) {
-        System.out.println(LINE);
-        System.out.println("OK, I've edited the from date of the event " + task.getName() + " to:");
-        String dateTimeString = dateTimeArg.toString().replace("T", " ");
-        System.out.println(dateTimeString);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("OK, I've edited the from date of the event " + task.getName() + " to:");
+        String dateTimeString = DateTimeCodec.formatDisplay(dateTimeArg);
+        out().println(dateTimeString);
+        out().println(LINE);
     }
 
     /**
@@ -238,11 +377,11 @@ public class MessageHandler {
      * @param task The task who had its description edited
      */
     public static void sendEditToMessage(Task task, DateTimeArg dateTimeArg) {
-        System.out.println(LINE);
-        System.out.println("OK, I've edited the to date of the event " + task.getName() + " to:");
-        String dateTimeString = dateTimeArg.toString().replace("T", " ");
-        System.out.println(dateTimeString);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("OK, I've edited the to date of the event " + task.getName() + " to:");
+        String dateTimeString = DateTimeCodec.formatDisplay(dateTimeArg);
+        out().println(dateTimeString);
+        out().println(LINE);
     }
 
     /**
@@ -252,15 +391,15 @@ public class MessageHandler {
      * @param count    The current number of reminders in the list
      */
     public static void sendAddReminderRecMessage(Reminder reminder, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've added this recurring reminder:");
-        System.out.println(reminder.toString());
+        out().println(LINE);
+        out().println("Got it. I've added this recurring reminder:");
+        out().println(reminder.toString());
         if (count == 1) {
-            System.out.println("Now you have 1 reminder in the reminder list.");
+            out().println("Now you have 1 reminder in the reminder list.");
         } else {
-            System.out.println("Now you have " + count + " reminders in the reminder list.");
+            out().println("Now you have " + count + " reminders in the reminder list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -270,117 +409,135 @@ public class MessageHandler {
      * @param count    The current number of reminders in the list
      */
     public static void sendAddReminderOneTimeMessage(Reminder reminder, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've added this One-Time reminder:");
-        System.out.println(reminder.toString());
+        out().println(LINE);
+        out().println("Got it. I've added this One-Time reminder:");
+        out().println(reminder.toString());
         if (count == 1) {
-            System.out.println("Now you have 1 reminder in the reminder list.");
+            out().println("Now you have 1 reminder in the reminder list.");
         } else {
-            System.out.println("Now you have " + count + " reminders in the reminder list.");
+            out().println("Now you have " + count + " reminders in the reminder list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     public static void sendReminder(List<IndexedReminder> reminders) {
-        System.out.println(LINE);
-        System.out.println("IMPORTANT: StudyMate reminds you of the following!");
+        // Built up front and printed in one go, as it may be printed from a background thread
+        StringBuilder sb = new StringBuilder(LINE).append(System.lineSeparator());
+        sb.append("IMPORTANT: StudyMate reminds you of the following!").append(System.lineSeparator());
+        sb.append(MessageFormatting.firedRemindersString(reminders));
+        sendRaw(sb.append(LINE).append(System.lineSeparator()).toString());
+    }
+
+    /**
+     * Prints one summary of the reminders that fell due while StudyMate was closed
+     *
+     * @param reminders The missed reminders, with how many occurrences each missed
+     */
+    public static void sendMissedReminderSummary(List<IndexedReminder> reminders) {
+        StringBuilder sb = new StringBuilder(LINE).append(System.lineSeparator());
+        sb.append("While you were away, you missed ").append(reminders.size())
+                .append(reminders.size() == 1 ? " reminder:" : " reminders:").append(System.lineSeparator());
         for (IndexedReminder reminder : reminders) {
-            System.out.println(reminder.getIndex() + ". " + reminder.getReminder());
+            sb.append(reminder.getIndex()).append(". ").append(reminder.getReminder()).append(System.lineSeparator());
+            if (reminder.getOccurrences() > 1) {
+                sb.append("   (missed ").append(reminder.getOccurrences()).append(" times)")
+                        .append(System.lineSeparator());
+            }
         }
-        System.out.println(LINE);
+        sendRaw(sb.append(LINE).append(System.lineSeparator()).toString());
     }
 
     public static void sendIsTurnOnReminderMessage(List<Reminder> reminders) {
-        System.out.println(LINE);
-        System.out.println("The following reminders have been turned on:");
+        out().println(LINE);
+        out().println("The following reminders have been turned on:");
         for (Reminder reminder : reminders) {
-            System.out.println(reminder);
+            out().println(reminder);
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     public static void sendAlreadyTurnOnReminderMessage(List<Reminder> reminders) {
-        System.out.println(LINE);
-        System.out.println("The following reminders have already been turned on:");
+        out().println(LINE);
+        out().println("The following reminders have already been turned on:");
         for (Reminder reminder : reminders) {
-            System.out.println(reminder);
+            out().println(reminder);
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     public static void sendIsTurnOffReminderMessage(List<Reminder> reminders) {
-        System.out.println(LINE);
-        System.out.println("The following reminders have been turned off:");
+        out().println(LINE);
+        out().println("The following reminders have been turned off:");
         for (Reminder reminder : reminders) {
-            System.out.println(reminder);
+            out().println(reminder);
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     public static void sendAlreadyTurnOffReminderMessage(List<Reminder> reminders) {
-        System.out.println(LINE);
-        System.out.println("The following reminders have already been turned off:");
+        out().println(LINE);
+        out().println("The following reminders have already been turned off:");
         for (Reminder reminder : reminders) {
-            System.out.println(reminder);
+            out().println(reminder);
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     public static void sendRecUnableToSnoozeError(Reminder reminder) {
-        System.out.println(LINE);
-        System.out.println("The reminder is a recurring reminder, and cannot be snoozed: ");
-        System.out.println(reminder);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("The reminder is a recurring reminder, and cannot be snoozed: ");
+        out().println(reminder);
+        out().println(LINE);
     }
 
     public static void sendSnoozeMessage(Reminder reminder) {
-        System.out.println(LINE);
-        System.out.println("The following reminder has successfully been snoozed: ");
-        System.out.println(reminder);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("The following reminder has successfully been snoozed: ");
+        out().println(reminder);
+        out().println(LINE);
     }
 
     // TODO
     public static void sendTimerStartMessage(long duration, String label) {
-        System.out.println(LINE);
+        out().println(LINE);
         String formattedTime = formatDurationString(duration * 60L); // Convert minutes to seconds
         String output = "# TIMER\n" + "# RUNNING " + formattedTime + " left - " + label;
-        System.out.println(output);
-        System.out.println(LINE);
+        out().println(output);
+        out().println(LINE);
     }
 
     public static void sendTimerPauseMessage(long remainingTime, String label) {
-        System.out.println(LINE);
+        out().println(LINE);
         String formattedTime = formatDurationString(remainingTime);
         String output = "# TIMER\n" + "# PAUSED " + formattedTime + " left - " + label;
-        System.out.println(output);
-        System.out.println(LINE);
+        out().println(output);
+        out().println(LINE);
     }
 
     public static void sendTimerResumeMessage(long remainingTime, String label) {
-        System.out.println(LINE);
+        out().println(LINE);
         String formattedTime = formatDurationString(remainingTime);
         String output = "# TIMER\n" + "# RUNNING " + formattedTime + " left - " + label;
-        System.out.println(output);
-        System.out.println(LINE);
+        out().println(output);
+        out().println(LINE);
     }
 
     public static void sendTimerResetMessage() {
-        System.out.println(LINE);
-        System.out.println("# TIMER\n" + "# RESET TIMER");
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println("# TIMER\n" + "# RESET TIMER");
+        out().println(LINE);
     }
 
     public static void sendTimerStatMessage(String message) {
-        System.out.println(LINE);
-        System.out.println(message);
-        System.out.println(LINE);
+        out().println(LINE);
+        out().println(message);
+        out().println(LINE);
     }
 
-    public static void sendTimerEndedMessage() {
-        System.out.println(LINE);
-        System.out.println("# TIMER\n" + "# TIMER HAS ENDED");
-        System.out.println(LINE);
+    public static void sendTimerEndedMessage(String label) {
+        // Built up front and printed in one go, as it is printed from a background thread
+        sendRaw(LINE + System.lineSeparator() + "# TIMER" + System.lineSeparator() + "# TIMER HAS ENDED - " + label
+                + System.lineSeparator() + LINE + System.lineSeparator());
     }
 
     private static String formatDurationString(long totalSeconds) {
@@ -399,14 +556,95 @@ public class MessageHandler {
             sendMessage("Habit list is empty!");
             return;
         }
-        System.out.println(LINE);
-        System.out.println("Here are the habits in your habit list:");
+        out().println(LINE);
+        out().println("Here are the habits in your habit list:");
         int index = 1;
         for (Habit habit : habitList.getAllHabits()) {
-            System.out.println(index + ". " + habit);
+            out().println(index + ". " + habit);
             index += 1;
         }
-        System.out.println(LINE);
+        out().println(LINE);
+    }
+
+    /**
+     * Prints the habits whose streak can be incremented now, numbered as in the full habit list
+     *
+     * @param habitList The HabitList the habits are in
+     * @param dueIndexes The 0-based indexes of the due habits
+     */
+    public static void sendDueHabitList(HabitList habitList, List<Integer> dueIndexes) {
+        if (dueIndexes.isEmpty()) {
+            sendMessage("No habits are due right now!");
+            return;
+        }
+        out().println(LINE);
+        out().println("Here are the habits due now:");
+        for (int index : dueIndexes) {
+            out().println((index + 1) + ". " + habitList.getHabit(index));
+        }
+        out().println(LINE);
+    }
+
+    /**
+     * Prints a habit's longest streak, its completion rate over recent periods, and a heatmap of the last
+     * weeks with a row per week from Monday, showing how many periods were completed each day
+     *
+     * @param habit The habit to show
+     * @param today The last day of the heatmap
+     */
+    public static void sendHabitStats(Habit habit, LocalDate today) {
+        LocalDate from = today.minusDays(today.getDayOfWeek().getValue() - 1L).minusWeeks(HEATMAP_WEEKS - 1L);
+        SortedMap<LocalDate, Integer> perDay = habit.getCompletionsPerDay(from, today);
+        out().println(LINE);
+        out().println("Habit: " + habit);
+        out().println("Grace period: " + habit.getGracePolicy());
+        out().println("Longest streak: " + habit.getLongestStreak());
+        out().println(String.format("Completed in %.0f%% of the last %d periods",
+                habit.getCompletionRate(STATS_PERIODS) * 100, STATS_PERIODS));
+        out().println("    Mon Tue Wed Thu Fri Sat Sun");
+        for (LocalDate week = from; !week.isAfter(today); week = week.plusWeeks(1)) {
+            StringBuilder row = new StringBuilder("   ");
+            for (LocalDate day = week; day.isBefore(week.plusWeeks(1)) && !day.isAfter(today);
+                    day = day.plusDays(1)) {
+                row.append("   ").append(heatmapCell(perDay.getOrDefault(day, 0)));
+            }
+            out().println(row);
+        }
+        out().println(LINE);
+    }
+
+    private static char heatmapCell(int completions) {
+        if (completions == 0) {
+            return '.';
+        }
+        return completions > 9 ? '#' : (char) ('0' + completions);
+    }
+
+    /**
+     * Prints a habit whose streak has just lapsed
+     *
+     * @param habit The habit, with its streak reset
+     */
+    public static void sendHabitLapse(Habit habit) {
+        // Built up front and printed in one go, as it is printed from a background thread
+        sendRaw(LINE + System.lineSeparator()
+                + "Your streak has lapsed! The grace period passed for: " + habit + System.lineSeparator()
+                + LINE + System.lineSeparator());
+    }
+
+    /**
+     * Prints one summary of the habits whose streaks lapsed while StudyMate was closed
+     *
+     * @param habits The habits, with their streaks reset
+     */
+    public static void sendMissedHabitLapses(List<Habit> habits) {
+        StringBuilder sb = new StringBuilder(LINE).append(System.lineSeparator());
+        sb.append("While you were away, your streak lapsed for ").append(habits.size())
+                .append(habits.size() == 1 ? " habit:" : " habits:").append(System.lineSeparator());
+        for (Habit habit : habits) {
+            sb.append(habit).append(System.lineSeparator());
+        }
+        sendRaw(sb.append(LINE).append(System.lineSeparator()).toString());
     }
 
     /**
@@ -416,15 +654,15 @@ public class MessageHandler {
      * @param count The current number of habits in the list
      */
     public static void sendAddHabitMessage(Habit habit, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've added this habit:");
-        System.out.println(habit);
+        out().println(LINE);
+        out().println("Got it. I've added this habit:");
+        out().println(habit);
         if (count == 1) {
-            System.out.println("Now you have 1 habit in the habit list.");
+            out().println("Now you have 1 habit in the habit list.");
         } else {
-            System.out.println("Now you have " + count + " habits in the habit list.");
+            out().println("Now you have " + count + " habits in the habit list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -434,15 +672,15 @@ public class MessageHandler {
      * @param count The current number of habits in the list
      */
     public static void sendDeleteHabitMessage(Habit habit, int count) {
-        System.out.println(LINE);
-        System.out.println("Got it. I've deleted this habit:");
-        System.out.println(habit);
+        out().println(LINE);
+        out().println("Got it. I've deleted this habit:");
+        out().println(habit);
         if (count == 1) {
-            System.out.println("Now you have 1 habit in the habit list.");
+            out().println("Now you have 1 habit in the habit list.");
         } else {
-            System.out.println("Now you have " + count + " habits in the habit list.");
+            out().println("Now you have " + count + " habits in the habit list.");
         }
-        System.out.println(LINE);
+        out().println(LINE);
     }
 
     /**
@@ -452,21 +690,21 @@ public class MessageHandler {
      * @param result The result of the increment operation
      */
     public static void sendIncStreakMessage(Habit habit, StreakResult result) throws StudyMateException {
-        System.out.println(LINE);
+        out().println(LINE);
         switch (result) {
         case ON_TIME:
-            System.out.println("Great! You've incremented your streak for: " + habit.toString());
-            System.out.println(LINE);
+            out().println("Great! You've incremented your streak for: " + habit.toString());
+            out().println(LINE);
             break;
         case TOO_EARLY:
-            System.out.println("Too early! You can only increment the streak after the deadline.");
-            System.out.println("Habit: " + habit);
-            System.out.println(LINE);
+            out().println("Too early! You can only increment the streak after the deadline.");
+            out().println("Habit: " + habit);
+            out().println(LINE);
             break;
         case TOO_LATE:
-            System.out.println("Missed the deadline! Your streak has been reset to 1.");
-            System.out.println("Habit: " + habit);
-            System.out.println(LINE);
+            out().println("Missed the deadline! Your streak has been reset to 1.");
+            out().println("Habit: " + habit);
+            out().println(LINE);
             break;
         default:
             throw new StudyMateException("Something went wrong with streaking");
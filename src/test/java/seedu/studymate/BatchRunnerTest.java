@@ -0,0 +1,116 @@
+package seedu.studymate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.studymate.database.Storage;
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.HabitList;
+import seedu.studymate.parser.Parser;
+import seedu.studymate.reminders.ReminderList;
+import seedu.studymate.tasks.TaskList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRunnerTest {
+    private static final Path SCRIPT_PATH = Paths.get("test_data", "test_script.txt");
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+    private BatchRunner runner;
+    private TaskList tasks;
+    private ReminderList reminders;
+    private HabitList habits;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Files.createDirectories(SCRIPT_PATH.getParent());
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8));
+        runner = new BatchRunner(new Parser(), new Storage("test_data/test_batch_storage.txt"));
+        tasks = new TaskList();
+        reminders = new ReminderList();
+        habits = new HabitList();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        System.setOut(originalOut);
+        Files.deleteIfExists(SCRIPT_PATH);
+    }
+
+    private void writeScript(String... lines) throws IOException {
+        Files.write(SCRIPT_PATH, List.of(lines), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void run_validScript_executesEveryCommand() throws Exception {
+        writeScript("todo read book", "", "deadline essay /by 2099-10-26 23:59", "mark 1");
+        runner.run(SCRIPT_PATH.toString(), false, tasks, reminders, habits);
+
+        assertEquals(2, tasks.getCount());
+        assertTrue(tasks.getTask(0).getDone());
+        String output = outContent.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Ran 3 command(s) from " + SCRIPT_PATH));
+    }
+
+    @Test
+    void run_failingCommand_continuesAndReportsFailures() throws Exception {
+        writeScript("todo first", "unknown", "todo second");
+        runner.run(SCRIPT_PATH.toString(), false, tasks, reminders, habits);
+
+        assertEquals(2, tasks.getCount());
+        String output = outContent.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Unknown command"));
+        assertTrue(output.contains("Ran 2 command(s) from " + SCRIPT_PATH + " (1 failed)."));
+    }
+
+    @Test
+    void run_strictFailure_rollsBackAllChanges() throws Exception {
+        tasks.addToDo("existing");
+        habits.addHabit("exercise", Duration.ofDays(1));
+        writeScript("todo first", "delete 1", "habit rm 1", "unknown", "todo second");
+
+        StudyMateException e = assertThrows(StudyMateException.class, () ->
+                runner.run(SCRIPT_PATH.toString(), true, tasks, reminders, habits));
+
+        assertTrue(e.getMessage().startsWith("Script aborted at line 4: Unknown command"));
+        assertEquals(1, tasks.getCount());
+        assertEquals("existing", tasks.getTask(0).getName());
+        assertEquals(1, habits.getCount());
+        assertFalse(outContent.toString(StandardCharsets.UTF_8).contains("Ran "));
+    }
+
+    @Test
+    void run_byeInScript_stopsEarly() throws Exception {
+        writeScript("todo first", "bye", "todo second");
+        runner.run(SCRIPT_PATH.toString(), false, tasks, reminders, habits);
+
+        assertEquals(1, tasks.getCount());
+    }
+
+    @Test
+    void run_nestedRun_isRejected() throws Exception {
+        writeScript("run " + SCRIPT_PATH);
+        assertThrows(StudyMateException.class, () ->
+                runner.run(SCRIPT_PATH.toString(), true, tasks, reminders, habits));
+    }
+
+    @Test
+    void run_missingFile_throwsException() {
+        assertThrows(StudyMateException.class, () ->
+                runner.run("test_data/does_not_exist.txt", false, tasks, reminders, habits));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.studymate;
+
+import org.junit.jupiter.api.Test;
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.Command;
+import seedu.studymate.parser.CommandType;
+import seedu.studymate.parser.Parser;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandPipelineTest {
+
+    private CommandPipeline startPipeline(String input, int capacity) {
+        CommandPipeline pipeline = new CommandPipeline(new StringReader(input), new Parser(), capacity);
+        pipeline.start();
+        return pipeline;
+    }
+
+    @Test
+    void next_returnsCommandsAndErrorsInInputOrder() throws StudyMateException {
+        try (CommandPipeline pipeline = startPipeline("todo a\nunknown\n\n  list  \n", 1)) {
+            Command first = pipeline.next();
+            assertEquals(CommandType.TODO, first.type);
+            assertEquals("a", first.desc);
+
+            StudyMateException unknown = assertThrows(StudyMateException.class, pipeline::next);
+            assertEquals("Unknown command", unknown.getMessage());
+            StudyMateException empty = assertThrows(StudyMateException.class, pipeline::next);
+            assertEquals("Line cannot be empty", empty.getMessage());
+
+            assertEquals(CommandType.LIST, pipeline.next().type);
+            assertNull(pipeline.next());
+            assertNull(pipeline.next());
+        }
+    }
+
+    @Test
+    void next_stopsReadingAfterBye() throws StudyMateException {
+        try (CommandPipeline pipeline = startPipeline("todo a\nbye\ntodo b\n", 4)) {
+            assertEquals(CommandType.TODO, pipeline.next().type);
+            assertEquals(CommandType.BYE, pipeline.next().type);
+        }
+    }
+
+    @Test
+    void next_manyLines_preservesOrder() throws StudyMateException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            input.append("todo task ").append(i).append('\n');
+        }
+        try (CommandPipeline pipeline = startPipeline(input.toString(), 8)) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("task " + i, pipeline.next().desc);
+            }
+            assertNull(pipeline.next());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.studymate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -94,4 +95,26 @@ class StudyMateTest {
             System.setOut(originalSysOut);
         }
     }
+
+    @Test
+    public void testGetFlagValue_followedByValue_returnsValue() throws Exception {
+        Method method = StudyMate.class.getDeclaredMethod("getFlagValue", String[].class, String.class);
+        method.setAccessible(true);
+        String[] args = {"--strict", "--batch", "script.txt"};
+
+        assertEquals("script.txt", method.invoke(null, args, "--batch"));
+        assertNull(method.invoke(null, args, "--notify-file"));
+        assertEquals("", normalizeLines(outContent.toString()));
+    }
+
+    @Test
+    public void testGetFlagValue_missingValue_reportsAndReturnsNull() throws Exception {
+        Method method = StudyMate.class.getDeclaredMethod("getFlagValue", String[].class, String.class);
+        method.setAccessible(true);
+
+        assertNull(method.invoke(null, new String[]{"--batch", "--strict", "script.txt"}, "--batch"));
+        assertNull(method.invoke(null, new String[]{"--batch"}, "--batch"));
+        String output = normalizeLines(outContent.toString());
+        assertEquals(2, output.split("Missing value for --batch\\.", -1).length - 1);
+    }
 }
@@ -3,9 +3,12 @@ package seedu.studymate.database;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
+import seedu.studymate.habits.GracePolicy;
 import seedu.studymate.habits.Habit;
 import seedu.studymate.habits.HabitList;
 import seedu.studymate.parser.DateTimeArg;
+import seedu.studymate.reminders.CatchUpPolicy;
+import seedu.studymate.reminders.RecurrenceRule;
 import seedu.studymate.reminders.Reminder;
 import seedu.studymate.reminders.ReminderList;
 import seedu.studymate.tasks.TaskList;
@@ -17,6 +20,7 @@ import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -348,6 +352,40 @@ class StorageTest {
         assertFalse(reminders.getReminder(0).getOnReminder()); // parts[2]="0" means OFF
     }
 
+    /**
+     * Tests that the catch-up policy of a recurring reminder survives a save and load
+     */
+    @Test
+    public void testRecurringReminderCatchUpPolicyRoundTrip() throws Exception {
+        reminders.addReminderRec("Standup", new DateTimeArg(LocalDate.parse("2099-11-25")), Duration.ofDays(1),
+                CatchUpPolicy.SKIP);
+        storage.save(tasks.getTasks(), reminders.getReminders(), habits.getHabits());
+        assertTrue(Files.readString(Paths.get(TEST_FILE_PATH)).contains("PT24H" + DELIM + "skip"));
+
+        ReminderList loaded = new ReminderList();
+        storage.load(new TaskList(), loaded, new HabitList());
+        assertEquals(CatchUpPolicy.SKIP, loaded.getReminder(0).getCatchUpPolicy());
+    }
+
+    /**
+     * Tests that a calendar rule reminder keeps its rule, start and next occurrence through a save and load
+     */
+    @Test
+    public void testCalendarRuleReminderRoundTrip() throws Exception {
+        reminders.addReminderRule("Lecture", DateTimeArg.of(LocalDate.parse("2099-01-05"), LocalTime.of(9, 0)),
+                RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10"), CatchUpPolicy.ALL,
+                DateTimeArg.of(LocalDate.parse("2099-01-14"), LocalTime.of(9, 0)));
+        storage.save(tasks.getTasks(), reminders.getReminders(), habits.getHabits());
+        assertTrue(Files.readString(Paths.get(TEST_FILE_PATH)).contains("2099-01-14T09:00" + DELIM
+                + "FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10" + DELIM + "all" + DELIM + "2099-01-05T09:00"));
+
+        ReminderList loaded = new ReminderList();
+        storage.load(new TaskList(), loaded, new HabitList());
+        assertEquals(reminders.getReminder(0).toString(), loaded.getReminder(0).toString());
+        assertEquals(RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10"), loaded.getReminder(0).getRule());
+        assertEquals(CatchUpPolicy.ALL, loaded.getReminder(0).getCatchUpPolicy());
+    }
+
     /**
      * Tests that a habit is saved correctly
      */
@@ -381,6 +419,68 @@ class StorageTest {
         assertEquals(5, habit.getStreak());
     }
 
+    /**
+     * Tests that a habit's completion history survives a save and load
+     */
+    @Test
+    public void testHabitHistoryRoundTrip() throws Exception {
+        Files.write(Paths.get(TEST_FILE_PATH),
+                List.of("H" + DELIM + "Read" + DELIM + "2025-10-27" + DELIM + "PT24H" + DELIM + "1"
+                        + DELIM + "1760486400" + DELIM + "5.2.1"),
+                StandardOpenOption.CREATE);
+        storage.load(tasks, reminders, habits);
+        assertEquals(5, habits.getHabit(0).getLongestStreak());
+
+        storage.save(tasks.getTasks(), reminders.getReminders(), habits.getHabits());
+        HabitList newHabits = new HabitList();
+        storage.load(new TaskList(), new ReminderList(), newHabits);
+
+        assertEquals(1, newHabits.getCount());
+        assertEquals(5, newHabits.getHabit(0).getLongestStreak());
+        assertEquals(habits.getHabit(0).toSaveString(), newHabits.getHabit(0).toSaveString());
+        assertTrue(newHabits.getHabit(0).toSaveString().endsWith(DELIM + "1760486400" + DELIM + "5.2.1" + DELIM
+                + "F4" + DELIM + "20376,5,1.20383,1,1"));
+    }
+
+    /**
+     * Tests that a habit's grace policy survives a save and load
+     */
+    @Test
+    public void testHabitGracePolicyRoundTrip() throws Exception {
+        Files.write(Paths.get(TEST_FILE_PATH),
+                List.of("H" + DELIM + "Read" + DELIM + "2025-10-27" + DELIM + "PT24H" + DELIM + "1"
+                        + DELIM + "1760486400" + DELIM + "1" + DELIM + "D"),
+                StandardOpenOption.CREATE);
+        storage.load(tasks, reminders, habits);
+        assertEquals(GracePolicy.endOfDay(), habits.getHabit(0).getGracePolicy());
+
+        storage.save(tasks.getTasks(), reminders.getReminders(), habits.getHabits());
+        HabitList newHabits = new HabitList();
+        storage.load(new TaskList(), new ReminderList(), newHabits);
+
+        assertEquals(GracePolicy.endOfDay(), newHabits.getHabit(0).getGracePolicy());
+    }
+
+    /**
+     * Tests that reminders keep their ids across saving and loading, so same-name reminders stay apart
+     */
+    @Test
+    public void testReminderIdRoundTrip() throws Exception {
+        reminders.addReminderOneTime("Stand up", new DateTimeArg(LocalDate.parse("2099-11-25")));
+        reminders.addReminderRec("Stand up", new DateTimeArg(LocalDate.parse("2099-11-25")), Duration.ofDays(1));
+        reminders.delete(new LinkedHashSet<>(List.of(0)));
+        assertEquals(2, reminders.getReminder(0).getId());
+
+        storage.save(tasks.getTasks(), reminders.getReminders(), habits.getHabits());
+        assertTrue(Files.readString(Paths.get(TEST_FILE_PATH)).contains(DELIM + "once" + DELIM + "2"));
+        ReminderList newReminders = new ReminderList();
+        storage.load(new TaskList(), newReminders, new HabitList());
+        newReminders.addReminderOneTime("Stand up", new DateTimeArg(LocalDate.parse("2099-11-26")));
+
+        assertEquals(2, newReminders.getReminder(0).getId());
+        assertEquals(3, newReminders.getReminder(1).getId());
+    }
+
     /**
      * Tests that invalid lines are skipped during loading and valid entries are still loaded
      */
@@ -0,0 +1,52 @@
+package seedu.studymate.habits;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompletionDaysTest {
+
+    private static CompletionDays daysOf(long... epochDays) {
+        CompletionDays days = new CompletionDays();
+        for (long day : epochDays) {
+            days.record(day);
+        }
+        return days;
+    }
+
+    @Test
+    void testRecord_buildsRuns() {
+        assertEquals("10,3,1.15,1,2.16,1,1", daysOf(10, 11, 12, 15, 15, 16).encode());
+        // A second completion on the last day of a run splits it off
+        assertEquals("10,2,1.12,1,2", daysOf(10, 11, 12, 12).encode());
+        assertThrows(IllegalArgumentException.class, () -> daysOf(10, 9));
+    }
+
+    @Test
+    void testForEachDay_coversRange() {
+        CompletionDays days = daysOf(10, 11, 12, 15, 15, 16);
+        List<String> seen = new ArrayList<>();
+        days.forEachDay(11, 15, (day, completions) -> seen.add(day + "x" + completions));
+        assertEquals(List.of("11x1", "12x1", "15x2"), seen);
+    }
+
+    @Test
+    void testDecode_roundTrips() {
+        CompletionDays days = daysOf(10, 11, 12, 15, 15, 16);
+        assertEquals(days.encode(), CompletionDays.decode(days.encode()).encode());
+        assertTrue(CompletionDays.decode("0").isEmpty());
+    }
+
+    @Test
+    void testDecode_rejectsInvalidRuns() {
+        assertThrows(IllegalArgumentException.class, () -> CompletionDays.decode("10,0,1"));
+        assertThrows(IllegalArgumentException.class, () -> CompletionDays.decode("10,3,1.11,1,1"));
+        assertThrows(IllegalArgumentException.class, () -> CompletionDays.decode("10,3"));
+        assertThrows(IllegalArgumentException.class, () -> CompletionDays.decode("10,x,1"));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.studymate.habits;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompletionHistoryTest {
+
+    private static CompletionHistory historyOf(long... periods) {
+        CompletionHistory history = new CompletionHistory();
+        for (long period : periods) {
+            history.markCompleted(period);
+        }
+        return history;
+    }
+
+    @Test
+    void testMarkCompleted_buildsRuns() {
+        CompletionHistory history = historyOf(0, 1, 2, 5, 6, 10);
+        assertEquals("3.2.2.3.1", history.encode());
+        assertEquals(11, history.getLength());
+        assertTrue(history.isCompleted(6));
+        assertFalse(history.isCompleted(7));
+        assertFalse(history.isCompleted(11));
+    }
+
+    @Test
+    void testMarkCompleted_firstPeriodMissed_startsWithEmptyRun() {
+        CompletionHistory history = historyOf(2, 3);
+        assertEquals("0.2.2", history.encode());
+        assertFalse(history.isCompleted(0));
+        assertTrue(history.isCompleted(2));
+    }
+
+    @Test
+    void testMarkCompleted_samePeriodTwice_countsOnce() {
+        CompletionHistory history = historyOf(0, 1, 1);
+        assertEquals("2", history.encode());
+    }
+
+    @Test
+    void testMarkCompleted_earlierPeriod_throws() {
+        CompletionHistory history = historyOf(0, 4);
+        assertThrows(IllegalArgumentException.class, () -> history.markCompleted(2));
+    }
+
+    @Test
+    void testStreakAndCounts() {
+        CompletionHistory history = historyOf(0, 1, 2, 5, 6, 7, 8, 10);
+        assertEquals(4, history.getLongestStreak());
+        assertEquals(8, history.countCompleted(0, 11));
+        assertEquals(3, history.countCompleted(2, 7));
+        assertEquals(0, history.countCompleted(3, 5));
+        assertEquals(1, history.countCompleted(9, 100));
+
+        List<Long> completed = new ArrayList<>();
+        history.forEachCompleted(1, 6, completed::add);
+        assertEquals(List.of(1L, 2L, 5L), completed);
+    }
+
+    @Test
+    void testOfCompleted_longStreakIsOneRun() {
+        CompletionHistory history = CompletionHistory.ofCompleted(1000);
+        history.markCompleted(1000);
+        assertEquals("1001", history.encode());
+        assertEquals(1001, history.getLongestStreak());
+    }
+
+    @Test
+    void testDecode_roundTrip() {
+        CompletionHistory history = historyOf(1, 2, 6);
+        CompletionHistory decoded = CompletionHistory.decode(history.encode());
+        assertEquals(history.encode(), decoded.encode());
+        assertEquals(7, decoded.getLength());
+        assertEquals("0", CompletionHistory.decode("0").encode());
+    }
+
+    @Test
+    void testDecode_invalid_throws() {
+        // Ends with missed periods
+        assertThrows(IllegalArgumentException.class, () -> CompletionHistory.decode("3.2"));
+        // Empty run after the first
+        assertThrows(IllegalArgumentException.class, () -> CompletionHistory.decode("3.0.1"));
+        assertThrows(IllegalArgumentException.class, () -> CompletionHistory.decode("3.x"));
+    }
+}
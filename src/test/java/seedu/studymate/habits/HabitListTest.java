@@ -7,12 +7,19 @@ import seedu.studymate.parser.DateTimeArg;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class HabitListTest {
     private HabitList habitList;
@@ -232,6 +239,85 @@ public class HabitListTest {
         assertEquals(1, habit.getStreak()); // Streak should reset to 1
     }
 
+    @Test
+    void testIncStreak_recordsCompletionHistory() {
+        LocalDateTime fixedTime = LocalDateTime.of(2025, 10, 24, 13, 0, 0);
+        Clock fixedClock = Clock.fixed(
+                fixedTime.atZone(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()
+        );
+
+        // A streak of 3 loaded without history counts as the last 3 days completed
+        LocalDateTime deadline = LocalDateTime.of(2025, 10, 24, 12, 0);
+        DateTimeArg deadlineArg = new DateTimeArg(deadline.toLocalDate(), deadline.toLocalTime());
+        Habit habit = new Habit("Exercise", deadlineArg, Duration.ofDays(1), 3, fixedClock);
+
+        assertEquals(StreakResult.ON_TIME, habit.incStreak());
+        assertEquals(4, habit.getLongestStreak());
+        assertEquals(1.0, habit.getCompletionRate(30));
+        assertEquals(List.of(21, 22, 23, 24), habit.getCompletionsPerDay(LocalDate.of(2025, 10, 1),
+                LocalDate.of(2025, 10, 31)).keySet().stream().map(LocalDate::getDayOfMonth).toList());
+    }
+
+    @Test
+    void testIncStreak_tooLate_keepsLongestStreak() {
+        LocalDateTime fixedTime = LocalDateTime.of(2025, 10, 25, 12, 0, 0);
+        Clock fixedClock = Clock.fixed(
+                fixedTime.atZone(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()
+        );
+
+        LocalDateTime deadline = LocalDateTime.of(2025, 10, 20, 12, 0);
+        DateTimeArg deadlineArg = new DateTimeArg(deadline.toLocalDate(), deadline.toLocalTime());
+        Habit habit = new Habit("Exercise", deadlineArg, Duration.ofDays(1), 2, fixedClock);
+
+        assertEquals(StreakResult.TOO_LATE, habit.incStreak());
+        assertEquals(1, habit.getStreak());
+        assertEquals(2, habit.getLongestStreak());
+        // Completed on the 18th, 19th and 25th out of 8 days
+        assertEquals(3.0 / 8, habit.getCompletionRate(30));
+        assertEquals(1.0 / 3, habit.getCompletionRate(3));
+        assertTrue(habit.toSaveString().endsWith("2.5.1" + (char) 0x1F + "F4" + (char) 0x1F + "20379,2,1.20386,1,1"));
+    }
+
+    @Test
+    void testIncStreak_lateInGrace_countsOnePeriodPerCompletion() {
+        // A daily habit completed every 29 hours, within the 6 hour grace period each time
+        LocalDateTime start = LocalDateTime.of(2025, 10, 1, 0, 0);
+        AdjustableClock clock = new AdjustableClock(start);
+        Habit habit = new Habit("Exercise", Duration.ofDays(1), clock);
+        for (int i = 1; i <= 8; i++) {
+            clock.now = start.plusHours(29L * i);
+            assertEquals(StreakResult.ON_TIME, habit.incStreak());
+        }
+
+        assertEquals(9, habit.getStreak());
+        assertEquals(9, habit.getLongestStreak());
+        assertEquals(1.0, habit.getCompletionRate(30));
+        // 29 hours apart, the completions skip a day every so often, and the heatmap shows it
+        assertEquals(List.of(1, 2, 3, 4, 5, 7, 8, 9, 10), habit.getCompletionsPerDay(LocalDate.of(2025, 10, 1),
+                LocalDate.of(2025, 10, 31)).keySet().stream().map(LocalDate::getDayOfMonth).toList());
+    }
+
+    @Test
+    void testIncStreak_lateAfterGrace_recordsMissedPeriodsSinceDeadline() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime now = LocalDateTime.of(2025, 10, 25, 18, 0);
+        // The deadline was 3 days and 6 hours ago, so 3 whole periods went by without a completion
+        Habit habit = new Habit("Exercise", DateTimeArg.of(now.minusHours(78)), Duration.ofDays(1), 4,
+                Clock.fixed(now.atZone(zone).toInstant(), zone));
+
+        assertEquals(StreakResult.TOO_LATE, habit.incStreak());
+        assertEquals(1, habit.getStreak());
+        assertEquals(4, habit.getLongestStreak());
+        assertEquals("4.3.1", historyOf(habit));
+        assertEquals(5.0 / 8, habit.getCompletionRate(30));
+    }
+
+    private static String historyOf(Habit habit) {
+        return habit.toSaveString().split(String.valueOf((char) 0x1F))[6];
+    }
+
     @Test
     void testIncStreak_sameMinuteDifferentSeconds() {
         // Fix time to October 25, 2025, 12:00:00 (0th second)
@@ -295,4 +381,132 @@ public class HabitListTest {
                 () -> habitList.addHabit("Habit 10001", Duration.ofDays(1)));
         assertEquals(10000, habitList.getCount()); // Count should remain at 10000
     }
+
+    @Test
+    void testGetDueHabits_onlyOpenWindows() {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 25, 12, 0, 30);
+        Clock fixedClock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        HabitList list = new HabitList(fixedClock);
+        // Window opens at the deadline minute and closes a quarter interval plus a minute after the deadline
+        list.addHabit("Not yet", DateTimeArg.of(now.plusMinutes(5)), Duration.ofHours(4), 1);
+        list.addHabit("This minute", DateTimeArg.of(now.withSecond(45)), Duration.ofHours(4), 1);
+        list.addHabit("In grace", DateTimeArg.of(now.minusMinutes(60)), Duration.ofHours(4), 1);
+        list.addHabit("Lapsed", DateTimeArg.of(now.minusMinutes(62)), Duration.ofHours(4), 1);
+        list.addHabit("Also due", DateTimeArg.of(now.minusDays(1)), Duration.ofDays(7), 1);
+
+        assertEquals(List.of(1, 2, 4), list.getDueHabits());
+
+        list.deleteHabit(0);
+        assertEquals(List.of(0, 1, 3), list.getDueHabits());
+    }
+
+    @Test
+    void testGetDueHabits_afterStreakMovesWindow() throws StudyMateException {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 25, 12, 0);
+        Clock fixedClock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        HabitList list = new HabitList(fixedClock);
+        list.addHabit("Exercise", DateTimeArg.of(now.minusMinutes(10)), Duration.ofDays(1), 3);
+        assertEquals(List.of(0), list.getDueHabits());
+
+        assertEquals(StreakResult.ON_TIME, list.incStreak(0));
+
+        assertEquals(List.of(), list.getDueHabits());
+    }
+
+    @Test
+    void testApplyLapses_appliedOnce() throws StudyMateException {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 25, 12, 0);
+        Clock fixedClock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        HabitList list = new HabitList(fixedClock);
+        // Daily habits have a 6h 1min grace period
+        list.addHabit("Exercise", DateTimeArg.of(now.minusHours(7)), Duration.ofDays(1), 3);
+        list.addHabit("Read", DateTimeArg.of(now.minusHours(5)), Duration.ofDays(1), 2);
+
+        List<Habit> lapsed = list.applyLapses();
+
+        assertEquals(1, lapsed.size());
+        assertEquals(0, list.getHabit(0).getStreak());
+        assertEquals(2, list.getHabit(1).getStreak());
+        assertTrue(list.applyLapses().isEmpty());
+
+        // Incrementing a lapsed streak starts it again
+        assertEquals(StreakResult.TOO_LATE, list.incStreak(0));
+        assertEquals(1, list.getHabit(0).getStreak());
+        assertTrue(list.applyLapses().isEmpty());
+    }
+
+    @Test
+    void testGracePolicy_setsWindowClose() throws StudyMateException {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 25, 12, 0);
+        Clock fixedClock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        HabitList list = new HabitList(fixedClock);
+        DateTimeArg deadline = DateTimeArg.of(now.minusHours(2));
+        list.addHabit("Fixed", deadline, Duration.ofDays(1), 1, 0, CompletionHistory.ofCompleted(1), null,
+                GracePolicy.minutes(90));
+        list.addHabit("Fraction", deadline, Duration.ofDays(1), 1, 0, CompletionHistory.ofCompleted(1), null,
+                GracePolicy.fractionOf(8));
+        list.addHabit("Day", deadline, Duration.ofDays(1), 1, 0, CompletionHistory.ofCompleted(1), null,
+                GracePolicy.endOfDay());
+
+        // 90 minutes has passed, 3h 1min has not, and the day has not ended
+        assertEquals(List.of(1, 2), list.getDueHabits());
+        assertEquals(List.of(list.getHabit(0)), list.applyLapses());
+    }
+
+    @Test
+    void testGracePolicy_encodeDecode() {
+        for (GracePolicy policy : List.of(GracePolicy.DEFAULT, GracePolicy.minutes(30), GracePolicy.endOfDay())) {
+            assertEquals(policy, GracePolicy.decode(policy.encode()));
+        }
+        assertEquals("F4", GracePolicy.DEFAULT.encode());
+        assertThrows(IllegalArgumentException.class, () -> GracePolicy.decode("F0"));
+        assertThrows(IllegalArgumentException.class, () -> GracePolicy.decode("X3"));
+    }
+
+    @Test
+    void testStartLapseWatch_lapsesWhenWindowCloses() throws InterruptedException {
+        // A clock running a second before the end of a minute, so that a window closing this minute closes soon
+        LocalDateTime real = LocalDateTime.now();
+        Clock clock = Clock.offset(Clock.systemDefaultZone(),
+                Duration.between(real, real.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1)).minusSeconds(1));
+        HabitList list = new HabitList(clock);
+        LocalDateTime now = LocalDateTime.now(clock);
+        // A 4 minute interval has a 2 minute grace period, so this window closes at the end of this minute
+        list.addHabit("Stretch", DateTimeArg.of(now.minusMinutes(2)), Duration.ofMinutes(4), 5);
+        list.addHabit("Old", DateTimeArg.of(now.minusHours(1)), Duration.ofMinutes(4), 2);
+        CountDownLatch lapsed = new CountDownLatch(1);
+        try {
+            List<Habit> lapsedWhileClosed = list.startLapseWatch(habit -> lapsed.countDown());
+
+            assertEquals(List.of(list.getHabit(1)), lapsedWhileClosed);
+            assertEquals(5, list.getHabit(0).getStreak());
+            assertTrue(lapsed.await(5, TimeUnit.SECONDS));
+            assertEquals(0, list.getHabit(0).getStreak());
+        } finally {
+            list.stopLapseWatch();
+        }
+    }
+
+    private static class AdjustableClock extends Clock {
+        private volatile LocalDateTime now;
+
+        AdjustableClock(LocalDateTime now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.atZone(getZone()).toInstant();
+        }
+    }
 }
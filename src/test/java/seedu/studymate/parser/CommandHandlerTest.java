@@ -7,12 +7,19 @@ import seedu.studymate.habits.HabitList;
 import seedu.studymate.reminders.ReminderList;
 import seedu.studymate.tasks.TaskList;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.LinkedHashSet;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CommandHandlerTest {
     private TaskList taskList;
@@ -181,11 +188,33 @@ public class CommandHandlerTest {
         Command cmd1 = new Command(CommandType.START, "First Timer", 25);
         CommandHandler.executeCommand(taskList, reminderList, habitList, cmd1);
 
-        // Try to start second timer
+        // A second timer with another label runs alongside the first
         Command cmd2 = new Command(CommandType.START, "Second Timer", 30);
+        assertDoesNotThrow(() -> CommandHandler.executeCommand(taskList, reminderList, habitList, cmd2));
+
+        // Try to start a timer with the same label again
+        Command cmd3 = new Command(CommandType.START, "first timer", 30);
 
         assertThrows(StudyMateException.class,
-            () -> CommandHandler.executeCommand(taskList, reminderList, habitList, cmd2));
+            () -> CommandHandler.executeCommand(taskList, reminderList, habitList, cmd3));
+    }
+
+    @Test
+    void testHandleTimerPause_namedTimer() throws StudyMateException {
+        CommandHandler.executeCommand(taskList, reminderList, habitList, parser.parse("start Math @ 30"));
+        CommandHandler.executeCommand(taskList, reminderList, habitList, parser.parse("start 2 @ 20"));
+
+        // Timers are found by label or by the number of their task, and the latest one by default
+        assertDoesNotThrow(() -> CommandHandler.executeCommand(taskList, reminderList, habitList,
+                parser.parse("pause math")));
+        assertDoesNotThrow(() -> CommandHandler.executeCommand(taskList, reminderList, habitList,
+                parser.parse("pause")));
+        assertThrows(StudyMateException.class, () -> CommandHandler.executeCommand(taskList, reminderList,
+                habitList, parser.parse("pause 2")));
+        assertThrows(StudyMateException.class, () -> CommandHandler.executeCommand(taskList, reminderList,
+                habitList, parser.parse("resume Physics")));
+        assertDoesNotThrow(() -> CommandHandler.executeCommand(taskList, reminderList, habitList,
+                parser.parse("stat")));
     }
 
     @Test
@@ -424,4 +453,34 @@ public class CommandHandlerTest {
         Command newStartCmd = parser.parse("start New Session @45");
         assertDoesNotThrow(() -> CommandHandler.executeCommand(taskList, reminderList, habitList, newStartCmd));
     }
+
+    // Habit Stats Test
+    @Test
+    void testHabitStats_usesInjectedClock() throws StudyMateException {
+        // Friday 24 Oct 2025, an hour after the habit's deadline
+        LocalDateTime fixedTime = LocalDateTime.of(2025, 10, 24, 13, 0);
+        Clock fixedClock = Clock.fixed(fixedTime.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        HabitList clockedHabits = new HabitList(fixedClock);
+        LocalDateTime deadline = LocalDateTime.of(2025, 10, 24, 12, 0);
+        clockedHabits.addHabit("Exercise", new DateTimeArg(deadline.toLocalDate(), deadline.toLocalTime()),
+                Duration.ofDays(1), 3);
+
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8));
+        CommandHandler.setClock(fixedClock);
+        try {
+            CommandHandler.executeCommand(taskList, reminderList, clockedHabits, parser.parse("habit streak 1"));
+            outContent.reset();
+            CommandHandler.executeCommand(taskList, reminderList, clockedHabits, parser.parse("habit stats 1"));
+        } finally {
+            CommandHandler.setClock(Clock.systemDefaultZone());
+            System.setOut(originalOut);
+        }
+
+        // The heatmap ends on the clock's Friday, with Tuesday to Friday completed
+        String output = outContent.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Completed in 100% of the last 30 periods"));
+        assertTrue(output.contains(System.lineSeparator() + "      .   1   1   1   1" + System.lineSeparator()));
+    }
 }
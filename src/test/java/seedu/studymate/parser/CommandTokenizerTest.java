@@ -0,0 +1,85 @@
+package seedu.studymate.parser;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandTokenizerTest {
+    private static final String[] SAMPLES = {
+        "", " ", "todo", "todo  read", "\ttodo \t read \n", "mark 1,2,,3,", ",", "1...5", "a...b", "1...",
+        "deadline x /BY 2025-10-10 10:00", "rem a @ b -r 5M", "x\u000By\fz\r", "1,,", "...1...2..."
+    };
+
+    @Test
+    void collapseWhitespace_matchesRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.replaceAll("\\s+", " "), CommandTokenizer.collapseWhitespace(sample), sample);
+        }
+    }
+
+    @Test
+    void collapseWhitespace_alreadyClean_returnsSameInstance() {
+        String line = "deadline report /by 2025-10-26 23:59";
+        assertSame(line, CommandTokenizer.collapseWhitespace(line));
+    }
+
+    @Test
+    void splitCommandWord_matchesStringSplit() {
+        for (String sample : SAMPLES) {
+            String clean = CommandTokenizer.collapseWhitespace(sample);
+            assertArrayEquals(clean.split(" ", 2), CommandTokenizer.splitCommandWord(clean));
+        }
+    }
+
+    @Test
+    void splitLiteral_matchesStringSplit() {
+        for (String sample : SAMPLES) {
+            assertArrayEquals(sample.split(","), CommandTokenizer.splitLiteral(sample, ","));
+            assertArrayEquals(sample.split("\\.\\.\\."), CommandTokenizer.splitRange(sample));
+        }
+    }
+
+    @Test
+    void indexOfIgnoreCase_findsFirstMatchInAnyCase() {
+        assertEquals(9, CommandTokenizer.indexOfIgnoreCase("deadline /By x /by", "/by", 0));
+        assertEquals(15, CommandTokenizer.indexOfIgnoreCase("deadline /By x /by", "/by", 10));
+        assertEquals(-1, CommandTokenizer.indexOfIgnoreCase("deadline by", "/by", 0));
+        assertEquals(-1, CommandTokenizer.indexOfIgnoreCase("/b", "/by", 0));
+    }
+
+    @Test
+    void containsRangeAndDigit_matchRegex() {
+        Pattern range = Pattern.compile("\\d\\.\\.\\.\\d");
+        Pattern digit = Pattern.compile("\\d");
+        for (String sample : SAMPLES) {
+            assertEquals(range.matcher(sample).find(), CommandTokenizer.containsRange(sample), sample);
+            assertEquals(digit.matcher(sample).find(), CommandTokenizer.containsDigit(sample), sample);
+        }
+    }
+
+    @Test
+    void isIntervalLiteral_acceptsNumberFollowedByUnit() {
+        assertTrue(CommandTokenizer.isIntervalLiteral("15m"));
+        assertTrue(CommandTokenizer.isIntervalLiteral("2W"));
+        assertTrue(CommandTokenizer.isIntervalLiteral("10s"));
+        assertFalse(CommandTokenizer.isIntervalLiteral("m"));
+        assertFalse(CommandTokenizer.isIntervalLiteral("5"));
+        assertFalse(CommandTokenizer.isIntervalLiteral("5y"));
+        assertFalse(CommandTokenizer.isIntervalLiteral("-5m"));
+        assertFalse(CommandTokenizer.isIntervalLiteral("5 m"));
+    }
+
+    @Test
+    void isDigits_rejectsEmptyAndSigns() {
+        assertTrue(CommandTokenizer.isDigits("0123"));
+        assertFalse(CommandTokenizer.isDigits(""));
+        assertFalse(CommandTokenizer.isDigits("-1"));
+        assertFalse(CommandTokenizer.isDigits("1a"));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.studymate.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeArgTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 26);
+
+    @Test
+    void getters_roundTripPackedValue() {
+        DateTimeArg dateTime = new DateTimeArg(DATE, LocalTime.of(23, 59, 30));
+        assertEquals(DATE, dateTime.getDate());
+        assertEquals(LocalTime.of(23, 59, 30), dateTime.getTime());
+        assertEquals(LocalDateTime.of(DATE, LocalTime.of(23, 59, 30)), dateTime.getDateTime());
+
+        DateTimeArg beforeEpoch = new DateTimeArg(LocalDate.of(1969, 12, 31), LocalTime.of(6, 0));
+        assertEquals(LocalDate.of(1969, 12, 31), beforeEpoch.getDate());
+        assertEquals(LocalTime.of(6, 0), beforeEpoch.getTime());
+    }
+
+    @Test
+    void dateOnly_hasNoTime() {
+        DateTimeArg dateOnly = new DateTimeArg(DATE);
+        assertFalse(dateOnly.hasTime());
+        assertNull(dateOnly.getTime());
+        assertEquals("2025-10-26", dateOnly.toString());
+    }
+
+    @Test
+    void compareTo_ordersByDateThenTimeWithDateOnlyFirst() {
+        DateTimeArg dateOnly = new DateTimeArg(DATE);
+        DateTimeArg midnight = new DateTimeArg(DATE, LocalTime.MIDNIGHT);
+        DateTimeArg morning = new DateTimeArg(DATE, LocalTime.of(9, 0));
+        DateTimeArg nextDay = new DateTimeArg(DATE.plusDays(1));
+
+        assertTrue(dateOnly.compareTo(midnight) < 0);
+        assertTrue(midnight.compareTo(morning) < 0);
+        assertTrue(morning.compareTo(nextDay) < 0);
+        assertEquals(0, morning.compareTo(new DateTimeArg(DATE, LocalTime.of(9, 0))));
+    }
+
+    @Test
+    void of_sameValue_returnsPooledInstance() {
+        DateTimeArg first = DateTimeArg.of(DATE);
+        assertSame(first, DateTimeArg.of(DATE));
+        DateTimeArg eightAm = DateTimeArg.of(DATE, LocalTime.of(8, 0));
+        assertSame(eightAm, DateTimeArg.of(LocalDateTime.of(DATE, LocalTime.of(8, 0))));
+    }
+
+    @Test
+    void equals_comparesValues() {
+        assertEquals(new DateTimeArg(DATE, LocalTime.of(8, 0)), DateTimeArg.of(DATE, LocalTime.of(8, 0)));
+        assertEquals(new DateTimeArg(DATE).hashCode(), DateTimeArg.of(DATE).hashCode());
+        assertNotEquals(new DateTimeArg(DATE), new DateTimeArg(DATE, LocalTime.MIDNIGHT));
+    }
+
+    @Test
+    void isBeforeAndIsAfter_respectSubSecondNow() {
+        DateTimeArg noon = new DateTimeArg(DATE, LocalTime.NOON);
+        LocalDateTime exactNoon = LocalDateTime.of(DATE, LocalTime.NOON);
+
+        assertFalse(noon.isBefore(exactNoon));
+        assertFalse(noon.isAfter(exactNoon));
+        assertTrue(noon.isBefore(exactNoon.plusNanos(1)));
+        assertFalse(noon.isAfter(exactNoon.plusNanos(1)));
+        assertTrue(noon.isAfter(exactNoon.minusNanos(1)));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.studymate.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeCodecTest {
+    private static final LocalDate[] DATES = {
+        LocalDate.of(2025, 1, 5), LocalDate.of(2025, 12, 31), LocalDate.of(999, 3, 9), LocalDate.of(10000, 1, 1)
+    };
+    private static final LocalTime[] TIMES = {
+        LocalTime.of(0, 0), LocalTime.of(9, 5), LocalTime.of(23, 59, 59)
+    };
+
+    @Test
+    void format_matchesFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
+        for (LocalDate date : DATES) {
+            assertEquals(date.toString(), DateTimeCodec.format(date, null));
+            for (LocalTime time : TIMES) {
+                assertEquals(date + "T" + time.format(formatter), DateTimeCodec.format(date, time));
+                assertEquals(date + "T" + time.format(formatter), new DateTimeArg(date, time).toString());
+            }
+        }
+    }
+
+    @Test
+    void formatDisplay_usesSpaceSeparator() {
+        DateTimeArg dateTime = new DateTimeArg(LocalDate.of(2025, 10, 26), LocalTime.of(7, 30));
+        assertEquals("2025-10-26 07:30", DateTimeCodec.formatDisplay(dateTime));
+        assertEquals("2025-10-26", DateTimeCodec.formatDisplay(new DateTimeArg(LocalDate.of(2025, 10, 26))));
+    }
+
+    @Test
+    void appendTo_writesIntoAppendable() throws IOException {
+        StringWriter out = new StringWriter();
+        out.append("by: ");
+        DateTimeCodec.appendTo(out, new DateTimeArg(LocalDate.of(2025, 2, 3), LocalTime.of(4, 5)), ' ');
+        assertEquals("by: 2025-02-03 04:05", out.toString());
+    }
+
+    @Test
+    void appendEpochSecond_matchesLocalDateTime() throws IOException {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
+        // Every day from 1600 to 2400 covers the century and 400-year leap rules, and days before the epoch
+        LocalDateTime first = LocalDateTime.of(1600, 1, 1, 13, 7);
+        for (LocalDateTime dateTime = first; dateTime.getYear() < 2400; dateTime = dateTime.plusDays(1)) {
+            StringBuilder sb = new StringBuilder();
+            DateTimeCodec.appendEpochSecond(sb, dateTime.toEpochSecond(ZoneOffset.UTC), true, 'T');
+            assertEquals(dateTime.toLocalDate() + "T" + dateTime.format(formatter), sb.toString());
+        }
+        StringBuilder sb = new StringBuilder();
+        DateTimeCodec.appendEpochSecond(sb, LocalDateTime.of(10000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC),
+                false, 'T');
+        assertEquals("+10000-01-01", sb.toString());
+    }
+
+    @Test
+    void parseDate_repeatedString_returnsCachedInstance() {
+        LocalDate first = DateTimeCodec.parseDate("2025-10-26");
+        assertEquals(LocalDate.of(2025, 10, 26), first);
+        assertSame(first, DateTimeCodec.parseDate("2025-10-26"));
+        assertEquals(LocalTime.of(8, 0), DateTimeCodec.parseTime("08:00"));
+    }
+
+    @Test
+    void parseUserDateTime_requiresDateAndTime() {
+        DateTimeArg dateTime = DateTimeCodec.parseUserDateTime(" 2025-10-26 23:59 ");
+        assertEquals(LocalDate.of(2025, 10, 26), dateTime.getDate());
+        assertEquals(LocalTime.of(23, 59), dateTime.getTime());
+
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseUserDateTime("2025-10-26"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseUserDateTime("2025-10-26  23:59"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseUserDateTime("2025-13-26 23:59"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseUserDateTime("2025-10-26 25:00"));
+    }
+
+    @Test
+    void parseSaved_acceptsDateWithOptionalTime() {
+        DateTimeArg withTime = DateTimeCodec.parseSaved("2025-10-26T08:15");
+        assertEquals(LocalTime.of(8, 15), withTime.getTime());
+        DateTimeArg dateOnly = DateTimeCodec.parseSaved("2025-10-26");
+        assertEquals(LocalDate.of(2025, 10, 26), dateOnly.getDate());
+        assertNull(dateOnly.getTime());
+        assertNull(DateTimeCodec.parseSaved(" "));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseSaved("26/10/2025"));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.studymate.parser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.habits.GracePolicy;
+import seedu.studymate.reminders.CatchUpPolicy;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -10,6 +12,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ParserTest {
@@ -275,6 +278,20 @@ public class ParserTest {
         assertEquals(CommandType.REM_LS, cmd.type);
     }
 
+    @Test
+    void testRemHistoryCommand() throws StudyMateException {
+        Command cmd = parser.parse("rem history");
+        assertEquals(CommandType.REM_HISTORY, cmd.type);
+        assertThrows(StudyMateException.class, () -> parser.parse("rem history 1"));
+    }
+
+    @Test
+    void testRemStatsCommand() throws StudyMateException {
+        Command cmd = parser.parse("rem stats");
+        assertEquals(CommandType.REM_STATS, cmd.type);
+        assertThrows(StudyMateException.class, () -> parser.parse("rem stats all"));
+    }
+
     @Test
     void testRemRmCommand() throws StudyMateException {
         Command cmd = parser.parse("rem rm 1");
@@ -309,6 +326,33 @@ public class ParserTest {
         assertEquals("PT24H", cmd.interval.toString());
     }
 
+    @Test
+    void testRemAddRecurringWithCatchUpPolicy() throws StudyMateException {
+        Command cmd = parser.parse("rem meeting @ 2024-12-15 18:00 -r 1d -C Skip");
+        assertEquals(CommandType.REM_ADD_REC, cmd.type);
+        assertEquals("PT24H", cmd.interval.toString());
+        assertEquals(CatchUpPolicy.SKIP, cmd.catchUpPolicy);
+        assertEquals(CatchUpPolicy.ONCE, parser.parse("rem meeting @ 2024-12-15 18:00 -r 1d").catchUpPolicy);
+    }
+
+    @Test
+    void testRemAddCalendarRule() throws StudyMateException {
+        Command cmd = parser.parse("rem standup @ 2099-01-05 09:00 -r FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR -c all");
+        assertEquals(CommandType.REM_ADD_REC, cmd.type);
+        assertNull(cmd.interval);
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR", cmd.recurrenceRule.toString());
+        assertEquals(CatchUpPolicy.ALL, cmd.catchUpPolicy);
+        assertNull(parser.parse("rem meeting @ 2024-12-15 18:00 -r 1d").recurrenceRule);
+        assertThrows(StudyMateException.class, () -> parser.parse("rem standup @ 2099-01-05 09:00 -r BYDAY=XX"));
+    }
+
+    @Test
+    void testRemAddCatchUpPolicyInvalidThrowsException() {
+        assertThrows(StudyMateException.class, () -> parser.parse("rem meeting @ 2024-12-15 18:00 -r 1d -c later"));
+        assertThrows(StudyMateException.class, () -> parser.parse("rem meeting @ 2024-12-15 18:00 -r 1d -c"));
+        assertThrows(StudyMateException.class, () -> parser.parse("rem meeting @ 2024-12-15 18:00 -c all"));
+    }
+
     @Test
     void testRemWithoutSubcommandThrowsException() {
         assertThrows(StudyMateException.class, () -> parser.parse("rem"));
@@ -444,6 +488,24 @@ public class ParserTest {
         assertEquals(CommandType.PAUSE, cmd.type);
     }
 
+    @Test
+    void testTimerPauseNamedCommand() throws StudyMateException {
+        Command cmd = parser.parse("pause  Study Math ");
+        assertEquals(CommandType.PAUSE, cmd.type);
+        assertEquals("Study Math", cmd.desc);
+        assertNull(parser.parse("stat").desc);
+    }
+
+    @Test
+    void testStatHistoryCommand() throws StudyMateException {
+        Command cmd = parser.parse("stat -h 90");
+        assertEquals(CommandType.STAT_HISTORY, cmd.type);
+        assertEquals(90, cmd.duration);
+        assertEquals(30, parser.parse("stat -H").duration);
+        assertThrows(StudyMateException.class, () -> parser.parse("stat -h 0"));
+        assertThrows(StudyMateException.class, () -> parser.parse("stat -h week"));
+    }
+
     @Test
     void testTimerResumeCommand() throws StudyMateException {
         Command cmd = parser.parse("resume");
@@ -670,6 +732,8 @@ public class ParserTest {
     void testHabitListCommand() throws StudyMateException {
         Command cmd = parser.parse("habit ls");
         assertEquals(CommandType.HABIT_LIST, cmd.type);
+        assertEquals(CommandType.HABIT_DUE, parser.parse("habit ls -d").type);
+        assertThrows(StudyMateException.class, () -> parser.parse("habit ls all"));
     }
 
     @Test
@@ -679,6 +743,27 @@ public class ParserTest {
         assertEquals(0, cmd.index); // 1-based to 0-based conversion
     }
 
+    @Test
+    void testHabitAddWithGraceCommand() throws StudyMateException {
+        assertEquals(GracePolicy.DEFAULT, parser.parse("habit Exercise -t 1d").gracePolicy);
+        assertEquals(GracePolicy.minutes(90), parser.parse("habit Exercise -t 1d -g 90m").gracePolicy);
+        assertEquals(GracePolicy.fractionOf(3), parser.parse("habit Exercise -t 1d -g 1/3").gracePolicy);
+        Command cmd = parser.parse("habit Morning run -t 1d -g day");
+        assertEquals("Morning run", cmd.desc);
+        assertEquals(GracePolicy.endOfDay(), cmd.gracePolicy);
+        assertThrows(StudyMateException.class, () -> parser.parse("habit Exercise -t 1d -g"));
+        assertThrows(StudyMateException.class, () -> parser.parse("habit Exercise -t 1d -g 1/0"));
+        assertThrows(StudyMateException.class, () -> parser.parse("habit Exercise -t 1d -g soon"));
+    }
+
+    @Test
+    void testHabitStatsCommand() throws StudyMateException {
+        Command cmd = parser.parse("habit stats 3");
+        assertEquals(CommandType.HABIT_STATS, cmd.type);
+        assertEquals(2, cmd.index);
+        assertThrows(StudyMateException.class, () -> parser.parse("habit stats abc"));
+    }
+
     @Test
     void testHabitRmCommand() throws StudyMateException {
         Command cmd = parser.parse("habit rm 2");
@@ -860,4 +945,26 @@ public class ParserTest {
         assertEquals(CommandType.EVENT, cmd.type);
         assertEquals("party", cmd.desc);
     }
+
+    @Test
+    void testRunCommand() throws StudyMateException {
+        Command cmd = parser.parse("run scripts/setup.txt");
+        assertEquals(CommandType.RUN, cmd.type);
+        assertEquals("scripts/setup.txt", cmd.desc);
+        assertEquals(false, cmd.isStrict);
+    }
+
+    @Test
+    void testRunCommandStrict() throws StudyMateException {
+        Command cmd = parser.parse("run -S  setup.txt");
+        assertEquals(CommandType.RUN, cmd.type);
+        assertEquals("setup.txt", cmd.desc);
+        assertEquals(true, cmd.isStrict);
+    }
+
+    @Test
+    void testRunCommandWithoutFile() {
+        assertThrows(StudyMateException.class, () -> parser.parse("run"));
+        assertThrows(StudyMateException.class, () -> parser.parse("run -s"));
+    }
 }
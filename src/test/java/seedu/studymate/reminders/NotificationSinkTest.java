@@ -0,0 +1,264 @@
+package seedu.studymate.reminders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NotificationSinkTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 1, 9, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(),
+            ZoneId.systemDefault());
+
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("studymate-sinks");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static Reminder reminder(String name) {
+        return new Reminder(name, DateTimeArg.of(NOW), CLOCK, false);
+    }
+
+    @Test
+    void coalesce_repeatedReminder_mergedInListOrder() {
+        Reminder first = reminder("First");
+        Reminder second = reminder("Second");
+
+        List<IndexedReminder> batch = BatchingNotificationSink.coalesce(List.of(
+                new IndexedReminder(2, second), new IndexedReminder(1, first), new IndexedReminder(2, second, 3)));
+
+        assertEquals(2, batch.size());
+        assertEquals(first, batch.get(0).getReminder());
+        assertEquals(second, batch.get(1).getReminder());
+        assertEquals(4, batch.get(1).getOccurrences());
+    }
+
+    @Test
+    void batching_withinWindow_deliveredAsOneBatch() throws IOException {
+        RecordingSink recorder = new RecordingSink(1);
+        BatchingNotificationSink sink = new BatchingNotificationSink(recorder, Duration.ofHours(1), null);
+        Reminder first = reminder("First");
+
+        sink.deliver(List.of(new IndexedReminder(1, first)));
+        sink.deliver(List.of(new IndexedReminder(1, first), new IndexedReminder(2, reminder("Second"))));
+        assertTrue(recorder.batches.isEmpty());
+
+        sink.flush();
+        assertEquals(1, recorder.batches.size());
+        assertEquals(2, recorder.batches.get(0).size());
+        assertEquals(2, recorder.batches.get(0).get(0).getOccurrences());
+    }
+
+    @Test
+    void batching_windowEnds_deliveredInBackground() throws InterruptedException {
+        RecordingSink recorder = new RecordingSink(1);
+        BatchingNotificationSink sink = new BatchingNotificationSink(recorder, Duration.ofMillis(50), null);
+
+        sink.deliver(List.of(new IndexedReminder(1, reminder("First"))));
+
+        assertTrue(recorder.delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(1, recorder.batches.size());
+    }
+
+    @Test
+    void batching_rateLimited_laterRemindersJoinNextBatch() throws IOException, InterruptedException {
+        RecordingSink recorder = new RecordingSink(1);
+        TokenBucket rateLimit = new TokenBucket(1, 1);
+        assertTrue(rateLimit.tryAcquire()); // Leave the bucket empty for a minute
+        BatchingNotificationSink sink = new BatchingNotificationSink(recorder, Duration.ZERO, rateLimit);
+
+        sink.deliver(List.of(new IndexedReminder(1, reminder("First"))));
+        Thread.sleep(200);
+        sink.deliver(List.of(new IndexedReminder(2, reminder("Second"))));
+        Thread.sleep(200);
+        assertTrue(recorder.batches.isEmpty());
+
+        sink.close();
+        assertEquals(1, recorder.batches.size());
+        assertEquals(2, recorder.batches.get(0).size());
+    }
+
+    @Test
+    void fileSink_appendsOneBlockPerBatch() throws IOException {
+        Path file = tempDir.resolve("notifications").resolve("reminders.log");
+        FileNotificationSink sink = new FileNotificationSink(file, CLOCK);
+
+        sink.deliver(List.of(new IndexedReminder(1, reminder("First"))));
+        sink.deliver(List.of(new IndexedReminder(2, reminder("Second"), 3)));
+
+        String content = Files.readString(file);
+        String[] blocks = content.split("\\[2099-01-01 09:00\\] StudyMate reminds you of the following!");
+        assertEquals(3, blocks.length);
+        assertTrue(blocks[1].contains("1. [RO][O] First"));
+        assertTrue(blocks[2].contains("2. [RO][O] Second"));
+        assertTrue(blocks[2].contains("(fired 3 times)"));
+    }
+
+    @Test
+    void socketSink_writesBatchToListener() throws IOException {
+        Path socketPath = tempDir.resolve("studymate.sock");
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            new SocketNotificationSink(socketPath, CLOCK)
+                    .deliver(List.of(new IndexedReminder(1, reminder("First"))));
+
+            try (SocketChannel client = server.accept()) {
+                ByteArrayOutputStream received = new ByteArrayOutputStream();
+                ByteBuffer buffer = ByteBuffer.allocate(256);
+                while (client.read(buffer) > 0) {
+                    received.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                String text = received.toString(StandardCharsets.UTF_8);
+                assertTrue(text.startsWith("[2099-01-01 09:00] StudyMate reminds you of the following!"));
+                assertTrue(text.contains("1. [RO][O] First"));
+            }
+        }
+    }
+
+    @Test
+    void scheduler_customSinks_receiveFiredReminders() throws StudyMateException, InterruptedException {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(console));
+        AdjustableClock clock = new AdjustableClock(NOW.minusMinutes(1));
+        ReminderList reminderList = new ReminderList(clock);
+        reminderList.addReminderOneTime("Due soon", DateTimeArg.of(NOW));
+        Scheduler scheduler = new Scheduler(reminderList, 1);
+        RecordingSink recorder = new RecordingSink(1);
+        try {
+            scheduler.setSinks(List.of(recorder));
+            scheduler.start();
+            clock.now = NOW;
+
+            assertTrue(recorder.delivered.await(5, TimeUnit.SECONDS));
+            assertEquals("Due soon", recorder.batches.get(0).get(0).getReminder().getName());
+            assertTrue(console.toString().isEmpty());
+        } finally {
+            scheduler.shutdown();
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    void scheduler_startup_onceSummarisesButAllNotifiesEveryOccurrence() throws StudyMateException {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(console));
+        // Closed for the last three hourly occurrences and the one due now
+        ReminderList reminderList = new ReminderList(new AdjustableClock(NOW));
+        reminderList.addReminderRec("Once", DateTimeArg.of(NOW.minusHours(3)), Duration.ofHours(1),
+                CatchUpPolicy.ONCE);
+        reminderList.addReminderRec("All", DateTimeArg.of(NOW.minusHours(3)), Duration.ofHours(1),
+                CatchUpPolicy.ALL);
+        Scheduler scheduler = new Scheduler(reminderList, 1);
+        RecordingSink recorder = new RecordingSink(1);
+        try {
+            scheduler.setSinks(List.of(recorder));
+            scheduler.start();
+
+            String summary = console.toString();
+            assertTrue(summary.contains("you missed 1 reminder:"));
+            assertTrue(summary.contains("Once") && summary.contains("(missed 4 times)"));
+            assertFalse(summary.contains("All"));
+            assertEquals(1, recorder.batches.size());
+            assertEquals(4, recorder.batches.get(0).size());
+            for (IndexedReminder notification : recorder.batches.get(0)) {
+                assertEquals("All", notification.getReminder().getName());
+                assertEquals(1, notification.getOccurrences());
+            }
+        } finally {
+            scheduler.shutdown();
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    void addEveryOccurrence_capsNotificationsAndKeepsTheCount() throws StudyMateException {
+        ReminderList reminderList = new ReminderList(new AdjustableClock(NOW));
+        reminderList.addReminderRec("All", DateTimeArg.of(NOW), Duration.ofMinutes(1), CatchUpPolicy.ALL);
+        List<IndexedReminder> notifications = new ArrayList<>();
+
+        Scheduler.addEveryOccurrence(notifications, new IndexedReminder(1, reminderList.getReminder(0), 1000));
+
+        assertEquals(Scheduler.MAX_CATCH_UP_NOTIFICATIONS, notifications.size());
+        assertEquals(1000, notifications.stream().mapToLong(IndexedReminder::getOccurrences).sum());
+    }
+
+    private static class AdjustableClock extends Clock {
+        private volatile LocalDateTime now;
+
+        AdjustableClock(LocalDateTime now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.atZone(getZone()).toInstant();
+        }
+    }
+
+    private static class RecordingSink implements NotificationSink {
+        private final List<List<IndexedReminder>> batches = new ArrayList<>();
+        private final CountDownLatch delivered;
+
+        RecordingSink(int expectedBatches) {
+            this.delivered = new CountDownLatch(expectedBatches);
+        }
+
+        @Override
+        public synchronized void deliver(List<IndexedReminder> reminders) {
+            batches.add(reminders);
+            delivered.countDown();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.studymate.reminders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+
+public class RecurrenceRuleTest {
+    // A Monday
+    private static final LocalDateTime START = LocalDateTime.of(2099, 1, 5, 9, 30);
+    private static final Clock CLOCK = Clock.fixed(START.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private static long second(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime dateTime(long second) {
+        return LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+    }
+
+    @Test
+    void parse_anyCaseAndOrder_formatsCanonically() throws StudyMateException {
+        RecurrenceRule rule = RecurrenceRule.parse("byhour=14,9;byday=fr,mo;freq=weekly;until=20990301");
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,FR;BYHOUR=9,14;UNTIL=20990301T235900", rule.toString());
+        assertEquals(rule, RecurrenceRule.parse(rule.toString()));
+    }
+
+    @Test
+    void parse_defaults_dailyEveryDay() throws StudyMateException {
+        RecurrenceRule rule = RecurrenceRule.parse("COUNT=5");
+        assertFalse(rule.isWeekly());
+        assertEquals(1, rule.getInterval());
+        assertEquals(5, rule.getCount());
+        assertNull(rule.getUntil());
+    }
+
+    @Test
+    void parse_badParts_throw() {
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("BYDAY=XX"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("BYHOUR=24"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("COUNT=0"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("UNTIL=2099"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("BYMONTH=1"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("COUNT=1;COUNT=2"));
+        assertThrows(StudyMateException.class, () -> RecurrenceRule.parse("FREQ="));
+    }
+
+    @Test
+    void isRule_distinguishesIntervals() {
+        assertTrue(RecurrenceRule.isRule("FREQ=DAILY"));
+        assertFalse(RecurrenceRule.isRule("1d"));
+    }
+
+    @Test
+    void occurrences_weekdaysAtNine_skipWeekend() throws StudyMateException {
+        RuleOccurrences occurrences = new RuleOccurrences(RecurrenceRule.parse("BYDAY=MO,TU,WE,TH,FR;BYHOUR=9"),
+                DateTimeArg.of(START));
+        assertEquals(START, dateTime(occurrences.first()));
+        // After Friday's occurrence comes Monday's
+        LocalDateTime friday = START.plusDays(4);
+        assertEquals(START.plusDays(7), dateTime(occurrences.nextAfter(second(friday))));
+        assertEquals(5, occurrences.countBetween(second(START), second(START.plusDays(7).minusMinutes(1))));
+    }
+
+    @Test
+    void occurrences_everySecondTuesday() throws StudyMateException {
+        RuleOccurrences occurrences = new RuleOccurrences(RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=TU"),
+                DateTimeArg.of(START));
+        LocalDateTime firstTuesday = START.plusDays(1);
+        assertEquals(firstTuesday, dateTime(occurrences.first()));
+        assertEquals(firstTuesday.plusWeeks(2), dateTime(occurrences.nextAfter(second(firstTuesday))));
+        // A hundred years on still takes one step
+        LocalDateTime later = firstTuesday.plusWeeks(5200);
+        assertEquals(later, dateTime(occurrences.nextAfter(second(later) - 1)));
+    }
+
+    @Test
+    void occurrences_countAndUntil_end() throws StudyMateException {
+        RuleOccurrences counted = new RuleOccurrences(RecurrenceRule.parse("FREQ=DAILY;COUNT=3"),
+                DateTimeArg.of(START));
+        assertEquals(START.plusDays(2), dateTime(counted.nextAfter(second(START.plusDays(1)))));
+        assertEquals(Long.MAX_VALUE, counted.nextAfter(second(START.plusDays(2))));
+        assertEquals(3, counted.countBetween(second(START), second(START.plusYears(1))));
+
+        RuleOccurrences until = new RuleOccurrences(RecurrenceRule.parse("UNTIL=20990107T0930"),
+                DateTimeArg.of(START));
+        assertEquals(3, until.countBetween(second(START.minusDays(1)), second(START.plusYears(1))));
+        assertEquals(Long.MAX_VALUE, until.nextAfter(second(START.plusDays(2))));
+    }
+
+    @Test
+    void occurrences_neverOccurring_throws() {
+        // Every seven days from a Monday never lands on a Tuesday
+        assertThrows(StudyMateException.class, () -> new RuleOccurrences(
+                RecurrenceRule.parse("INTERVAL=7;BYDAY=TU"), DateTimeArg.of(START)));
+        assertThrows(StudyMateException.class, () -> new RuleOccurrences(
+                RecurrenceRule.parse("UNTIL=20990101"), DateTimeArg.of(START)));
+    }
+
+    @Test
+    void occurrences_matchSteppingHourByHour() throws StudyMateException {
+        String[] rules = {"FREQ=DAILY;INTERVAL=3;BYDAY=MO,WE,SA;BYHOUR=0,9,23", "FREQ=WEEKLY;INTERVAL=3;BYDAY=SU,TH",
+            "FREQ=DAILY;BYHOUR=5,6", "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR,SA,SU;BYHOUR=12;COUNT=20"};
+        LocalDateTime start = START.plusDays(2).withMinute(15);
+        for (String text : rules) {
+            RecurrenceRule rule = RecurrenceRule.parse(text);
+            RuleOccurrences occurrences = new RuleOccurrences(rule, DateTimeArg.of(start));
+            long expected = second(nextMatch(rule, start, start.minusHours(1)));
+            assertEquals(expected, occurrences.first(), text);
+            LocalDateTime probe = start.minusMinutes(1);
+            for (int step = 0; step < 300; step++) {
+                LocalDateTime match = nextMatch(rule, start, probe);
+                long next = occurrences.nextAfter(second(probe));
+                // Each step moves on by exactly one occurrence
+                if (rule.getCount() != 0 && step >= rule.getCount()) {
+                    assertEquals(Long.MAX_VALUE, next, text);
+                    break;
+                }
+                assertEquals(match, dateTime(next), text);
+                probe = match.plusMinutes(step % 2 == 0 ? 0 : 7);
+            }
+        }
+    }
+
+    @Test
+    void calendarSchedule_countUsedUp_turnsOff() throws StudyMateException {
+        CalendarSchedule schedule = new CalendarSchedule(RecurrenceRule.parse("COUNT=2"),
+                DateTimeArg.of(START.minusDays(1)), CLOCK, CatchUpPolicy.ALL);
+        assertTrue(schedule.isDue());
+        schedule.isFired();
+        assertEquals(DateTimeArg.of(START), schedule.getRemindAt());
+        schedule.isFired();
+        assertFalse(schedule.getOnReminder());
+        assertFalse(schedule.isDue());
+    }
+
+    @Test
+    void calendarSchedule_oncePolicy_movesPastNow() throws StudyMateException {
+        CalendarSchedule schedule = new CalendarSchedule(RecurrenceRule.parse("BYHOUR=9"),
+                DateTimeArg.of(START.minusDays(10)), CLOCK, CatchUpPolicy.ONCE);
+        schedule.isFired();
+        assertEquals(DateTimeArg.of(START.plusDays(1)), schedule.getRemindAt());
+    }
+
+    /**
+     * Finds the first occurrence after a time by checking every hour, the slow way the rule is defined.
+     */
+    private static LocalDateTime nextMatch(RecurrenceRule rule, LocalDateTime start, LocalDateTime after) {
+        LocalDateTime candidate = after.truncatedTo(ChronoUnit.HOURS).withMinute(start.getMinute());
+        while (!candidate.isAfter(after) || candidate.isBefore(start) || !matches(rule, start, candidate)) {
+            candidate = candidate.plusHours(1);
+        }
+        return candidate;
+    }
+
+    private static boolean matches(RecurrenceRule rule, LocalDateTime start, LocalDateTime candidate) {
+        int day = candidate.getDayOfWeek().getValue() - 1;
+        int dayMask = rule.getByDayMask() != 0 ? rule.getByDayMask()
+                : rule.isWeekly() ? 1 << (start.getDayOfWeek().getValue() - 1) : 0x7F;
+        int hourMask = rule.getByHourMask() != 0 ? rule.getByHourMask() : 1 << start.getHour();
+        if ((dayMask & (1 << day)) == 0 || (hourMask & (1 << candidate.getHour())) == 0) {
+            return false;
+        }
+        if (rule.isWeekly()) {
+            LocalDateTime startWeek = start.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .atStartOfDay();
+            return ChronoUnit.WEEKS.between(startWeek, candidate) % rule.getInterval() == 0;
+        }
+        return ChronoUnit.DAYS.between(start.toLocalDate(), candidate.toLocalDate()) % rule.getInterval() == 0;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.studymate.reminders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studymate.parser.DateTimeArg;
+
+public class RecurringScheduleTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 23, 12, 0, 30);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private static RecurringSchedule schedule(LocalDateTime start, Duration interval, CatchUpPolicy policy) {
+        return new RecurringSchedule(DateTimeArg.of(start), interval, CLOCK, policy);
+    }
+
+    @Test
+    void setNextSchedule_longOverdue_jumpsToNextOccurrence() {
+        // A one-minute reminder last due a year ago moves on in one step, not half a million
+        RecurringSchedule schedule = schedule(NOW.minusYears(1).withSecond(0), Duration.ofMinutes(1),
+                CatchUpPolicy.ONCE);
+        schedule.setNextSchedule();
+        assertEquals(DateTimeArg.of(NOW.withSecond(0).plusMinutes(1)), schedule.getRemindAt());
+    }
+
+    @Test
+    void setNextSchedule_matchesSteppingOneIntervalAtATime() {
+        Duration[] intervals = {Duration.ofSeconds(7), Duration.ofMinutes(13), Duration.ofHours(5), Duration.ofDays(7)};
+        for (Duration interval : intervals) {
+            LocalDateTime start = NOW.minusDays(40).plusSeconds(11);
+            LocalDateTime expected = start;
+            while (!expected.isAfter(NOW)) {
+                expected = expected.plus(interval);
+            }
+            RecurringSchedule schedule = schedule(start, interval, CatchUpPolicy.ONCE);
+            schedule.setNextSchedule();
+            assertEquals(DateTimeArg.of(expected), schedule.getRemindAt(), "Interval " + interval);
+        }
+    }
+
+    @Test
+    void setNextSchedule_futureOccurrence_isUnchanged() {
+        RecurringSchedule schedule = schedule(NOW.plusHours(1), Duration.ofDays(1), CatchUpPolicy.ONCE);
+        schedule.setNextSchedule();
+        assertEquals(DateTimeArg.of(NOW.plusHours(1)), schedule.getRemindAt());
+    }
+
+    @Test
+    void isFired_allPolicy_firesEachMissedOccurrence() {
+        RecurringSchedule schedule = schedule(NOW.minusHours(2).withSecond(0), Duration.ofHours(1),
+                CatchUpPolicy.ALL);
+        int fired = 0;
+        while (schedule.isDue()) {
+            assertTrue(schedule.shouldNotify());
+            schedule.isFired();
+            fired++;
+        }
+        assertEquals(3, fired);
+        assertEquals(DateTimeArg.of(NOW.withSecond(0).plusHours(1)), schedule.getRemindAt());
+    }
+
+    @Test
+    void shouldNotify_skipPolicy_onlyForOnTimeOccurrence() {
+        RecurringSchedule missed = schedule(NOW.minusDays(3).withHour(9), Duration.ofDays(1), CatchUpPolicy.SKIP);
+        assertTrue(missed.isDue());
+        assertFalse(missed.shouldNotify());
+        missed.isFired();
+        assertFalse(missed.isDue());
+
+        RecurringSchedule onTime = schedule(NOW.minusDays(3).withSecond(0), Duration.ofDays(1), CatchUpPolicy.SKIP);
+        assertTrue(onTime.shouldNotify(), "An occurrence reached within the minute is not missed");
+    }
+}
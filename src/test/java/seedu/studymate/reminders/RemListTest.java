@@ -1,5 +1,6 @@
 package seedu.studymate.reminders;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -322,6 +323,41 @@ public class RemListTest {
         assertFalse(recReminder.isDue(), "Reminder should not be due after rescheduling to tomorrow");
     }
 
+    @Test
+    void concurrentAddsAndReads_seeConsistentSnapshots() throws Exception {
+        DateTimeArg remDateTime = new DateTimeArg(LocalDate.of(2099, 1, 1), LocalTime.NOON);
+        java.util.concurrent.atomic.AtomicBoolean isInconsistent = new java.util.concurrent.atomic.AtomicBoolean();
+        java.util.concurrent.atomic.AtomicBoolean isDone = new java.util.concurrent.atomic.AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!isDone.get()) {
+                java.util.List<Reminder> snapshot = reminderList.getReminders();
+                for (int i = 0; i < snapshot.size(); i++) {
+                    if (snapshot.get(i) == null || reminderList.getReminderIndex(snapshot.get(i)) != i) {
+                        isInconsistent.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+        Thread[] writers = new Thread[4];
+        for (int w = 0; w < writers.length; w++) {
+            writers[w] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    assertDoesNotThrow(() -> reminderList.addReminderOneTime("Concurrent", remDateTime));
+                }
+            });
+            writers[w].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        isDone.set(true);
+        reader.join();
+
+        assertEquals(2000, reminderList.getCount());
+        assertFalse(isInconsistent.get(), "Readers should only ever see whole, correctly indexed snapshots");
+    }
+
     // Test that adding reminders beyond 10000 limit throws exception
     @Test
     void testAddReminderOneTime_exceedsCapacity_throwsException() throws StudyMateException {
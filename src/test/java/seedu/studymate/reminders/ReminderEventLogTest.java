@@ -0,0 +1,224 @@
+package seedu.studymate.reminders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.parser.DateTimeArg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReminderEventLogTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 1, 9, 0);
+    private static final Clock CLOCK = clockAt(NOW);
+
+    private Path tempDir;
+    private Path logPath;
+    private int nextId = 1;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("studymate-events");
+        logPath = tempDir.resolve("events.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static Clock clockAt(LocalDateTime time) {
+        return Clock.fixed(time.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    }
+
+    private Reminder reminder(String name) {
+        Reminder reminder = new Reminder(name, DateTimeArg.of(NOW.plusDays(1)), CLOCK, false);
+        reminder.id = nextId++;
+        return reminder;
+    }
+
+    @Test
+    void record_countsFiresAndSnoozes() throws IOException {
+        Reminder reminder = reminder("Drink water");
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            for (int i = 0; i < 4; i++) {
+                log.record(ReminderEvent.FIRE, reminder);
+            }
+            log.record(ReminderEvent.SNOOZE, reminder);
+            log.record(ReminderEvent.OFF, reminder);
+
+            assertEquals(4, log.getFireCount(reminder));
+            assertEquals(1, log.getSnoozeCount(reminder));
+            assertEquals(0.25, log.getSnoozeRate(reminder), 1e-9);
+            assertEquals(0, log.getSnoozeRate(reminder("Never fired")), 1e-9);
+            assertEquals(6, log.getEventCount());
+        }
+    }
+
+    @Test
+    void getFiresPerDay_groupsFiresByLocalDate() throws IOException {
+        Reminder reminder = reminder("Stretch");
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            log.record(ReminderEvent.FIRE, reminder);
+            log.record(ReminderEvent.SNOOZE, reminder);
+        }
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, clockAt(NOW.plusDays(2)))) {
+            log.record(ReminderEvent.FIRE, reminder);
+            log.record(ReminderEvent.FIRE, reminder);
+
+            SortedMap<LocalDate, Long> fires = log.getFiresPerDay(NOW.toLocalDate(), NOW.toLocalDate().plusDays(6));
+            assertEquals(2, fires.size());
+            assertEquals(1L, fires.get(NOW.toLocalDate()));
+            assertEquals(2L, fires.get(NOW.toLocalDate().plusDays(2)));
+            assertEquals(0, log.getFiresOn(NOW.toLocalDate().plusDays(1)));
+        }
+    }
+
+    @Test
+    void open_afterClose_keepsTotals() throws IOException {
+        Reminder reminder = reminder("Read");
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            log.record(ReminderEvent.FIRE, reminder);
+            log.record(ReminderEvent.SNOOZE, reminder);
+        }
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            log.record(ReminderEvent.FIRE, reminder);
+
+            assertEquals(2, log.getFireCount(reminder));
+            assertEquals(1, log.getSnoozeCount(reminder));
+            assertEquals(3, log.getEventCount());
+        }
+    }
+
+    @Test
+    void open_withoutClose_replaysRecordsFromFile() throws IOException {
+        Reminder reminder = reminder("Read");
+        ReminderEventLog unclosed = ReminderEventLog.open(logPath, CLOCK);
+        unclosed.record(ReminderEvent.FIRE, reminder);
+        unclosed.record(ReminderEvent.FIRE, reminder);
+        unclosed.record(ReminderEvent.SNOOZE, reminder);
+
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            assertEquals(2, log.getFireCount(reminder));
+            assertEquals(1, log.getSnoozeCount(reminder));
+        } finally {
+            unclosed.close();
+        }
+    }
+
+    @Test
+    void record_pastCapacity_wrapsAroundAndKeepsTotals() throws IOException {
+        Reminder reminder = reminder("Walk");
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, 4, CLOCK)) {
+            for (int i = 0; i < 10; i++) {
+                log.record(ReminderEvent.FIRE, reminder);
+            }
+            log.record(ReminderEvent.SNOOZE, reminder);
+        }
+        assertEquals(ReminderEventLog.HEADER_BYTES + 4 * ReminderEventLog.RECORD_BYTES, Files.size(logPath));
+
+        Files.copy(logPath, tempDir.resolve("copy.bin"));
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            assertEquals(10, log.getFireCount(reminder));
+            assertEquals(1, log.getSnoozeCount(reminder));
+            assertEquals(11, log.getEventCount());
+        }
+        // Without the saved totals, only the records still in the file are counted
+        try (ReminderEventLog log = ReminderEventLog.open(tempDir.resolve("copy.bin"), CLOCK)) {
+            assertEquals(3, log.getFireCount(reminder));
+            assertEquals(1, log.getSnoozeCount(reminder));
+        }
+    }
+
+    @Test
+    void open_notAnEventLog_throws() throws IOException {
+        Files.writeString(logPath, "T|0|Not an event log and long enough to have a header", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> ReminderEventLog.open(logPath, CLOCK));
+    }
+
+    @Test
+    void reminderList_recordsOnOffAndSnooze() throws IOException, StudyMateException {
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            ReminderList reminderList = new ReminderList(CLOCK);
+            reminderList.setEventLog(log);
+            reminderList.addReminderOneTime("Call home", DateTimeArg.of(NOW.plusHours(1)));
+            LinkedHashSet<Integer> first = new LinkedHashSet<>(List.of(0));
+
+            reminderList.turnOffReminders(first);
+            reminderList.turnOffReminders(first);
+            reminderList.turnOnReminders(first);
+            reminderList.handleSnooze(0, Duration.ofMinutes(30));
+
+            assertEquals(3, log.getEventCount());
+            assertEquals(1, log.getSnoozeCount(reminderList.getReminder(0)));
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    void reminderList_sameNameRemindersKeepSeparateTotals() throws IOException, StudyMateException {
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            ReminderList reminderList = new ReminderList(CLOCK);
+            reminderList.setEventLog(log);
+            reminderList.addReminderOneTime("Stand up", DateTimeArg.of(NOW.plusHours(1)));
+            reminderList.addReminderOneTime("Stand up", DateTimeArg.of(NOW.plusHours(2)));
+            reminderList.handleSnooze(0, Duration.ofMinutes(30));
+            reminderList.handleSnooze(0, Duration.ofMinutes(30));
+
+            assertEquals(2, log.getSnoozeCount(reminderList.getReminder(0)));
+            assertEquals(0, log.getSnoozeCount(reminderList.getReminder(1)));
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    void reminderList_deleteClearsTotals() throws IOException, StudyMateException {
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try (ReminderEventLog log = ReminderEventLog.open(logPath, CLOCK)) {
+            ReminderList reminderList = new ReminderList(CLOCK);
+            reminderList.setEventLog(log);
+            reminderList.addReminderOneTime("Stand up", DateTimeArg.of(NOW.plusHours(1)));
+            reminderList.handleSnooze(0, Duration.ofMinutes(30));
+            Reminder deleted = reminderList.getReminder(0);
+            reminderList.delete(new LinkedHashSet<>(List.of(0)));
+
+            // After a restart, a new reminder may be given the deleted one's id
+            ReminderList restarted = new ReminderList(CLOCK);
+            restarted.addReminderOneTime("Call home", DateTimeArg.of(NOW.plusHours(1)));
+            assertEquals(deleted.getId(), restarted.getReminder(0).getId());
+            assertEquals(0, log.getSnoozeCount(restarted.getReminder(0)));
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.studymate.reminders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studymate.parser.DateTimeArg;
+
+public class ReminderQueueTest {
+    private static final long START = LocalDateTime.of(2025, 10, 26, 9, 30).toEpochSecond(ZoneOffset.UTC);
+    private static final LongFunction<ReminderQueue> HEAP = start -> new HeapReminderQueue();
+    private static final LongFunction<ReminderQueue> WHEEL = TimingWheelReminderQueue::new;
+
+    private static Reminder reminder(String name) {
+        return new Reminder(name, new DateTimeArg(LocalDate.of(2025, 10, 26), LocalTime.NOON),
+                Clock.systemDefaultZone(), false);
+    }
+
+    private static void pollDue_returnsOnlyDueReminders(LongFunction<ReminderQueue> factory) {
+        ReminderQueue queue = factory.apply(START);
+        Reminder soon = reminder("soon");
+        Reminder later = reminder("later");
+        queue.schedule(soon, START + 90);
+        queue.schedule(later, START + 3 * 24 * 3600);
+
+        assertTrue(queue.pollDue(START + 89).isEmpty());
+        assertEquals(List.of(soon), queue.pollDue(START + 90));
+        assertEquals(1, queue.size());
+        assertEquals(List.of(later), queue.pollDue(START + 3 * 24 * 3600 + 5));
+        assertEquals(0, queue.size());
+        assertEquals(Long.MAX_VALUE, queue.nextDueSecond());
+    }
+
+    private static void scheduleAgain_replacesEarlierTime(LongFunction<ReminderQueue> factory) {
+        ReminderQueue queue = factory.apply(START);
+        Reminder snoozed = reminder("snoozed");
+        Reminder cancelled = reminder("cancelled");
+        queue.schedule(snoozed, START + 60);
+        queue.schedule(cancelled, START + 60);
+        queue.schedule(snoozed, START + 600);
+        queue.cancel(cancelled);
+
+        assertTrue(queue.pollDue(START + 300).isEmpty());
+        assertEquals(List.of(snoozed), queue.pollDue(START + 600));
+    }
+
+    private static void randomTimes_fireInTheirWindow(LongFunction<ReminderQueue> factory) {
+        ReminderQueue queue = factory.apply(START);
+        Random random = new Random(42);
+        List<long[]> expected = new ArrayList<>();
+        List<Reminder> reminders = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long due = START + random.nextInt(40 * 24 * 3600);
+            Reminder r = reminder("r" + i);
+            reminders.add(r);
+            expected.add(new long[] {due, i});
+            queue.schedule(r, due);
+        }
+        int fired = 0;
+        for (long now = START; now <= START + 41L * 24 * 3600; now += 1800) {
+            for (Reminder r : queue.pollDue(now)) {
+                long due = expected.get(reminders.indexOf(r))[0];
+                assertTrue(due <= now && due > now - 1800, "Fired in the wrong window: " + r.getName());
+                fired++;
+            }
+        }
+        assertEquals(500, fired);
+    }
+
+    @Test
+    void heap_pollDue_returnsOnlyDueReminders() {
+        pollDue_returnsOnlyDueReminders(HEAP);
+    }
+
+    @Test
+    void wheel_pollDue_returnsOnlyDueReminders() {
+        pollDue_returnsOnlyDueReminders(WHEEL);
+    }
+
+    @Test
+    void heap_scheduleAgain_replacesEarlierTime() {
+        scheduleAgain_replacesEarlierTime(HEAP);
+    }
+
+    @Test
+    void wheel_scheduleAgain_replacesEarlierTime() {
+        scheduleAgain_replacesEarlierTime(WHEEL);
+    }
+
+    @Test
+    void heap_randomTimes_fireInTheirWindow() {
+        randomTimes_fireInTheirWindow(HEAP);
+    }
+
+    @Test
+    void wheel_randomTimes_fireInTheirWindow() {
+        randomTimes_fireInTheirWindow(WHEEL);
+    }
+
+    @Test
+    void wheel_sameMinute_firesToTheSecond() {
+        ReminderQueue queue = new TimingWheelReminderQueue(START);
+        Reminder r = reminder("seconds");
+        queue.schedule(r, START + 45);
+
+        assertTrue(queue.pollDue(START + 44).isEmpty());
+        assertEquals(START + 45, queue.nextDueSecond());
+        assertEquals(List.of(r), queue.pollDue(START + 45));
+    }
+
+    @Test
+    void wheel_longDowntime_catchesUpWithoutStepping() {
+        ReminderQueue queue = new TimingWheelReminderQueue(START);
+        Reminder farAway = reminder("far");
+        Reminder missed = reminder("missed");
+        queue.schedule(farAway, START + 40L * 365 * 24 * 3600);
+        queue.schedule(missed, START + 3600);
+
+        assertEquals(List.of(missed), queue.pollDue(START + 2L * 365 * 24 * 3600));
+        assertTrue(queue.nextDueSecond() > START + 2L * 365 * 24 * 3600);
+        assertEquals(List.of(farAway), queue.pollDue(START + 40L * 365 * 24 * 3600));
+    }
+}
@@ -7,6 +7,7 @@ import seedu.studymate.exceptions.StudyMateException;
 import seedu.studymate.parser.DateTimeArg;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -15,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class SchedulerTest {
     private ReminderList reminderList;
@@ -257,6 +259,144 @@ public class SchedulerTest {
         assertTrue(secondTick.isEmpty(), "Both reminders should not fire again immediately");
     }
 
+    @Test
+    void tick_deletedReminder_isNotFired() throws StudyMateException {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        reminderList.addReminderOneTime("Deleted", new DateTimeArg(past.toLocalDate(), past.toLocalTime()));
+        reminderList.addReminderOneTime("Kept", new DateTimeArg(past.toLocalDate(), past.toLocalTime()));
+
+        reminderList.delete(new LinkedHashSet<>(List.of(0)));
+        List<IndexedReminder> dueReminders = scheduler.tick();
+
+        assertEquals(1, dueReminders.size());
+        assertEquals("Kept", dueReminders.get(0).getReminder().getName());
+        assertEquals(1, dueReminders.get(0).getIndex(), "Index should follow the renumbered list");
+    }
+
+    @Test
+    void tick_snoozedReminder_firesAtNewTimeOnly() throws StudyMateException {
+        LocalDateTime soon = LocalDateTime.now().plusSeconds(1);
+        reminderList.addReminderOneTime("Snoozed", new DateTimeArg(soon.toLocalDate(), soon.toLocalTime()));
+
+        reminderList.handleSnooze(0, java.time.Duration.ofHours(1));
+
+        assertTrue(scheduler.tick().isEmpty(), "Entry for the old time should be skipped");
+    }
+
+    @Test
+    void tick_reminderTurnedBackOn_isQueuedAgain() throws StudyMateException {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        reminderList.addReminderRec("Recurring", new DateTimeArg(past.toLocalDate(), past.toLocalTime()),
+                java.time.Duration.ofDays(1));
+        reminderList.turnOffReminders(new LinkedHashSet<>(List.of(0)));
+        assertTrue(scheduler.tick().isEmpty());
+
+        reminderList.turnOnReminders(new LinkedHashSet<>(List.of(0)));
+        assertEquals(1, scheduler.tick().size());
+    }
+
+    @Test
+    void tick_timingWheelQueue_firesDueReminders() throws StudyMateException {
+        LocalDateTime now = LocalDateTime.now();
+        Scheduler wheelScheduler = new Scheduler(reminderList, 1,
+                new TimingWheelReminderQueue(now.toEpochSecond(java.time.ZoneOffset.UTC)));
+        LocalDateTime past = now.minusMinutes(5);
+        LocalDateTime future = now.plusHours(2);
+        reminderList.addReminderOneTime("Due", new DateTimeArg(past.toLocalDate(), past.toLocalTime()));
+        reminderList.addReminderOneTime("Later", new DateTimeArg(future.toLocalDate(), future.toLocalTime()));
+
+        List<IndexedReminder> dueReminders = wheelScheduler.tick();
+
+        assertEquals(1, dueReminders.size());
+        assertEquals("Due", dueReminders.get(0).getReminder().getName());
+    }
+
+    @Test
+    void tick_dueReminder_recordsLatenessAndCheck() throws StudyMateException {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        reminderList.addReminderOneTime("Late", new DateTimeArg(past.toLocalDate(), past.toLocalTime()));
+
+        scheduler.tick();
+        scheduler.tick();
+
+        SchedulerStats stats = reminderList.getSchedulerStats();
+        assertEquals(scheduler.getStats(), stats);
+        assertEquals(1, stats.getLateness().getCount());
+        assertTrue(stats.getLateness().getMax() >= 5 * 60 * 1000 - 1000);
+        assertEquals(2, stats.getTickDuration().getCount());
+        assertEquals(1, stats.getExamined().getMax());
+        assertTrue(stats.getLockHold().getCount() >= 3);
+    }
+
+    @Test
+    void reconcile_afterLongDowntime_summarisesAndAdvancesInBulk() throws StudyMateException {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 26, 12, 0, 30);
+        ReminderList closedList = new ReminderList(java.time.Clock.fixed(
+                now.toInstant(java.time.ZoneOffset.UTC), java.time.ZoneOffset.UTC));
+        LocalDateTime yearAgo = now.minusYears(1).withSecond(0);
+        closedList.addReminderRec("Every minute", DateTimeArg.of(yearAgo), java.time.Duration.ofMinutes(1));
+        closedList.addReminderOneTime("Missed once", DateTimeArg.of(now.minusDays(2)));
+        closedList.addReminderOneTime("Upcoming", DateTimeArg.of(now.plusHours(1)));
+        closedList.addReminderRec("Skipped", DateTimeArg.of(yearAgo.plusHours(3)), java.time.Duration.ofDays(1),
+                CatchUpPolicy.SKIP);
+        Scheduler closedScheduler = new Scheduler(closedList, 1);
+
+        List<IndexedReminder> missed = closedScheduler.reconcile();
+
+        assertEquals(2, missed.size());
+        assertEquals("Every minute", missed.get(0).getReminder().getName());
+        assertEquals(java.time.Duration.between(yearAgo, now).toMinutes() + 1, missed.get(0).getOccurrences());
+        assertEquals(1, missed.get(1).getOccurrences());
+        assertEquals(DateTimeArg.of(now.withSecond(0).plusMinutes(1)), closedList.getReminder(0).remindAt);
+        assertEquals(DateTimeArg.of(now.withSecond(0).withHour(15)), closedList.getReminder(3).remindAt);
+        assertTrue(closedScheduler.tick().isEmpty(), "Nothing should fire again after catching up");
+    }
+
+    @Test
+    void reconcile_calendarRule_countsMissedOccurrencesByRule() throws StudyMateException {
+        // A Saturday, so the last missed weekday occurrence was Friday
+        LocalDateTime now = LocalDateTime.of(2099, 1, 10, 12, 0);
+        ReminderList closedList = new ReminderList(java.time.Clock.fixed(
+                now.toInstant(java.time.ZoneOffset.UTC), java.time.ZoneOffset.UTC));
+        closedList.addReminderRule("Weekdays", DateTimeArg.of(LocalDateTime.of(2099, 1, 5, 9, 0)),
+                RecurrenceRule.parse("BYDAY=MO,TU,WE,TH,FR;BYHOUR=9"), CatchUpPolicy.ONCE);
+        closedList.addReminderRule("Twice", DateTimeArg.of(LocalDateTime.of(2099, 1, 5, 9, 0)),
+                RecurrenceRule.parse("COUNT=2"), CatchUpPolicy.ONCE);
+        Scheduler closedScheduler = new Scheduler(closedList, 1);
+
+        List<IndexedReminder> missed = closedScheduler.reconcile();
+
+        assertEquals(2, missed.size());
+        assertEquals(5, missed.get(0).getOccurrences());
+        assertEquals(DateTimeArg.of(LocalDateTime.of(2099, 1, 12, 9, 0)), closedList.getReminder(0).remindAt);
+        assertEquals(2, missed.get(1).getOccurrences());
+        assertFalse(closedList.getReminder(1).getOnReminder());
+        assertTrue(closedScheduler.tick().isEmpty(), "Nothing should fire again after catching up");
+    }
+
+    @Test
+    void countMissed_oneTimeAndRecurring() {
+        long[] missed = Scheduler.countMissed(new long[] {100, 100, 200, Long.MAX_VALUE}, new long[] {0, 30, 30, 0},
+                190);
+        assertEquals(List.of(1L, 4L, 0L, 0L), java.util.Arrays.stream(missed).boxed().toList());
+    }
+
+    @Test
+    void getReminderIndex_afterDelete_tracksPosition() throws StudyMateException {
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        DateTimeArg futureDateTime = new DateTimeArg(future.toLocalDate(), future.toLocalTime());
+        reminderList.addReminderOneTime("A", futureDateTime);
+        reminderList.addReminderOneTime("B", futureDateTime);
+        reminderList.addReminderOneTime("C", futureDateTime);
+        Reminder first = reminderList.getReminder(0);
+        Reminder last = reminderList.getReminder(2);
+
+        reminderList.delete(new LinkedHashSet<>(List.of(0)));
+
+        assertEquals(-1, reminderList.getReminderIndex(first));
+        assertEquals(1, reminderList.getReminderIndex(last));
+    }
+
     // ========== INTEGRATION TESTS - Testing Interval Scheduler Mechanism ==========
 
     @Test
@@ -364,6 +504,22 @@ public class SchedulerTest {
                 "Recurring reminder should fire on first tick");
     }
 
+    @Test
+    void integrationTest_schedulerWakesAtDueTimeBeforeInterval() throws InterruptedException, StudyMateException {
+        Scheduler integrationScheduler = new Scheduler(reminderList, 60);
+        integrationScheduler.start();
+
+        // Due well before the 60-second safety interval elapses
+        LocalDateTime soon = LocalDateTime.now().plusSeconds(2);
+        reminderList.addReminderOneTime("Wakes on time", new DateTimeArg(soon.toLocalDate(), soon.toLocalTime()));
+
+        Thread.sleep(3500);
+        integrationScheduler.shutdown();
+
+        assertTrue(outputStream.toString().contains("Wakes on time"),
+                "Scheduler should wake when the reminder falls due");
+    }
+
     @Test
     void integrationTest_schedulerPeriodicExecution() throws InterruptedException, StudyMateException {
         Scheduler integrationScheduler = new Scheduler(reminderList, 3);
@@ -0,0 +1,50 @@
+package seedu.studymate.reminders;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void tryAcquire_burstUpToCapacity_thenLimited() {
+        TokenBucket bucket = new TokenBucket(3, 60, nanos::get);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_refillsAtSteadyRate() {
+        TokenBucket bucket = new TokenBucket(1, 60, nanos::get); // One token a second
+        assertTrue(bucket.tryAcquire());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertFalse(bucket.tryAcquire());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(400), bucket.nanosUntilNextToken());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        assertEquals(0, bucket.nanosUntilNextToken());
+        assertTrue(bucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_longIdle_refillsOnlyToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 60, nanos::get);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+
+        nanos.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.studymate.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HistogramTest {
+
+    @Test
+    void bucketOf_powersOfTwo() {
+        assertEquals(0, Histogram.bucketOf(0));
+        assertEquals(1, Histogram.bucketOf(1));
+        assertEquals(2, Histogram.bucketOf(2));
+        assertEquals(2, Histogram.bucketOf(3));
+        assertEquals(3, Histogram.bucketOf(4));
+        assertEquals(63, Histogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void empty_readsZero() {
+        Histogram histogram = new Histogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean(), 1e-9);
+        assertEquals(0, histogram.getPercentile(0.99));
+    }
+
+    @Test
+    void record_percentilesWithinFactorOfTwo() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        assertEquals(101, histogram.getCount());
+        assertEquals(100, histogram.getMax());
+        assertEquals(5050 / 101.0, histogram.getMean(), 1e-9);
+        // The 51st smallest value is 50, which falls in the bucket from 32 to 63
+        assertEquals(63, histogram.getPercentile(0.5));
+        // The 99th and 100th percentiles fall in the top bucket, capped at the largest value
+        assertEquals(100, histogram.getPercentile(0.99));
+        assertEquals(0, histogram.getPercentile(0));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.studymate.runtime;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RuntimeExecutorsTest {
+
+    @Test
+    void scheduler_isShared() {
+        assertSame(RuntimeExecutors.scheduler(), RuntimeExecutors.scheduler());
+        assertSame(RuntimeExecutors.delivery(), RuntimeExecutors.delivery());
+    }
+
+    @Test
+    void scheduler_runsOnDaemonThread() throws InterruptedException {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        RuntimeExecutors.scheduler().schedule(() -> {
+            ranOn.set(Thread.currentThread());
+            done.countDown();
+        }, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(ranOn.get().isDaemon());
+    }
+
+    @Test
+    void scheduler_cancelledTask_leavesSchedulerRunning() throws InterruptedException {
+        ScheduledFuture<?> cancelled = RuntimeExecutors.scheduler().schedule(() -> { }, 1, TimeUnit.HOURS);
+        cancelled.cancel(false);
+
+        CountDownLatch done = new CountDownLatch(1);
+        RuntimeExecutors.scheduler().schedule(done::countDown, 0, TimeUnit.MILLISECONDS);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(RuntimeExecutors.scheduler().isShutdown());
+    }
+
+    @Test
+    void deliver_runsOffCallingThread() throws InterruptedException {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        RuntimeExecutors.deliver(() -> {
+            ranOn.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), ranOn.get());
+        assertTrue(ranOn.get().isDaemon());
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.studymate.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studymate.exceptions.StudyMateException;
+
+public class SessionLogTest {
+    // A Monday
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2099, 1, 5, 9, 0);
+    private static final Clock CLOCK = Clock.fixed(MONDAY.atZone(ZoneId.systemDefault()).toInstant(),
+            ZoneId.systemDefault());
+
+    private Path tempDir;
+    private Path logPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("studymate-sessions");
+        logPath = tempDir.resolve("sessions.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static FocusSession session(String label, LocalDateTime start, long minutes, boolean isCompleted) {
+        return new FocusSession(label, 0, start, minutes * 60, 1, isCompleted);
+    }
+
+    private static void recordSessions(SessionLog log) {
+        log.record(session("Math", MONDAY.minusDays(1), 25, true));
+        log.record(session("Math", MONDAY, 25, true));
+        log.record(session("Essay", MONDAY.plusDays(3), 50, false));
+        log.record(session("Math", MONDAY.plusDays(7), 25, true));
+        log.record(session("Essay", MONDAY.plusDays(40), 10, true));
+    }
+
+    @Test
+    void record_totalsByDayWeekAndTask() throws IOException {
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            recordSessions(log);
+
+            FocusTotals week = log.getTotals(MONDAY.toLocalDate(), MONDAY.toLocalDate().plusDays(6));
+            assertEquals(2, week.getSessions());
+            assertEquals(1, week.getCompleted());
+            assertEquals(75 * 60, week.getFocusedSeconds());
+
+            // Starts mid-week and ends mid-week, spanning a whole week in between
+            FocusTotals months = log.getTotals(MONDAY.toLocalDate().minusDays(3), MONDAY.toLocalDate().plusDays(60));
+            assertEquals(5, months.getSessions());
+            assertEquals(135 * 60, months.getFocusedSeconds());
+            assertEquals(0, log.getTotals(MONDAY.toLocalDate().plusDays(1), MONDAY.toLocalDate().plusDays(2))
+                    .getSessions());
+
+            Map<String, FocusTotals> byTask = log.getTotalsByTask();
+            assertEquals(List.of("Math", "Essay"), List.copyOf(byTask.keySet()));
+            assertEquals(3, byTask.get("Math").getCompleted());
+            assertEquals(60 * 60, byTask.get("Essay").getFocusedSeconds());
+        }
+    }
+
+    @Test
+    void open_afterClose_keepsTotals() throws IOException {
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            recordSessions(log);
+        }
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            log.record(session("Math", MONDAY.plusDays(1), 25, true));
+
+            assertEquals(6, log.getSessionCount());
+            assertEquals(3, log.getTotals(MONDAY.toLocalDate(), MONDAY.toLocalDate().plusDays(6)).getSessions());
+            assertEquals(4, log.getTotalsByTask().get("Math").getSessions());
+        }
+    }
+
+    @Test
+    void open_withoutRollups_rebuildsFromLog() throws IOException {
+        SessionLog unclosed = SessionLog.open(logPath, CLOCK);
+        recordSessions(unclosed);
+
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            assertEquals(5, log.getSessionCount());
+            assertEquals(3, log.getTotalsByTask().get("Math").getSessions());
+        } finally {
+            unclosed.close();
+        }
+    }
+
+    @Test
+    void open_recordCutShort_dropsIt() throws IOException {
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            log.record(session("Math", MONDAY, 25, true));
+        }
+        Files.delete(tempDir.resolve("sessions.bin.rollups"));
+        long completeSize = Files.size(logPath);
+        Files.write(logPath, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            assertEquals(1, log.getSessionCount());
+            assertEquals(completeSize, Files.size(logPath));
+            log.record(session("Essay", MONDAY, 10, false));
+        }
+        try (SessionLog log = SessionLog.open(tempDir.resolve("sessions.bin"), CLOCK)) {
+            assertEquals(2, log.getSessionCount());
+        }
+    }
+
+    @Test
+    void open_notASessionLog_throws() throws IOException {
+        Files.writeString(logPath, "T|0|Not a session log", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> SessionLog.open(logPath, CLOCK));
+    }
+
+    @Test
+    void timerRegistry_recordsResetTimerAsStoppedEarly() throws IOException, StudyMateException {
+        TimerRegistry registry = new TimerRegistry(timer -> { });
+        try (SessionLog log = SessionLog.open(logPath, CLOCK)) {
+            registry.setSessionLog(log);
+            registry.start(new Timer("Math", 60));
+            registry.pause("Math");
+            registry.resume("Math");
+            registry.reset("Math");
+
+            assertEquals(1, log.getSessionCount());
+            FocusTotals today = log.getTotals(MONDAY.toLocalDate(), MONDAY.toLocalDate());
+            assertEquals(1, today.getSessions());
+            assertEquals(0, today.getCompleted());
+            assertFalse(log.getTotalsByTask().isEmpty());
+        } finally {
+            registry.clear();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.studymate.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studymate.exceptions.StudyMateException;
+
+public class TimerCheckpointTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 5, 9, 0);
+
+    private Path tempDir;
+    private Path statePath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("studymate-timers");
+        statePath = tempDir.resolve("Timers.state");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static Clock clockAt(LocalDateTime time) {
+        return Clock.fixed(time.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    }
+
+    private void saveRunningAndPaused() {
+        Timer running = new Timer("Math", 60);
+        Timer paused = new Timer("Essay", 120);
+        running.start();
+        paused.start();
+        paused.pause();
+        new TimerCheckpoint(statePath, clockAt(NOW)).save(List.of(running, paused));
+    }
+
+    @Test
+    void load_afterRestart_takesClosedTimeOffRunningTimers() throws IOException {
+        saveRunningAndPaused();
+
+        List<Timer> timers = new TimerCheckpoint(statePath, clockAt(NOW.plusSeconds(10))).load();
+
+        assertEquals(2, timers.size());
+        Timer running = timers.get(0);
+        assertEquals("Math", running.getLabel());
+        assertNull(running.getTaskIndex());
+        assertEquals(TimerState.RUNNING, running.getState());
+        assertEquals(50, running.getRemainingTime(), 1);
+        Timer paused = timers.get(1);
+        assertEquals(TimerState.PAUSED, paused.getState());
+        assertEquals(120, paused.getRemainingTime(), 1);
+        assertEquals(1, paused.getPauseCount());
+    }
+
+    @Test
+    void load_runningTimerRanOutWhileClosed_isIdle() throws IOException {
+        saveRunningAndPaused();
+
+        List<Timer> timers = new TimerCheckpoint(statePath, clockAt(NOW.plusHours(1))).load();
+
+        assertEquals(TimerState.IDLE, timers.get(0).getState());
+        assertEquals(60, timers.get(0).getFocusedNanos() / 1_000_000_000L);
+        assertEquals(TimerState.PAUSED, timers.get(1).getState());
+    }
+
+    @Test
+    void load_wallClockWentBack_takesNoTimeOff() throws IOException {
+        saveRunningAndPaused();
+
+        Timer running = new TimerCheckpoint(statePath, clockAt(NOW.minusHours(1))).load().get(0);
+
+        assertEquals(TimerState.RUNNING, running.getState());
+        assertEquals(60, running.getRemainingTime(), 1);
+    }
+
+    @Test
+    void save_noTimers_deletesFile() throws IOException {
+        saveRunningAndPaused();
+        TimerCheckpoint checkpoint = new TimerCheckpoint(statePath, clockAt(NOW));
+
+        checkpoint.save(List.of());
+
+        assertFalse(Files.exists(statePath));
+        assertTrue(checkpoint.load().isEmpty());
+    }
+
+    @Test
+    void load_notACheckpoint_throws() throws IOException {
+        Files.writeString(statePath, "T|0|Not a timer checkpoint", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> new TimerCheckpoint(statePath, clockAt(NOW)).load());
+    }
+
+    @Test
+    void timerRegistry_shutdownAndRestore_carriesTimersOver() throws IOException, StudyMateException {
+        TimerRegistry before = new TimerRegistry(timer -> { });
+        assertTrue(before.restore(new TimerCheckpoint(statePath, clockAt(NOW))).isEmpty());
+        before.start(new Timer("Math", 60));
+        before.start(new Timer("Quick", 5));
+        before.shutdown();
+        assertEquals(0, before.getCount());
+
+        TimerRegistry after = new TimerRegistry(timer -> { });
+        try {
+            List<Timer> ended = after.restore(new TimerCheckpoint(statePath, clockAt(NOW.plusSeconds(30))));
+
+            assertEquals(1, ended.size());
+            assertEquals("Quick", ended.get(0).getLabel());
+            assertEquals(1, after.getCount());
+            assertEquals(TimerState.RUNNING, after.find("math").getState());
+            assertEquals(30, after.find("math").getRemainingTime(), 1);
+        } finally {
+            after.clear();
+        }
+        assertFalse(Files.exists(statePath));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.studymate.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.studymate.exceptions.StudyMateException;
+import seedu.studymate.tasks.TaskList;
+
+public class TimerRegistryTest {
+    private final List<String> ended = new CopyOnWriteArrayList<>();
+    private CountDownLatch endings;
+    private TimerRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        endings = new CountDownLatch(2);
+        registry = new TimerRegistry(timer -> {
+            ended.add(timer.getLabel());
+            endings.countDown();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.clear();
+    }
+
+    @Test
+    void start_severalTimers_endInDeadlineOrder() throws StudyMateException, InterruptedException {
+        registry.start(new Timer("Long", 2));
+        registry.start(new Timer("Short", 1));
+        registry.start(new Timer("Focus session", 60));
+        assertEquals(3, registry.getCount());
+
+        assertTrue(endings.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("Short", "Long"), ended);
+        assertEquals(1, registry.getCount());
+        assertEquals("Focus session", registry.find(null).getLabel());
+    }
+
+    @Test
+    void pause_takesTimerOutOfDeadlineOrder() throws StudyMateException, InterruptedException {
+        registry.start(new Timer("Paused", 1));
+        registry.start(new Timer("Running", 1));
+        registry.pause("paused");
+
+        assertFalse(endings.await(1500, TimeUnit.MILLISECONDS));
+        assertEquals(List.of("Running"), ended);
+        assertEquals(TimerState.PAUSED, registry.find("Paused").getState());
+
+        registry.resume("Paused");
+        assertTrue(endings.await(5, TimeUnit.SECONDS));
+        assertEquals(0, registry.getCount());
+    }
+
+    @Test
+    void start_sameLabel_throws() throws StudyMateException {
+        registry.start(new Timer("Math", 60));
+
+        assertThrows(StudyMateException.class, () -> registry.start(new Timer("MATH", 30)));
+        assertEquals(1, registry.getCount());
+    }
+
+    @Test
+    void find_byLabelTaskNumberOrLatest() throws StudyMateException {
+        TaskList taskList = new TaskList();
+        taskList.addToDo("Read notes");
+        taskList.addToDo("Write essay");
+        Timer essay = new Timer(taskList, 60, 1);
+        Timer math = new Timer("Math", 60);
+        registry.start(essay);
+        registry.start(math);
+
+        assertSame(essay, registry.find("2"));
+        assertSame(essay, registry.find("task #2 write essay"));
+        assertSame(math, registry.find(" "));
+        assertThrows(StudyMateException.class, () -> registry.find("1"));
+    }
+
+    @Test
+    void reset_removesTimer() throws StudyMateException {
+        registry.start(new Timer("Math", 60));
+
+        Timer reset = registry.reset(null);
+
+        assertEquals(TimerState.IDLE, reset.getState());
+        assertEquals(0, registry.getCount());
+        assertThrows(StudyMateException.class, () -> registry.reset(null));
+    }
+}
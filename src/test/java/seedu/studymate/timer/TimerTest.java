@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -253,4 +255,44 @@ public class TimerTest {
         assertEquals(0, timer.getRemainingTime());
         assertEquals(TimerState.IDLE, timer.getState());
     }
+
+    /**
+     * Tests that many sub-second runs lose no time, using a fake monotonic clock.
+     */
+    @Test
+    void testAccuracy_subSecondCyclesLoseNoTime() {
+        AtomicLong now = new AtomicLong(Long.MAX_VALUE - TimeUnit.SECONDS.toNanos(1)); // Overflows mid-way
+        Timer timer = new Timer(DEFAULT_LABEL, 10, null, now::get);
+        timer.start();
+        for (int i = 0; i < 12; i++) {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+            timer.pause();
+            now.addAndGet(TimeUnit.SECONDS.toNanos(7)); // Time spent paused does not count
+            timer.resume();
+        }
+
+        assertEquals(TimeUnit.SECONDS.toNanos(7), timer.getRemainingNanos());
+        assertEquals(7, timer.getRemainingTime());
+        assertEquals(TimerState.RUNNING, timer.getState());
+    }
+
+    /**
+     * Tests that the remaining seconds round up, and the timer ends exactly at its deadline.
+     */
+    @Test
+    void testGetRemainingNanos_endsAtDeadline() {
+        AtomicLong now = new AtomicLong(42);
+        Timer timer = new Timer(DEFAULT_LABEL, 2, null, now::get);
+        timer.start();
+        assertEquals(42 + TimeUnit.SECONDS.toNanos(2), timer.getDeadlineNanos());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2) - 1);
+        assertEquals(1, timer.getRemainingNanos());
+        assertEquals(1, timer.getRemainingTime());
+        assertEquals(TimerState.RUNNING, timer.getState());
+
+        now.incrementAndGet();
+        assertEquals(0, timer.getRemainingNanos());
+        assertEquals(TimerState.IDLE, timer.getState());
+    }
 }
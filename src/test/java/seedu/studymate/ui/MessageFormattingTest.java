@@ -17,9 +17,12 @@ class MockDateTimeArg extends DateTimeArg {
     private final String testString;
 
     public MockDateTimeArg(String testString) {
-        // Super constructor requires date, but we only rely on toString() for formatting tests.
-        // We use dummy values for LocalDate and LocalTime.
-        super(java.time.LocalDate.now(), java.time.LocalTime.now());
+        // Messages are formatted from the date and time themselves rather than from toString(),
+        // so the mock holds the date and time its test string names, or dummy values if it names none.
+        super(testString.length() > 11 ? java.time.LocalDate.parse(testString.substring(0, 10))
+                        : java.time.LocalDate.now(),
+                testString.length() > 11 ? java.time.LocalTime.parse(testString.substring(11))
+                        : java.time.LocalTime.now());
         this.testString = testString;
     }
 
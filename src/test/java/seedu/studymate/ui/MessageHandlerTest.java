@@ -35,7 +35,9 @@ class MessageHandlerTest {
         private final String str;
 
         public MockDateTimeArg(String s) {
-            super(java.time.LocalDate.now(), java.time.LocalTime.now());
+            // Messages are formatted from the date and time themselves, so a full date-time string is held too
+            super(s.length() > 11 ? java.time.LocalDate.parse(s.substring(0, 10)) : java.time.LocalDate.now(),
+                    s.length() > 11 ? java.time.LocalTime.parse(s.substring(11)) : java.time.LocalTime.now());
             this.str = s;
         }
 
@@ -474,8 +476,8 @@ class MessageHandlerTest {
 
     @Test
     void sendTimerEndedMessage_success() {
-        MessageHandler.sendTimerEndedMessage();
-        String expected = line + "# TIMER\n# TIMER HAS ENDED\n" + line;
+        MessageHandler.sendTimerEndedMessage("Focus session");
+        String expected = line + "# TIMER\n# TIMER HAS ENDED - Focus session\n" + line;
         assertEquals(normaliseOutput(expected), normaliseOutput(outContent.toString()));
     }
 